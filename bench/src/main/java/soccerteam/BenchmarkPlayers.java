@@ -0,0 +1,122 @@
+package soccerteam;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+/**
+ * The BenchmarkPlayers class creates reproducible players for the benchmarks. Ages are computed
+ * at a fixed as-of date so results do not depend on the day the benchmarks run.
+ */
+final class BenchmarkPlayers {
+  static final LocalDate AS_OF_DATE = LocalDate.of(2024, 9, 1);
+  private static final String[] LAST_NAMES = {"Adams", "Brown", "Clark", "Davis", "Evans",
+      "Garcia", "Harris", "Johnson", "Lewis", "Martinez", "Moore", "Parker", "Roberts", "Scott",
+      "Taylor", "Walker", "Wilson", "Young"};
+
+  /**
+   * Prevents instantiation of this utility class.
+   */
+  private BenchmarkPlayers() {
+  }
+
+  /**
+   * Creates random eligible players with random positions and skill levels.
+   *
+   * @param count the number of players to create
+   * @param seed  the seed of the random number generator
+   * @return the new players
+   */
+  static TeamPlayer[] randomPlayers(int count, long seed) {
+    Random random = new Random(seed);
+    TeamPlayer[] players = new TeamPlayer[count];
+    for (int i = 0; i < count; i++) {
+      players[i] = player(i, LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+          Position.values()[random.nextInt(Position.values().length)],
+          SkillLevel.values()[random.nextInt(SkillLevel.values().length)], random);
+    }
+    return players;
+  }
+
+  /**
+   * Creates eligible players who all have the given skill level.
+   *
+   * @param count the number of players to create
+   * @param skill the skill level of every player
+   * @param seed  the seed of the random number generator
+   * @return the new players
+   */
+  static TeamPlayer[] playersWithSkill(int count, SkillLevel skill, long seed) {
+    return playersWithSkill(count, skill, seed, 0);
+  }
+
+  /**
+   * Creates eligible players who all have the given skill level, numbered from the given index
+   * so that they are not registrations of the same children as other players.
+   *
+   * @param count      the number of players to create
+   * @param skill      the skill level of every player
+   * @param seed       the seed of the random number generator
+   * @param firstIndex the index used in the first name of the first player
+   * @return the new players
+   */
+  static TeamPlayer[] playersWithSkill(int count, SkillLevel skill, long seed, int firstIndex) {
+    Random random = new Random(seed);
+    TeamPlayer[] players = new TeamPlayer[count];
+    for (int i = 0; i < count; i++) {
+      players[i] = player(firstIndex + i, LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+          Position.values()[random.nextInt(Position.values().length)], skill, random);
+    }
+    return players;
+  }
+
+  /**
+   * Creates a team whose candidate history has the given length. The first twenty candidates
+   * fill the roster and every later one replaces a player with a lower skill level, so the
+   * history can hold at most one hundred candidates.
+   *
+   * @param historyLength the number of candidates, from 10 to 100
+   * @param seed          the seed of the random number generator
+   * @return the new team
+   * @throws IllegalArgumentException if the history length is out of range
+   */
+  static TeamModelImpl teamWithHistory(int historyLength, long seed) {
+    if (historyLength < 10 || historyLength > 100) {
+      throw new IllegalArgumentException("History length must be between 10 and 100.");
+    }
+    TeamModelImpl team = new TeamModelImpl(new JerseyNumberAllocator(1, 20, seed));
+    int added = 0;
+    for (TeamPlayer player : playersWithSkill(Math.min(historyLength, 20), SkillLevel.ONE,
+        seed)) {
+      team.addPlayer(player);
+      added++;
+    }
+    SkillLevel[] skills = SkillLevel.values();
+    for (int level = 1; added < historyLength; level++) {
+      for (TeamPlayer player : playersWithSkill(20, skills[level], seed + level, 20 * level)) {
+        if (added == historyLength) {
+          break;
+        }
+        team.addPlayer(player);
+        added++;
+      }
+    }
+    return team;
+  }
+
+  /**
+   * Creates one eligible player.
+   *
+   * @param index    the index used to make the first name unique
+   * @param lastName the last name of the player
+   * @param position the preferred position of the player
+   * @param skill    the skill level of the player
+   * @param random   the source of the birth date
+   * @return the new player
+   */
+  private static TeamPlayer player(int index, String lastName, Position position,
+                                   SkillLevel skill, Random random) {
+    LocalDate birthDate = AS_OF_DATE.minusYears(5 + random.nextInt(4))
+        .minusDays(random.nextInt(365));
+    return new TeamPlayer("Player" + index, lastName, birthDate.toString(), position, skill);
+  }
+}
@@ -0,0 +1,140 @@
+package soccerteam;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The LatencyHistogram class counts latencies in buckets that split every power of two
+ * nanoseconds into 32 steps, so percentiles are exact to within about three percent. Recording
+ * is lock-free and allocates nothing. A soak run drains the histogram at the end of every
+ * interval and adds the drained counts to a histogram for the whole run.
+ */
+final class LatencyHistogram {
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * Records one latency.
+   *
+   * @param nanos the latency in nanoseconds; negative values count as 0
+   */
+  void record(long nanos) {
+    long latency = Math.max(nanos, 0L);
+    counts.incrementAndGet(bucketOf(latency));
+    max.accumulateAndGet(latency, Math::max);
+  }
+
+  /**
+   * Moves every count recorded so far into a new histogram, leaving this one empty. Latencies
+   * recorded while draining end up in one histogram or the other, never in both.
+   *
+   * @return the drained counts
+   */
+  LatencyHistogram drain() {
+    LatencyHistogram drained = new LatencyHistogram();
+    for (int i = 0; i < BUCKETS; i++) {
+      long count = counts.getAndSet(i, 0);
+      if (count != 0) {
+        drained.counts.set(i, count);
+      }
+    }
+    drained.max.set(max.getAndSet(0));
+    return drained;
+  }
+
+  /**
+   * Adds the counts of another histogram to this one.
+   *
+   * @param other the histogram to add
+   */
+  void add(LatencyHistogram other) {
+    for (int i = 0; i < BUCKETS; i++) {
+      long count = other.counts.get(i);
+      if (count != 0) {
+        counts.addAndGet(i, count);
+      }
+    }
+    max.accumulateAndGet(other.max.get(), Math::max);
+  }
+
+  /**
+   * Gets the number of latencies recorded.
+   *
+   * @return the count
+   */
+  long getCount() {
+    long total = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      total += counts.get(i);
+    }
+    return total;
+  }
+
+  /**
+   * Gets the highest latency recorded.
+   *
+   * @return the highest latency in nanoseconds, or 0 if none was recorded
+   */
+  long getMaxNanos() {
+    return max.get();
+  }
+
+  /**
+   * Gets an upper bound of a latency percentile: the top of the bucket holding it, capped at the
+   * highest recorded latency.
+   *
+   * @param percentile the percentile, from 0 to 100
+   * @return the latency in nanoseconds, or 0 if none was recorded
+   * @throws IllegalArgumentException if the percentile is outside 0 to 100
+   */
+  long getPercentileNanos(double percentile) throws IllegalArgumentException {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100.");
+    }
+    long total = getCount();
+    if (total == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += counts.get(i);
+      if (seen >= rank) {
+        return Math.min(upperBoundOf(i), max.get());
+      }
+    }
+    return max.get();
+  }
+
+  /**
+   * Gets the bucket of a latency.
+   *
+   * @param nanos the latency, not negative
+   * @return the index of its bucket
+   */
+  static int bucketOf(long nanos) {
+    if (nanos < SUB_BUCKETS) {
+      return (int) nanos;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(nanos) - SUB_BUCKET_BITS;
+    return (shift + 1) * SUB_BUCKETS + (int) ((nanos >>> shift) & (SUB_BUCKETS - 1));
+  }
+
+  /**
+   * Gets the highest latency that falls in a bucket.
+   *
+   * @param bucket the index of the bucket
+   * @return the highest latency in nanoseconds
+   */
+  static long upperBoundOf(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int shift = bucket / SUB_BUCKETS - 1;
+    long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+    return lower + (1L << shift) - 1;
+  }
+}
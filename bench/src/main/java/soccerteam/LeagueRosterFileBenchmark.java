@@ -0,0 +1,127 @@
+package soccerteam;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for loading a league from a {@link LeagueRosterFile}: mapping the file, scanning
+ * every player through the views, and copying every player out as a TeamPlayer.
+ *
+ * <p>Run with {@code java -jar target/benchmarks.jar LeagueRosterFileBenchmark} from the bench
+ * module.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LeagueRosterFileBenchmark {
+  private static final int TEAM_SIZE = 20;
+
+  @Param({"1000", "200000"})
+  int playerCount;
+  private Path file;
+
+  /**
+   * Writes a league of the given size to a temporary roster file.
+   *
+   * @throws IOException if the file can't be written
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    SeasonClock.fixAsOfDate(BenchmarkPlayers.AS_OF_DATE);
+    TeamPlayer[] players = BenchmarkPlayers.randomPlayers(playerCount, 13L);
+    Map<String, List<TeamPlayer>> teams = new HashMap<>();
+    for (int first = 0; first < players.length; first += TEAM_SIZE) {
+      int last = Math.min(first + TEAM_SIZE, players.length);
+      teams.put("Team" + first, new ArrayList<>(Arrays.asList(players).subList(first, last)));
+    }
+    file = Files.createTempFile("league", ".roster");
+    LeagueRosterFile.write(file, teams);
+  }
+
+  /**
+   * Deletes the roster file.
+   *
+   * @throws IOException if the file can't be deleted
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  /**
+   * Measures opening the league and reading every team's size.
+   *
+   * @return the number of players found
+   * @throws IOException if the file can't be opened
+   */
+  @Benchmark
+  public int open() throws IOException {
+    try (LeagueRosterFile roster = LeagueRosterFile.open(file)) {
+      int players = 0;
+      for (int team = 0; team < roster.getTeamCount(); team++) {
+        players += roster.getPlayers(team).size();
+      }
+      return players;
+    }
+  }
+
+  /**
+   * Measures opening the league and adding up every player's skill level and birth day through
+   * the views.
+   *
+   * @return the sum of the fields read
+   * @throws IOException if the file can't be opened
+   */
+  @Benchmark
+  public long openAndScan() throws IOException {
+    try (LeagueRosterFile roster = LeagueRosterFile.open(file)) {
+      long sum = 0;
+      for (int i = 0; i < roster.getPlayerCount(); i++) {
+        RosterPlayer player = roster.getPlayer(i);
+        sum += player.getSkillLevel().getLevel() + player.getBirthEpochDay();
+      }
+      return sum;
+    }
+  }
+
+  /**
+   * Measures opening the league and copying every player out as a TeamPlayer, which is what
+   * loading a league cost before the file could be read in place.
+   *
+   * @return the copied players
+   * @throws IOException if the file can't be opened
+   */
+  @Benchmark
+  public TeamPlayer[] openAndCopy() throws IOException {
+    try (LeagueRosterFile roster = LeagueRosterFile.open(file)) {
+      TeamPlayer[] players = new TeamPlayer[roster.getPlayerCount()];
+      for (int i = 0; i < players.length; i++) {
+        players[i] = roster.getPlayer(i).toTeamPlayer();
+      }
+      return players;
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package soccerteam;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for choosing a starting lineup from a full roster with the greedy and the
+ * optimal lineup strategies.
+ *
+ * <p>Run with {@code java -jar target/benchmarks.jar LineupStrategyBenchmark} from the bench
+ * module.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LineupStrategyBenchmark {
+  @Param({"10", "20"})
+  int playerCount;
+  private final LineupStrategy greedy = new GreedyLineupStrategy();
+  private final LineupStrategy optimal = new OptimalLineupStrategy();
+  private List<TeamPlayer> roster;
+
+  /**
+   * Creates the roster in selection order and fixes the as-of date.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    SeasonClock.fixAsOfDate(BenchmarkPlayers.AS_OF_DATE);
+    roster = PlayerOrder.SELECTION.sort(
+        Arrays.asList(BenchmarkPlayers.randomPlayers(playerCount, 5L)));
+  }
+
+  /**
+   * Measures the greedy two-pass selection.
+   *
+   * @return the chosen positions
+   */
+  @Benchmark
+  public Position[] greedy() {
+    return greedy.selectLineup(roster, 7);
+  }
+
+  /**
+   * Measures the optimal selection.
+   *
+   * @return the chosen positions
+   */
+  @Benchmark
+  public Position[] optimal() {
+    return optimal.selectLineup(roster, 7);
+  }
+}
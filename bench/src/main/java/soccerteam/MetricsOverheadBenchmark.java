@@ -0,0 +1,109 @@
+package soccerteam;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for the cost of measuring team operations: with no sink installed, with a
+ * MetricsRegistry, and with a JfrMetricsSink while no flight recording is running. The "none"
+ * results are the cost of the model itself, and the others show what measuring adds on top.
+ *
+ * <p>Run with {@code java -jar target/benchmarks.jar MetricsOverheadBenchmark} from the bench
+ * module.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MetricsOverheadBenchmark {
+  @Param({"none", "registry", "jfr"})
+  String sink;
+  private TeamPlayer[] fillPlayers;
+  private TeamModelImpl fullTeam;
+  private TeamPlayer rejected;
+
+  /**
+   * Installs the sink and builds the teams.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    SeasonClock.fixAsOfDate(BenchmarkPlayers.AS_OF_DATE);
+    switch (sink) {
+      case "registry":
+        TeamMetrics.setSink(new MetricsRegistry());
+        break;
+      case "jfr":
+        TeamMetrics.setSink(new JfrMetricsSink());
+        break;
+      default:
+        TeamMetrics.setSink(null);
+        break;
+    }
+    fillPlayers = BenchmarkPlayers.randomPlayers(20, 1L);
+    fullTeam = new TeamModelImpl(new JerseyNumberAllocator(1, 20, 1L));
+    for (TeamPlayer player : BenchmarkPlayers.playersWithSkill(20, SkillLevel.FIVE, 2L)) {
+      fullTeam.addPlayer(player);
+    }
+    rejected = BenchmarkPlayers.playersWithSkill(1, SkillLevel.ONE, 3L, 20)[0];
+  }
+
+  /**
+   * Removes the sink.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    TeamMetrics.setSink(null);
+  }
+
+  /**
+   * Measures filling a team, which times every add, jersey number and lineup selection,
+   * reported per added player.
+   *
+   * @return the filled team
+   */
+  @Benchmark
+  @OperationsPerInvocation(20)
+  public TeamModel addPlayerFillPhase() {
+    TeamModel team = new TeamModelImpl();
+    for (TeamPlayer player : fillPlayers) {
+      team.addPlayer(player);
+    }
+    return team;
+  }
+
+  /**
+   * Measures turning a player away from a full roster, the cheapest measured operation.
+   *
+   * @return whether the player was added
+   */
+  @Benchmark
+  public boolean addPlayerRejected() {
+    return fullTeam.addPlayer(rejected);
+  }
+
+  /**
+   * Measures getAllPlayers on an unchanged team.
+   *
+   * @return all players
+   */
+  @Benchmark
+  public List<TeamPlayer> getAllPlayers() {
+    return fullTeam.getAllPlayers();
+  }
+}
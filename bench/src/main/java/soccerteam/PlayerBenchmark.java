@@ -0,0 +1,137 @@
+package soccerteam;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for per-player work: computing ages and ordering players with the
+ * PlayerComparators chains used for lineup selection and replacement, and with the packed keys
+ * of PlayerOrder that replace them.
+ *
+ * <p>Run with {@code java -jar target/benchmarks.jar PlayerBenchmark} from the bench module.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PlayerBenchmark {
+  @Param({"20", "1000"})
+  int playerCount;
+  private TeamPlayer[] players;
+  private TeamPlayer[] scratch;
+  private TeamPlayer single;
+  private List<TeamPlayer> playerList;
+
+  /**
+   * Creates the players and fixes the as-of date.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    SeasonClock.fixAsOfDate(BenchmarkPlayers.AS_OF_DATE);
+    players = BenchmarkPlayers.randomPlayers(playerCount, 4L);
+    scratch = new TeamPlayer[playerCount];
+    single = players[0];
+    playerList = Arrays.asList(players);
+  }
+
+  /**
+   * Measures computing the age of one player at the shared as-of date.
+   *
+   * @return the age
+   */
+  @Benchmark
+  public int getAge() {
+    return single.getAge();
+  }
+
+  /**
+   * Measures building the lineup selection comparator and sorting the players with it.
+   *
+   * @return the sorted players
+   */
+  @Benchmark
+  public TeamPlayer[] sortBySelectionOrder() {
+    System.arraycopy(players, 0, scratch, 0, players.length);
+    Arrays.sort(scratch, PlayerComparators.bySkillInDescending()
+        .thenComparing(PlayerComparators.byPreferredPosition())
+        .thenComparing(PlayerComparators.byLastName()));
+    return scratch;
+  }
+
+  /**
+   * Measures building the replacement comparator and finding the lowest ranked player with it.
+   *
+   * @return the lowest ranked player
+   */
+  @Benchmark
+  public TeamPlayer minByEvictionOrder() {
+    Comparator<TeamPlayer> order = PlayerComparators.bySkillInAscending()
+        .thenComparing(PlayerComparators.byPreferredPosition())
+        .thenComparing(PlayerComparators.byLastName());
+    TeamPlayer lowest = players[0];
+    for (int i = 1; i < players.length; i++) {
+      if (order.compare(players[i], lowest) < 0) {
+        lowest = players[i];
+      }
+    }
+    return lowest;
+  }
+
+  /**
+   * Measures sorting the players by last name, as getAllPlayers does.
+   *
+   * @return the sorted players
+   */
+  @Benchmark
+  public TeamPlayer[] sortByLastName() {
+    System.arraycopy(players, 0, scratch, 0, players.length);
+    Arrays.sort(scratch, PlayerComparators.byLastName());
+    return scratch;
+  }
+
+  /**
+   * Measures sorting the players in lineup selection order with packed keys.
+   *
+   * @return the sorted players
+   */
+  @Benchmark
+  public List<TeamPlayer> sortBySelectionOrderPacked() {
+    return PlayerOrder.SELECTION.sort(playerList);
+  }
+
+  /**
+   * Measures finding the lowest ranked player in replacement order with packed keys.
+   *
+   * @return the lowest ranked player
+   */
+  @Benchmark
+  public TeamPlayer minByEvictionOrderPacked() {
+    return PlayerOrder.EVICTION.min(playerList);
+  }
+
+  /**
+   * Measures sorting the players by last name with packed keys.
+   *
+   * @return the sorted players
+   */
+  @Benchmark
+  public List<TeamPlayer> sortByLastNamePacked() {
+    return PlayerOrder.LAST_NAME.sort(playerList);
+  }
+}
@@ -0,0 +1,473 @@
+package soccerteam;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+/**
+ * The SoakTest class reproduces the load of a registration weekend. Worker threads add players
+ * from a {@link TryoutPlayerGenerator} to randomly chosen teams and read the teams' rosters,
+ * lineups and candidates, at a target total rate, for as long as asked. At the end of every
+ * interval, and once for the whole run, it reports the throughput, the latency percentiles of
+ * adds and reads, the allocation rate of the workers and the garbage collection pauses.
+ *
+ * <p>Every operation has a scheduled start time. Latency is measured from that time, not from
+ * when the operation actually started, so a stall that delays later operations counts against
+ * them too instead of hiding them.
+ *
+ * <p>Run it with {@code java -cp bench/target/benchmarks.jar soccerteam.SoakTest} followed by any
+ * of {@code --teams=}, {@code --threads=}, {@code --rate=} (operations per second, 0 for as fast
+ * as possible), {@code --duration=} and {@code --interval=} (seconds), {@code --reads=} (the
+ * share of operations that are reads), {@code --duplicates=}, {@code --boundary=},
+ * {@code --skills=} and {@code --positions=} (comma-separated weights) and {@code --seed=}.
+ */
+public final class SoakTest {
+  private final TeamModel[] teams;
+  private final int threadCount;
+  private final double targetRate;
+  private final double readFraction;
+  private final List<TryoutPlayerGenerator> generators;
+  private final long seed;
+
+  private final LatencyHistogram adds = new LatencyHistogram();
+  private final LatencyHistogram reads = new LatencyHistogram();
+  private final LatencyHistogram gcPauses = new LatencyHistogram();
+  private final LongAdder joined = new LongAdder();
+  private final LongAdder refused = new LongAdder();
+  private volatile boolean running;
+
+  /**
+   * Constructs a SoakTest over new, empty teams.
+   *
+   * @param teamCount    the number of teams
+   * @param generators   one player generator per worker thread
+   * @param targetRate   the total operations per second, or 0 to run as fast as possible
+   * @param readFraction the share of operations that read a team instead of adding a player
+   * @param seed         the seed for choosing teams and operations
+   * @throws IllegalArgumentException if a count is not positive, the rate is negative or the
+   *                                  read share is outside 0 to 1
+   */
+  public SoakTest(int teamCount, List<TryoutPlayerGenerator> generators, double targetRate,
+                  double readFraction, long seed) throws IllegalArgumentException {
+    if (teamCount <= 0 || generators == null || generators.isEmpty()) {
+      throw new IllegalArgumentException("Team and thread counts must be positive.");
+    }
+    if (targetRate < 0 || readFraction < 0 || readFraction > 1) {
+      throw new IllegalArgumentException("Invalid rate or read share");
+    }
+    teams = new TeamModel[teamCount];
+    for (int i = 0; i < teamCount; i++) {
+      teams[i] = new ConcurrentTeamModel();
+    }
+    this.generators = List.copyOf(generators);
+    this.threadCount = generators.size();
+    this.targetRate = targetRate;
+    this.readFraction = readFraction;
+    this.seed = seed;
+  }
+
+  /**
+   * Runs the load and prints one line per interval and a summary.
+   *
+   * @param duration how long to run
+   * @param interval how often to report
+   * @param out      where to print the report
+   * @return the summary of the whole run
+   * @throws InterruptedException if interrupted while waiting for the workers
+   */
+  public Report run(Duration duration, Duration interval, PrintStream out)
+      throws InterruptedException {
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    Map<NotificationEmitter, NotificationListener> gcListeners = listenForGcPauses();
+    List<Thread> workers = new ArrayList<>();
+    long start = System.nanoTime();
+    running = true;
+    for (int i = 0; i < threadCount; i++) {
+      int index = i;
+      Thread worker = new Thread(() -> work(index, start), "soak-" + i);
+      worker.setDaemon(true);
+      workers.add(worker);
+      worker.start();
+    }
+    long[] workerIds = workers.stream().mapToLong(Thread::getId).toArray();
+
+    LatencyHistogram totalAdds = new LatencyHistogram();
+    LatencyHistogram totalReads = new LatencyHistogram();
+    LatencyHistogram totalPauses = new LatencyHistogram();
+    long totalJoined = 0;
+    long totalRefused = 0;
+    long firstAllocated = allocatedBytes(threads, workerIds);
+    long allocated = firstAllocated;
+    long intervalStart = start;
+    long end = start + duration.toNanos();
+    try {
+      while (intervalStart < end) {
+        long intervalEnd = Math.min(end, intervalStart + interval.toNanos());
+        while (System.nanoTime() < intervalEnd) {
+          if (Thread.interrupted()) {
+            throw new InterruptedException();
+          }
+          LockSupport.parkNanos(intervalEnd - System.nanoTime());
+        }
+        long now = System.nanoTime();
+        long nowAllocated = allocatedBytes(threads, workerIds);
+        Report report = new Report(now - start, now - intervalStart, adds.drain(), reads.drain(),
+            gcPauses.drain(), joined.sumThenReset(), refused.sumThenReset(),
+            nowAllocated - allocated);
+        out.println(report);
+        totalAdds.add(report.adds);
+        totalReads.add(report.reads);
+        totalPauses.add(report.gcPauses);
+        totalJoined += report.joined;
+        totalRefused += report.refused;
+        allocated = nowAllocated;
+        intervalStart = now;
+      }
+    } finally {
+      running = false;
+      for (Thread worker : workers) {
+        worker.join();
+      }
+      for (Map.Entry<NotificationEmitter, NotificationListener> entry : gcListeners.entrySet()) {
+        try {
+          entry.getKey().removeNotificationListener(entry.getValue());
+        } catch (ListenerNotFoundException e) {
+          // Already gone
+        }
+      }
+    }
+    long elapsed = intervalStart - start;
+    Report summary = new Report(elapsed, elapsed, totalAdds, totalReads, totalPauses,
+        totalJoined, totalRefused, allocated - firstAllocated);
+    out.println("Total " + summary);
+    return summary;
+  }
+
+  /**
+   * Sends operations from one worker thread until the run stops.
+   *
+   * @param index the number of the worker
+   * @param start when the run started
+   */
+  private void work(int index, long start) {
+    TryoutPlayerGenerator generator = generators.get(index);
+    SplittableRandom random = new SplittableRandom(seed + index);
+    long period = targetRate == 0 ? 0 : (long) (threadCount * 1e9 / targetRate);
+    long scheduled = start + (period == 0 ? 0 : random.nextLong(period));
+    while (running) {
+      long now = System.nanoTime();
+      if (period == 0) {
+        scheduled = now;
+      } else if (scheduled > now) {
+        LockSupport.parkNanos(scheduled - now);
+        continue;
+      }
+      TeamModel team = teams[random.nextInt(teams.length)];
+      if (random.nextDouble() < readFraction) {
+        read(team, random.nextInt(3));
+        reads.record(System.nanoTime() - scheduled);
+      } else {
+        TeamPlayer player = generator.next();
+        try {
+          if (team.addPlayer(player)) {
+            joined.increment();
+          }
+        } catch (IllegalArgumentException | IllegalStateException e) {
+          refused.increment();
+        }
+        adds.record(System.nanoTime() - scheduled);
+      }
+      scheduled += period;
+    }
+  }
+
+  /**
+   * Reads one of a team's lists.
+   *
+   * @param team the team
+   * @param list 0 for the roster, 1 for the lineup and 2 for the candidates
+   */
+  private void read(TeamModel team, int list) {
+    try {
+      switch (list) {
+        case 0:
+          team.getAllPlayers();
+          break;
+        case 1:
+          team.getStartingLineup();
+          break;
+        default:
+          team.getCandidates();
+      }
+    } catch (IllegalStateException e) {
+      // The team does not have enough players yet
+      refused.increment();
+    }
+  }
+
+  /**
+   * Records the length of every garbage collection pause. Collectors that also report their
+   * concurrent cycles do so through a separate bean whose name ends in "Cycles", which is skipped.
+   *
+   * @return the listeners added, to be removed when the run ends
+   */
+  private Map<NotificationEmitter, NotificationListener> listenForGcPauses() {
+    Map<NotificationEmitter, NotificationListener> listeners = new HashMap<>();
+    for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+      if (!(bean instanceof NotificationEmitter) || bean.getName().endsWith("Cycles")) {
+        continue;
+      }
+      NotificationListener listener = (Notification notification, Object handback) -> {
+        if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION
+            .equals(notification.getType())) {
+          GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo
+              .from((CompositeData) notification.getUserData());
+          gcPauses.record(TimeUnit.MILLISECONDS.toNanos(info.getGcInfo().getDuration()));
+        }
+      };
+      ((NotificationEmitter) bean).addNotificationListener(listener, null, null);
+      listeners.put((NotificationEmitter) bean, listener);
+    }
+    return listeners;
+  }
+
+  /**
+   * Gets the bytes the workers have allocated so far.
+   *
+   * @param threads   the thread bean
+   * @param workerIds the ids of the worker threads
+   * @return the total, or 0 if the JVM does not track allocation
+   */
+  private static long allocatedBytes(com.sun.management.ThreadMXBean threads, long[] workerIds) {
+    if (!threads.isThreadAllocatedMemorySupported() || !threads.isThreadAllocatedMemoryEnabled()) {
+      return 0;
+    }
+    long total = 0;
+    for (long bytes : threads.getThreadAllocatedBytes(workerIds)) {
+      total += Math.max(bytes, 0);
+    }
+    return total;
+  }
+
+  /**
+   * The measurements of one interval, or of a whole run.
+   */
+  public static final class Report {
+    private final long sinceStartNanos;
+    private final long elapsedNanos;
+    private final LatencyHistogram adds;
+    private final LatencyHistogram reads;
+    private final LatencyHistogram gcPauses;
+    private final long joined;
+    private final long refused;
+    private final long allocatedBytes;
+
+    /**
+     * Constructs a Report.
+     *
+     * @param sinceStartNanos the time from the start of the run to the end of the interval
+     * @param elapsedNanos    the length of the interval
+     * @param adds            the latencies of adds
+     * @param reads           the latencies of reads
+     * @param gcPauses        the lengths of garbage collection pauses
+     * @param joined          the number of added players who joined their team
+     * @param refused         the number of operations the team refused
+     * @param allocatedBytes  the bytes allocated by the workers
+     */
+    Report(long sinceStartNanos, long elapsedNanos, LatencyHistogram adds,
+           LatencyHistogram reads, LatencyHistogram gcPauses, long joined, long refused,
+           long allocatedBytes) {
+      this.sinceStartNanos = sinceStartNanos;
+      this.elapsedNanos = elapsedNanos;
+      this.adds = adds;
+      this.reads = reads;
+      this.gcPauses = gcPauses;
+      this.joined = joined;
+      this.refused = refused;
+      this.allocatedBytes = allocatedBytes;
+    }
+
+    /**
+     * Gets the number of players the workers tried to add.
+     *
+     * @return the number of adds
+     */
+    public long getAddCount() {
+      return adds.getCount();
+    }
+
+    /**
+     * Gets the number of reads.
+     *
+     * @return the number of reads
+     */
+    public long getReadCount() {
+      return reads.getCount();
+    }
+
+    /**
+     * Gets the number of added players who joined their team.
+     *
+     * @return the number of players who joined
+     */
+    public long getJoinedCount() {
+      return joined;
+    }
+
+    /**
+     * Gets the number of operations the team refused: players who were too old or already on
+     * the team, and reads of a team with too few players.
+     *
+     * @return the number of refused operations
+     */
+    public long getRefusedCount() {
+      return refused;
+    }
+
+    /**
+     * Gets the operations completed per second.
+     *
+     * @return the throughput
+     */
+    public double getThroughput() {
+      return (adds.getCount() + reads.getCount()) * 1e9 / Math.max(1, elapsedNanos);
+    }
+
+    /**
+     * Gets a latency percentile of adds.
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the latency in nanoseconds
+     */
+    public long getAddPercentileNanos(double percentile) {
+      return adds.getPercentileNanos(percentile);
+    }
+
+    /**
+     * Gets a latency percentile of reads.
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the latency in nanoseconds
+     */
+    public long getReadPercentileNanos(double percentile) {
+      return reads.getPercentileNanos(percentile);
+    }
+
+    /**
+     * Gets the bytes the workers allocated per second.
+     *
+     * @return the allocation rate
+     */
+    public double getAllocationRate() {
+      return allocatedBytes * 1e9 / Math.max(1, elapsedNanos);
+    }
+
+    /**
+     * Gets the number of garbage collection pauses.
+     *
+     * @return the number of pauses
+     */
+    public long getGcPauseCount() {
+      return gcPauses.getCount();
+    }
+
+    /**
+     * Gets the longest garbage collection pause.
+     *
+     * @return the longest pause in nanoseconds
+     */
+    public long getMaxGcPauseNanos() {
+      return gcPauses.getMaxNanos();
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%6.1fs  %,9.0f ops/s  adds %,d (joined %,d)  reads %,d  refused %,d"
+              + "  add p50/p99/p99.9/max %s  read p50/p99/p99.9/max %s  alloc %,.1f MB/s"
+              + "  gc %d pauses, max %.1f ms", sinceStartNanos / 1e9, getThroughput(),
+          adds.getCount(), joined, reads.getCount(), refused, percentiles(adds),
+          percentiles(reads), getAllocationRate() / (1 << 20), gcPauses.getCount(),
+          gcPauses.getMaxNanos() / 1e6);
+    }
+
+    /**
+     * Formats the percentiles of a histogram in microseconds.
+     *
+     * @param histogram the histogram
+     * @return the formatted percentiles
+     */
+    private static String percentiles(LatencyHistogram histogram) {
+      return String.format("%.1f/%.1f/%.1f/%.1f us", histogram.getPercentileNanos(50) / 1e3,
+          histogram.getPercentileNanos(99) / 1e3, histogram.getPercentileNanos(99.9) / 1e3,
+          histogram.getMaxNanos() / 1e3);
+    }
+  }
+
+  /**
+   * Runs a soak test from the command line.
+   *
+   * @param args options of the form --name=value, described in the class comment
+   * @throws InterruptedException if interrupted while running
+   */
+  public static void main(String[] args) throws InterruptedException {
+    Map<String, String> options = new HashMap<>();
+    for (String arg : args) {
+      int equals = arg.indexOf('=');
+      if (!arg.startsWith("--") || equals < 0) {
+        throw new IllegalArgumentException("Expected --name=value but got " + arg);
+      }
+      options.put(arg.substring(2, equals), arg.substring(equals + 1));
+    }
+    int teamCount = Integer.parseInt(options.getOrDefault("teams", "64"));
+    int threadCount = Integer.parseInt(options.getOrDefault("threads",
+        Integer.toString(Runtime.getRuntime().availableProcessors())));
+    double rate = Double.parseDouble(options.getOrDefault("rate", "20000"));
+    double reads = Double.parseDouble(options.getOrDefault("reads", "0.5"));
+    long duration = Long.parseLong(options.getOrDefault("duration", "60"));
+    long interval = Long.parseLong(options.getOrDefault("interval", "10"));
+    long seed = Long.parseLong(options.getOrDefault("seed", "1"));
+    double[] skills = weights(options.getOrDefault("skills", "10,25,35,20,10"));
+    double[] positions = weights(options.getOrDefault("positions", "1,2,3,1"));
+    double boundary = Double.parseDouble(options.getOrDefault("boundary", "0.1"));
+    double duplicates = Double.parseDouble(options.getOrDefault("duplicates", "0.05"));
+
+    List<TryoutPlayerGenerator> generators = new ArrayList<>();
+    for (int i = 0; i < threadCount; i++) {
+      generators.add(new TryoutPlayerGenerator(seed * 31 + i, skills, positions, boundary,
+          duplicates, SeasonClock.getAsOfDate()));
+    }
+    new SoakTest(teamCount, generators, rate, reads, seed)
+        .run(Duration.ofSeconds(duration), Duration.ofSeconds(interval), System.out);
+  }
+
+  /**
+   * Parses comma-separated weights.
+   *
+   * @param text the weights
+   * @return the parsed weights
+   */
+  private static double[] weights(String text) {
+    String[] parts = text.split(",");
+    double[] weights = new double[parts.length];
+    for (int i = 0; i < parts.length; i++) {
+      weights[i] = Double.parseDouble(parts[i].trim());
+    }
+    return weights;
+  }
+}
@@ -0,0 +1,287 @@
+package soccerteam;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks for the hot paths of TeamModelImpl: adding players while the roster fills up,
+ * adding players to a full roster, reading the roster, lineup and candidates, and finding
+ * players with a query.
+ *
+ * <p>Run with {@code java -jar target/benchmarks.jar TeamModelBenchmark} from the bench module.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TeamModelBenchmark {
+  private static final PlayerQuery HIGH_SKILL_M = PlayerQuery.all()
+      .withSkillLevels(SkillLevel.FOUR, SkillLevel.FIVE).withLastNamePrefix("M");
+
+  /**
+   * Twenty players to fill a new team with.
+   */
+  @State(Scope.Thread)
+  public static class FillState {
+    TeamPlayer[] players;
+
+    /**
+     * Creates the players and fixes the as-of date.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+      SeasonClock.fixAsOfDate(BenchmarkPlayers.AS_OF_DATE);
+      players = BenchmarkPlayers.randomPlayers(20, 1L);
+    }
+  }
+
+  /**
+   * A pool of full rosters of low-skill players, each with twenty better players who will
+   * replace its players one after another. Every call makes all the replacements in the pool,
+   * and the pool is rebuilt before the next call. A single replacement takes around a
+   * microsecond, far too short to rebuild a team around, but a call on the whole pool takes
+   * milliseconds, so the setup no longer distorts the measurement.
+   */
+  @State(Scope.Thread)
+  public static class ReplacementState {
+    static final int TEAMS = 64;
+    static final int REPLACEMENTS = TEAMS * 20;
+    final TeamModelImpl[] teams = new TeamModelImpl[TEAMS];
+    final TeamPlayer[][] newcomers = new TeamPlayer[TEAMS][];
+    private long seed;
+
+    /**
+     * Fixes the as-of date.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+      SeasonClock.fixAsOfDate(BenchmarkPlayers.AS_OF_DATE);
+    }
+
+    /**
+     * Builds new full teams and the players who will join them.
+     */
+    @Setup(Level.Invocation)
+    public void setUp() {
+      for (int t = 0; t < TEAMS; t++) {
+        seed++;
+        teams[t] = new TeamModelImpl(new JerseyNumberAllocator(1, 20, seed));
+        for (TeamPlayer player : BenchmarkPlayers.playersWithSkill(20, SkillLevel.ONE, seed)) {
+          teams[t].addPlayer(player);
+        }
+        newcomers[t] = BenchmarkPlayers.playersWithSkill(20, SkillLevel.FIVE, -seed, 20);
+      }
+    }
+  }
+
+  /**
+   * A valid team with a given number of players.
+   */
+  @State(Scope.Thread)
+  public static class RosterState {
+    @Param({"10", "15", "20"})
+    int rosterSize;
+    TeamModelImpl team;
+
+    /**
+     * Builds the team.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+      SeasonClock.fixAsOfDate(BenchmarkPlayers.AS_OF_DATE);
+      team = new TeamModelImpl(new JerseyNumberAllocator(1, 20, 1L));
+      for (TeamPlayer player : BenchmarkPlayers.randomPlayers(rosterSize, 2L)) {
+        team.addPlayer(player);
+      }
+    }
+  }
+
+  /**
+   * A full team with a given number of candidates in its history.
+   */
+  @State(Scope.Thread)
+  public static class HistoryState {
+    @Param({"20", "60", "100"})
+    int candidateHistory;
+    TeamModelImpl team;
+
+    /**
+     * Builds the team.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+      SeasonClock.fixAsOfDate(BenchmarkPlayers.AS_OF_DATE);
+      team = BenchmarkPlayers.teamWithHistory(candidateHistory, 3L);
+    }
+  }
+
+  /**
+   * Measures addPlayer while the roster fills up from empty to twenty players, reported per
+   * added player.
+   *
+   * @param state the players to add
+   * @return the filled team
+   */
+  @Benchmark
+  @OperationsPerInvocation(20)
+  public TeamModel addPlayerFillPhase(FillState state) {
+    TeamModel team = new TeamModelImpl();
+    for (TeamPlayer player : state.players) {
+      team.addPlayer(player);
+    }
+    return team;
+  }
+
+  /**
+   * Measures addPlayers with the same twenty players as addPlayerFillPhase, reported per added
+   * player.
+   *
+   * @param state the players to add
+   * @return the filled team
+   */
+  @Benchmark
+  @OperationsPerInvocation(20)
+  public TeamModel addPlayersFillPhase(FillState state) {
+    TeamModel team = new TeamModelImpl();
+    team.addPlayers(Arrays.asList(state.players));
+    return team;
+  }
+
+  /**
+   * Measures addPlayer on a full roster where the new player replaces the lowest skill player,
+   * reported per replacement.
+   *
+   * @param state the full teams and the new players
+   * @return the number of players added
+   */
+  @Benchmark
+  @OperationsPerInvocation(ReplacementState.REPLACEMENTS)
+  public int addPlayerReplacementPhase(ReplacementState state) {
+    int added = 0;
+    for (int t = 0; t < ReplacementState.TEAMS; t++) {
+      TeamModelImpl team = state.teams[t];
+      for (TeamPlayer newcomer : state.newcomers[t]) {
+        if (team.addPlayer(newcomer)) {
+          added++;
+        }
+      }
+    }
+    return added;
+  }
+
+  /**
+   * Measures addPlayer on a full roster followed by the reads the Swing controller makes after
+   * a successful add, reported per replacement.
+   *
+   * @param state     the full teams and the new players
+   * @param blackhole consumes the results
+   */
+  @Benchmark
+  @OperationsPerInvocation(ReplacementState.REPLACEMENTS)
+  public void addPlayerThenRead(ReplacementState state, Blackhole blackhole) {
+    for (int t = 0; t < ReplacementState.TEAMS; t++) {
+      TeamModelImpl team = state.teams[t];
+      for (TeamPlayer newcomer : state.newcomers[t]) {
+        blackhole.consume(team.addPlayer(newcomer));
+        blackhole.consume(team.getAllPlayers());
+        blackhole.consume(team.getStartingLineup());
+        blackhole.consume(team.getCandidates());
+      }
+    }
+  }
+
+  /**
+   * Measures getAllPlayers on an unchanged team.
+   *
+   * @param state the team
+   * @return all players
+   */
+  @Benchmark
+  public List<TeamPlayer> getAllPlayers(RosterState state) {
+    return state.team.getAllPlayers();
+  }
+
+  /**
+   * Measures getStartingLineup on an unchanged team.
+   *
+   * @param state the team
+   * @return the starting lineup
+   */
+  @Benchmark
+  public List<TeamPlayer> getStartingLineup(RosterState state) {
+    return state.team.getStartingLineup();
+  }
+
+  /**
+   * Measures findPlayers for the high-skill players whose last name starts with a letter,
+   * answered from the secondary indexes.
+   *
+   * @param state the team
+   * @return the matching players
+   */
+  @Benchmark
+  public List<TeamPlayer> findPlayers(RosterState state) {
+    return state.team.findPlayers(HIGH_SKILL_M);
+  }
+
+  /**
+   * Measures the same query answered by checking every player from getAllPlayers, for
+   * comparison with findPlayers.
+   *
+   * @param state the team
+   * @return the matching players
+   */
+  @Benchmark
+  public List<TeamPlayer> scanAllPlayers(RosterState state) {
+    List<TeamPlayer> found = new ArrayList<>();
+    for (TeamPlayer player : state.team.getAllPlayers()) {
+      if (HIGH_SKILL_M.matches(player)) {
+        found.add(player);
+      }
+    }
+    return found;
+  }
+
+  /**
+   * Measures getCandidates on an unchanged team.
+   *
+   * @param state the team
+   * @return the candidates
+   */
+  @Benchmark
+  public List<TeamPlayer> getCandidates(HistoryState state) {
+    return state.team.getCandidates();
+  }
+
+  /**
+   * Measures reading every candidate through the paged candidate iterator.
+   *
+   * @param state the team
+   * @param blackhole consumes the candidates
+   */
+  @Benchmark
+  public void iterateCandidates(HistoryState state, Blackhole blackhole) {
+    Iterator<TeamPlayer> iterator = state.team.candidateIterator();
+    while (iterator.hasNext()) {
+      blackhole.consume(iterator.next());
+    }
+  }
+}
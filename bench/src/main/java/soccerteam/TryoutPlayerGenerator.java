@@ -0,0 +1,162 @@
+package soccerteam;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+/**
+ * The TryoutPlayerGenerator class makes an endless stream of registrations that looks like a
+ * tryout weekend: skill levels and positions follow given weights, some children are born close
+ * to the day they become too old to play, and some registrations repeat a child who has already
+ * registered, as when a parent submits the form twice. Every repeat is a new TeamPlayer object
+ * with the same names and date of birth as the earlier one.
+ *
+ * <p>A generator is not thread-safe; give every thread its own, with its own seed.
+ */
+public final class TryoutPlayerGenerator {
+  private static final double[] DEFAULT_SKILL_WEIGHTS = {10, 25, 35, 20, 10};
+  private static final double[] DEFAULT_POSITION_WEIGHTS = {1, 2, 3, 1};
+  private static final int BOUNDARY_DAYS = 30;
+  private static final int RECENT_PLAYERS = 64;
+  private static final String[] FIRST_NAMES = {"Ava", "Ben", "Chloe", "Dylan", "Emma", "Finn",
+      "Grace", "Henry", "Isla", "Jack", "Kai", "Lily", "Mason", "Nora", "Owen", "Piper", "Quinn",
+      "Ruby", "Sam", "Tess", "Uma", "Vince", "Willa", "Xander", "Yara", "Zane"};
+  private static final String[] LAST_NAMES = {"Adams", "Brown", "Clark", "Davis", "Evans",
+      "Garcia", "Harris", "Johnson", "Lewis", "Martinez", "Moore", "Parker", "Roberts", "Scott",
+      "Taylor", "Walker", "Wilson", "Young", "Nguyen", "Patel", "Kim", "Lopez", "Murphy", "Ross"};
+
+  private final SplittableRandom random;
+  private final double[] skillThresholds;
+  private final double[] positionThresholds;
+  private final double boundaryFraction;
+  private final double duplicateRate;
+  private final LocalDate asOfDate;
+  private final TeamPlayer[] recent = new TeamPlayer[RECENT_PLAYERS];
+  private long generated;
+
+  /**
+   * Constructs a TryoutPlayerGenerator with a typical mix: most players of middle skill,
+   * midfielders and defenders more common than goalies and forwards, one in ten born within a
+   * month of aging out, and one in twenty registrations a repeat.
+   *
+   * @param seed the seed of the random number generator
+   */
+  public TryoutPlayerGenerator(long seed) {
+    this(seed, DEFAULT_SKILL_WEIGHTS, DEFAULT_POSITION_WEIGHTS, 0.1, 0.05,
+        SeasonClock.getAsOfDate());
+  }
+
+  /**
+   * Constructs a TryoutPlayerGenerator.
+   *
+   * @param seed             the seed of the random number generator
+   * @param skillWeights     the relative frequency of each skill level, from ONE to FIVE
+   * @param positionWeights  the relative frequency of each preferred position, in the order of
+   *                         {@link Position#values()}
+   * @param boundaryFraction the share of players born within a month either side of the day
+   *                         they turn 10; the rest are between 4 and 9 years old
+   * @param duplicateRate    the share of registrations that repeat a recent child
+   * @param asOfDate         the date ages are measured at
+   * @throws IllegalArgumentException if a weight array has the wrong length, a negative weight or
+   *                                  no positive weight, a share is outside 0 to 1, or the
+   *                                  date is null
+   */
+  public TryoutPlayerGenerator(long seed, double[] skillWeights, double[] positionWeights,
+                               double boundaryFraction, double duplicateRate,
+                               LocalDate asOfDate) throws IllegalArgumentException {
+    if (boundaryFraction < 0 || boundaryFraction > 1 || duplicateRate < 0 || duplicateRate > 1) {
+      throw new IllegalArgumentException("Shares must be between 0 and 1.");
+    }
+    if (asOfDate == null) {
+      throw new IllegalArgumentException("As-of date can't be null");
+    }
+    this.random = new SplittableRandom(seed);
+    this.skillThresholds = thresholds(skillWeights, SkillLevel.values().length);
+    this.positionThresholds = thresholds(positionWeights, Position.values().length);
+    this.boundaryFraction = boundaryFraction;
+    this.duplicateRate = duplicateRate;
+    this.asOfDate = asOfDate;
+  }
+
+  /**
+   * Makes the next registration.
+   *
+   * @return a new player, which may repeat a recent child
+   */
+  public TeamPlayer next() {
+    if (generated > 0 && random.nextDouble() < duplicateRate) {
+      TeamPlayer original = recent[random.nextInt((int) Math.min(generated, RECENT_PLAYERS))];
+      return new TeamPlayer(original.getFirstName(), original.getLastName(),
+          original.getDateOfBirth(), original.getPreferredPosition(), original.getSkillLevel());
+    }
+    TeamPlayer player = new TeamPlayer(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+        LAST_NAMES[random.nextInt(LAST_NAMES.length)], birthDate(),
+        Position.values()[pick(positionThresholds)], SkillLevel.values()[pick(skillThresholds)]);
+    recent[(int) (generated % RECENT_PLAYERS)] = player;
+    generated++;
+    return player;
+  }
+
+  /**
+   * Picks a birth date, either close to the tenth birthday boundary or well inside the allowed
+   * ages.
+   *
+   * @return the birth date
+   */
+  private LocalDate birthDate() {
+    LocalDate agingOut = asOfDate.minusYears(10);
+    if (random.nextDouble() < boundaryFraction) {
+      return agingOut.plusDays(random.nextInt(-BOUNDARY_DAYS, BOUNDARY_DAYS + 1));
+    }
+    LocalDate oldest = agingOut.plusDays(BOUNDARY_DAYS + 1);
+    LocalDate youngest = asOfDate.minusYears(4);
+    return oldest.plusDays(random.nextLong(youngest.toEpochDay() - oldest.toEpochDay() + 1));
+  }
+
+  /**
+   * Picks an index with the probability given by cumulative thresholds.
+   *
+   * @param thresholds the cumulative shares, ending with 1
+   * @return the index picked
+   */
+  private int pick(double[] thresholds) {
+    double value = random.nextDouble();
+    for (int i = 0; i < thresholds.length - 1; i++) {
+      if (value < thresholds[i]) {
+        return i;
+      }
+    }
+    return thresholds.length - 1;
+  }
+
+  /**
+   * Turns relative weights into cumulative shares.
+   *
+   * @param weights the weights
+   * @param length  the number of weights expected
+   * @return the cumulative shares, the last of which is 1
+   * @throws IllegalArgumentException if the weights are not valid
+   */
+  private static double[] thresholds(double[] weights, int length)
+      throws IllegalArgumentException {
+    if (weights == null || weights.length != length) {
+      throw new IllegalArgumentException("Expected " + length + " weights");
+    }
+    double total = 0;
+    for (double weight : weights) {
+      if (weight < 0) {
+        throw new IllegalArgumentException("Weights can't be negative");
+      }
+      total += weight;
+    }
+    if (total <= 0) {
+      throw new IllegalArgumentException("At least one weight must be positive");
+    }
+    double[] thresholds = new double[length];
+    double sum = 0;
+    for (int i = 0; i < length; i++) {
+      sum += weights[i];
+      thresholds[i] = sum / total;
+    }
+    return thresholds;
+  }
+}
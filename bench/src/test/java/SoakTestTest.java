@@ -0,0 +1,102 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Test;
+import soccerteam.Position;
+import soccerteam.SkillLevel;
+import soccerteam.SoakTest;
+import soccerteam.TeamPlayer;
+import soccerteam.TryoutPlayerGenerator;
+
+/**
+ * Unit tests for the {@link TryoutPlayerGenerator} and {@link SoakTest} classes.
+ */
+public class SoakTestTest {
+  private static final LocalDate AS_OF_DATE = LocalDate.of(2024, 9, 1);
+
+  /**
+   * Tests that generated players follow the given skill and position weights and ages.
+   */
+  @Test
+  public void testGeneratorFollowsWeights() {
+    TryoutPlayerGenerator generator = new TryoutPlayerGenerator(7, new double[] {0, 0, 1, 0, 3},
+        new double[] {1, 0, 0, 1}, 0, 0, AS_OF_DATE);
+    Map<SkillLevel, Integer> skills = new EnumMap<>(SkillLevel.class);
+    Map<Position, Integer> positions = new EnumMap<>(Position.class);
+    for (int i = 0; i < 4000; i++) {
+      TeamPlayer player = generator.next();
+      skills.merge(player.getSkillLevel(), 1, Integer::sum);
+      positions.merge(player.getPreferredPosition(), 1, Integer::sum);
+      int age = player.getAge(AS_OF_DATE);
+      assertTrue(age >= 4 && age <= 9);
+    }
+    assertEquals(Set.of(SkillLevel.THREE, SkillLevel.FIVE), skills.keySet());
+    assertEquals(3000, skills.get(SkillLevel.FIVE), 150);
+    assertEquals(Set.of(Position.GOALIE, Position.FORWARD), positions.keySet());
+    assertEquals(2000, positions.get(Position.GOALIE), 150);
+  }
+
+  /**
+   * Tests that the boundary share puts players on both sides of the tenth birthday, and that
+   * the duplicate share repeats earlier children.
+   */
+  @Test
+  public void testBoundaryAndDuplicates() {
+    TryoutPlayerGenerator generator = new TryoutPlayerGenerator(3, new double[] {1, 1, 1, 1, 1},
+        new double[] {1, 1, 1, 1}, 0.5, 0.2, AS_OF_DATE);
+    Set<String> seen = new HashSet<>();
+    int repeats = 0;
+    int tooOld = 0;
+    int agingOut = 0;
+    for (int i = 0; i < 5000; i++) {
+      TeamPlayer player = generator.next();
+      if (!seen.add(player.getFirstName() + " " + player.getLastName() + " "
+          + player.getDateOfBirth())) {
+        repeats++;
+        continue;
+      }
+      int age = player.getAge(AS_OF_DATE);
+      if (age >= 10) {
+        tooOld++;
+      } else if (age == 9 && player.getAge(AS_OF_DATE.plusDays(31)) == 10) {
+        agingOut++;
+      }
+    }
+    assertEquals(1000, repeats, 120);
+    assertEquals(1000, tooOld, 120);
+    assertEquals(1000, agingOut, 120);
+  }
+
+  /**
+   * Tests that a short run reports every interval and a summary with adds, reads and
+   * latencies.
+   */
+  @Test
+  public void testShortRun() throws InterruptedException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    SoakTest soak = new SoakTest(4, List.of(new TryoutPlayerGenerator(1),
+        new TryoutPlayerGenerator(2)), 2000, 0.5, 1);
+
+    SoakTest.Report report = soak.run(Duration.ofMillis(600), Duration.ofMillis(200),
+        new PrintStream(output, true, StandardCharsets.UTF_8));
+
+    String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+    assertEquals(4, lines.length);
+    assertTrue(lines[3].startsWith("Total "));
+    assertTrue(report.getAddCount() > 100);
+    assertTrue(report.getReadCount() > 100);
+    assertTrue(report.getJoinedCount() > 0);
+    assertTrue(report.getThroughput() > 500 && report.getThroughput() < 4000);
+    assertTrue(report.getAddPercentileNanos(50) <= report.getAddPercentileNanos(99));
+  }
+}
@@ -0,0 +1,110 @@
+package soccerteam;
+
+/**
+ * The AddPlayerResult class describes what happened to one player passed to
+ * {@link TeamModel#addPlayers}: whether the player joined the team, and if so whether they took
+ * an open spot or replaced a lower skill player, and whether the same child was already on the
+ * roster.
+ */
+public final class AddPlayerResult {
+
+  /**
+   * The possible outcomes of adding a player.
+   */
+  public enum Outcome {
+    /** The player took an open spot on the roster. */
+    ADDED,
+    /** The player joined a full roster by replacing the lowest skill player. */
+    REPLACED,
+    /** The roster was full and the player's skill level was not high enough. */
+    REJECTED,
+    /** The same child was already on the roster and the player was merged into them. */
+    MERGED
+  }
+
+  private final TeamPlayer player;
+  private final Outcome outcome;
+  private final TeamPlayer replacedPlayer;
+  private final TeamPlayer duplicateOf;
+
+  /**
+   * Constructs an AddPlayerResult for a player who is not a duplicate.
+   *
+   * @param player         the player that was passed in
+   * @param outcome        what happened to the player
+   * @param replacedPlayer the player who left the team to make room, or null
+   */
+  AddPlayerResult(TeamPlayer player, Outcome outcome, TeamPlayer replacedPlayer) {
+    this(player, outcome, replacedPlayer, null);
+  }
+
+  /**
+   * Constructs an AddPlayerResult.
+   *
+   * @param player         the player that was passed in
+   * @param outcome        what happened to the player
+   * @param replacedPlayer the player who left the team to make room, or null
+   * @param duplicateOf    a copy of the roster player registering the same child, or null
+   */
+  AddPlayerResult(TeamPlayer player, Outcome outcome, TeamPlayer replacedPlayer,
+                  TeamPlayer duplicateOf) {
+    this.player = player;
+    this.outcome = outcome;
+    this.replacedPlayer = replacedPlayer;
+    this.duplicateOf = duplicateOf;
+  }
+
+  /**
+   * Gets the player that was passed in.
+   *
+   * @return the player
+   */
+  public TeamPlayer getPlayer() {
+    return player;
+  }
+
+  /**
+   * Gets what happened to the player.
+   *
+   * @return the outcome
+   */
+  public Outcome getOutcome() {
+    return outcome;
+  }
+
+  /**
+   * Checks whether the player joined the team.
+   *
+   * @return true if the player was added or replaced another player, false if rejected or
+   *         merged
+   */
+  public boolean isAdded() {
+    return outcome == Outcome.ADDED || outcome == Outcome.REPLACED;
+  }
+
+  /**
+   * Gets the player who was replaced to make room for this one.
+   *
+   * @return the replaced player, or null if no player was replaced
+   */
+  public TeamPlayer getReplacedPlayer() {
+    return replacedPlayer;
+  }
+
+  /**
+   * Gets the player already on the roster who registers the same child as this one. It is set
+   * when the player was merged, or when the player joined and was flagged as a duplicate.
+   *
+   * @return a copy of the registered player, or null if the player is not a duplicate
+   */
+  public TeamPlayer getDuplicateOf() {
+    return duplicateOf;
+  }
+
+  @Override
+  public String toString() {
+    return player.getFullName() + ": " + outcome
+        + (replacedPlayer != null ? " (replaced " + replacedPlayer.getFullName() + ")" : "")
+        + (duplicateOf != null ? " (duplicate of #" + duplicateOf.getJerseyNumber() + ")" : "");
+  }
+}
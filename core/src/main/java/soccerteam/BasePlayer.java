@@ -0,0 +1,141 @@
+package soccerteam;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * The BasePlayer class implements the Player interface and represents a player in a soccer team.
+ * It provides methods to retrieve the player's personal information,
+ * preferred position on the field, and skill level.
+ * It also includes a method to calculate the player's age based on their date of birth.
+ * The date of birth is parsed once when the player is created, and ages are computed at the
+ * shared as-of date of the {@link SeasonClock}.
+ */
+public class BasePlayer implements Player {
+  private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+  private final String firstName;
+  private final String lastName;
+  private final String dateOfBirth;
+  private final LocalDate birthDate;
+  private final Position preferredPosition;
+  private final SkillLevel skillLevel;
+  private final long sortKey;
+
+  /**
+   * Constructs a BasePlayer object with the specified firstName, lastName, dateOfBirth,
+   * preferredPosition, and skillLevel.
+   *
+   * @param firstName         the first name of the player
+   * @param lastName          the last name of the player
+   * @param dateOfBirth       the date of birth of the player
+   * @param preferredPosition the preferred position of the player
+   * @param skillLevel        the skill level of the player
+   * @throws IllegalArgumentException if the date of birth is not in the format yyyy-MM-dd
+   */
+  public BasePlayer(String firstName, String lastName, String dateOfBirth,
+                    Position preferredPosition, SkillLevel skillLevel)
+      throws IllegalArgumentException {
+    this.firstName = firstName;
+    this.lastName = lastName;
+    this.dateOfBirth = dateOfBirth;
+    this.birthDate = parseDateOfBirth(dateOfBirth);
+    this.preferredPosition = preferredPosition;
+    this.skillLevel = skillLevel;
+    this.sortKey = PlayerOrder.packKey(skillLevel, preferredPosition, lastName);
+  }
+
+  /**
+   * Constructs a BasePlayer object from a birth date that has already been parsed, such as one
+   * read back from a player store.
+   *
+   * @param firstName         the first name of the player
+   * @param lastName          the last name of the player
+   * @param birthDate         the birth date of the player
+   * @param preferredPosition the preferred position of the player
+   * @param skillLevel        the skill level of the player
+   */
+  BasePlayer(String firstName, String lastName, LocalDate birthDate,
+             Position preferredPosition, SkillLevel skillLevel) {
+    this.firstName = firstName;
+    this.lastName = lastName;
+    this.dateOfBirth = birthDate.format(DATE_FORMATTER);
+    this.birthDate = birthDate;
+    this.preferredPosition = preferredPosition;
+    this.skillLevel = skillLevel;
+    this.sortKey = PlayerOrder.packKey(skillLevel, preferredPosition, lastName);
+  }
+
+  @Override
+  public String getFirstName() {
+    return firstName;
+  }
+
+  @Override
+  public String getLastName() {
+    return lastName;
+  }
+
+  @Override
+  public String getFullName() {
+    return firstName + " " + lastName;
+  }
+
+  @Override
+  public String getDateOfBirth() {
+    return dateOfBirth;
+  }
+
+  @Override
+  public LocalDate getBirthDate() {
+    return birthDate;
+  }
+
+  @Override
+  public int getAge() {
+    return getAge(SeasonClock.getAsOfDate());
+  }
+
+  @Override
+  public int getAge(LocalDate asOfDate) {
+    return (int) ChronoUnit.YEARS.between(birthDate, asOfDate);
+  }
+
+  @Override
+  public Position getPreferredPosition() {
+    return preferredPosition;
+  }
+
+  @Override
+  public SkillLevel getSkillLevel() {
+    return skillLevel;
+  }
+
+  /**
+   * Gets the packed key that {@link PlayerOrder} sorts this player by.
+   *
+   * @return the packed sort key
+   */
+  long getSortKey() {
+    return sortKey;
+  }
+
+  /**
+   * Parses a date of birth in the format yyyy-MM-dd.
+   *
+   * @param dateOfBirth the date of birth to parse
+   * @return the parsed date
+   * @throws IllegalArgumentException if the date of birth is null or not in the expected format
+   */
+  private static LocalDate parseDateOfBirth(String dateOfBirth) throws IllegalArgumentException {
+    if (dateOfBirth == null) {
+      throw new IllegalArgumentException("Invalid date of birth format: null");
+    }
+    try {
+      return LocalDate.parse(dateOfBirth, DATE_FORMATTER);
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("Invalid date of birth format: " + dateOfBirth, e);
+    }
+  }
+}
@@ -0,0 +1,185 @@
+package soccerteam;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * The CandidateFile class is the append-only history of the candidates of one team. Each
+ * snapshot appends only the candidates accepted since the previous one, as a batch guarded by a
+ * length and a CRC32 checksum, so writing a snapshot takes the same time however long the
+ * history is.
+ *
+ * <p>The snapshot records how many candidates it covers. A batch appended for a snapshot that
+ * was never written is cut off when the file is read, and those candidates are recorded again
+ * as the journal is replayed.
+ */
+final class CandidateFile implements Closeable {
+  private static final int MAGIC = 0x55313043;
+  private static final int FORMAT_VERSION = 1;
+  private static final int HEADER_SIZE = 8;
+  private static final int BATCH_HEADER_SIZE = 8;
+
+  private final Path file;
+  private final FileChannel channel;
+  private long end = HEADER_SIZE;
+  private long count;
+
+  /**
+   * Opens the candidate file, creating it if needed.
+   *
+   * @param file the candidate file
+   * @throws IOException if the file can't be opened or is not a candidate file
+   */
+  CandidateFile(Path file) throws IOException {
+    this.file = file;
+    channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE);
+    try {
+      if (channel.size() == 0) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(FORMAT_VERSION).flip();
+        writeFully(header, 0);
+        channel.force(true);
+      } else {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        if (channel.read(header, 0) < HEADER_SIZE
+            || header.getInt(0) != MAGIC || header.getInt(4) != FORMAT_VERSION) {
+          throw new IOException("Not a candidate file: " + file);
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Reads the first candidates in the file, and cuts off anything after them.
+   *
+   * @param saved the number of candidates covered by the snapshot
+   * @return the candidates, oldest first
+   * @throws IOException if the file holds fewer candidates, or its batches do not end after
+   *                     exactly that many
+   */
+  List<TeamPlayer> read(long saved) throws IOException {
+    List<TeamPlayer> candidates = new ArrayList<>();
+    long position = HEADER_SIZE;
+    ByteBuffer batchHeader = ByteBuffer.allocate(BATCH_HEADER_SIZE);
+    while (candidates.size() < saved) {
+      batchHeader.clear();
+      readFully(batchHeader, position);
+      int length = batchHeader.getInt(0);
+      if (length < 0 || position + BATCH_HEADER_SIZE + length > channel.size()) {
+        throw new IOException("Corrupt candidate file: " + file);
+      }
+      ByteBuffer payload = ByteBuffer.allocate(length);
+      readFully(payload, position + BATCH_HEADER_SIZE);
+      CRC32 crc = new CRC32();
+      crc.update(payload.array());
+      if ((int) crc.getValue() != batchHeader.getInt(4)) {
+        throw new IOException("Corrupt candidate file: " + file);
+      }
+      DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload.array()));
+      for (int i = in.readInt(); i > 0; i--) {
+        candidates.add(PlayerCodec.read(in));
+      }
+      position += BATCH_HEADER_SIZE + length;
+    }
+    if (candidates.size() != saved) {
+      throw new IOException("Corrupt candidate file: " + file);
+    }
+    if (position < channel.size()) {
+      channel.truncate(position);
+      channel.force(true);
+    }
+    end = position;
+    count = saved;
+    return candidates;
+  }
+
+  /**
+   * Gets the number of candidates in the file.
+   *
+   * @return the number of candidates written so far
+   */
+  long getCount() {
+    return count;
+  }
+
+  /**
+   * Appends candidates to the end of the file as one batch and syncs it. A batch that could
+   * not be written is overwritten by the next one.
+   *
+   * @param candidates the candidates accepted since the last batch, oldest first
+   * @throws IOException if the batch can't be written
+   */
+  void append(List<TeamPlayer> candidates) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    out.writeInt(candidates.size());
+    for (TeamPlayer candidate : candidates) {
+      PlayerCodec.write(out, candidate);
+    }
+    byte[] payload = bytes.toByteArray();
+    CRC32 crc = new CRC32();
+    crc.update(payload);
+
+    ByteBuffer buffer = ByteBuffer.allocate(BATCH_HEADER_SIZE + payload.length);
+    buffer.putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+    writeFully(buffer, end);
+    channel.force(false);
+    end += buffer.capacity();
+    count += candidates.size();
+  }
+
+  /**
+   * Closes the file.
+   *
+   * @throws IOException if the file can't be closed
+   */
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  /**
+   * Writes all of a buffer at a position in the file.
+   *
+   * @param buffer   the bytes to write
+   * @param position the file position to write at
+   * @throws IOException if the bytes can't be written
+   */
+  private void writeFully(ByteBuffer buffer, long position) throws IOException {
+    while (buffer.hasRemaining()) {
+      position += channel.write(buffer, position);
+    }
+  }
+
+  /**
+   * Fills a buffer from a position in the file.
+   *
+   * @param buffer   the buffer to fill
+   * @param position the file position to read from
+   * @throws IOException if the file ends first or can't be read
+   */
+  private void readFully(ByteBuffer buffer, long position) throws IOException {
+    while (buffer.hasRemaining()) {
+      int read = channel.read(buffer, position);
+      if (read < 0) {
+        throw new IOException("Corrupt candidate file: " + file);
+      }
+      position += read;
+    }
+  }
+}
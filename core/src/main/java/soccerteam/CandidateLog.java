@@ -0,0 +1,284 @@
+package soccerteam;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * The CandidateLog class is the history of candidates accepted by a team, oldest first.
+ * Candidates are appended into fixed-size pages, so an append never copies earlier entries, and
+ * filled pages are never written again. That lets the log hand out read-only views of any range
+ * in constant time; a view keeps working after later appends and evictions.
+ *
+ * <p>The log can be limited to a number of retained candidates. Once the limit is reached, every
+ * append evicts the oldest candidate, and offsets are counted from the oldest candidate that is
+ * still retained.
+ *
+ * <p>A log created with {@link #columnar} keeps each page in a {@link PlayerStore} with names
+ * interned across the whole log, instead of keeping the appended TeamPlayer objects. It takes a
+ * fraction of the memory, and every read returns a new copy of the candidate.
+ */
+public class CandidateLog implements Iterable<TeamPlayer> {
+  private static final int PAGE_SIZE = 256;
+  private final int maxRetained;
+  private final NameDictionary names;
+  private Page[] pages = new Page[4];
+  private long firstPage;
+  private int pageCount;
+  private long start;
+  private long end;
+
+  /**
+   * Constructs a CandidateLog that keeps every candidate.
+   */
+  public CandidateLog() {
+    this(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Constructs a CandidateLog that keeps at most the given number of the most recent candidates.
+   *
+   * @param maxRetained the maximum number of candidates to keep
+   * @throws IllegalArgumentException if the maximum is not positive
+   */
+  public CandidateLog(int maxRetained) throws IllegalArgumentException {
+    this(maxRetained, null);
+  }
+
+  /**
+   * Constructs a CandidateLog that keeps at most the given number of the most recent candidates,
+   * in object pages or, given a name dictionary, in columnar pages.
+   *
+   * @param maxRetained the maximum number of candidates to keep
+   * @param names       the dictionary shared by columnar pages, or null for object pages
+   * @throws IllegalArgumentException if the maximum is not positive
+   */
+  private CandidateLog(int maxRetained, NameDictionary names) throws IllegalArgumentException {
+    if (maxRetained <= 0) {
+      throw new IllegalArgumentException("Candidate retention must be positive.");
+    }
+    this.maxRetained = maxRetained;
+    this.names = names;
+  }
+
+  /**
+   * Creates a CandidateLog that keeps every candidate in columnar pages.
+   *
+   * @return a new columnar log
+   */
+  public static CandidateLog columnar() {
+    return columnar(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates a CandidateLog that keeps at most the given number of the most recent candidates in
+   * columnar pages. Names of evicted candidates stay in the log's dictionary.
+   *
+   * @param maxRetained the maximum number of candidates to keep
+   * @return a new columnar log
+   * @throws IllegalArgumentException if the maximum is not positive
+   */
+  public static CandidateLog columnar(int maxRetained) throws IllegalArgumentException {
+    return new CandidateLog(maxRetained, new NameDictionary());
+  }
+
+  /**
+   * Appends a candidate to the end of the log, evicting the oldest candidate if the log is full.
+   *
+   * @param candidate the candidate to append
+   */
+  public void append(TeamPlayer candidate) {
+    int slot = (int) (end % PAGE_SIZE);
+    if (slot == 0) {
+      if (pageCount == pages.length) {
+        pages = Arrays.copyOf(pages, pageCount * 2);
+      }
+      pages[pageCount++] = names == null ? new ObjectPage() : new ColumnarPage(names);
+    }
+    pages[pageCount - 1].set(slot, candidate);
+    end++;
+    if (end - start > maxRetained) {
+      start++;
+      if (start / PAGE_SIZE > firstPage) {
+        // Pages are dropped into a new table so that existing views keep the old one
+        pages = Arrays.copyOfRange(pages, 1, pages.length);
+        pageCount--;
+        firstPage++;
+      }
+    }
+  }
+
+  /**
+   * Gets the number of candidates currently retained.
+   *
+   * @return the number of retained candidates
+   */
+  public int size() {
+    return (int) (end - start);
+  }
+
+  /**
+   * Gets the total number of candidates ever appended, including evicted ones.
+   *
+   * @return the total number of candidates appended
+   */
+  public long getTotalCount() {
+    return end;
+  }
+
+  /**
+   * Gets the maximum number of candidates this log retains.
+   *
+   * @return the retention limit
+   */
+  public int getMaxRetained() {
+    return maxRetained;
+  }
+
+  /**
+   * Gets a read-only view of a page of retained candidates.
+   *
+   * @param offset the offset of the first candidate, counted from the oldest retained candidate
+   * @param limit  the maximum number of candidates to include
+   * @return an unmodifiable view of at most limit candidates starting at offset
+   * @throws IllegalArgumentException if the offset or limit is negative
+   */
+  public List<TeamPlayer> page(int offset, int limit) throws IllegalArgumentException {
+    if (offset < 0 || limit < 0) {
+      throw new IllegalArgumentException("Offset and limit can't be negative.");
+    }
+    long from = Math.min(start + offset, end);
+    long to = Math.min(from + limit, end);
+    return new View(pages, firstPage, from, to);
+  }
+
+  /**
+   * Gets a read-only view of every retained candidate.
+   *
+   * @return an unmodifiable view of the retained candidates
+   */
+  public List<TeamPlayer> view() {
+    return new View(pages, firstPage, start, end);
+  }
+
+  /**
+   * Returns an iterator over the candidates retained when it was created, oldest first, that
+   * reads them straight from the log instead of copying them into a list.
+   *
+   * @return an iterator over the retained candidates
+   */
+  @Override
+  public Iterator<TeamPlayer> iterator() {
+    return view().iterator();
+  }
+
+  /**
+   * A read-only range of the log. It holds on to the page table it was created with, so later
+   * appends and evictions in the log never change what it contains.
+   */
+  private static final class View extends AbstractList<TeamPlayer> implements RandomAccess {
+    private final Page[] pages;
+    private final long firstPage;
+    private final long from;
+    private final int size;
+
+    /**
+     * Constructs a View of the candidates with absolute positions from (inclusive) to
+     * (exclusive).
+     *
+     * @param pages     the page table of the log
+     * @param firstPage the absolute number of the first page in the table
+     * @param from      the absolute position of the first candidate
+     * @param to        the absolute position after the last candidate
+     */
+    private View(Page[] pages, long firstPage, long from, long to) {
+      this.pages = pages;
+      this.firstPage = firstPage;
+      this.from = from;
+      this.size = (int) (to - from);
+    }
+
+    @Override
+    public TeamPlayer get(int index) {
+      if (index < 0 || index >= size) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+      }
+      long position = from + index;
+      return pages[(int) (position / PAGE_SIZE - firstPage)].get((int) (position % PAGE_SIZE));
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+
+  /**
+   * One fixed-size page of candidates. Slots are filled in order and never written again.
+   */
+  private interface Page {
+
+    /**
+     * Gets the candidate in a slot.
+     *
+     * @param slot the slot within the page
+     * @return the candidate
+     */
+    TeamPlayer get(int slot);
+
+    /**
+     * Fills the next slot of the page.
+     *
+     * @param slot      the slot within the page
+     * @param candidate the candidate to keep in it
+     */
+    void set(int slot, TeamPlayer candidate);
+  }
+
+  /**
+   * A page that keeps the appended candidates themselves.
+   */
+  private static final class ObjectPage implements Page {
+    private final TeamPlayer[] candidates = new TeamPlayer[PAGE_SIZE];
+
+    @Override
+    public TeamPlayer get(int slot) {
+      return candidates[slot];
+    }
+
+    @Override
+    public void set(int slot, TeamPlayer candidate) {
+      candidates[slot] = candidate;
+    }
+  }
+
+  /**
+   * A page that keeps the candidates in a player store and copies them out when read. The store
+   * has room for the whole page from the start, so its columns are never replaced while views
+   * are reading them.
+   */
+  private static final class ColumnarPage implements Page {
+    private final PlayerStore store;
+
+    /**
+     * Constructs a ColumnarPage.
+     *
+     * @param names the dictionary shared by every page of the log
+     */
+    private ColumnarPage(NameDictionary names) {
+      store = new PlayerStore(PAGE_SIZE, names);
+    }
+
+    @Override
+    public TeamPlayer get(int slot) {
+      return store.toTeamPlayer(slot);
+    }
+
+    @Override
+    public void set(int slot, TeamPlayer candidate) {
+      store.add(candidate);
+    }
+  }
+}
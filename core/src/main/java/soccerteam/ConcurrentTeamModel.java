@@ -0,0 +1,188 @@
+package soccerteam;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The ConcurrentTeamModel class implements the TeamModel interface for a team shared between
+ * threads. Changes are serialized by a per-team lock and applied to a TeamModelImpl, which then
+ * publishes a new immutable RosterSnapshot. Reads never take the lock: they use the most recently
+ * published snapshot, so a reader always sees a roster, lineup and candidate list from the same
+ * version and never blocks or fails because of a concurrent change.
+ *
+ * <p>Roster listeners are called after each change has been published, while the lock is still
+ * held, so they receive changes one at a time and in the order they were made, and can read the
+ * new version from this team.
+ */
+public class ConcurrentTeamModel implements TeamModel {
+  private final TeamModelImpl team;
+  private final ReentrantLock writeLock = new ReentrantLock();
+  private final RosterListenerList listeners = new RosterListenerList();
+  private final RosterListener forwarder = events -> pendingEvents = events;
+  private List<RosterEvent> pendingEvents;
+  private volatile RosterSnapshot snapshot;
+
+  /**
+   * Constructs a new ConcurrentTeamModel for an empty team.
+   */
+  public ConcurrentTeamModel() {
+    this(new TeamModelImpl());
+  }
+
+  /**
+   * Constructs a new ConcurrentTeamModel around an existing team. The team must not be used
+   * directly afterwards.
+   *
+   * @param team the team to make thread-safe
+   * @throws IllegalArgumentException if the team is null
+   */
+  public ConcurrentTeamModel(TeamModelImpl team) throws IllegalArgumentException {
+    if (team == null) {
+      throw new IllegalArgumentException("Team can't be null");
+    }
+    this.team = team;
+    this.snapshot = team.getSnapshot();
+  }
+
+  @Override
+  public boolean addPlayer(TeamPlayer player)
+      throws IllegalArgumentException, IllegalStateException {
+    writeLock.lock();
+    try {
+      boolean added = team.addPlayer(player);
+      snapshot = team.getSnapshot();
+      firePendingEvents();
+      return added;
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  @Override
+  public List<AddPlayerResult> addPlayers(Collection<TeamPlayer> players)
+      throws IllegalArgumentException, IllegalStateException {
+    writeLock.lock();
+    try {
+      List<AddPlayerResult> results = team.addPlayers(players);
+      snapshot = team.getSnapshot();
+      firePendingEvents();
+      return results;
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  @Override
+  public int getPlayerCount() {
+    return snapshot.getAllPlayers().size();
+  }
+
+  @Override
+  public boolean isValid() {
+    return snapshot.getAllPlayers().size() >= TeamModelImpl.MINIMUM_PLAYERS;
+  }
+
+  @Override
+  public List<TeamPlayer> getCandidates() {
+    return snapshot.getCandidates();
+  }
+
+  @Override
+  public List<TeamPlayer> getCandidates(int offset, int limit) throws IllegalArgumentException {
+    if (offset < 0 || limit < 0) {
+      throw new IllegalArgumentException("Offset and limit can't be negative.");
+    }
+    List<TeamPlayer> candidates = snapshot.getCandidates();
+    int from = Math.min(offset, candidates.size());
+    int to = (int) Math.min((long) from + limit, candidates.size());
+    return candidates.subList(from, to);
+  }
+
+  @Override
+  public int getCandidateCount() {
+    return snapshot.getCandidates().size();
+  }
+
+  @Override
+  public Iterator<TeamPlayer> candidateIterator() {
+    return snapshot.getCandidates().iterator();
+  }
+
+  @Override
+  public List<TeamPlayer> getAllPlayers() throws IllegalStateException {
+    RosterSnapshot current = snapshot;
+    TeamModelImpl.validateTeamSize(current.getAllPlayers().size());
+    return current.getAllPlayers();
+  }
+
+  @Override
+  public List<TeamPlayer> getStartingLineup() throws IllegalStateException {
+    RosterSnapshot current = snapshot;
+    TeamModelImpl.validateTeamSize(current.getAllPlayers().size());
+    return current.getStartingLineup();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Unlike the other reads, this takes the lock, because the indexes change in place.
+   */
+  @Override
+  public List<TeamPlayer> findPlayers(PlayerQuery query) throws IllegalArgumentException {
+    writeLock.lock();
+    try {
+      return team.findPlayers(query);
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * Gets the most recently published snapshot of the team without blocking.
+   *
+   * @return the current snapshot
+   */
+  public RosterSnapshot getSnapshot() {
+    return snapshot;
+  }
+
+  @Override
+  public void addRosterListener(RosterListener listener) throws IllegalArgumentException {
+    writeLock.lock();
+    try {
+      boolean first = listeners.isEmpty();
+      listeners.add(listener);
+      if (first) {
+        team.addRosterListener(forwarder);
+      }
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  @Override
+  public void removeRosterListener(RosterListener listener) {
+    writeLock.lock();
+    try {
+      listeners.remove(listener);
+      if (listeners.isEmpty()) {
+        team.removeRosterListener(forwarder);
+      }
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * Delivers the events of the change just made to the listeners of this team.
+   */
+  private void firePendingEvents() {
+    List<RosterEvent> events = pendingEvents;
+    pendingEvents = null;
+    if (events != null) {
+      listeners.fire(events);
+    }
+  }
+}
@@ -0,0 +1,136 @@
+package soccerteam;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The CsvRegistrationReader class reads registrations from comma-separated values. The first row
+ * names the columns. Fields may be quoted with double quotes, in which case they can hold commas,
+ * line breaks and doubled quotes. Blank lines are skipped.
+ */
+final class CsvRegistrationReader implements RegistrationReader {
+  private final BufferedReader in;
+  private final String[] columns;
+  private int peeked = -2;
+  private long recordCount;
+
+  /**
+   * Constructs a CsvRegistrationReader and reads the header row.
+   *
+   * @param reader the source of the file
+   * @throws IOException if the header can't be read or is missing
+   */
+  CsvRegistrationReader(Reader reader) throws IOException {
+    in = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+    List<String> header = readRow();
+    if (header == null) {
+      throw new IOException("CSV file has no header row");
+    }
+    columns = new String[header.size()];
+    for (int i = 0; i < columns.length; i++) {
+      columns[i] = RegistrationRecord.normalizeName(header.get(i).trim());
+    }
+  }
+
+  @Override
+  public RegistrationRecord next() throws IOException {
+    List<String> row;
+    do {
+      row = readRow();
+      if (row == null) {
+        return null;
+      }
+    } while (row.size() == 1 && row.get(0).isBlank());
+
+    Map<String, String> fields = new HashMap<>();
+    for (int i = 0; i < Math.min(row.size(), columns.length); i++) {
+      fields.put(columns[i], row.get(i));
+    }
+    return new RegistrationRecord(++recordCount, fields);
+  }
+
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+
+  /**
+   * Reads the fields of one row.
+   *
+   * @return the fields, or null at the end of the file
+   * @throws IOException if the file can't be read or a quoted field is not closed
+   */
+  private List<String> readRow() throws IOException {
+    int c = read();
+    if (c == -1) {
+      return null;
+    }
+    List<String> row = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    while (true) {
+      if (quoted) {
+        if (c == -1) {
+          throw new IOException("Quoted field is not closed in record " + (recordCount + 1));
+        }
+        if (c == '"') {
+          if (peek() == '"') {
+            read();
+            field.append('"');
+          } else {
+            quoted = false;
+          }
+        } else {
+          field.append((char) c);
+        }
+      } else if (c == -1 || c == '\n' || c == '\r') {
+        if (c == '\r' && peek() == '\n') {
+          read();
+        }
+        row.add(field.toString());
+        return row;
+      } else if (c == ',') {
+        row.add(field.toString());
+        field.setLength(0);
+      } else if (c == '"' && field.length() == 0) {
+        quoted = true;
+      } else {
+        field.append((char) c);
+      }
+      c = read();
+    }
+  }
+
+  /**
+   * Reads the next character.
+   *
+   * @return the character, or -1 at the end of the file
+   * @throws IOException if the file can't be read
+   */
+  private int read() throws IOException {
+    if (peeked != -2) {
+      int c = peeked;
+      peeked = -2;
+      return c;
+    }
+    return in.read();
+  }
+
+  /**
+   * Looks at the next character without reading it.
+   *
+   * @return the character, or -1 at the end of the file
+   * @throws IOException if the file can't be read
+   */
+  private int peek() throws IOException {
+    if (peeked == -2) {
+      peeked = in.read();
+    }
+    return peeked;
+  }
+}
@@ -0,0 +1,31 @@
+package soccerteam;
+
+/**
+ * The DuplicatePolicy enum decides what happens when a player is added who is the same child as
+ * a player already on a roster: the same first name, last name and date of birth, ignoring
+ * letter case, accents and punctuation in the names. A child who was replaced and left the
+ * roster is no longer registered, and may be added again.
+ */
+public enum DuplicatePolicy {
+  /**
+   * The player is added like any other player, without looking for the same child on the
+   * roster. This is what a team or league does when it is not given a policy.
+   */
+  ALLOW,
+  /**
+   * The player is refused with an IllegalArgumentException, and nothing changes.
+   */
+  REJECT,
+  /**
+   * The player is treated as a second submission of the registration already on the roster.
+   * Nothing changes and the add reports that no player joined. The player passed in is left as
+   * it is; the registered player, with its jersey number and team position, is reported through
+   * {@link AddPlayerResult#getDuplicateOf}.
+   */
+  MERGE,
+  /**
+   * The player is added like any other player, and is reported as a duplicate so that it can
+   * be checked by hand.
+   */
+  FLAG
+}
@@ -0,0 +1,157 @@
+package soccerteam;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * The GreedyLineupStrategy class chooses the starting lineup in two passes. The first pass goes
+ * through the players in selection order and places each one in their preferred position while
+ * it has room. The second pass fills the remaining slots in selection order with the preferred
+ * position if it still has room, otherwise the first position that does. This is the strategy a
+ * team uses unless it is given another one.
+ *
+ * <p>Only the best players of each position can start, so a team that keeps its roster grouped
+ * by position gets the lineup from the heads of the groups through
+ * {@link #selectLineupByPosition}, without looking at the rest of the roster.
+ *
+ * <p>The result can be beaten: a position with few players may take a weak player in the first
+ * pass while a stronger one is left out. {@link OptimalLineupStrategy} finds the best lineup.
+ */
+public final class GreedyLineupStrategy implements LineupStrategy {
+  private static final Position[] POSITIONS = Position.values();
+
+  @Override
+  public Position[] selectLineup(List<TeamPlayer> players, int lineupSize) {
+    List<List<Integer>> byPosition = new ArrayList<>(POSITIONS.length);
+    for (int p = 0; p < POSITIONS.length; p++) {
+      byPosition.add(new ArrayList<>());
+    }
+    for (int i = 0; i < players.size(); i++) {
+      byPosition.get(players.get(i).getPreferredPosition().ordinal()).add(i);
+    }
+    Position[] slots = new Position[players.size()];
+    // The players are in selection order, so their indexes are too
+    select(byPosition, Comparator.naturalOrder(), lineupSize, (i, slot) -> slots[i] = slot);
+    return slots;
+  }
+
+  @Override
+  public Map<TeamPlayer, Position> selectLineupByPosition(
+      List<? extends Collection<TeamPlayer>> byPosition, int lineupSize) {
+    Map<TeamPlayer, Position> lineup = new LinkedHashMap<>();
+    select(byPosition, PlayerOrder.SELECTION, lineupSize, lineup::put);
+    return lineup;
+  }
+
+  /**
+   * Runs the two passes over the players of each preferred position. Each pass merges the
+   * groups in selection order. The first pass takes players from a group only while their
+   * position has room, so it reads no more than the maximum of each position; the second pass
+   * takes the rest of every group in turn into the open slots.
+   *
+   * @param byPosition the players of each preferred position, by position ordinal, each group in
+   *                   selection order
+   * @param order      the selection order; players of different positions never compare equal
+   * @param lineupSize the number of players in the starting lineup
+   * @param choose     told about each chosen player and their slot, in the order they are chosen
+   * @param <T>        the type that identifies a player
+   */
+  private static <T> void select(List<? extends Collection<T>> byPosition,
+                                 Comparator<? super T> order, int lineupSize,
+                                 BiConsumer<T, Position> choose) {
+    int[] counts = new int[POSITIONS.length];
+    List<Iterator<T>> iterators = new ArrayList<>(POSITIONS.length);
+    List<T> heads = new ArrayList<>(POSITIONS.length);
+    for (Position position : POSITIONS) {
+      Iterator<T> iterator = byPosition.get(position.ordinal()).iterator();
+      iterators.add(iterator);
+      heads.add(iterator.hasNext() ? iterator.next() : null);
+    }
+    int selected = 0;
+
+    // First pass: in selection order, each player in their preferred position while it has room
+    for (int best = next(heads, counts, true, order); best >= 0 && selected < lineupSize;
+         best = next(heads, counts, true, order)) {
+      choose.accept(advance(heads, iterators, best), POSITIONS[best]);
+      counts[best]++;
+      selected++;
+    }
+
+    // Second pass: the rest in selection order, into the open slots
+    for (int best = next(heads, counts, false, order); best >= 0 && selected < lineupSize;
+         best = next(heads, counts, false, order)) {
+      Position slot = openPosition(POSITIONS[best], counts);
+      if (slot == null) {
+        return;
+      }
+      choose.accept(advance(heads, iterators, best), slot);
+      counts[slot.ordinal()]++;
+      selected++;
+    }
+  }
+
+  /**
+   * Finds the group whose next player comes first in selection order.
+   *
+   * @param heads     the next player of each group, or null for a group with none left
+   * @param counts    the current number of players in each position
+   * @param withRoom  whether to consider only groups whose position still has room
+   * @param order     the selection order
+   * @param <T>       the type that identifies a player
+   * @return the position ordinal of the group, or -1 if no group qualifies
+   */
+  private static <T> int next(List<T> heads, int[] counts, boolean withRoom,
+                              Comparator<? super T> order) {
+    int best = -1;
+    for (int p = 0; p < heads.size(); p++) {
+      T head = heads.get(p);
+      if (head != null && (!withRoom || counts[p] < POSITIONS[p].getMaxPlayers())
+          && (best < 0 || order.compare(head, heads.get(best)) < 0)) {
+        best = p;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Takes the next player of a group, moving the group on to the player after.
+   *
+   * @param heads     the next player of each group
+   * @param iterators the rest of each group
+   * @param group     the position ordinal of the group
+   * @param <T>       the type that identifies a player
+   * @return the player taken
+   */
+  private static <T> T advance(List<T> heads, List<Iterator<T>> iterators, int group) {
+    T player = heads.get(group);
+    Iterator<T> iterator = iterators.get(group);
+    heads.set(group, iterator.hasNext() ? iterator.next() : null);
+    return player;
+  }
+
+  /**
+   * Determines the position for a player who could not be placed in the first pass.
+   *
+   * @param preferredPosition the preferred position of the player
+   * @param counts            the current number of players in each position
+   * @return the preferred position if it has room, otherwise the first position with room, or
+   *         null if all positions are full
+   */
+  private static Position openPosition(Position preferredPosition, int[] counts) {
+    if (counts[preferredPosition.ordinal()] < preferredPosition.getMaxPlayers()) {
+      return preferredPosition;
+    }
+    for (Position position : POSITIONS) {
+      if (counts[position.ordinal()] < position.getMaxPlayers()) {
+        return position;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,73 @@
+package soccerteam;
+
+/**
+ * The ImportResult class counts what happened to the records of a registration file passed to
+ * {@link RegistrationImporter}. Every record read is counted exactly once as added, not selected
+ * or rejected.
+ */
+public final class ImportResult {
+  private final long recordCount;
+  private final long addedCount;
+  private final long notSelectedCount;
+  private final long rejectedCount;
+
+  /**
+   * Constructs an ImportResult.
+   *
+   * @param recordCount      the number of records read
+   * @param addedCount       the number of players who joined their team
+   * @param notSelectedCount the number of valid players whose team was full of better players
+   * @param rejectedCount    the number of records that were invalid or refused by their team
+   */
+  ImportResult(long recordCount, long addedCount, long notSelectedCount, long rejectedCount) {
+    this.recordCount = recordCount;
+    this.addedCount = addedCount;
+    this.notSelectedCount = notSelectedCount;
+    this.rejectedCount = rejectedCount;
+  }
+
+  /**
+   * Gets the number of records read from the file.
+   *
+   * @return the number of records
+   */
+  public long getRecordCount() {
+    return recordCount;
+  }
+
+  /**
+   * Gets the number of players who joined their team, either in an open spot or in place of a
+   * lower skill player.
+   *
+   * @return the number of players added
+   */
+  public long getAddedCount() {
+    return addedCount;
+  }
+
+  /**
+   * Gets the number of valid players who did not join their team because it was full and their
+   * skill level was not high enough.
+   *
+   * @return the number of players not selected
+   */
+  public long getNotSelectedCount() {
+    return notSelectedCount;
+  }
+
+  /**
+   * Gets the number of records written to the rejects file, because they were invalid or their
+   * team refused the player.
+   *
+   * @return the number of rejected records
+   */
+  public long getRejectedCount() {
+    return rejectedCount;
+  }
+
+  @Override
+  public String toString() {
+    return "Records: " + recordCount + ", Added: " + addedCount + ", Not selected: "
+        + notSelectedCount + ", Rejected: " + rejectedCount;
+  }
+}
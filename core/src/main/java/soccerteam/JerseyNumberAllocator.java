@@ -0,0 +1,165 @@
+package soccerteam;
+
+import java.util.Random;
+
+/**
+ * The JerseyNumberAllocator class hands out unique jersey numbers from a fixed range.
+ * The free numbers are kept in a primitive free-list together with the slot of every number in
+ * that list, so a random free number is picked and a number is given back in constant time
+ * without allocating any objects.
+ */
+public class JerseyNumberAllocator {
+  private final int firstNumber;
+  private final int[] freeNumbers;
+  private final int[] slots;
+  private final Random random;
+  private int freeCount;
+
+  /**
+   * Constructs a JerseyNumberAllocator for the numbers firstNumber to lastNumber inclusive,
+   * with every number free.
+   *
+   * @param firstNumber the lowest jersey number
+   * @param lastNumber  the highest jersey number
+   * @param random      the source of randomness used to pick numbers
+   * @throws IllegalArgumentException if the range is empty, starts below 1, or random is null
+   */
+  public JerseyNumberAllocator(int firstNumber, int lastNumber, Random random)
+      throws IllegalArgumentException {
+    if (firstNumber < 1 || lastNumber < firstNumber) {
+      throw new IllegalArgumentException(
+          "Invalid jersey number range: " + firstNumber + " to " + lastNumber);
+    }
+    if (random == null) {
+      throw new IllegalArgumentException("Random can't be null");
+    }
+    this.firstNumber = firstNumber;
+    this.random = random;
+    int capacity = lastNumber - firstNumber + 1;
+    freeNumbers = new int[capacity];
+    slots = new int[capacity];
+    for (int i = 0; i < capacity; i++) {
+      freeNumbers[i] = firstNumber + i;
+      slots[i] = i;
+    }
+    freeCount = capacity;
+  }
+
+  /**
+   * Constructs a JerseyNumberAllocator whose picks are reproducible for the given seed.
+   *
+   * @param firstNumber the lowest jersey number
+   * @param lastNumber  the highest jersey number
+   * @param seed        the seed of the random number generator
+   * @throws IllegalArgumentException if the range is empty or starts below 1
+   */
+  public JerseyNumberAllocator(int firstNumber, int lastNumber, long seed)
+      throws IllegalArgumentException {
+    this(firstNumber, lastNumber, new Random(seed));
+  }
+
+  /**
+   * Picks a random free jersey number and marks it as used.
+   *
+   * @return the allocated jersey number
+   * @throws IllegalStateException if no available jersey numbers are left
+   */
+  public int allocate() throws IllegalStateException {
+    if (freeCount == 0) {
+      throw new IllegalStateException("No available jersey numbers");
+    }
+    int number = freeNumbers[random.nextInt(freeCount)];
+    moveToSlot(number, freeCount - 1);
+    freeCount--;
+    return number;
+  }
+
+  /**
+   * Marks a specific free jersey number as used, for example when a saved team is loaded.
+   *
+   * @param number the jersey number to claim
+   * @throws IllegalArgumentException if the number is out of range or is already in use
+   */
+  public void claim(int number) throws IllegalArgumentException {
+    if (!isAvailable(number)) {
+      throw new IllegalArgumentException("Jersey number is already in use: " + number);
+    }
+    moveToSlot(number, freeCount - 1);
+    freeCount--;
+  }
+
+  /**
+   * Gives a used jersey number back so it can be allocated again.
+   *
+   * @param number the jersey number to release
+   * @throws IllegalArgumentException if the number is out of range or is not in use
+   */
+  public void release(int number) throws IllegalArgumentException {
+    if (isAvailable(number)) {
+      throw new IllegalArgumentException("Jersey number is not in use: " + number);
+    }
+    moveToSlot(number, freeCount);
+    freeCount++;
+  }
+
+  /**
+   * Checks whether a jersey number is free.
+   *
+   * @param number the jersey number to check
+   * @return true if the number is free, false if it is in use
+   * @throws IllegalArgumentException if the number is out of range
+   */
+  public boolean isAvailable(int number) throws IllegalArgumentException {
+    return slots[offsetOf(number)] < freeCount;
+  }
+
+  /**
+   * Gets the number of free jersey numbers.
+   *
+   * @return the number of free jersey numbers
+   */
+  public int getAvailableCount() {
+    return freeCount;
+  }
+
+  /**
+   * Gets the total number of jersey numbers in the range.
+   *
+   * @return the size of the range
+   */
+  public int getCapacity() {
+    return freeNumbers.length;
+  }
+
+  /**
+   * Swaps a number into the given slot of the free-list, moving the number held there into the
+   * number's old slot.
+   *
+   * @param number the number to move
+   * @param slot   the slot to move it to
+   */
+  private void moveToSlot(int number, int slot) {
+    int offset = number - firstNumber;
+    int oldSlot = slots[offset];
+    int displaced = freeNumbers[slot];
+    freeNumbers[oldSlot] = displaced;
+    slots[displaced - firstNumber] = oldSlot;
+    freeNumbers[slot] = number;
+    slots[offset] = slot;
+  }
+
+  /**
+   * Gets the offset of a number within the range.
+   *
+   * @param number the jersey number
+   * @return the offset of the number from the first number
+   * @throws IllegalArgumentException if the number is out of range
+   */
+  private int offsetOf(int number) throws IllegalArgumentException {
+    int offset = number - firstNumber;
+    if (offset < 0 || offset >= freeNumbers.length) {
+      throw new IllegalArgumentException("Jersey number out of range: " + number);
+    }
+    return offset;
+  }
+}
@@ -0,0 +1,39 @@
+package soccerteam;
+
+import jdk.jfr.EventType;
+
+/**
+ * The JfrMetricsSink class is a MetricsSink that times every measured operation with a
+ * "soccerteam.TeamOperation" JDK Flight Recorder event, begun when the operation starts and
+ * committed when it ends, so the event's start time and duration are those of the operation.
+ * When no recording has the event enabled, starting an operation does no more than check that:
+ * no event is created and the clock is not read.
+ *
+ * <p>Start a recording with, for example,
+ * {@code java -XX:StartFlightRecording:filename=team.jfr ...} and install the sink with
+ * {@code TeamMetrics.setSink(new JfrMetricsSink())}.
+ */
+public final class JfrMetricsSink implements MetricsSink {
+  private static final EventType EVENT_TYPE = EventType.getEventType(TeamOperationEvent.class);
+
+  @Override
+  public OperationTimer startTimer() {
+    if (!EVENT_TYPE.isEnabled()) {
+      return null;
+    }
+    TeamOperationEvent event = new TeamOperationEvent();
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Does nothing. Operations reach this sink through {@link #startTimer}, and an operation timed
+   * elsewhere has no start time to give an event.
+   *
+   * @param operation the operation
+   * @param nanos     how long the operation took, in nanoseconds
+   */
+  @Override
+  public void record(TeamOperation operation, long nanos) {
+  }
+}
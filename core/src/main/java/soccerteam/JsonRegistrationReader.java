@@ -0,0 +1,219 @@
+package soccerteam;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The JsonRegistrationReader class reads registrations from JSON: either one array of objects or
+ * a sequence of objects, such as one object per line. Every object is one record whose values are
+ * strings, numbers, booleans or null; nested objects and arrays are not supported. Numbers and
+ * booleans are read as their text, and null values are treated as missing.
+ */
+final class JsonRegistrationReader implements RegistrationReader {
+  private final BufferedReader in;
+  private int peeked = -2;
+  private long recordCount;
+
+  /**
+   * Constructs a JsonRegistrationReader.
+   *
+   * @param reader the source of the file
+   */
+  JsonRegistrationReader(Reader reader) {
+    in = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+  }
+
+  @Override
+  public RegistrationRecord next() throws IOException {
+    // Between records only whitespace, commas and the brackets of an enclosing array may appear
+    int c = skipWhitespace();
+    while (c == '[' || c == ']' || c == ',') {
+      read();
+      c = skipWhitespace();
+    }
+    if (c == -1) {
+      return null;
+    }
+    if (c != '{') {
+      throw error("Expected an object");
+    }
+    read();
+
+    Map<String, String> fields = new HashMap<>();
+    c = skipWhitespace();
+    if (c == '}') {
+      read();
+      return new RegistrationRecord(++recordCount, fields);
+    }
+    while (true) {
+      if (skipWhitespace() != '"') {
+        throw error("Expected a field name");
+      }
+      read();
+      String name = RegistrationRecord.normalizeName(readString());
+      if (skipWhitespace() != ':') {
+        throw error("Expected ':' after field name");
+      }
+      read();
+      String value = readValue();
+      if (value != null) {
+        fields.put(name, value);
+      }
+      c = skipWhitespace();
+      read();
+      if (c == '}') {
+        return new RegistrationRecord(++recordCount, fields);
+      }
+      if (c != ',') {
+        throw error("Expected ',' or '}'");
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+
+  /**
+   * Reads a field value.
+   *
+   * @return the value as text, or null for a JSON null
+   * @throws IOException if the value is not a string, number, boolean or null
+   */
+  private String readValue() throws IOException {
+    int c = skipWhitespace();
+    if (c == '"') {
+      read();
+      return readString();
+    }
+    if (c == '{' || c == '[') {
+      throw error("Nested values are not supported");
+    }
+    StringBuilder literal = new StringBuilder();
+    while (c != -1 && c != ',' && c != '}' && !Character.isWhitespace(c)) {
+      literal.append((char) read());
+      c = peek();
+    }
+    if (literal.length() == 0) {
+      throw error("Expected a value");
+    }
+    String text = literal.toString();
+    return text.equals("null") ? null : text;
+  }
+
+  /**
+   * Reads the rest of a string whose opening quote has been read.
+   *
+   * @return the string
+   * @throws IOException if the string is not closed or has an invalid escape
+   */
+  private String readString() throws IOException {
+    StringBuilder text = new StringBuilder();
+    while (true) {
+      int c = read();
+      if (c == -1) {
+        throw error("String is not closed");
+      }
+      if (c == '"') {
+        return text.toString();
+      }
+      if (c != '\\') {
+        text.append((char) c);
+        continue;
+      }
+      int escaped = read();
+      switch (escaped) {
+        case '"':
+        case '\\':
+        case '/':
+          text.append((char) escaped);
+          break;
+        case 'b':
+          text.append('\b');
+          break;
+        case 'f':
+          text.append('\f');
+          break;
+        case 'n':
+          text.append('\n');
+          break;
+        case 'r':
+          text.append('\r');
+          break;
+        case 't':
+          text.append('\t');
+          break;
+        case 'u':
+          char[] hex = new char[4];
+          for (int i = 0; i < hex.length; i++) {
+            int digit = read();
+            if (Character.digit(digit, 16) < 0) {
+              throw error("Invalid unicode escape");
+            }
+            hex[i] = (char) digit;
+          }
+          text.append((char) Integer.parseInt(new String(hex), 16));
+          break;
+        default:
+          throw error("Invalid escape");
+      }
+    }
+  }
+
+  /**
+   * Skips whitespace and returns the next character without reading it.
+   *
+   * @return the next character that is not whitespace, or -1 at the end of the file
+   * @throws IOException if the file can't be read
+   */
+  private int skipWhitespace() throws IOException {
+    int c = peek();
+    while (c != -1 && Character.isWhitespace(c)) {
+      read();
+      c = peek();
+    }
+    return c;
+  }
+
+  /**
+   * Creates the exception for malformed input.
+   *
+   * @param message what was wrong
+   * @return the exception, naming the record being read
+   */
+  private IOException error(String message) {
+    return new IOException(message + " in record " + (recordCount + 1));
+  }
+
+  /**
+   * Reads the next character.
+   *
+   * @return the character, or -1 at the end of the file
+   * @throws IOException if the file can't be read
+   */
+  private int read() throws IOException {
+    if (peeked != -2) {
+      int c = peeked;
+      peeked = -2;
+      return c;
+    }
+    return in.read();
+  }
+
+  /**
+   * Looks at the next character without reading it.
+   *
+   * @return the character, or -1 at the end of the file
+   * @throws IOException if the file can't be read
+   */
+  private int peek() throws IOException {
+    if (peeked == -2) {
+      peeked = in.read();
+    }
+    return peeked;
+  }
+}
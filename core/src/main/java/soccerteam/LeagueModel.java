@@ -0,0 +1,148 @@
+package soccerteam;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The LeagueModel interface represents a league made up of many soccer teams.
+ * Each team is identified by a unique name and backed by its own TeamModel. The league provides
+ * methods to register teams, add players to a team, and run league-wide queries. An operation
+ * on a team that is not registered throws a {@link NoSuchTeamException}.
+ */
+public interface LeagueModel extends AutoCloseable {
+
+  /**
+   * Registers a new, empty team in the league.
+   *
+   * @param teamName the unique name of the team
+   * @throws IllegalArgumentException if the name is null or blank
+   * @throws TeamExistsException      if the team already exists
+   */
+  void registerTeam(String teamName) throws IllegalArgumentException, TeamExistsException;
+
+  /**
+   * Adds a player to the given team, waiting until the team has processed the player.
+   *
+   * @param teamName the name of the team
+   * @param player   the player to be added to the team
+   * @return true if the player was successfully added, false otherwise
+   * @throws IllegalArgumentException if the team does not exist or the player is not eligible,
+   *                                  including a child already on another team when the league
+   *                                  refuses duplicates
+   * @throws IllegalStateException    if the team is invalid to select Starting Lineup
+   */
+  boolean addPlayer(String teamName, TeamPlayer player)
+      throws IllegalArgumentException, IllegalStateException;
+
+  /**
+   * Adds a player to the given team without waiting. Players added to the same team are
+   * processed in the order they were submitted.
+   *
+   * @param teamName the name of the team
+   * @param player   the player to be added to the team
+   * @return a future completed with the result of TeamModel.addPlayer, or exceptionally with the
+   *         exception it threw
+   */
+  CompletableFuture<Boolean> addPlayerAsync(String teamName, TeamPlayer player);
+
+  /**
+   * Retrieves all players on the given team.
+   *
+   * @param teamName the name of the team
+   * @return a list of all players on the team
+   * @throws IllegalArgumentException if the team does not exist
+   * @throws IllegalStateException    if the team is invalid
+   */
+  List<TeamPlayer> getAllPlayers(String teamName)
+      throws IllegalArgumentException, IllegalStateException;
+
+  /**
+   * Retrieves the starting lineup of the given team.
+   *
+   * @param teamName the name of the team
+   * @return a list of players in the starting lineup
+   * @throws IllegalArgumentException if the team does not exist
+   * @throws IllegalStateException    if the team is invalid
+   */
+  List<TeamPlayer> getStartingLineup(String teamName)
+      throws IllegalArgumentException, IllegalStateException;
+
+  /**
+   * Retrieves the candidates of the given team.
+   *
+   * @param teamName the name of the team
+   * @return a list of players who are candidates for the team
+   * @throws IllegalArgumentException if the team does not exist
+   */
+  List<TeamPlayer> getCandidates(String teamName) throws IllegalArgumentException;
+
+  /**
+   * Finds the players on the given team that match a query.
+   *
+   * @param teamName the name of the team
+   * @param query    the conditions the players must meet
+   * @return copies of the matching players sorted by last name
+   * @throws IllegalArgumentException if the team does not exist or the query is null
+   */
+  List<TeamPlayer> findPlayers(String teamName, PlayerQuery query)
+      throws IllegalArgumentException;
+
+  /**
+   * Finds the players on every team that match a query. Each team answers from its own indexes,
+   * and teams on different shards are searched in parallel.
+   *
+   * @param query the conditions the players must meet
+   * @return the matching players of every team with at least one, keyed by team name and sorted
+   *         by team name
+   * @throws IllegalArgumentException if the query is null
+   */
+  Map<String, List<TeamPlayer>> findPlayers(PlayerQuery query) throws IllegalArgumentException;
+
+  /**
+   * Gets the teams that have the same child as the given player on their roster: the same first
+   * name, last name and date of birth, ignoring letter case, accents and punctuation in the
+   * names.
+   *
+   * @param player the player to look up
+   * @return the names of the teams, sorted alphabetically, or an empty list
+   * @throws IllegalArgumentException if the player is null
+   */
+  List<String> getTeamsOf(TeamPlayer player) throws IllegalArgumentException;
+
+  /**
+   * Gets the players who are on the roster of more than one team, which can only happen when
+   * the league allows or flags duplicates rather than refusing or merging them.
+   *
+   * @return copies of the players of every team with at least one, keyed by team name and
+   *         sorted by team name, each list sorted by last name
+   */
+  Map<String, List<TeamPlayer>> getDuplicateRegistrations();
+
+  /**
+   * Gets the names of all teams in the league, sorted alphabetically.
+   *
+   * @return the names of all registered teams
+   */
+  List<String> getTeamNames();
+
+  /**
+   * Retrieves the starting lineup of every team that has enough players to field one.
+   *
+   * @return the starting lineups keyed by team name, sorted by team name
+   */
+  Map<String, List<TeamPlayer>> getAllStartingLineups();
+
+  /**
+   * Gets the names of all teams that do not yet have the minimum number of players.
+   *
+   * @return the names of the teams below the minimum, sorted alphabetically
+   */
+  List<String> getTeamsBelowMinimum();
+
+  /**
+   * Shuts down the league. Teams can no longer be registered or changed afterwards.
+   */
+  @Override
+  void close();
+}
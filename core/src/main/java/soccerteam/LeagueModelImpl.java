@@ -0,0 +1,520 @@
+package soccerteam;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The LeagueModelImpl class implements the LeagueModel interface.
+ * Teams are split across a fixed number of shards by the hash of their name. Every shard owns its
+ * teams and a single worker thread, and all work on a team runs on its shard's worker, so teams on
+ * different shards are changed in parallel without any global lock. League-wide queries are sent
+ * to every shard and the partial results are merged.
+ *
+ * <p>A child may only be on one team. The league keeps a concurrent hash index from each child's
+ * {@link PlayerIdentity} to the teams they are registered with, shared by all shards. Before a
+ * player is added, the child is reserved for the team in the index in one atomic step, so two
+ * shards adding the same child at once can't both succeed. A child registered with another team
+ * is handled by the league's {@link DuplicatePolicy}; duplicates on the same team are left to
+ * the team's own policy. The league listens to the roster events of every team and removes a
+ * child from the index when they are replaced, so they can then join another team.
+ */
+public class LeagueModelImpl implements LeagueModel {
+  private final Shard[] shards;
+  private final Supplier<TeamModel> teamFactory;
+  private final DuplicatePolicy duplicatePolicy;
+  private final Map<PlayerIdentity, List<Registration>> registrations =
+      new ConcurrentHashMap<>();
+  private final Set<PlayerIdentity> duplicates = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Constructs a new LeagueModelImpl with one shard per available processor, where every team is
+   * a TeamModelImpl.
+   */
+  public LeagueModelImpl() {
+    this(Runtime.getRuntime().availableProcessors(), TeamModelImpl::new);
+  }
+
+  /**
+   * Constructs a new LeagueModelImpl with the given number of shards and team factory, which
+   * lets a child join more than one team.
+   *
+   * @param shardCount  the number of worker shards
+   * @param teamFactory creates the model of each newly registered team
+   * @throws IllegalArgumentException if the shard count is not positive or the factory is null
+   */
+  public LeagueModelImpl(int shardCount, Supplier<TeamModel> teamFactory) {
+    this(shardCount, teamFactory, DuplicatePolicy.ALLOW);
+  }
+
+  /**
+   * Constructs a new LeagueModelImpl with the given number of shards, team factory, and policy
+   * for a child who is already on another team. Under {@link DuplicatePolicy#MERGE} the child
+   * stays on the team they are on and the add returns false.
+   *
+   * @param shardCount      the number of worker shards
+   * @param teamFactory     creates the model of each newly registered team
+   * @param duplicatePolicy what to do with a player who is already on another team
+   * @throws IllegalArgumentException if the shard count is not positive or the factory or the
+   *                                  policy is null
+   */
+  public LeagueModelImpl(int shardCount, Supplier<TeamModel> teamFactory,
+                         DuplicatePolicy duplicatePolicy) {
+    if (duplicatePolicy == null) {
+      throw new IllegalArgumentException("Duplicate policy can't be null");
+    }
+    if (shardCount <= 0) {
+      throw new IllegalArgumentException("Shard count must be positive.");
+    }
+    if (teamFactory == null) {
+      throw new IllegalArgumentException("Team factory can't be null");
+    }
+    this.teamFactory = teamFactory;
+    this.duplicatePolicy = duplicatePolicy;
+    shards = new Shard[shardCount];
+    for (int i = 0; i < shardCount; i++) {
+      shards[i] = new Shard(i);
+    }
+  }
+
+  @Override
+  public void registerTeam(String teamName)
+      throws IllegalArgumentException, TeamExistsException {
+    if (teamName == null || teamName.isBlank()) {
+      throw new IllegalArgumentException("Team name can't be empty");
+    }
+    Shard shard = shardFor(teamName);
+    await(shard.submit(() -> {
+      if (shard.teams.containsKey(teamName)) {
+        throw new TeamExistsException(teamName);
+      }
+      TeamModel team = teamFactory.get();
+      team.addRosterListener(events -> {
+        for (RosterEvent event : events) {
+          if (event.getType() == RosterEvent.Type.PLAYER_EVICTED) {
+            unregister(teamName, event.getPlayer());
+          }
+        }
+      });
+      shard.teams.put(teamName, team);
+      return null;
+    }));
+  }
+
+  @Override
+  public boolean addPlayer(String teamName, TeamPlayer player)
+      throws IllegalArgumentException, IllegalStateException {
+    return await(addPlayerAsync(teamName, player));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> addPlayerAsync(String teamName, TeamPlayer player) {
+    return onTeam(teamName, team -> register(teamName, team, player));
+  }
+
+  @Override
+  public List<TeamPlayer> getAllPlayers(String teamName)
+      throws IllegalArgumentException, IllegalStateException {
+    return await(onTeam(teamName, TeamModel::getAllPlayers));
+  }
+
+  @Override
+  public List<TeamPlayer> getStartingLineup(String teamName)
+      throws IllegalArgumentException, IllegalStateException {
+    return await(onTeam(teamName, TeamModel::getStartingLineup));
+  }
+
+  @Override
+  public List<TeamPlayer> getCandidates(String teamName) throws IllegalArgumentException {
+    return await(onTeam(teamName, TeamModel::getCandidates));
+  }
+
+  @Override
+  public List<String> getTeamNames() {
+    List<String> names = new ArrayList<>();
+    for (Map<String, TeamModel> part : fanOut(shard -> new HashMap<>(shard.teams))) {
+      names.addAll(part.keySet());
+    }
+    Collections.sort(names);
+    return names;
+  }
+
+  @Override
+  public List<TeamPlayer> findPlayers(String teamName, PlayerQuery query)
+      throws IllegalArgumentException {
+    if (query == null) {
+      throw new IllegalArgumentException("Query can't be null");
+    }
+    return await(onTeam(teamName, team -> team.findPlayers(query)));
+  }
+
+  @Override
+  public Map<String, List<TeamPlayer>> findPlayers(PlayerQuery query)
+      throws IllegalArgumentException {
+    if (query == null) {
+      throw new IllegalArgumentException("Query can't be null");
+    }
+    Map<String, List<TeamPlayer>> found = new TreeMap<>();
+    for (Map<String, List<TeamPlayer>> part : fanOut(shard -> {
+      Map<String, List<TeamPlayer>> shardFound = new HashMap<>();
+      shard.teams.forEach((name, team) -> {
+        List<TeamPlayer> players = team.findPlayers(query);
+        if (!players.isEmpty()) {
+          shardFound.put(name, players);
+        }
+      });
+      return shardFound;
+    })) {
+      found.putAll(part);
+    }
+    return found;
+  }
+
+  @Override
+  public List<String> getTeamsOf(TeamPlayer player) throws IllegalArgumentException {
+    if (player == null) {
+      throw new IllegalArgumentException("Player can't be null");
+    }
+    Set<String> teams = new TreeSet<>();
+    for (Registration registration
+        : registrations.getOrDefault(PlayerIdentity.of(player), List.of())) {
+      if (registration.player != null) {
+        teams.add(registration.team);
+      }
+    }
+    return new ArrayList<>(teams);
+  }
+
+  @Override
+  public Map<String, List<TeamPlayer>> getDuplicateRegistrations() {
+    Map<String, List<TeamPlayer>> found = new TreeMap<>();
+    for (PlayerIdentity identity : duplicates) {
+      for (Registration registration : registrations.getOrDefault(identity, List.of())) {
+        if (registration.player != null) {
+          found.computeIfAbsent(registration.team, team -> new ArrayList<>())
+              .add(registration.player);
+        }
+      }
+    }
+    found.replaceAll((team, players) -> PlayerOrder.LAST_NAME.sort(players));
+    return found;
+  }
+
+  @Override
+  public Map<String, List<TeamPlayer>> getAllStartingLineups() {
+    Map<String, List<TeamPlayer>> lineups = new TreeMap<>();
+    for (Map<String, List<TeamPlayer>> part : fanOut(shard -> {
+      Map<String, List<TeamPlayer>> shardLineups = new HashMap<>();
+      shard.teams.forEach((name, team) -> {
+        if (team.isValid()) {
+          shardLineups.put(name, team.getStartingLineup());
+        }
+      });
+      return shardLineups;
+    })) {
+      lineups.putAll(part);
+    }
+    return lineups;
+  }
+
+  @Override
+  public List<String> getTeamsBelowMinimum() {
+    List<String> names = new ArrayList<>();
+    for (List<String> part : fanOut(shard -> {
+      List<String> shardNames = new ArrayList<>();
+      shard.teams.forEach((name, team) -> {
+        if (!team.isValid()) {
+          shardNames.add(name);
+        }
+      });
+      return shardNames;
+    })) {
+      names.addAll(part);
+    }
+    Collections.sort(names);
+    return names;
+  }
+
+  @Override
+  public void close() {
+    for (Shard shard : shards) {
+      shard.executor.shutdown();
+    }
+  }
+
+  /**
+   * Adds a player to a team from the team's shard worker, after reserving the child for the team
+   * in the league's registration index. The reservation is kept with a copy of the player if the
+   * player joins, and dropped otherwise.
+   *
+   * @param teamName the name of the team
+   * @param team     the team
+   * @param player   the player to add
+   * @return true if the player joined the team
+   * @throws IllegalArgumentException if the player is not eligible, or is on another team and
+   *                                  the league refuses duplicates
+   */
+  private boolean register(String teamName, TeamModel team, TeamPlayer player)
+      throws IllegalArgumentException {
+    if (player == null) {
+      return team.addPlayer(null);
+    }
+    PlayerIdentity identity = PlayerIdentity.of(player);
+    Registration pending = new Registration(teamName, null);
+    String[] otherTeam = new String[1];
+    registrations.compute(identity, (key, found) -> {
+      if (found != null && (duplicatePolicy == DuplicatePolicy.REJECT
+          || duplicatePolicy == DuplicatePolicy.MERGE)) {
+        for (Registration registration : found) {
+          if (!registration.team.equals(teamName)) {
+            otherTeam[0] = registration.team;
+            return found;
+          }
+        }
+      }
+      return update(key, found, null, pending);
+    });
+    if (otherTeam[0] != null) {
+      if (duplicatePolicy == DuplicatePolicy.REJECT) {
+        throw new IllegalArgumentException("Player is already registered with " + otherTeam[0]
+            + ": " + player.getFullName());
+      }
+      return false;
+    }
+
+    boolean added = false;
+    try {
+      added = team.addPlayer(player);
+      return added;
+    } finally {
+      Registration registered = added ? new Registration(teamName, copyPlayer(player)) : null;
+      registrations.compute(identity, (key, found) -> update(key, found, pending, registered));
+    }
+  }
+
+  /**
+   * Removes a player who was replaced on a team from the league's registration index.
+   *
+   * @param teamName the name of the team
+   * @param player   a copy of the replaced player, with their jersey number
+   */
+  private void unregister(String teamName, TeamPlayer player) {
+    registrations.computeIfPresent(PlayerIdentity.of(player), (key, found) -> {
+      for (Registration registration : found) {
+        if (registration.player != null && registration.team.equals(teamName)
+            && registration.player.getJerseyNumber() == player.getJerseyNumber()) {
+          return update(key, found, registration, null);
+        }
+      }
+      return found;
+    });
+  }
+
+  /**
+   * Replaces one registration of a child with another, and records whether the child is now on
+   * more than one team. Called only from inside an atomic update of the child's entry.
+   *
+   * @param identity the child
+   * @param found    the current registrations of the child, or null
+   * @param removed  the registration to remove, or null
+   * @param added    the registration to add, or null
+   * @return the new registrations of the child, or null if there are none
+   */
+  private List<Registration> update(PlayerIdentity identity, List<Registration> found,
+                                    Registration removed, Registration added) {
+    List<Registration> updated = new ArrayList<>(found == null ? 1 : found.size() + 1);
+    Set<String> teams = new TreeSet<>();
+    if (found != null) {
+      for (Registration registration : found) {
+        if (registration != removed) {
+          updated.add(registration);
+        }
+      }
+    }
+    if (added != null) {
+      updated.add(added);
+    }
+    for (Registration registration : updated) {
+      if (registration.player != null) {
+        teams.add(registration.team);
+      }
+    }
+    if (teams.size() > 1) {
+      duplicates.add(identity);
+    } else {
+      duplicates.remove(identity);
+    }
+    return updated.isEmpty() ? null : List.copyOf(updated);
+  }
+
+  /**
+   * Copies a player who joined a team, with the jersey number they were given but without their
+   * team position, which changes as the lineup does.
+   *
+   * @param player the player to copy
+   * @return the copy
+   */
+  private static TeamPlayer copyPlayer(TeamPlayer player) {
+    TeamPlayer copy = new TeamPlayer(player.getFirstName(), player.getLastName(),
+        player.getDateOfBirth(), player.getPreferredPosition(), player.getSkillLevel());
+    copy.setJerseyNumber(player.getJerseyNumber());
+    return copy;
+  }
+
+  /**
+   * Gets the shard that owns the team with the given name.
+   *
+   * @param teamName the name of the team
+   * @return the shard owning the team
+   */
+  private Shard shardFor(String teamName) {
+    return shards[Math.floorMod(teamName.hashCode(), shards.length)];
+  }
+
+  /**
+   * Runs an operation on a team from the team's own shard worker.
+   *
+   * @param teamName  the name of the team
+   * @param operation the operation to run on the team
+   * @param <T>       the type of the result
+   * @return a future completed with the result of the operation
+   */
+  private <T> CompletableFuture<T> onTeam(String teamName, Function<TeamModel, T> operation) {
+    if (teamName == null) {
+      return CompletableFuture.failedFuture(
+          new IllegalArgumentException("Team name can't be empty"));
+    }
+    Shard shard = shardFor(teamName);
+    return shard.submit(() -> {
+      TeamModel team = shard.teams.get(teamName);
+      if (team == null) {
+        throw new NoSuchTeamException(teamName);
+      }
+      return operation.apply(team);
+    });
+  }
+
+  /**
+   * Runs a query on every shard in parallel and collects the partial results.
+   *
+   * @param query the query to run on each shard
+   * @param <T>   the type of the partial result
+   * @return the partial results, one per shard
+   */
+  private <T> List<T> fanOut(Function<Shard, T> query) {
+    List<CompletableFuture<T>> futures = new ArrayList<>(shards.length);
+    for (Shard shard : shards) {
+      futures.add(shard.submit(() -> query.apply(shard)));
+    }
+    List<T> results = new ArrayList<>(shards.length);
+    for (CompletableFuture<T> future : futures) {
+      results.add(await(future));
+    }
+    return results;
+  }
+
+  /**
+   * Waits for a future and rethrows the unchecked exception it failed with.
+   *
+   * @param future the future to wait for
+   * @param <T>    the type of the result
+   * @return the result of the future
+   * @throws IllegalStateException if the wait was interrupted or the task failed with a checked
+   *                               exception
+   */
+  private static <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for the league", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  /**
+   * A registration of a child with one team. A registration without a player reserves the child
+   * for a team while the team decides whether the player joins.
+   */
+  private static final class Registration {
+    private final String team;
+    private final TeamPlayer player;
+
+    /**
+     * Constructs a new registration.
+     *
+     * @param team   the name of the team
+     * @param player a copy of the player on the team, or null while the child is reserved
+     */
+    private Registration(String team, TeamPlayer player) {
+      this.team = team;
+      this.player = player;
+    }
+  }
+
+  /**
+   * A shard owns a group of teams and the single worker thread allowed to touch them.
+   */
+  private static final class Shard {
+    private final ExecutorService executor;
+    private final Map<String, TeamModel> teams = new HashMap<>();
+
+    /**
+     * Constructs a new shard with its own worker thread.
+     *
+     * @param index the index of the shard, used to name the worker thread
+     */
+    private Shard(int index) {
+      executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "league-shard-" + index);
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+
+    /**
+     * Submits a task to the worker of this shard.
+     *
+     * @param task the task to run
+     * @param <T>  the type of the result
+     * @return a future completed with the result of the task
+     */
+    private <T> CompletableFuture<T> submit(Callable<T> task) {
+      CompletableFuture<T> future = new CompletableFuture<>();
+      try {
+        executor.execute(() -> {
+          try {
+            future.complete(task.call());
+          } catch (Throwable t) {
+            future.completeExceptionally(t);
+          }
+        });
+      } catch (RejectedExecutionException e) {
+        future.completeExceptionally(new IllegalStateException("League is closed", e));
+      }
+      return future;
+    }
+  }
+}
@@ -0,0 +1,368 @@
+package soccerteam;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The LeagueRosterFile class reads and writes the rosters of a whole league in a fixed-width
+ * binary file that is memory-mapped when opened. Nothing is parsed up front: each player is a
+ * 16-byte record read straight from the mapped file through a {@link RosterPlayer} view, so a
+ * league of hundreds of thousands of players opens in the time it takes to map the file.
+ *
+ * <p>The file starts with a header, followed by the team table, the player table and the string
+ * table. A team record holds the offset of its name and the range of its players. A player
+ * record holds the offsets of the first and last name, the birth date as an epoch day, and one
+ * byte each for the preferred position, skill level, team position and jersey number. Every
+ * distinct name is stored once in the string table, as a length followed by UTF-8 bytes.
+ * Teams are stored in alphabetical order, and each team's players in the order given.
+ */
+public final class LeagueRosterFile implements Closeable {
+  static final int PLAYER_RECORD_SIZE = 16;
+  private static final int MAGIC = 0x5531304C;
+  private static final int FORMAT_VERSION = 1;
+  private static final int HEADER_SIZE = 32;
+  private static final int TEAM_RECORD_SIZE = 12;
+  private static final int MAXIMUM_JERSEY_NUMBER = 255;
+
+  private final FileChannel channel;
+  private final ByteBuffer buffer;
+  private final int teamCount;
+  private final int playerCount;
+  private final int teamTable;
+  private final int playerTable;
+  private final int stringTable;
+
+  /**
+   * Constructs a LeagueRosterFile over a mapped file whose header has been checked.
+   *
+   * @param channel the open file
+   * @param buffer  the mapped contents of the file
+   * @throws IOException if the header does not describe a roster file that fits in the buffer
+   */
+  private LeagueRosterFile(FileChannel channel, ByteBuffer buffer) throws IOException {
+    this.channel = channel;
+    this.buffer = buffer;
+    if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC
+        || buffer.getInt(4) != FORMAT_VERSION) {
+      throw new IOException("Not a league roster file");
+    }
+    teamCount = buffer.getInt(8);
+    playerCount = buffer.getInt(12);
+    teamTable = buffer.getInt(16);
+    playerTable = buffer.getInt(20);
+    stringTable = buffer.getInt(24);
+    int stringTableLength = buffer.getInt(28);
+    if (teamCount < 0 || playerCount < 0 || teamTable != HEADER_SIZE
+        || playerTable != teamTable + (long) teamCount * TEAM_RECORD_SIZE
+        || stringTable != playerTable + (long) playerCount * PLAYER_RECORD_SIZE
+        || stringTableLength < 0
+        || (long) stringTable + stringTableLength != buffer.capacity()) {
+      throw new IOException("Corrupt league roster file header");
+    }
+  }
+
+  /**
+   * Opens a roster file by mapping it into memory. The file must not be changed while it is
+   * open.
+   *
+   * @param file the file to open
+   * @return the opened roster file
+   * @throws IOException if the file can't be mapped or is not a league roster file
+   */
+  public static LeagueRosterFile open(Path file) throws IOException {
+    FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+    try {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IOException("League roster file is too large: " + file);
+      }
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      return new LeagueRosterFile(channel, buffer);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Writes the rosters of a league to a file, replacing anything already there.
+   *
+   * @param file  the file to write
+   * @param teams the players of each team, by team name
+   * @throws IllegalArgumentException if a team name or player is null, or a jersey number does
+   *                                  not fit in the format
+   * @throws IOException              if the file can't be written
+   */
+  public static void write(Path file, Map<String, ? extends List<? extends TeamPlayer>> teams)
+      throws IllegalArgumentException, IOException {
+    Map<String, List<? extends TeamPlayer>> sorted = new TreeMap<>();
+    int players = 0;
+    for (Map.Entry<String, ? extends List<? extends TeamPlayer>> team : teams.entrySet()) {
+      if (team.getKey() == null || team.getValue() == null) {
+        throw new IllegalArgumentException("Team name and players can't be null");
+      }
+      sorted.put(team.getKey(), team.getValue());
+      players += team.getValue().size();
+    }
+
+    StringTable strings = new StringTable();
+    ByteBuffer teamRecords = ByteBuffer.allocate(sorted.size() * TEAM_RECORD_SIZE);
+    ByteBuffer playerRecords = ByteBuffer.allocate(players * PLAYER_RECORD_SIZE);
+    int firstPlayer = 0;
+    for (Map.Entry<String, List<? extends TeamPlayer>> team : sorted.entrySet()) {
+      teamRecords.putInt(strings.offsetOf(team.getKey()))
+          .putInt(firstPlayer)
+          .putInt(team.getValue().size());
+      for (TeamPlayer player : team.getValue()) {
+        putPlayer(playerRecords, player, strings);
+      }
+      firstPlayer += team.getValue().size();
+    }
+    byte[] stringBytes = strings.toByteArray();
+
+    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    int playerTableOffset = HEADER_SIZE + teamRecords.capacity();
+    int stringTableOffset = playerTableOffset + playerRecords.capacity();
+    header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(sorted.size()).putInt(players)
+        .putInt(HEADER_SIZE).putInt(playerTableOffset).putInt(stringTableOffset)
+        .putInt(stringBytes.length);
+
+    try (FileChannel out = FileChannel.open(file, StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      ByteBuffer[] parts = {header.flip(), teamRecords.flip(), playerRecords.flip(),
+          ByteBuffer.wrap(stringBytes)};
+      long remaining = (long) stringTableOffset + stringBytes.length;
+      while (remaining > 0) {
+        remaining -= out.write(parts);
+      }
+    }
+  }
+
+  /**
+   * Gets the number of teams in the league.
+   *
+   * @return the number of teams
+   */
+  public int getTeamCount() {
+    return teamCount;
+  }
+
+  /**
+   * Gets the total number of players in the league.
+   *
+   * @return the number of players
+   */
+  public int getPlayerCount() {
+    return playerCount;
+  }
+
+  /**
+   * Gets the name of a team.
+   *
+   * @param team the index of the team, in alphabetical order
+   * @return the name of the team
+   * @throws IndexOutOfBoundsException if there is no team with the index
+   */
+  public String getTeamName(int team) throws IndexOutOfBoundsException {
+    return string(buffer.getInt(teamRecord(team)));
+  }
+
+  /**
+   * Finds a team by name.
+   *
+   * @param name the name of the team
+   * @return the index of the team, or -1 if there is no team with the name
+   */
+  public int indexOfTeam(String name) {
+    int low = 0;
+    int high = teamCount - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      int compare = getTeamName(middle).compareTo(name);
+      if (compare < 0) {
+        low = middle + 1;
+      } else if (compare > 0) {
+        high = middle - 1;
+      } else {
+        return middle;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Gets the players of a team as views over the mapped file.
+   *
+   * @param team the index of the team, in alphabetical order
+   * @return an unmodifiable list of views of the team's players
+   * @throws IndexOutOfBoundsException if there is no team with the index
+   */
+  public List<RosterPlayer> getPlayers(int team) throws IndexOutOfBoundsException {
+    int record = teamRecord(team);
+    int first = buffer.getInt(record + 4);
+    int count = buffer.getInt(record + 8);
+    return new AbstractList<RosterPlayer>() {
+      @Override
+      public RosterPlayer get(int index) {
+        if (index < 0 || index >= count) {
+          throw new IndexOutOfBoundsException("Player index " + index + " of " + count);
+        }
+        return getPlayer(first + index);
+      }
+
+      @Override
+      public int size() {
+        return count;
+      }
+    };
+  }
+
+  /**
+   * Gets a view of one player in the league.
+   *
+   * @param index the index of the player, counting every team in alphabetical order
+   * @return a view of the player over the mapped file
+   * @throws IndexOutOfBoundsException if there is no player with the index
+   */
+  public RosterPlayer getPlayer(int index) throws IndexOutOfBoundsException {
+    if (index < 0 || index >= playerCount) {
+      throw new IndexOutOfBoundsException("Player index " + index + " of " + playerCount);
+    }
+    return new RosterPlayer(this, playerTable + index * PLAYER_RECORD_SIZE);
+  }
+
+  /**
+   * Closes the file. The mapping itself is released when it is no longer reachable, so views
+   * must not be used after the file is closed.
+   *
+   * @throws IOException if the file can't be closed
+   */
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  /**
+   * Gets the mapped contents of the file, for the player views.
+   *
+   * @return the mapped buffer
+   */
+  ByteBuffer buffer() {
+    return buffer;
+  }
+
+  /**
+   * Decodes a string from the string table.
+   *
+   * @param offset the offset of the string within the string table
+   * @return the string
+   */
+  String string(int offset) {
+    int position = stringTable + offset;
+    int length = Short.toUnsignedInt(buffer.getShort(position));
+    byte[] bytes = new byte[length];
+    buffer.get(position + 2, bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Gets the position of a team record.
+   *
+   * @param team the index of the team
+   * @return the position of its record in the file
+   * @throws IndexOutOfBoundsException if there is no team with the index
+   */
+  private int teamRecord(int team) throws IndexOutOfBoundsException {
+    if (team < 0 || team >= teamCount) {
+      throw new IndexOutOfBoundsException("Team index " + team + " of " + teamCount);
+    }
+    return teamTable + team * TEAM_RECORD_SIZE;
+  }
+
+  /**
+   * Encodes one player record.
+   *
+   * @param records the buffer of player records
+   * @param player  the player to encode
+   * @param strings the string table the names are added to
+   * @throws IllegalArgumentException if the player is null or the jersey number does not fit
+   */
+  private static void putPlayer(ByteBuffer records, TeamPlayer player, StringTable strings)
+      throws IllegalArgumentException {
+    if (player == null) {
+      throw new IllegalArgumentException("Player can't be null");
+    }
+    int jerseyNumber = player.getJerseyNumber();
+    if (jerseyNumber < 0 || jerseyNumber > MAXIMUM_JERSEY_NUMBER) {
+      throw new IllegalArgumentException("Jersey number doesn't fit in a roster file: "
+          + jerseyNumber);
+    }
+    Position teamPosition = player.getTeamPosition();
+    records.putInt(strings.offsetOf(player.getFirstName()))
+        .putInt(strings.offsetOf(player.getLastName()))
+        .putInt(Math.toIntExact(player.getBirthDate().toEpochDay()))
+        .put((byte) player.getPreferredPosition().ordinal())
+        .put((byte) player.getSkillLevel().ordinal())
+        .put((byte) (teamPosition == null ? -1 : teamPosition.ordinal()))
+        .put((byte) jerseyNumber);
+  }
+
+  /**
+   * The string table being built while a roster file is written. Each distinct string is added
+   * once.
+   */
+  private static final class StringTable {
+    private final Map<String, Integer> offsets = new HashMap<>();
+    private final List<byte[]> entries = new ArrayList<>();
+    private int length;
+
+    /**
+     * Gets the offset of a string, adding it to the table if it is new.
+     *
+     * @param value the string
+     * @return its offset within the string table
+     * @throws IllegalArgumentException if the string is null or too long
+     */
+    private int offsetOf(String value) throws IllegalArgumentException {
+      if (value == null) {
+        throw new IllegalArgumentException("Names can't be null");
+      }
+      Integer offset = offsets.get(value);
+      if (offset == null) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+          throw new IllegalArgumentException("Name is too long: " + value);
+        }
+        offset = length;
+        offsets.put(value, offset);
+        entries.add(bytes);
+        length += 2 + bytes.length;
+      }
+      return offset;
+    }
+
+    /**
+     * Gets the encoded string table.
+     *
+     * @return the bytes of the string table
+     */
+    private byte[] toByteArray() {
+      ByteBuffer table = ByteBuffer.allocate(length);
+      for (byte[] bytes : entries) {
+        table.putShort((short) bytes.length).put(bytes);
+      }
+      return table.array();
+    }
+  }
+}
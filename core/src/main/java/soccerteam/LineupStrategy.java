@@ -0,0 +1,68 @@
+package soccerteam;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The LineupStrategy interface decides which roster players start and in which positions. A
+ * strategy must respect the maximum number of players of every position and the size of the
+ * starting lineup. Strategies hold no state between calls, so one instance can be shared by
+ * every team of a league.
+ */
+public interface LineupStrategy {
+
+  /**
+   * Chooses the starting lineup from the roster.
+   *
+   * @param players    the roster players in selection order: highest skill level first, then
+   *                   preferred position order, then last name, then the order in which they
+   *                   joined
+   * @param lineupSize the number of players in the starting lineup
+   * @return an array as long as the roster holding the position of each chosen player, or null
+   *         for each player who does not start
+   */
+  Position[] selectLineup(List<TeamPlayer> players, int lineupSize);
+
+  /**
+   * Chooses the starting lineup from the roster grouped by preferred position. A team keeps its
+   * roster grouped this way and asks again after every change, so a strategy that only needs the
+   * best players of each position can override this method to read just the heads of the
+   * groups. The default merges the groups into selection order and calls
+   * {@link #selectLineup(List, int)} with the whole roster.
+   *
+   * @param byPosition the roster players of each preferred position, indexed by position
+   *                   ordinal, each group in selection order
+   * @param lineupSize the number of players in the starting lineup
+   * @return the chosen players with their positions, those in their preferred position first,
+   *         each part in selection order
+   * @throws IllegalStateException if {@link #selectLineup(List, int)} does not return a slot
+   *                               for every player
+   */
+  default Map<TeamPlayer, Position> selectLineupByPosition(
+      List<? extends Collection<TeamPlayer>> byPosition, int lineupSize)
+      throws IllegalStateException {
+    List<TeamPlayer> players = new ArrayList<>();
+    for (Collection<TeamPlayer> group : byPosition) {
+      players.addAll(group);
+    }
+    // The sort is stable, so players who compare equal keep the order of their group
+    players.sort(PlayerOrder.SELECTION);
+    Position[] slots = selectLineup(players, lineupSize);
+    if (slots == null || slots.length != players.size()) {
+      throw new IllegalStateException("Lineup strategy must choose a slot for every player.");
+    }
+    Map<TeamPlayer, Position> lineup = new LinkedHashMap<>();
+    for (int pass = 0; pass < 2; pass++) {
+      for (int i = 0; i < slots.length; i++) {
+        TeamPlayer player = players.get(i);
+        if (slots[i] != null && (slots[i] == player.getPreferredPosition()) == (pass == 0)) {
+          lineup.put(player, slots[i]);
+        }
+      }
+    }
+    return lineup;
+  }
+}
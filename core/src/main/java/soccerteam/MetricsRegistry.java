@@ -0,0 +1,151 @@
+package soccerteam;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The MetricsRegistry class is a MetricsSink that keeps, for every operation, a count, the total
+ * and maximum latency, and a latency histogram with one bucket per power of two nanoseconds.
+ * Recording is lock-free and allocates nothing, so many threads can record at once.
+ *
+ * <p>Percentiles are read from the histogram and are exact to within a factor of two, which is
+ * enough to tell where time goes.
+ */
+public final class MetricsRegistry implements MetricsSink {
+  private static final int BUCKETS = 64;
+  private final LongAdder[] counts;
+  private final LongAdder[] totals;
+  private final LongAccumulator[] maxima;
+  private final AtomicLongArray histograms;
+
+  /**
+   * Constructs a new MetricsRegistry with no recorded operations.
+   */
+  public MetricsRegistry() {
+    int size = TeamOperation.values().length;
+    counts = new LongAdder[size];
+    totals = new LongAdder[size];
+    maxima = new LongAccumulator[size];
+    for (int i = 0; i < size; i++) {
+      counts[i] = new LongAdder();
+      totals[i] = new LongAdder();
+      maxima[i] = new LongAccumulator(Math::max, 0L);
+    }
+    histograms = new AtomicLongArray(size * BUCKETS);
+  }
+
+  @Override
+  public void record(TeamOperation operation, long nanos) {
+    int index = operation.ordinal();
+    long latency = Math.max(nanos, 0L);
+    counts[index].increment();
+    totals[index].add(latency);
+    maxima[index].accumulate(latency);
+    histograms.incrementAndGet(index * BUCKETS + bucketOf(latency));
+  }
+
+  /**
+   * Gets the number of times an operation was recorded.
+   *
+   * @param operation the operation
+   * @return the number of recordings
+   */
+  public long getCount(TeamOperation operation) {
+    return counts[operation.ordinal()].sum();
+  }
+
+  /**
+   * Gets the total latency of an operation.
+   *
+   * @param operation the operation
+   * @return the sum of all recorded latencies, in nanoseconds
+   */
+  public long getTotalNanos(TeamOperation operation) {
+    return totals[operation.ordinal()].sum();
+  }
+
+  /**
+   * Gets the highest latency of an operation.
+   *
+   * @param operation the operation
+   * @return the highest recorded latency in nanoseconds, or 0 if none was recorded
+   */
+  public long getMaxNanos(TeamOperation operation) {
+    return maxima[operation.ordinal()].get();
+  }
+
+  /**
+   * Gets an upper bound of a latency percentile of an operation: the top of the histogram bucket
+   * holding that percentile, capped at the highest recorded latency.
+   *
+   * @param operation  the operation
+   * @param percentile the percentile, from 0 to 100
+   * @return the percentile in nanoseconds, or 0 if nothing was recorded
+   * @throws IllegalArgumentException if the percentile is outside 0 to 100
+   */
+  public long getPercentileNanos(TeamOperation operation, double percentile)
+      throws IllegalArgumentException {
+    if (!(percentile >= 0 && percentile <= 100)) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+    }
+    int base = operation.ordinal() * BUCKETS;
+    long total = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      total += histograms.get(base + i);
+    }
+    if (total == 0) {
+      return 0L;
+    }
+    long rank = Math.max(1L, (long) Math.ceil(total * percentile / 100));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += histograms.get(base + i);
+      if (seen >= rank) {
+        long upper = i == BUCKETS - 1 ? Long.MAX_VALUE : (1L << i) - 1;
+        return Math.min(upper, getMaxNanos(operation));
+      }
+    }
+    return getMaxNanos(operation);
+  }
+
+  /**
+   * Forgets everything recorded so far. Operations recorded while resetting may be partly kept.
+   */
+  public void reset() {
+    for (int i = 0; i < counts.length; i++) {
+      counts[i].reset();
+      totals[i].reset();
+      maxima[i].reset();
+    }
+    for (int i = 0; i < histograms.length(); i++) {
+      histograms.set(i, 0L);
+    }
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder text = new StringBuilder();
+    for (TeamOperation operation : TeamOperation.values()) {
+      long count = getCount(operation);
+      if (count > 0) {
+        text.append(String.format("%-32s count=%d mean=%dns p50<=%dns p99<=%dns max=%dns%n",
+            operation, count, getTotalNanos(operation) / count,
+            getPercentileNanos(operation, 50), getPercentileNanos(operation, 99),
+            getMaxNanos(operation)));
+      }
+    }
+    return text.toString();
+  }
+
+  /**
+   * Gets the histogram bucket of a latency. Bucket i holds latencies below 2 to the power i,
+   * down to half of that.
+   *
+   * @param nanos the latency
+   * @return the bucket
+   */
+  private static int bucketOf(long nanos) {
+    return BUCKETS - Long.numberOfLeadingZeros(nanos);
+  }
+}
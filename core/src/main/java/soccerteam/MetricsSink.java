@@ -0,0 +1,28 @@
+package soccerteam;
+
+/**
+ * The MetricsSink interface receives the latency of every measured team operation once it is
+ * installed with {@link TeamMetrics#setSink}. It is called on the thread that ran the operation,
+ * often while the team is being changed, so it must be thread-safe and must return quickly.
+ */
+public interface MetricsSink {
+
+  /**
+   * Starts timing an operation for this sink. The default timer reads {@link System#nanoTime}
+   * now and passes the elapsed time to {@link #record} when it is stopped. A sink that times
+   * operations itself overrides this method.
+   *
+   * @return the timer of the operation, or null if the operation is not measured
+   */
+  default OperationTimer startTimer() {
+    return new TeamMetrics.ClockTimer(this);
+  }
+
+  /**
+   * Records one completed operation.
+   *
+   * @param operation the operation
+   * @param nanos     how long the operation took, in nanoseconds
+   */
+  void record(TeamOperation operation, long nanos);
+}
@@ -0,0 +1,63 @@
+package soccerteam;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The NameDictionary class interns player names, giving every distinct name a small integer id.
+ * A store that keeps ids instead of strings holds each name only once, however many players
+ * share it. Names are never removed.
+ *
+ * <p>Only one thread may add names, but any thread that has seen an id, through a safely
+ * published object, can look up its name while names are being added.
+ */
+final class NameDictionary {
+  private final Map<String, Integer> ids = new HashMap<>();
+  private volatile String[] names = new String[64];
+  private int size;
+
+  /**
+   * Gets the id of a name, adding the name if it is new.
+   *
+   * @param name the name
+   * @return the id of the name
+   * @throws IllegalArgumentException if the name is null
+   */
+  int idOf(String name) throws IllegalArgumentException {
+    if (name == null) {
+      throw new IllegalArgumentException("Names can't be null");
+    }
+    Integer id = ids.get(name);
+    if (id == null) {
+      String[] table = names;
+      if (size == table.length) {
+        table = Arrays.copyOf(table, size * 2);
+      }
+      id = size;
+      table[size++] = name;
+      names = table;
+      ids.put(name, id);
+    }
+    return id;
+  }
+
+  /**
+   * Gets the name with an id.
+   *
+   * @param id the id of the name
+   * @return the name
+   */
+  String nameOf(int id) {
+    return names[id];
+  }
+
+  /**
+   * Gets the number of distinct names.
+   *
+   * @return the number of names
+   */
+  int size() {
+    return size;
+  }
+}
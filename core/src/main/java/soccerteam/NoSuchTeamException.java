@@ -0,0 +1,42 @@
+package soccerteam;
+
+/**
+ * The NoSuchTeamException class is thrown when an operation names a team that is not registered
+ * in the league. It is an {@link IllegalArgumentException}, so callers that only know the
+ * {@link LeagueModel} contract can keep treating it as an invalid argument.
+ */
+public class NoSuchTeamException extends IllegalArgumentException {
+  private static final long serialVersionUID = 1L;
+
+  private final String teamName;
+
+  /**
+   * Constructs a NoSuchTeamException.
+   *
+   * @param teamName the name of the team that does not exist
+   */
+  public NoSuchTeamException(String teamName) {
+    super(message(teamName));
+    this.teamName = teamName;
+  }
+
+  /**
+   * Gets the name of the team that does not exist.
+   *
+   * @return the team name
+   */
+  public String getTeamName() {
+    return teamName;
+  }
+
+  /**
+   * Gets the message reported for a team that does not exist, for callers that report the
+   * problem without throwing.
+   *
+   * @param teamName the name of the team
+   * @return the message
+   */
+  static String message(String teamName) {
+    return "No such team: " + teamName;
+  }
+}
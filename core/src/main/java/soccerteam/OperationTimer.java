@@ -0,0 +1,16 @@
+package soccerteam;
+
+/**
+ * The OperationTimer interface times one team operation from the moment it was started by
+ * {@link TeamMetrics#start} until it is stopped. Each timer is stopped at most once, on the
+ * thread that started it.
+ */
+public interface OperationTimer {
+
+  /**
+   * Stops timing and reports the operation.
+   *
+   * @param operation the operation that was timed
+   */
+  void stop(TeamOperation operation);
+}
@@ -0,0 +1,104 @@
+package soccerteam;
+
+import java.util.List;
+
+/**
+ * The OptimalLineupStrategy class chooses the starting lineup with the highest total skill level
+ * and, among those, the most players in their preferred positions. Of several equally good
+ * lineups, it prefers the one that starts players earlier in selection order, and puts a player
+ * in their preferred position when that does not cost anything.
+ *
+ * <p>The lineup is found by dynamic programming over the players in selection order, where the
+ * state is the number of players already placed in each position. With the standard position
+ * limits there are only 48 such states, so a roster of 20 takes about a thousand steps and no
+ * sorting or searching.
+ */
+public final class OptimalLineupStrategy implements LineupStrategy {
+  private static final Position[] POSITIONS = Position.values();
+  private final int stateCount;
+  private final int[] strides;
+  private final int[] open;
+  private final int[] totals;
+
+  /**
+   * Constructs a new OptimalLineupStrategy for the position limits of {@link Position}.
+   */
+  public OptimalLineupStrategy() {
+    strides = new int[POSITIONS.length];
+    int count = 1;
+    for (Position position : POSITIONS) {
+      strides[position.ordinal()] = count;
+      count *= position.getMaxPlayers() + 1;
+    }
+    stateCount = count;
+    // open[s] has bit p set when position p still has room in state s
+    open = new int[stateCount];
+    totals = new int[stateCount];
+    for (int state = 0; state < stateCount; state++) {
+      for (Position position : POSITIONS) {
+        int used = state / strides[position.ordinal()] % (position.getMaxPlayers() + 1);
+        if (used < position.getMaxPlayers()) {
+          open[state] |= 1 << position.ordinal();
+        }
+        totals[state] += used;
+      }
+    }
+  }
+
+  @Override
+  public Position[] selectLineup(List<TeamPlayer> players, int lineupSize) {
+    int size = players.size();
+    // A preferred position match is worth less than one level of skill in any lineup
+    int matchValue = 1;
+    int skillValue = lineupSize + 1;
+
+    // best[i * stateCount + s] is the best value of players i and later, from state s
+    int[] best = new int[(size + 1) * stateCount];
+    for (int i = size - 1; i >= 0; i--) {
+      TeamPlayer player = players.get(i);
+      int skill = player.getSkillLevel().getLevel() * skillValue;
+      int preferred = player.getPreferredPosition().ordinal();
+      int row = i * stateCount;
+      int next = row + stateCount;
+      for (int state = 0; state < stateCount; state++) {
+        int value = best[next + state];
+        if (totals[state] < lineupSize) {
+          for (int p = 0; p < POSITIONS.length; p++) {
+            if ((open[state] & 1 << p) != 0) {
+              int gain = skill + (p == preferred ? matchValue : 0);
+              value = Math.max(value, gain + best[next + state + strides[p]]);
+            }
+          }
+        }
+        best[row + state] = value;
+      }
+    }
+
+    // Walk the table forwards, taking the first choice that keeps the best value
+    Position[] slots = new Position[size];
+    int state = 0;
+    for (int i = 0; i < size && totals[state] < lineupSize; i++) {
+      TeamPlayer player = players.get(i);
+      int skill = player.getSkillLevel().getLevel() * skillValue;
+      int preferred = player.getPreferredPosition().ordinal();
+      int target = best[i * stateCount + state];
+      int next = (i + 1) * stateCount;
+      int choice = -1;
+      if ((open[state] & 1 << preferred) != 0
+          && skill + matchValue + best[next + state + strides[preferred]] == target) {
+        choice = preferred;
+      }
+      for (int p = 0; choice < 0 && p < POSITIONS.length; p++) {
+        if (p != preferred && (open[state] & 1 << p) != 0
+            && skill + best[next + state + strides[p]] == target) {
+          choice = p;
+        }
+      }
+      if (choice >= 0) {
+        slots[i] = POSITIONS[choice];
+        state += strides[choice];
+      }
+    }
+    return slots;
+  }
+}
@@ -0,0 +1,356 @@
+package soccerteam;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * The PersistentTeamModel class implements the TeamModel interface for a team that is saved in
+ * a directory and survives restarts. Every change is appended to a binary journal as it was
+ * made: which players joined, the jersey numbers they were given, and which players they
+ * replaced. Every few changes the roster and lineup are written to a snapshot, the candidates
+ * accepted since the previous snapshot are appended to a candidate file, and the journal is
+ * emptied.
+ *
+ * <p>When the team is opened again it loads the latest snapshot and applies only the journal
+ * records written after it, without validating or re-deciding any of them, so opening a team
+ * takes the same time however long its history is. Like TeamModelImpl, this class is not
+ * thread-safe.
+ *
+ * <p>Roster listeners are called after a change has been written to the journal. Loading the
+ * saved team when it is opened does not produce any events.
+ */
+public class PersistentTeamModel implements TeamModel, Closeable {
+  private static final String SNAPSHOT_FILE = "team.snapshot";
+  private static final String JOURNAL_FILE = "team.journal";
+  private static final String CANDIDATE_FILE = "team.candidates";
+  private static final int DEFAULT_SNAPSHOT_EVERY = 64;
+
+  private final Path snapshotFile;
+  private final int snapshotEvery;
+  private final TeamModelImpl team;
+  private final CandidateFile candidateFile;
+  private final TeamJournal journal;
+  private final RosterListenerList listeners = new RosterListenerList();
+  private final RosterListener forwarder = events -> pendingEvents = events;
+  private List<RosterEvent> pendingEvents;
+  private long sequence;
+
+  /**
+   * Opens the team saved in the given directory, or creates an empty one. Every change is
+   * synced to disk before the method that made it returns.
+   *
+   * @param directory the directory the team is saved in
+   * @throws IOException if the directory can't be used or the saved team is corrupt
+   */
+  public PersistentTeamModel(Path directory) throws IOException {
+    this(directory, 1, DEFAULT_SNAPSHOT_EVERY);
+  }
+
+  /**
+   * Opens the team saved in the given directory, or creates an empty one.
+   *
+   * @param directory     the directory the team is saved in
+   * @param syncEvery     the number of changes to group into one sync to disk, or 0 to sync only
+   *                      when {@link #sync} or {@link #close} is called
+   * @param snapshotEvery the number of journaled changes after which a snapshot is written
+   * @throws IllegalArgumentException if the directory is null, syncEvery is negative, or
+   *                                  snapshotEvery is less than 1
+   * @throws IOException              if the directory can't be used or the saved team is corrupt
+   */
+  public PersistentTeamModel(Path directory, int syncEvery, int snapshotEvery)
+      throws IllegalArgumentException, IOException {
+    this(directory, syncEvery, snapshotEvery, DuplicatePolicy.ALLOW);
+  }
+
+  /**
+   * Opens the team saved in the given directory, or creates an empty one, handling a second
+   * registration of a child already on the roster with the given policy. The policy applies to
+   * new players only; the saved changes are loaded as they were made.
+   *
+   * @param directory       the directory the team is saved in
+   * @param syncEvery       the number of changes to group into one sync to disk, or 0 to sync
+   *                        only when {@link #sync} or {@link #close} is called
+   * @param snapshotEvery   the number of journaled changes after which a snapshot is written
+   * @param duplicatePolicy what to do with a player who is already on the roster
+   * @throws IllegalArgumentException if the directory or the policy is null, syncEvery is
+   *                                  negative, or snapshotEvery is less than 1
+   * @throws IOException              if the directory can't be used or the saved team is corrupt
+   */
+  public PersistentTeamModel(Path directory, int syncEvery, int snapshotEvery,
+                             DuplicatePolicy duplicatePolicy)
+      throws IllegalArgumentException, IOException {
+    if (directory == null) {
+      throw new IllegalArgumentException("Directory can't be null");
+    }
+    if (syncEvery < 0 || snapshotEvery < 1) {
+      throw new IllegalArgumentException(
+          "Sync interval can't be negative and snapshot interval must be at least 1.");
+    }
+    Files.createDirectories(directory);
+    this.snapshotFile = directory.resolve(SNAPSHOT_FILE);
+    this.snapshotEvery = snapshotEvery;
+    this.team = new TeamModelImpl(new JerseyNumberAllocator(1, TeamModelImpl.MAXIMUM_PLAYERS,
+        new Random()), new CandidateLog(), new GreedyLineupStrategy(), duplicatePolicy);
+    this.candidateFile = new CandidateFile(directory.resolve(CANDIDATE_FILE));
+    TeamJournal opened = null;
+    try {
+      if (Files.exists(snapshotFile)) {
+        restoreSnapshot(TeamSnapshotFile.read(snapshotFile));
+      } else {
+        candidateFile.read(0);
+      }
+      opened = new TeamJournal(directory.resolve(JOURNAL_FILE), syncEvery);
+      this.journal = opened;
+      replayJournal();
+    } catch (IOException | RuntimeException e) {
+      try {
+        if (opened != null) {
+          opened.close();
+        }
+      } finally {
+        candidateFile.close();
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public boolean addPlayer(TeamPlayer player)
+      throws IllegalArgumentException, IllegalStateException {
+    return addPlayers(Collections.singletonList(player)).get(0).isAdded();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws UncheckedIOException if the change was made but could not be saved
+   */
+  @Override
+  public List<AddPlayerResult> addPlayers(Collection<TeamPlayer> players)
+      throws IllegalArgumentException, IllegalStateException {
+    Map<TeamPlayer, Position> positionsBefore = new IdentityHashMap<>();
+    if (players != null) {
+      for (TeamPlayer player : players) {
+        if (player != null) {
+          positionsBefore.put(player, player.getTeamPosition());
+        }
+      }
+    }
+    List<AddPlayerResult> results = team.addPlayers(players);
+
+    List<TeamPlayer> joined = new ArrayList<>();
+    List<Integer> evicted = new ArrayList<>();
+    for (AddPlayerResult result : results) {
+      if (result.isAdded()) {
+        TeamPlayer player = result.getPlayer();
+        TeamPlayer saved = new TeamPlayer(player.getFirstName(), player.getLastName(),
+            player.getDateOfBirth(), player.getPreferredPosition(), player.getSkillLevel());
+        saved.setJerseyNumber(player.getJerseyNumber());
+        saved.setTeamPosition(positionsBefore.get(player));
+        joined.add(saved);
+        TeamPlayer replaced = result.getReplacedPlayer();
+        evicted.add(replaced == null ? 0 : replaced.getJerseyNumber());
+      }
+    }
+    if (!joined.isEmpty()) {
+      int[] evictedJerseys = new int[evicted.size()];
+      for (int i = 0; i < evictedJerseys.length; i++) {
+        evictedJerseys[i] = evicted.get(i);
+      }
+      try {
+        journal.append(new TeamJournal.Record(++sequence, joined, evictedJerseys));
+        if (journal.getRecordCount() >= snapshotEvery) {
+          snapshot();
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not save the team change", e);
+      } finally {
+        // The change was made even if it could not be saved
+        firePendingEvents();
+      }
+    }
+    return results;
+  }
+
+  @Override
+  public int getPlayerCount() {
+    return team.getPlayerCount();
+  }
+
+  @Override
+  public boolean isValid() {
+    return team.isValid();
+  }
+
+  @Override
+  public List<TeamPlayer> getCandidates() {
+    return team.getCandidates();
+  }
+
+  @Override
+  public List<TeamPlayer> getCandidates(int offset, int limit) throws IllegalArgumentException {
+    return team.getCandidates(offset, limit);
+  }
+
+  @Override
+  public int getCandidateCount() {
+    return team.getCandidateCount();
+  }
+
+  @Override
+  public Iterator<TeamPlayer> candidateIterator() {
+    return team.candidateIterator();
+  }
+
+  @Override
+  public List<TeamPlayer> getAllPlayers() throws IllegalStateException {
+    return team.getAllPlayers();
+  }
+
+  @Override
+  public List<TeamPlayer> getStartingLineup() throws IllegalStateException {
+    return team.getStartingLineup();
+  }
+
+  @Override
+  public List<TeamPlayer> findPlayers(PlayerQuery query) throws IllegalArgumentException {
+    return team.findPlayers(query);
+  }
+
+  @Override
+  public void addRosterListener(RosterListener listener) throws IllegalArgumentException {
+    boolean first = listeners.isEmpty();
+    listeners.add(listener);
+    if (first) {
+      team.addRosterListener(forwarder);
+    }
+  }
+
+  @Override
+  public void removeRosterListener(RosterListener listener) {
+    listeners.remove(listener);
+    if (listeners.isEmpty()) {
+      team.removeRosterListener(forwarder);
+    }
+  }
+
+  /**
+   * Gets the number of changes in the journal that are not yet covered by a snapshot. This is
+   * the number of changes that opening the team again would have to apply.
+   *
+   * @return the number of journaled changes since the last snapshot
+   */
+  public int getJournalRecordCount() {
+    return journal.getRecordCount();
+  }
+
+  /**
+   * Appends the candidates accepted since the last snapshot to the candidate file, writes the
+   * roster and lineup to a new snapshot, and empties the journal.
+   *
+   * @throws IOException if the snapshot can't be written
+   */
+  public void snapshot() throws IOException {
+    List<TeamPlayer> lineup = team.isValid() ? team.getStartingLineup() : Collections.emptyList();
+    int[] lineupJerseys = new int[lineup.size()];
+    for (int i = 0; i < lineupJerseys.length; i++) {
+      lineupJerseys[i] = lineup.get(i).getJerseyNumber();
+    }
+    int saved = (int) candidateFile.getCount();
+    candidateFile.append(team.getCandidates(saved, team.getCandidateCount() - saved));
+    new TeamSnapshotFile(sequence, team.getPlayersInJoinOrder(), lineupJerseys,
+        candidateFile.getCount()).write(snapshotFile);
+    journal.clear();
+  }
+
+  /**
+   * Forces every change made so far to disk.
+   *
+   * @throws IOException if the changes can't be synced
+   */
+  public void sync() throws IOException {
+    journal.sync();
+  }
+
+  /**
+   * Syncs the journal and closes the team. The team must not be used afterwards.
+   *
+   * @throws IOException if the journal can't be synced or closed
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      journal.close();
+    } finally {
+      candidateFile.close();
+    }
+  }
+
+  /**
+   * Delivers the events of the change just made to the listeners of this team.
+   */
+  private void firePendingEvents() {
+    List<RosterEvent> events = pendingEvents;
+    pendingEvents = null;
+    if (events != null) {
+      listeners.fire(events);
+    }
+  }
+
+  /**
+   * Loads a saved snapshot into the empty team.
+   *
+   * @param saved the snapshot to load
+   * @throws IOException if the snapshot does not describe a valid team
+   */
+  private void restoreSnapshot(TeamSnapshotFile saved) throws IOException {
+    try {
+      team.restore(saved.getRoster(), candidateFile.read(saved.getCandidateCount()));
+    } catch (IllegalStateException e) {
+      throw new IOException("Corrupt team snapshot: " + e.getMessage(), e);
+    }
+    List<TeamPlayer> lineup = team.isValid() ? team.getStartingLineup() : Collections.emptyList();
+    int[] lineupJerseys = saved.getLineupJerseys();
+    boolean matches = lineup.size() == lineupJerseys.length;
+    for (int i = 0; matches && i < lineupJerseys.length; i++) {
+      matches = lineup.get(i).getJerseyNumber() == lineupJerseys[i];
+    }
+    if (!matches) {
+      throw new IOException("Corrupt team snapshot: starting lineup does not match the roster");
+    }
+    sequence = saved.getSequence();
+  }
+
+  /**
+   * Applies the journal records written after the snapshot.
+   *
+   * @throws IOException if the journal skips a change or does not fit the team
+   */
+  private void replayJournal() throws IOException {
+    for (TeamJournal.Record record : journal.getRecovered()) {
+      if (record.getSequence() <= sequence) {
+        continue;
+      }
+      if (record.getSequence() != sequence + 1) {
+        throw new IOException("Team journal is missing change " + (sequence + 1));
+      }
+      try {
+        team.replay(record.getPlayers(), record.getEvictedJerseys());
+      } catch (IllegalStateException e) {
+        throw new IOException("Corrupt team journal: " + e.getMessage(), e);
+      }
+      sequence = record.getSequence();
+    }
+  }
+}
@@ -1,5 +1,7 @@
 package soccerteam;
 
+import java.time.LocalDate;
+
 /**
  * The Player interface represents a player in a soccer team.
  * It provides methods to retrieve the player's personal information,
@@ -36,12 +38,27 @@ public interface Player {
   String getDateOfBirth();
 
   /**
-   * Gets the age of the player.
+   * Gets the date of birth of the player as a date.
+   *
+   * @return the parsed date of birth of the player
+   */
+  LocalDate getBirthDate();
+
+  /**
+   * Gets the age of the player at the as-of date of the {@link SeasonClock}.
    *
    * @return the age of the player
    */
   int getAge() throws IllegalArgumentException;
 
+  /**
+   * Gets the age of the player in whole years at the given date.
+   *
+   * @param asOfDate the date to compute the age at
+   * @return the age of the player at that date
+   */
+  int getAge(LocalDate asOfDate);
+
   /**
    * Gets the preferred position of the player on the field.
    *
@@ -0,0 +1,97 @@
+package soccerteam;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * The PlayerCodec class writes team players to, and reads them back from, the compact binary
+ * form used by the team journal and snapshot files. The birth date is stored as an epoch day and
+ * the enums by their ordinal, so a player takes a few bytes plus the length of their names.
+ */
+final class PlayerCodec {
+  private static final int NO_POSITION = -1;
+
+  /**
+   * Prevents instantiation of this utility class.
+   */
+  private PlayerCodec() {
+  }
+
+  /**
+   * Writes a player, including their jersey number and team position.
+   *
+   * @param out    the output to write to
+   * @param player the player to write
+   * @throws IOException if the player can't be written
+   */
+  static void write(DataOutput out, TeamPlayer player) throws IOException {
+    out.writeUTF(player.getFirstName());
+    out.writeUTF(player.getLastName());
+    out.writeLong(player.getBirthDate().toEpochDay());
+    out.writeByte(player.getPreferredPosition().ordinal());
+    out.writeByte(player.getSkillLevel().ordinal());
+    out.writeShort(player.getJerseyNumber());
+    Position teamPosition = player.getTeamPosition();
+    out.writeByte(teamPosition == null ? NO_POSITION : teamPosition.ordinal());
+  }
+
+  /**
+   * Reads a player written by {@link #write}.
+   *
+   * @param in the input to read from
+   * @return the player that was written
+   * @throws IOException if the player can't be read or the data is corrupt
+   */
+  static TeamPlayer read(DataInput in) throws IOException {
+    String firstName = in.readUTF();
+    String lastName = in.readUTF();
+    LocalDate birthDate = LocalDate.ofEpochDay(in.readLong());
+    Position preferredPosition = position(in.readByte());
+    SkillLevel skillLevel = skillLevel(in.readByte());
+    int jerseyNumber = in.readUnsignedShort();
+    byte teamPosition = in.readByte();
+    if (preferredPosition == null) {
+      throw new IOException("Corrupt player record: missing preferred position");
+    }
+    TeamPlayer player = new TeamPlayer(firstName, lastName, birthDate,
+        preferredPosition, skillLevel);
+    player.setJerseyNumber(jerseyNumber);
+    player.setTeamPosition(position(teamPosition));
+    return player;
+  }
+
+  /**
+   * Decodes a position ordinal.
+   *
+   * @param ordinal the stored ordinal
+   * @return the position, or null if none was stored
+   * @throws IOException if the ordinal is out of range
+   */
+  private static Position position(byte ordinal) throws IOException {
+    if (ordinal == NO_POSITION) {
+      return null;
+    }
+    Position[] positions = Position.values();
+    if (ordinal < 0 || ordinal >= positions.length) {
+      throw new IOException("Corrupt player record: position " + ordinal);
+    }
+    return positions[ordinal];
+  }
+
+  /**
+   * Decodes a skill level ordinal.
+   *
+   * @param ordinal the stored ordinal
+   * @return the skill level
+   * @throws IOException if the ordinal is out of range
+   */
+  private static SkillLevel skillLevel(byte ordinal) throws IOException {
+    SkillLevel[] skillLevels = SkillLevel.values();
+    if (ordinal < 0 || ordinal >= skillLevels.length) {
+      throw new IOException("Corrupt player record: skill level " + ordinal);
+    }
+    return skillLevels[ordinal];
+  }
+}
@@ -0,0 +1,87 @@
+package soccerteam;
+
+import java.util.Comparator;
+
+/**
+ * The PlayerComparators class provides static comparator methods for comparing TeamPlayer objects
+ * based on different criteria such as skill level, position, and name.
+ * The comparators are created once and shared. They compare enum ordinals and the packed sort
+ * keys of {@link PlayerOrder} directly, without boxing, and give the same order as before.
+ */
+public class PlayerComparators {
+  private static final Comparator<TeamPlayer> SKILL_DESCENDING =
+      (a, b) -> Integer.compare(b.getSkillLevel().getLevel(), a.getSkillLevel().getLevel());
+  private static final Comparator<TeamPlayer> SKILL_ASCENDING =
+      (a, b) -> Integer.compare(a.getSkillLevel().getLevel(), b.getSkillLevel().getLevel());
+  private static final Comparator<TeamPlayer> PREFERRED_POSITION =
+      (a, b) -> Integer.compare(a.getPreferredPosition().getOrder(),
+          b.getPreferredPosition().getOrder());
+  private static final Comparator<TeamPlayer> TEAM_POSITION =
+      (a, b) -> a.getTeamPosition().compareTo(b.getTeamPosition());
+
+  /**
+   * Returns a comparator that compares TeamPlayer objects by their skill level in descending order.
+   *
+   * @return a comparator for comparing by skill level in descending order
+   */
+  public static Comparator<TeamPlayer> bySkillInDescending() {
+    return SKILL_DESCENDING;
+  }
+
+  /**
+   * Returns a comparator that compares TeamPlayer objects by their skill level in ascending order.
+   *
+   * @return a comparator for comparing by skill level in ascending order
+   */
+  public static Comparator<TeamPlayer> bySkillInAscending() {
+    return SKILL_ASCENDING;
+  }
+
+  /**
+   * Returns a comparator that compares TeamPlayer objects by their preferred position order.
+   *
+   * @return a comparator for comparing by preferred position order
+   */
+  public static Comparator<TeamPlayer> byPreferredPosition() {
+    return PREFERRED_POSITION;
+  }
+
+  /**
+   * Returns a comparator that compares TeamPlayer objects by their team position.
+   *
+   * @return a comparator for comparing by team position
+   */
+  public static Comparator<TeamPlayer> byTeamPosition() {
+    return TEAM_POSITION;
+  }
+
+  /**
+   * Returns a comparator that compares TeamPlayer objects by their last name.
+   *
+   * @return a comparator for comparing by last name
+   */
+  public static Comparator<TeamPlayer> byLastName() {
+    return PlayerOrder.LAST_NAME;
+  }
+
+  /**
+   * Returns a comparator that compares TeamPlayer objects in the order used to select the
+   * starting lineup: skill level in descending order, then preferred position order, then last
+   * name.
+   *
+   * @return a comparator for the lineup selection order
+   */
+  public static Comparator<TeamPlayer> inSelectionOrder() {
+    return PlayerOrder.SELECTION;
+  }
+
+  /**
+   * Returns a comparator that compares TeamPlayer objects in the order used to pick the player
+   * to replace: skill level in ascending order, then preferred position order, then last name.
+   *
+   * @return a comparator for the replacement order
+   */
+  public static Comparator<TeamPlayer> inEvictionOrder() {
+    return PlayerOrder.EVICTION;
+  }
+}
@@ -0,0 +1,96 @@
+package soccerteam;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * The PlayerIdentity class is the key that decides whether two registrations are for the same
+ * child: the same first name, last name and date of birth. Names are compared after
+ * normalizing them, so that the differences a parent typically makes when filling in the same
+ * form twice do not matter: letter case, accents, spaces, hyphens, apostrophes and other
+ * punctuation. "Anne-Marie O'Neil" and "anne marie oneil" are the same child.
+ *
+ * <p>The hash code is computed once, so a key can be looked up in a hash map in constant time.
+ */
+final class PlayerIdentity {
+  private final String firstName;
+  private final String lastName;
+  private final long birthDay;
+  private final int hash;
+
+  /**
+   * Constructs a PlayerIdentity from names that are already normalized.
+   *
+   * @param firstName the normalized first name
+   * @param lastName  the normalized last name
+   * @param birthDay  the date of birth as a count of days since the epoch
+   */
+  private PlayerIdentity(String firstName, String lastName, long birthDay) {
+    this.firstName = firstName;
+    this.lastName = lastName;
+    this.birthDay = birthDay;
+    this.hash = 31 * (31 * firstName.hashCode() + lastName.hashCode()) + Long.hashCode(birthDay);
+  }
+
+  /**
+   * Gets the identity of a player.
+   *
+   * @param player the player
+   * @return the identity of the child the player registers
+   */
+  static PlayerIdentity of(Player player) {
+    return new PlayerIdentity(normalize(player.getFirstName()), normalize(player.getLastName()),
+        player.getBirthDate().toEpochDay());
+  }
+
+  /**
+   * Normalizes a name for comparison: accents are removed, letters are made lower case, and
+   * everything that is not a letter or a digit is dropped.
+   *
+   * @param name the name to normalize, or null
+   * @return the normalized name, which is empty for a null name
+   */
+  static String normalize(String name) {
+    if (name == null) {
+      return "";
+    }
+    for (int i = 0; i < name.length(); i++) {
+      if (name.charAt(i) >= 0x80) {
+        // Split accented letters into a base letter and a combining mark, which is dropped below
+        name = Normalizer.normalize(name, Normalizer.Form.NFKD);
+        break;
+      }
+    }
+    StringBuilder normalized = new StringBuilder(name.length());
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (Character.isLetterOrDigit(c)) {
+        normalized.append(c);
+      }
+    }
+    return normalized.toString().toLowerCase(Locale.ROOT);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof PlayerIdentity)) {
+      return false;
+    }
+    PlayerIdentity other = (PlayerIdentity) o;
+    return hash == other.hash && birthDay == other.birthDay
+        && firstName.equals(other.firstName) && lastName.equals(other.lastName);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return firstName + " " + lastName + " " + birthDay;
+  }
+}
@@ -0,0 +1,159 @@
+package soccerteam;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The PlayerOrder enum lists the orders in which a team ranks its players, and sorts and selects
+ * players in those orders with primitive keys instead of comparator chains.
+ *
+ * <p>Every player carries a packed sort key, computed once when the player is created: three
+ * bits of skill level, three bits of preferred position order, and a 34-bit rank of the first
+ * two characters of the last name. Comparing two keys orders players by skill, then position,
+ * then last name, except that last names sharing their first two characters compare equal; only
+ * those ties fall back to comparing the full names. The orders are exactly the same as the
+ * PlayerComparators chains they replace, and each constant is itself a comparator.
+ */
+public enum PlayerOrder implements Comparator<TeamPlayer> {
+  /** Highest skill level first, then preferred position order, then last name. */
+  SELECTION(Keys.SKILL_MASK, ~0L),
+  /** Lowest skill level first, then preferred position order, then last name. */
+  EVICTION(0L, ~0L),
+  /** Last name only. */
+  LAST_NAME(0L, Keys.NAME_MASK);
+
+  private final long flip;
+  private final long mask;
+
+  /**
+   * Constructs a PlayerOrder that derives its keys from the packed sort key of a player.
+   *
+   * @param flip the bits to invert, to turn an ascending field into a descending one
+   * @param mask the bits of the packed key that take part in the order
+   */
+  PlayerOrder(long flip, long mask) {
+    this.flip = flip;
+    this.mask = mask;
+  }
+
+  /**
+   * Gets the key of a player in this order. Players with smaller keys come first; players with
+   * equal keys are ordered by their full last names.
+   *
+   * @param player the player
+   * @return the key of the player
+   */
+  public long keyOf(TeamPlayer player) {
+    return (player.getSortKey() ^ flip) & mask;
+  }
+
+  @Override
+  public int compare(TeamPlayer a, TeamPlayer b) {
+    int result = Long.compare(keyOf(a), keyOf(b));
+    return result != 0 ? result : a.getLastName().compareTo(b.getLastName());
+  }
+
+  /**
+   * Sorts players in this order. Players that compare equal keep their order in the list.
+   *
+   * @param players the players to sort
+   * @param <T>     the type of the players
+   * @return a new list of the players in this order
+   */
+  public <T extends TeamPlayer> List<T> sort(List<T> players) {
+    int size = players.size();
+    if (size >= 1 << Keys.INDEX_BITS) {
+      List<T> sorted = new ArrayList<>(players);
+      sorted.sort(this);
+      return sorted;
+    }
+    // Each slot holds the key in the high bits and the list index in the low bits, with the
+    // sign bit flipped so that a signed sort orders the keys as unsigned numbers
+    long[] slots = new long[size];
+    for (int i = 0; i < size; i++) {
+      slots[i] = (keyOf(players.get(i)) << Keys.INDEX_BITS | i) ^ Long.MIN_VALUE;
+    }
+    Arrays.sort(slots);
+
+    List<T> sorted = new ArrayList<>(size);
+    int runStart = 0;
+    for (int i = 0; i < size; i++) {
+      sorted.add(players.get((int) (slots[i] & Keys.INDEX_MASK)));
+      boolean runEnds = i + 1 == size
+          || (slots[i] >>> Keys.INDEX_BITS) != (slots[i + 1] >>> Keys.INDEX_BITS);
+      if (runEnds) {
+        if (i > runStart) {
+          // The keys tie, so only the full last names can tell these players apart
+          Collections.sort(sorted.subList(runStart, i + 1),
+              Comparator.comparing(TeamPlayer::getLastName));
+        }
+        runStart = i + 1;
+      }
+    }
+    return sorted;
+  }
+
+  /**
+   * Finds the first player in this order. Of several players that compare equal, the one that
+   * comes first in the list is returned.
+   *
+   * @param players the players to search
+   * @param <T>     the type of the players
+   * @return the first player in this order, or null if the list is empty
+   */
+  public <T extends TeamPlayer> T min(List<T> players) {
+    T best = null;
+    long bestKey = 0;
+    for (T player : players) {
+      long key = keyOf(player);
+      if (best == null || key < bestKey
+          || key == bestKey && player.getLastName().compareTo(best.getLastName()) < 0) {
+        best = player;
+        bestKey = key;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Computes the packed sort key of a player.
+   *
+   * @param skillLevel        the skill level of the player
+   * @param preferredPosition the preferred position of the player
+   * @param lastName          the last name of the player
+   * @return the packed sort key
+   */
+  static long packKey(SkillLevel skillLevel, Position preferredPosition, String lastName) {
+    long key = 0;
+    if (skillLevel != null) {
+      key |= (long) skillLevel.ordinal() << Keys.SKILL_SHIFT;
+    }
+    if (preferredPosition != null) {
+      key |= (long) preferredPosition.getOrder() << Keys.POSITION_SHIFT;
+    }
+    if (lastName != null) {
+      // A missing character ranks below every character, so each one is stored plus one
+      long first = lastName.length() > 0 ? lastName.charAt(0) + 1L : 0L;
+      long second = lastName.length() > 1 ? lastName.charAt(1) + 1L : 0L;
+      key |= first << Keys.CHAR_BITS | second;
+    }
+    return key;
+  }
+
+  /**
+   * The layout of the packed sort key. It is kept in its own class because enum constants can't
+   * refer to the enum's own static fields.
+   */
+  private static final class Keys {
+    private static final int CHAR_BITS = 17;
+    private static final int POSITION_SHIFT = 2 * CHAR_BITS;
+    private static final int SKILL_SHIFT = POSITION_SHIFT + 3;
+    private static final long SKILL_MASK = 0b111L << SKILL_SHIFT;
+    private static final long NAME_MASK = (1L << POSITION_SHIFT) - 1;
+    private static final int INDEX_BITS = 64 - (SKILL_SHIFT + 3);
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+  }
+}
@@ -0,0 +1,207 @@
+package soccerteam;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * The PlayerQuery class describes which players to find with {@link TeamModel#findPlayers} or
+ * {@link LeagueModel#findPlayers}. A query is immutable: every method that narrows it returns a
+ * new query. A player matches when they meet every condition that has been set; conditions that
+ * have not been set match every player.
+ *
+ * <p>For example, {@code PlayerQuery.all().withSkillLevels(SkillLevel.FIVE)
+ * .withPositions(Position.DEFENDER)} finds the best defenders, and
+ * {@code PlayerQuery.all().withLastNamePrefix("Mar")} finds Martin and Marsh.
+ */
+public final class PlayerQuery {
+  private static final PlayerQuery ALL = new PlayerQuery(EnumSet.noneOf(Position.class),
+      EnumSet.noneOf(SkillLevel.class), null, null, null);
+
+  private final Set<Position> positions;
+  private final Set<SkillLevel> skillLevels;
+  private final LocalDate bornFrom;
+  private final LocalDate bornTo;
+  private final String lastNamePrefix;
+
+  /**
+   * Constructs a PlayerQuery.
+   *
+   * @param positions      the preferred positions to match, or an empty set for any
+   * @param skillLevels    the skill levels to match, or an empty set for any
+   * @param bornFrom       the earliest birth date to match, or null for no limit
+   * @param bornTo         the latest birth date to match, or null for no limit
+   * @param lastNamePrefix the start of the last names to match in lower case, or null for any
+   */
+  private PlayerQuery(Set<Position> positions, Set<SkillLevel> skillLevels, LocalDate bornFrom,
+                      LocalDate bornTo, String lastNamePrefix) {
+    this.positions = Collections.unmodifiableSet(positions);
+    this.skillLevels = Collections.unmodifiableSet(skillLevels);
+    this.bornFrom = bornFrom;
+    this.bornTo = bornTo;
+    this.lastNamePrefix = lastNamePrefix;
+  }
+
+  /**
+   * Gets the query that matches every player.
+   *
+   * @return the query with no conditions
+   */
+  public static PlayerQuery all() {
+    return ALL;
+  }
+
+  /**
+   * Narrows the query to players whose preferred position is one of the given positions.
+   *
+   * @param wanted the positions to match
+   * @return the narrowed query
+   * @throws IllegalArgumentException if no position is given or one is null
+   */
+  public PlayerQuery withPositions(Position... wanted) throws IllegalArgumentException {
+    if (wanted == null || wanted.length == 0) {
+      throw new IllegalArgumentException("At least one position is required.");
+    }
+    EnumSet<Position> set = EnumSet.noneOf(Position.class);
+    for (Position position : wanted) {
+      if (position == null) {
+        throw new IllegalArgumentException("Position can't be null");
+      }
+      set.add(position);
+    }
+    return new PlayerQuery(set, skillLevels, bornFrom, bornTo, lastNamePrefix);
+  }
+
+  /**
+   * Narrows the query to players with one of the given skill levels.
+   *
+   * @param wanted the skill levels to match
+   * @return the narrowed query
+   * @throws IllegalArgumentException if no skill level is given or one is null
+   */
+  public PlayerQuery withSkillLevels(SkillLevel... wanted) throws IllegalArgumentException {
+    if (wanted == null || wanted.length == 0) {
+      throw new IllegalArgumentException("At least one skill level is required.");
+    }
+    EnumSet<SkillLevel> set = EnumSet.noneOf(SkillLevel.class);
+    for (SkillLevel skillLevel : wanted) {
+      if (skillLevel == null) {
+        throw new IllegalArgumentException("Skill level can't be null");
+      }
+      set.add(skillLevel);
+    }
+    return new PlayerQuery(positions, set, bornFrom, bornTo, lastNamePrefix);
+  }
+
+  /**
+   * Narrows the query to players born between two dates, both included.
+   *
+   * @param from the earliest birth date
+   * @param to   the latest birth date
+   * @return the narrowed query
+   * @throws IllegalArgumentException if a date is null or the range is empty
+   */
+  public PlayerQuery bornBetween(LocalDate from, LocalDate to) throws IllegalArgumentException {
+    if (from == null || to == null) {
+      throw new IllegalArgumentException("Dates can't be null");
+    }
+    if (from.isAfter(to)) {
+      throw new IllegalArgumentException("The first date must not be after the second.");
+    }
+    return new PlayerQuery(positions, skillLevels, from, to, lastNamePrefix);
+  }
+
+  /**
+   * Narrows the query to players who will be too old to play on the given date, that is, who
+   * were born at least 10 years before it. To find the players aging out this month, pass the
+   * last day of the month.
+   *
+   * @param date the date
+   * @return the narrowed query
+   * @throws IllegalArgumentException if the date is null
+   */
+  public PlayerQuery agingOutBy(LocalDate date) throws IllegalArgumentException {
+    if (date == null) {
+      throw new IllegalArgumentException("Date can't be null");
+    }
+    LocalDate lastBirthDate = date.minusYears(TeamModelImpl.MAXIMUM_AGE);
+    return new PlayerQuery(positions, skillLevels, bornFrom, lastBirthDate, lastNamePrefix);
+  }
+
+  /**
+   * Narrows the query to players whose last name starts with the given text, ignoring case.
+   *
+   * @param prefix the start of the last name
+   * @return the narrowed query
+   * @throws IllegalArgumentException if the prefix is null or empty
+   */
+  public PlayerQuery withLastNamePrefix(String prefix) throws IllegalArgumentException {
+    if (prefix == null || prefix.isEmpty()) {
+      throw new IllegalArgumentException("Last name prefix can't be empty");
+    }
+    return new PlayerQuery(positions, skillLevels, bornFrom, bornTo,
+        prefix.toLowerCase(Locale.ROOT));
+  }
+
+  /**
+   * Checks a player against every condition, one player at a time.
+   *
+   * @param player the player to check
+   * @return true if the player matches the query
+   */
+  public boolean matches(Player player) {
+    return (positions.isEmpty() || positions.contains(player.getPreferredPosition()))
+        && (skillLevels.isEmpty() || skillLevels.contains(player.getSkillLevel()))
+        && (bornFrom == null || !player.getBirthDate().isBefore(bornFrom))
+        && (bornTo == null || !player.getBirthDate().isAfter(bornTo))
+        && (lastNamePrefix == null
+        || player.getLastName().toLowerCase(Locale.ROOT).startsWith(lastNamePrefix));
+  }
+
+  /**
+   * Gets the preferred positions to match.
+   *
+   * @return the positions, or an empty set for any
+   */
+  Set<Position> getPositions() {
+    return positions;
+  }
+
+  /**
+   * Gets the skill levels to match.
+   *
+   * @return the skill levels, or an empty set for any
+   */
+  Set<SkillLevel> getSkillLevels() {
+    return skillLevels;
+  }
+
+  /**
+   * Gets the earliest birth date to match.
+   *
+   * @return the date, or null for no limit
+   */
+  LocalDate getBornFrom() {
+    return bornFrom;
+  }
+
+  /**
+   * Gets the latest birth date to match.
+   *
+   * @return the date, or null for no limit
+   */
+  LocalDate getBornTo() {
+    return bornTo;
+  }
+
+  /**
+   * Gets the start of the last names to match.
+   *
+   * @return the prefix in lower case, or null for any
+   */
+  String getLastNamePrefix() {
+    return lastNamePrefix;
+  }
+}
@@ -0,0 +1,221 @@
+package soccerteam;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * The PlayerQueryIndex class keeps secondary indexes over the players of a team so that a
+ * {@link PlayerQuery} is answered without looking at every player. Every player is given a slot
+ * number, and each index maps a value to the set of slots holding players with that value:
+ * <ul>
+ *   <li>one bit set per preferred position and per skill level,</li>
+ *   <li>a map from birth date to bit set, sorted by date, for date ranges, and</li>
+ *   <li>a trie over lower-case last names, in which every node holds the slots of all players
+ *       whose last name starts with the letters on the path to it.</li>
+ * </ul>
+ * A query intersects the bit sets of its conditions and then reads the players in the remaining
+ * slots. Adding or removing a player updates every index in time proportional to the length of
+ * the last name.
+ */
+final class PlayerQueryIndex {
+  private final Map<TeamPlayer, Integer> slotOf = new IdentityHashMap<>();
+  private TeamPlayer[] slots = new TeamPlayer[16];
+  private final BitSet occupied = new BitSet();
+  private final EnumMap<Position, BitSet> byPosition = new EnumMap<>(Position.class);
+  private final EnumMap<SkillLevel, BitSet> bySkillLevel = new EnumMap<>(SkillLevel.class);
+  private final NavigableMap<LocalDate, BitSet> byBirthDate = new TreeMap<>();
+  private final TrieNode lastNames = new TrieNode();
+
+  /**
+   * Constructs an empty PlayerQueryIndex.
+   */
+  PlayerQueryIndex() {
+    for (Position position : Position.values()) {
+      byPosition.put(position, new BitSet());
+    }
+    for (SkillLevel skillLevel : SkillLevel.values()) {
+      bySkillLevel.put(skillLevel, new BitSet());
+    }
+  }
+
+  /**
+   * Adds a player to every index.
+   *
+   * @param player the player to add
+   */
+  void add(TeamPlayer player) {
+    int slot = occupied.nextClearBit(0);
+    if (slot == slots.length) {
+      slots = Arrays.copyOf(slots, slots.length * 2);
+    }
+    slots[slot] = player;
+    slotOf.put(player, slot);
+    occupied.set(slot);
+    byPosition.get(player.getPreferredPosition()).set(slot);
+    bySkillLevel.get(player.getSkillLevel()).set(slot);
+    byBirthDate.computeIfAbsent(player.getBirthDate(), date -> new BitSet()).set(slot);
+    TrieNode node = lastNames;
+    node.slots.set(slot);
+    for (char letter : normalize(player.getLastName()).toCharArray()) {
+      node = node.children.computeIfAbsent(letter, key -> new TrieNode());
+      node.slots.set(slot);
+    }
+  }
+
+  /**
+   * Removes a player from every index.
+   *
+   * @param player the player to remove
+   * @return true if the player was in the index, false otherwise
+   */
+  boolean remove(TeamPlayer player) {
+    Integer found = slotOf.remove(player);
+    if (found == null) {
+      return false;
+    }
+    int slot = found;
+    slots[slot] = null;
+    occupied.clear(slot);
+    byPosition.get(player.getPreferredPosition()).clear(slot);
+    bySkillLevel.get(player.getSkillLevel()).clear(slot);
+    BitSet sameDate = byBirthDate.get(player.getBirthDate());
+    sameDate.clear(slot);
+    if (sameDate.isEmpty()) {
+      byBirthDate.remove(player.getBirthDate());
+    }
+    TrieNode node = lastNames;
+    node.slots.clear(slot);
+    for (char letter : normalize(player.getLastName()).toCharArray()) {
+      TrieNode child = node.children.get(letter);
+      child.slots.clear(slot);
+      if (child.slots.isEmpty()) {
+        // No other player's last name goes through this node, so neither does one below it
+        node.children.remove(letter);
+        break;
+      }
+      node = child;
+    }
+    return true;
+  }
+
+  /**
+   * Finds the players that match a query.
+   *
+   * @param query the query
+   * @return the matching players, in slot order
+   */
+  List<TeamPlayer> find(PlayerQuery query) {
+    BitSet result = (BitSet) occupied.clone();
+    if (!query.getPositions().isEmpty()) {
+      result.and(union(byPosition, query.getPositions()));
+    }
+    if (!query.getSkillLevels().isEmpty()) {
+      result.and(union(bySkillLevel, query.getSkillLevels()));
+    }
+    if (query.getBornFrom() != null || query.getBornTo() != null) {
+      result.and(bornBetween(query.getBornFrom(), query.getBornTo()));
+    }
+    if (query.getLastNamePrefix() != null) {
+      result.and(withLastNamePrefix(query.getLastNamePrefix()));
+    }
+    List<TeamPlayer> found = new ArrayList<>(result.cardinality());
+    for (int slot = result.nextSetBit(0); slot >= 0; slot = result.nextSetBit(slot + 1)) {
+      found.add(slots[slot]);
+    }
+    return found;
+  }
+
+  /**
+   * Gets the number of players in the index.
+   *
+   * @return the number of players
+   */
+  int size() {
+    return slotOf.size();
+  }
+
+  /**
+   * Gets the slots of players with any of the given values.
+   *
+   * @param index  the index of one value
+   * @param values the values wanted
+   * @param <E>    the type of the values
+   * @return the union of their slots
+   */
+  private static <E extends Enum<E>> BitSet union(EnumMap<E, BitSet> index, Set<E> values) {
+    BitSet slots = new BitSet();
+    for (E value : values) {
+      slots.or(index.get(value));
+    }
+    return slots;
+  }
+
+  /**
+   * Gets the slots of players born in a date range, looking only at dates inside the range.
+   *
+   * @param from the earliest date, or null for no limit
+   * @param to   the latest date, or null for no limit
+   * @return the slots of the players born in the range
+   */
+  private BitSet bornBetween(LocalDate from, LocalDate to) {
+    NavigableMap<LocalDate, BitSet> range = byBirthDate;
+    if (from != null && to != null) {
+      if (from.isAfter(to)) {
+        return new BitSet();
+      }
+      range = range.subMap(from, true, to, true);
+    } else if (from != null) {
+      range = range.tailMap(from, true);
+    } else {
+      range = range.headMap(to, true);
+    }
+    BitSet slots = new BitSet();
+    for (BitSet sameDate : range.values()) {
+      slots.or(sameDate);
+    }
+    return slots;
+  }
+
+  /**
+   * Gets the slots of players whose last name starts with a prefix.
+   *
+   * @param prefix the prefix in lower case
+   * @return the slots of the matching players
+   */
+  private BitSet withLastNamePrefix(String prefix) {
+    TrieNode node = lastNames;
+    for (int i = 0; i < prefix.length() && node != null; i++) {
+      node = node.children.get(prefix.charAt(i));
+    }
+    return node == null ? new BitSet() : node.slots;
+  }
+
+  /**
+   * Turns a last name into the form stored in the trie.
+   *
+   * @param lastName the last name
+   * @return the last name in lower case
+   */
+  private static String normalize(String lastName) {
+    return lastName.toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * A node of the last-name trie.
+   */
+  private static final class TrieNode {
+    private final Map<Character, TrieNode> children = new HashMap<>();
+    private final BitSet slots = new BitSet();
+  }
+}
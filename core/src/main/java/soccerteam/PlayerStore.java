@@ -0,0 +1,282 @@
+package soccerteam;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * The PlayerStore class holds many players in parallel primitive arrays, one per attribute,
+ * instead of one object graph per player. Names are interned in a dictionary and stored as ids,
+ * birth dates as epoch days, and enums as their ordinals, so a player takes 19 bytes of columns
+ * instead of the few hundred bytes of a TeamPlayer with its strings and date. Scanning one
+ * attribute of every player reads a single contiguous array.
+ *
+ * <p>Players are identified by their index in the store, in the order they were added.
+ * {@link #get} returns a lightweight {@link StoredPlayer} view of one index, and
+ * {@link #toTeamPlayer} copies a player out when a TeamPlayer is needed.
+ */
+public final class PlayerStore {
+  private static final byte NO_POSITION = -1;
+  private static final Position[] POSITIONS = Position.values();
+  private static final SkillLevel[] SKILL_LEVELS = SkillLevel.values();
+  private static final int BYTES_PER_PLAYER = 4 * Integer.BYTES + 3 * Byte.BYTES;
+
+  private final NameDictionary names;
+  private int[] firstNames;
+  private int[] lastNames;
+  private int[] birthEpochDays;
+  private byte[] preferredPositions;
+  private byte[] skillLevels;
+  private byte[] teamPositions;
+  private int[] jerseyNumbers;
+  private int size;
+
+  /**
+   * Constructs an empty PlayerStore with its own name dictionary.
+   */
+  public PlayerStore() {
+    this(16, new NameDictionary());
+  }
+
+  /**
+   * Constructs an empty PlayerStore that shares a name dictionary with other stores.
+   *
+   * @param capacity the number of players to make room for up front
+   * @param names    the dictionary to intern names in
+   */
+  PlayerStore(int capacity, NameDictionary names) {
+    this.names = names;
+    firstNames = new int[capacity];
+    lastNames = new int[capacity];
+    birthEpochDays = new int[capacity];
+    preferredPositions = new byte[capacity];
+    skillLevels = new byte[capacity];
+    teamPositions = new byte[capacity];
+    jerseyNumbers = new int[capacity];
+  }
+
+  /**
+   * Adds a copy of a team player, including their jersey number and team position.
+   *
+   * @param player the player to add
+   * @return the index of the player in the store
+   * @throws IllegalArgumentException if the player is null
+   */
+  public int add(TeamPlayer player) throws IllegalArgumentException {
+    if (player == null) {
+      throw new IllegalArgumentException("Player can't be null");
+    }
+    if (size == firstNames.length) {
+      grow();
+    }
+    int index = size++;
+    firstNames[index] = names.idOf(player.getFirstName());
+    lastNames[index] = names.idOf(player.getLastName());
+    birthEpochDays[index] = Math.toIntExact(player.getBirthDate().toEpochDay());
+    preferredPositions[index] = (byte) player.getPreferredPosition().ordinal();
+    skillLevels[index] = (byte) player.getSkillLevel().ordinal();
+    setTeamPosition(index, player.getTeamPosition());
+    jerseyNumbers[index] = player.getJerseyNumber();
+    return index;
+  }
+
+  /**
+   * Gets the number of players in the store.
+   *
+   * @return the number of players
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Gets a lightweight view of a player that reads from the store.
+   *
+   * @param index the index of the player
+   * @return a view of the player
+   * @throws IndexOutOfBoundsException if there is no player with the index
+   */
+  public StoredPlayer get(int index) throws IndexOutOfBoundsException {
+    checkIndex(index);
+    return new StoredPlayer(this, index);
+  }
+
+  /**
+   * Copies a player out of the store into a new TeamPlayer.
+   *
+   * @param index the index of the player
+   * @return a new TeamPlayer with the same attributes, jersey number and team position
+   * @throws IndexOutOfBoundsException if there is no player with the index
+   */
+  public TeamPlayer toTeamPlayer(int index) throws IndexOutOfBoundsException {
+    checkIndex(index);
+    TeamPlayer player = new TeamPlayer(getFirstName(index), getLastName(index),
+        getBirthDate(index), getPreferredPosition(index), getSkillLevel(index));
+    player.setJerseyNumber(jerseyNumbers[index]);
+    player.setTeamPosition(getTeamPosition(index));
+    return player;
+  }
+
+  /**
+   * Gets the first name of a player.
+   *
+   * @param index the index of the player
+   * @return the first name
+   */
+  public String getFirstName(int index) {
+    checkIndex(index);
+    return names.nameOf(firstNames[index]);
+  }
+
+  /**
+   * Gets the last name of a player.
+   *
+   * @param index the index of the player
+   * @return the last name
+   */
+  public String getLastName(int index) {
+    checkIndex(index);
+    return names.nameOf(lastNames[index]);
+  }
+
+  /**
+   * Gets the birth date of a player.
+   *
+   * @param index the index of the player
+   * @return the birth date
+   */
+  public LocalDate getBirthDate(int index) {
+    return LocalDate.ofEpochDay(getBirthEpochDay(index));
+  }
+
+  /**
+   * Gets the birth date of a player as a count of days since 1970-01-01.
+   *
+   * @param index the index of the player
+   * @return the birth date as an epoch day
+   */
+  public int getBirthEpochDay(int index) {
+    checkIndex(index);
+    return birthEpochDays[index];
+  }
+
+  /**
+   * Gets the preferred position of a player.
+   *
+   * @param index the index of the player
+   * @return the preferred position
+   */
+  public Position getPreferredPosition(int index) {
+    checkIndex(index);
+    return POSITIONS[preferredPositions[index]];
+  }
+
+  /**
+   * Gets the skill level of a player.
+   *
+   * @param index the index of the player
+   * @return the skill level
+   */
+  public SkillLevel getSkillLevel(int index) {
+    checkIndex(index);
+    return SKILL_LEVELS[skillLevels[index]];
+  }
+
+  /**
+   * Gets the team position of a player.
+   *
+   * @param index the index of the player
+   * @return the team position, or null if the player has none
+   */
+  public Position getTeamPosition(int index) {
+    checkIndex(index);
+    byte ordinal = teamPositions[index];
+    return ordinal == NO_POSITION ? null : POSITIONS[ordinal];
+  }
+
+  /**
+   * Sets the team position of a player.
+   *
+   * @param index        the index of the player
+   * @param teamPosition the team position, or null for none
+   */
+  public void setTeamPosition(int index, Position teamPosition) {
+    checkIndex(index);
+    teamPositions[index] = teamPosition == null ? NO_POSITION : (byte) teamPosition.ordinal();
+  }
+
+  /**
+   * Gets the jersey number of a player.
+   *
+   * @param index the index of the player
+   * @return the jersey number, or 0 if the player has none
+   */
+  public int getJerseyNumber(int index) {
+    checkIndex(index);
+    return jerseyNumbers[index];
+  }
+
+  /**
+   * Sets the jersey number of a player.
+   *
+   * @param index        the index of the player
+   * @param jerseyNumber the jersey number
+   */
+  public void setJerseyNumber(int index, int jerseyNumber) {
+    checkIndex(index);
+    jerseyNumbers[index] = jerseyNumber;
+  }
+
+  /**
+   * Gets the number of players the columns have room for before they grow.
+   *
+   * @return the capacity of every column
+   */
+  public int getCapacity() {
+    return firstNames.length;
+  }
+
+  /**
+   * Gets the number of bytes of player data the columns hold, counting their full capacity but
+   * not the array headers or the name dictionary.
+   *
+   * @return the size of the columns in bytes
+   */
+  public long getColumnBytes() {
+    return (long) BYTES_PER_PLAYER * firstNames.length;
+  }
+
+  /**
+   * Gets the number of distinct first and last names in the store's dictionary.
+   *
+   * @return the number of distinct names
+   */
+  public int getDistinctNameCount() {
+    return names.size();
+  }
+
+  /**
+   * Checks that an index refers to a player in the store.
+   *
+   * @param index the index to check
+   * @throws IndexOutOfBoundsException if there is no player with the index
+   */
+  private void checkIndex(int index) throws IndexOutOfBoundsException {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Player index " + index + " of " + size);
+    }
+  }
+
+  /**
+   * Doubles the capacity of every column.
+   */
+  private void grow() {
+    int capacity = Math.max(16, firstNames.length * 2);
+    firstNames = Arrays.copyOf(firstNames, capacity);
+    lastNames = Arrays.copyOf(lastNames, capacity);
+    birthEpochDays = Arrays.copyOf(birthEpochDays, capacity);
+    preferredPositions = Arrays.copyOf(preferredPositions, capacity);
+    skillLevels = Arrays.copyOf(skillLevels, capacity);
+    teamPositions = Arrays.copyOf(teamPositions, capacity);
+    jerseyNumbers = Arrays.copyOf(jerseyNumbers, capacity);
+  }
+}
@@ -0,0 +1,471 @@
+package soccerteam;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The RegistrationImporter class adds the players of a registration file to the teams of a
+ * league. The file is CSV with a header row, or JSON objects, with the fields team, firstName,
+ * lastName, dateOfBirth (yyyy-MM-dd), position and skillLevel (1 to 5, or ONE to FIVE).
+ *
+ * <p>Records are read one at a time and checked in parallel on an executor. Checked records are
+ * handed to their team in the order they appear in the file, so every team sees its players in
+ * file order. At most a fixed window of records is between reading and being applied to a team,
+ * so memory use does not grow with the size of the file. Records that fail a check, or that their
+ * team refuses, are written to a rejects file as CSV with the record number and the reason.
+ */
+public final class RegistrationImporter {
+  private static final int DEFAULT_WINDOW = 256;
+  private static final String REJECTS_HEADER =
+      "record,reason,team,firstName,lastName,dateOfBirth,position,skillLevel";
+
+  /**
+   * The formats of registration files.
+   */
+  public enum Format {
+    /** Comma-separated values with a header row. */
+    CSV,
+    /** A JSON array of objects, or one JSON object per line. */
+    JSON;
+
+    /**
+     * Picks the format of a file from its extension: .csv for CSV, and .json, .jsonl or
+     * .ndjson for JSON.
+     *
+     * @param file the file
+     * @return the format of the file
+     * @throws IllegalArgumentException if the extension is not recognized
+     */
+    public static Format of(Path file) throws IllegalArgumentException {
+      String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+      if (name.endsWith(".csv")) {
+        return CSV;
+      }
+      if (name.endsWith(".json") || name.endsWith(".jsonl") || name.endsWith(".ndjson")) {
+        return JSON;
+      }
+      throw new IllegalArgumentException("Unknown registration file format: " + file);
+    }
+  }
+
+  private final LeagueModel league;
+  private final Executor checkers;
+  private final int window;
+  private final boolean registerMissingTeams;
+
+  /**
+   * Constructs a RegistrationImporter that checks records on the common fork-join pool and
+   * registers teams the league does not have yet.
+   *
+   * @param league the league to add players to
+   * @throws IllegalArgumentException if the league is null
+   */
+  public RegistrationImporter(LeagueModel league) throws IllegalArgumentException {
+    this(league, ForkJoinPool.commonPool(), DEFAULT_WINDOW, true);
+  }
+
+  /**
+   * Constructs a RegistrationImporter.
+   *
+   * @param league               the league to add players to
+   * @param checkers             runs the checks of records
+   * @param window               the most records that may be between reading and being applied
+   * @param registerMissingTeams whether to register teams the league does not have, instead of
+   *                             rejecting their records
+   * @throws IllegalArgumentException if the league or executor is null or the window is not
+   *                                  positive
+   */
+  public RegistrationImporter(LeagueModel league, Executor checkers, int window,
+                              boolean registerMissingTeams) throws IllegalArgumentException {
+    if (league == null) {
+      throw new IllegalArgumentException("League can't be null");
+    }
+    if (checkers == null) {
+      throw new IllegalArgumentException("Executor can't be null");
+    }
+    if (window <= 0) {
+      throw new IllegalArgumentException("Window must be positive.");
+    }
+    this.league = league;
+    this.checkers = checkers;
+    this.window = window;
+    this.registerMissingTeams = registerMissingTeams;
+  }
+
+  /**
+   * Imports a registration file, picking its format from its extension.
+   *
+   * @param input   the registration file
+   * @param rejects the file to write rejected records to, replaced if it exists
+   * @return the counts of what happened to the records
+   * @throws IOException              if a file can't be read or written, or the input is malformed
+   * @throws IllegalArgumentException if the input's extension is not recognized
+   */
+  public ImportResult importFile(Path input, Path rejects)
+      throws IOException, IllegalArgumentException {
+    Format format = Format.of(input);
+    try (Reader in = Files.newBufferedReader(input, StandardCharsets.UTF_8);
+         Writer out = Files.newBufferedWriter(rejects, StandardCharsets.UTF_8)) {
+      return importRecords(in, format, out);
+    }
+  }
+
+  /**
+   * Imports registrations from a stream. Returns once every record has been applied to its team
+   * and every rejected record has been written. Neither stream is closed.
+   *
+   * @param input   the registrations
+   * @param format  the format of the registrations
+   * @param rejects receives rejected records as CSV, or null to only count them
+   * @return the counts of what happened to the records
+   * @throws IOException              if a stream can't be read or written, or the input is
+   *                                  malformed; records before the malformed one are still applied
+   * @throws IllegalArgumentException if the input or format is null
+   */
+  public ImportResult importRecords(Reader input, Format format, Writer rejects)
+      throws IOException, IllegalArgumentException {
+    if (input == null || format == null) {
+      throw new IllegalArgumentException("Input and format can't be null");
+    }
+    RegistrationReader reader = format == Format.CSV
+        ? new CsvRegistrationReader(input) : new JsonRegistrationReader(input);
+    Run run = new Run(rejects);
+    try {
+      RegistrationRecord record;
+      while ((record = reader.next()) != null) {
+        run.submit(record);
+      }
+    } finally {
+      run.finish();
+    }
+    return run.result();
+  }
+
+  /**
+   * The state of one import. Only the calling thread reads records and hands them to teams;
+   * executor threads check records, and the league's threads report what the teams did.
+   */
+  private final class Run {
+    private final Semaphore permits = new Semaphore(window);
+    private final ArrayDeque<CompletableFuture<CheckedRecord>> pending = new ArrayDeque<>();
+    private final Set<String> knownTeams = new HashSet<>(league.getTeamNames());
+    private final RejectsWriter rejects;
+    private final AtomicLong added = new AtomicLong();
+    private final AtomicLong notSelected = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private long recordCount;
+
+    /**
+     * Constructs a Run.
+     *
+     * @param out receives rejected records, or null
+     * @throws IOException if the header can't be written
+     */
+    Run(Writer out) throws IOException {
+      rejects = new RejectsWriter(out);
+    }
+
+    /**
+     * Starts checking a record, first handing finished records to their teams until a slot in
+     * the window is free.
+     *
+     * @param record the record to check
+     */
+    void submit(RegistrationRecord record) {
+      while (!permits.tryAcquire()) {
+        if (pending.isEmpty()) {
+          // Every slot belongs to a player that a team has not processed yet
+          permits.acquireUninterruptibly();
+          break;
+        }
+        route(pending.poll().join());
+      }
+      recordCount++;
+      pending.add(CompletableFuture.supplyAsync(() -> check(record), checkers));
+      while (!pending.isEmpty() && pending.peek().isDone()) {
+        route(pending.poll().join());
+      }
+    }
+
+    /**
+     * Hands the remaining records to their teams and waits until the teams have processed them.
+     *
+     * @throws IOException if a rejected record could not be written
+     */
+    void finish() throws IOException {
+      while (!pending.isEmpty()) {
+        route(pending.poll().join());
+      }
+      permits.acquireUninterruptibly(window);
+      permits.release(window);
+      rejects.flush();
+    }
+
+    /**
+     * Gets the counts of the import.
+     *
+     * @return the result
+     */
+    ImportResult result() {
+      return new ImportResult(recordCount, added.get(), notSelected.get(), rejected.get());
+    }
+
+    /**
+     * Hands a checked record to its team, or rejects it. The record's slot in the window is
+     * released once the team has processed the player.
+     *
+     * @param checked the checked record
+     */
+    private void route(CheckedRecord checked) {
+      if (checked.error != null) {
+        reject(checked.record, checked.error);
+        return;
+      }
+      String team = checked.record.get(RegistrationRecord.TEAM);
+      if (!knownTeams.contains(team)) {
+        if (!registerMissingTeams) {
+          reject(checked.record, NoSuchTeamException.message(team));
+          return;
+        }
+        try {
+          league.registerTeam(team);
+        } catch (TeamExistsException e) {
+          // Registered by someone else since the import started
+        }
+        knownTeams.add(team);
+      }
+      league.addPlayerAsync(team, checked.player).whenComplete((joined, error) -> {
+        if (error != null) {
+          Throwable cause = error instanceof CompletionException && error.getCause() != null
+              ? error.getCause() : error;
+          reject(checked.record, cause.getMessage());
+        } else {
+          (joined ? added : notSelected).incrementAndGet();
+          permits.release();
+        }
+      });
+    }
+
+    /**
+     * Writes a record to the rejects file and releases its slot in the window.
+     *
+     * @param record the rejected record
+     * @param reason why it was rejected
+     */
+    private void reject(RegistrationRecord record, String reason) {
+      rejected.incrementAndGet();
+      rejects.write(record, reason);
+      permits.release();
+    }
+  }
+
+  /**
+   * Checks the fields of a record and builds its player. The team is checked first, so a record
+   * without a team is reported as such even if its player is invalid too. Any other failure
+   * while building the player is reported on the record too, so one bad row never stops the
+   * import.
+   *
+   * @param record the record to check
+   * @return the record with its player, or with the reason it is invalid
+   */
+  static CheckedRecord check(RegistrationRecord record) {
+    try {
+      required(record, RegistrationRecord.TEAM);
+      return new CheckedRecord(record, parsePlayer(record), null);
+    } catch (IllegalArgumentException e) {
+      return new CheckedRecord(record, null, e.getMessage());
+    } catch (RuntimeException e) {
+      return new CheckedRecord(record, null, "Invalid record: " + e);
+    }
+  }
+
+  /**
+   * Builds the player described by a record, ignoring its team field.
+   *
+   * @param record the record
+   * @return the player
+   * @throws IllegalArgumentException if a field is missing or invalid, or the player's age is
+   *                                  outside the allowed range
+   */
+  static TeamPlayer parsePlayer(RegistrationRecord record) throws IllegalArgumentException {
+    String firstName = required(record, RegistrationRecord.FIRST_NAME);
+    String lastName = required(record, RegistrationRecord.LAST_NAME);
+    String dateOfBirth = required(record, RegistrationRecord.DATE_OF_BIRTH);
+    Position position = parsePosition(required(record, RegistrationRecord.POSITION));
+    SkillLevel skillLevel = parseSkillLevel(required(record, RegistrationRecord.SKILL_LEVEL));
+    TeamPlayer player = new TeamPlayer(firstName, lastName, dateOfBirth, position, skillLevel);
+    if (!TeamModelImpl.isEligibleAge(player.getAge())) {
+      throw new IllegalArgumentException("Player age must be between 0 and 10.");
+    }
+    return player;
+  }
+
+  /**
+   * Gets a field that every record must have.
+   *
+   * @param record the record
+   * @param name   the name of the field
+   * @return the value of the field without surrounding whitespace
+   * @throws IllegalArgumentException if the field is missing or blank
+   */
+  private static String required(RegistrationRecord record, String name)
+      throws IllegalArgumentException {
+    String value = record.get(name);
+    if (value == null || value.isBlank()) {
+      throw new IllegalArgumentException("Missing " + name);
+    }
+    return value.trim();
+  }
+
+  /**
+   * Parses a position from its name, ignoring case.
+   *
+   * @param text the name of the position
+   * @return the position
+   * @throws IllegalArgumentException if no position has that name
+   */
+  static Position parsePosition(String text) throws IllegalArgumentException {
+    for (Position position : Position.values()) {
+      if (position.name().equalsIgnoreCase(text)) {
+        return position;
+      }
+    }
+    throw new IllegalArgumentException("Invalid position: " + text);
+  }
+
+  /**
+   * Parses a skill level from its number, such as 3, or its name, such as THREE, ignoring case.
+   *
+   * @param text the number or name of the skill level
+   * @return the skill level
+   * @throws IllegalArgumentException if no skill level matches
+   */
+  static SkillLevel parseSkillLevel(String text) throws IllegalArgumentException {
+    for (SkillLevel skillLevel : SkillLevel.values()) {
+      if (skillLevel.name().equalsIgnoreCase(text)
+          || Integer.toString(skillLevel.getLevel()).equals(text)) {
+        return skillLevel;
+      }
+    }
+    throw new IllegalArgumentException("Invalid skill level: " + text);
+  }
+
+  /**
+   * A record after its check: either the player it describes or the reason it is invalid.
+   */
+  static final class CheckedRecord {
+    final RegistrationRecord record;
+    final TeamPlayer player;
+    final String error;
+
+    /**
+     * Constructs a CheckedRecord.
+     *
+     * @param record the record that was checked
+     * @param player the player, or null if the record is invalid
+     * @param error  the reason the record is invalid, or null
+     */
+    CheckedRecord(RegistrationRecord record, TeamPlayer player, String error) {
+      this.record = record;
+      this.player = player;
+      this.error = error;
+    }
+  }
+
+  /**
+   * Writes rejected records as CSV. Writes come from the importing thread and from the league's
+   * threads, so they are synchronized, and the first failure is kept to be thrown at the end.
+   */
+  private static final class RejectsWriter {
+    private static final String[] FIELDS = {
+        RegistrationRecord.TEAM, RegistrationRecord.FIRST_NAME, RegistrationRecord.LAST_NAME,
+        RegistrationRecord.DATE_OF_BIRTH, RegistrationRecord.POSITION,
+        RegistrationRecord.SKILL_LEVEL};
+    private final Writer out;
+    private IOException failure;
+
+    /**
+     * Constructs a RejectsWriter and writes the header row.
+     *
+     * @param out the destination, or null to discard rejected records
+     * @throws IOException if the header can't be written
+     */
+    RejectsWriter(Writer out) throws IOException {
+      this.out = out == null || out instanceof BufferedWriter ? out : new BufferedWriter(out);
+      if (this.out != null) {
+        this.out.write(REJECTS_HEADER);
+        this.out.write('\n');
+      }
+    }
+
+    /**
+     * Writes one rejected record.
+     *
+     * @param record the record
+     * @param reason why it was rejected
+     */
+    synchronized void write(RegistrationRecord record, String reason) {
+      if (out == null || failure != null) {
+        return;
+      }
+      try {
+        out.write(Long.toString(record.getNumber()));
+        out.write(',');
+        out.write(quote(reason));
+        for (String field : FIELDS) {
+          out.write(',');
+          out.write(quote(record.get(field)));
+        }
+        out.write('\n');
+      } catch (IOException e) {
+        failure = e;
+      }
+    }
+
+    /**
+     * Flushes the rejected records written so far.
+     *
+     * @throws IOException if a record or the flush failed
+     */
+    synchronized void flush() throws IOException {
+      if (failure != null) {
+        throw failure;
+      }
+      if (out != null) {
+        out.flush();
+      }
+    }
+
+    /**
+     * Quotes a CSV field if it holds a comma, quote or line break.
+     *
+     * @param value the field, or null
+     * @return the field as written to the file
+     */
+    private static String quote(String value) {
+      if (value == null) {
+        return "";
+      }
+      if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+          && value.indexOf('\r') < 0) {
+        return value;
+      }
+      return '"' + value.replace("\"", "\"\"") + '"';
+    }
+  }
+}
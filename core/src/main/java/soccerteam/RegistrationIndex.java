@@ -0,0 +1,104 @@
+package soccerteam;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The RegistrationIndex class is a hash index from the {@link PlayerIdentity} of a child to the
+ * roster players registering that child, so a duplicate registration is found in constant time.
+ * It holds exactly the players on the roster: every player who joins is added and every player
+ * who is replaced is removed. More than one player can share an identity only when duplicates
+ * are allowed or flagged rather than refused.
+ */
+final class RegistrationIndex {
+  private final Map<PlayerIdentity, Object> players = new HashMap<>();
+
+  /**
+   * Finds a roster player registering the same child as the given player.
+   *
+   * @param player the player to look up
+   * @return the roster player who registered the child first, or null if there is none
+   */
+  TeamPlayer find(Player player) {
+    Object found = players.get(PlayerIdentity.of(player));
+    if (found instanceof TeamPlayer || found == null) {
+      return (TeamPlayer) found;
+    }
+    return sharing(found).get(0);
+  }
+
+  /**
+   * Finds a roster player, other than the given one, registering the same child.
+   *
+   * @param player a player on the roster
+   * @return the other roster player who registered the child first, or null if there is none
+   */
+  TeamPlayer findOther(TeamPlayer player) {
+    Object found = players.get(PlayerIdentity.of(player));
+    if (found instanceof TeamPlayer || found == null) {
+      return found == player ? null : (TeamPlayer) found;
+    }
+    for (TeamPlayer other : sharing(found)) {
+      if (other != player) {
+        return other;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Adds a player who joined the roster.
+   *
+   * @param player the player to add
+   */
+  void add(TeamPlayer player) {
+    players.merge(PlayerIdentity.of(player), player, (found, added) -> {
+      List<TeamPlayer> sharing;
+      if (found instanceof TeamPlayer) {
+        sharing = new ArrayList<>(2);
+        sharing.add((TeamPlayer) found);
+      } else {
+        sharing = sharing(found);
+      }
+      sharing.add((TeamPlayer) added);
+      return sharing;
+    });
+  }
+
+  /**
+   * Removes a player who left the roster.
+   *
+   * @param player the player to remove
+   */
+  void remove(TeamPlayer player) {
+    players.computeIfPresent(PlayerIdentity.of(player), (identity, found) -> {
+      if (found == player) {
+        return null;
+      }
+      if (found instanceof TeamPlayer) {
+        return found;
+      }
+      List<TeamPlayer> sharing = sharing(found);
+      for (int i = 0; i < sharing.size(); i++) {
+        if (sharing.get(i) == player) {
+          sharing.remove(i);
+          break;
+        }
+      }
+      return sharing.size() == 1 ? sharing.get(0) : sharing;
+    });
+  }
+
+  /**
+   * Gets the players sharing one identity.
+   *
+   * @param found the value stored for an identity held by more than one player
+   * @return the players, in the order they joined
+   */
+  @SuppressWarnings("unchecked")
+  private static List<TeamPlayer> sharing(Object found) {
+    return (List<TeamPlayer>) found;
+  }
+}
@@ -0,0 +1,19 @@
+package soccerteam;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * The RegistrationReader interface reads the records of a registration file one at a time, so
+ * that a file of any size can be imported without holding it in memory.
+ */
+interface RegistrationReader extends Closeable {
+
+  /**
+   * Reads the next record.
+   *
+   * @return the next record, or null at the end of the file
+   * @throws IOException if the file can't be read or is not in the expected format
+   */
+  RegistrationRecord next() throws IOException;
+}
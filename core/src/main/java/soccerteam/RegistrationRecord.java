@@ -0,0 +1,67 @@
+package soccerteam;
+
+import java.util.Map;
+
+/**
+ * The RegistrationRecord class holds the raw fields of one record read from a registration file,
+ * before they are checked, together with the number of the record in the file.
+ */
+final class RegistrationRecord {
+  static final String TEAM = "team";
+  static final String FIRST_NAME = "firstname";
+  static final String LAST_NAME = "lastname";
+  static final String DATE_OF_BIRTH = "dateofbirth";
+  static final String POSITION = "position";
+  static final String SKILL_LEVEL = "skilllevel";
+
+  private final long number;
+  private final Map<String, String> fields;
+
+  /**
+   * Constructs a RegistrationRecord.
+   *
+   * @param number the number of the record in the file, starting at 1
+   * @param fields the fields of the record by name, with names in lower case
+   */
+  RegistrationRecord(long number, Map<String, String> fields) {
+    this.number = number;
+    this.fields = fields;
+  }
+
+  /**
+   * Gets the number of the record in the file.
+   *
+   * @return the record number, starting at 1
+   */
+  long getNumber() {
+    return number;
+  }
+
+  /**
+   * Gets a field of the record.
+   *
+   * @param name the name of the field, in lower case
+   * @return the value of the field, or null if the record does not have it
+   */
+  String get(String name) {
+    return fields.get(name);
+  }
+
+  /**
+   * Turns a field name from a file into the form used to look it up, so that "First Name",
+   * "first_name" and "firstName" all name the same field.
+   *
+   * @param name the name as written in the file
+   * @return the name in lower case without spaces, dashes or underscores
+   */
+  static String normalizeName(String name) {
+    StringBuilder normalized = new StringBuilder(name.length());
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (c != ' ' && c != '_' && c != '-') {
+        normalized.append(Character.toLowerCase(c));
+      }
+    }
+    return normalized.toString();
+  }
+}
@@ -0,0 +1,125 @@
+package soccerteam;
+
+/**
+ * The RosterEvent class describes one change to a team: a player joining the roster, a player
+ * being replaced, a jersey number being given out, a player's starting lineup slot changing, or a
+ * player who joined being flagged as a second registration of a child already on the roster.
+ * One change to the team can produce several events, which are delivered together to every
+ * {@link RosterListener} in the order they happened.
+ *
+ * <p>A jersey number given back by a replaced player can be given to the player who replaced
+ * them in the same change. Events are ordered so that applying them one after another, keyed by
+ * jersey number, is always correct: a player leaves the roster and the lineup before a newcomer
+ * takes their number or their slot.
+ *
+ * <p>The player of an event is a copy taken when the event happened, so it can be kept without
+ * being affected by later changes.
+ */
+public final class RosterEvent {
+
+  /**
+   * The kinds of roster events.
+   */
+  public enum Type {
+    /** A player joined the roster. */
+    PLAYER_ADDED,
+    /** A player left the roster to make room for a higher skill player. */
+    PLAYER_EVICTED,
+    /** A player was given a jersey number. */
+    JERSEY_ASSIGNED,
+    /** A player entered or left the starting lineup, or moved to another position in it. */
+    LINEUP_SLOT_CHANGED,
+    /**
+     * A player joined although the same child was already on the roster, under
+     * {@link DuplicatePolicy#FLAG}.
+     */
+    DUPLICATE_FLAGGED
+  }
+
+  private final Type type;
+  private final TeamPlayer player;
+  private final Position oldSlot;
+  private final Position newSlot;
+  private final long version;
+
+  /**
+   * Constructs a RosterEvent.
+   *
+   * @param type    the kind of event
+   * @param player  a copy of the player the event is about
+   * @param oldSlot the lineup slot before the change, or null
+   * @param newSlot the lineup slot after the change, or null
+   * @param version the version of the team after the change
+   */
+  RosterEvent(Type type, TeamPlayer player, Position oldSlot, Position newSlot, long version) {
+    this.type = type;
+    this.player = player;
+    this.oldSlot = oldSlot;
+    this.newSlot = newSlot;
+    this.version = version;
+  }
+
+  /**
+   * Gets the kind of event.
+   *
+   * @return the type of the event
+   */
+  public Type getType() {
+    return type;
+  }
+
+  /**
+   * Gets a copy of the player the event is about, as they were when the event happened.
+   *
+   * @return the player
+   */
+  public TeamPlayer getPlayer() {
+    return player;
+  }
+
+  /**
+   * Gets the jersey number of the player. For a {@link Type#PLAYER_EVICTED} event it is the
+   * number the player gave back.
+   *
+   * @return the jersey number
+   */
+  public int getJerseyNumber() {
+    return player.getJerseyNumber();
+  }
+
+  /**
+   * Gets the lineup slot of the player before a {@link Type#LINEUP_SLOT_CHANGED} event.
+   *
+   * @return the old position, or null if the player was not in the starting lineup or for other
+   *         kinds of events
+   */
+  public Position getOldSlot() {
+    return oldSlot;
+  }
+
+  /**
+   * Gets the lineup slot of the player after a {@link Type#LINEUP_SLOT_CHANGED} event.
+   *
+   * @return the new position, or null if the player is no longer in the starting lineup or for
+   *         other kinds of events
+   */
+  public Position getNewSlot() {
+    return newSlot;
+  }
+
+  /**
+   * Gets the version of the team after the change that produced this event. Events delivered
+   * together share the same version.
+   *
+   * @return the version of the team
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  @Override
+  public String toString() {
+    String text = type + " " + player.getFullName() + " #" + player.getJerseyNumber();
+    return type == Type.LINEUP_SLOT_CHANGED ? text + " " + oldSlot + " -> " + newSlot : text;
+  }
+}
@@ -0,0 +1,224 @@
+package soccerteam;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The RosterIndex class holds the players of a team in an indexed binary min-heap ordered for
+ * eviction: lowest skill level first, then preferred position order, then last name, then the
+ * order in which the players joined. The next player to be replaced is always at the root, and
+ * every player knows its slot in the heap, so adding or removing any player costs O(log n).
+ * The players are also linked in the order in which they joined, so that order is read without
+ * sorting.
+ */
+final class RosterIndex {
+  private final Map<TeamPlayer, Node> nodes = new IdentityHashMap<>();
+  private Node[] heap = new Node[16];
+  private Node first;
+  private Node last;
+  private int size;
+  private long nextSequence;
+
+  /**
+   * Adds a player to the roster.
+   *
+   * @param player the player to add
+   */
+  void add(TeamPlayer player) {
+    Node node = new Node(player, nextSequence++);
+    nodes.put(player, node);
+    if (size == heap.length) {
+      heap = Arrays.copyOf(heap, size * 2);
+    }
+    node.index = size;
+    heap[size++] = node;
+    siftUp(node.index);
+    if (last == null) {
+      first = node;
+    } else {
+      last.next = node;
+      node.previous = last;
+    }
+    last = node;
+  }
+
+  /**
+   * Removes a player from the roster.
+   *
+   * @param player the player to remove
+   * @return true if the player was on the roster, false otherwise
+   */
+  boolean remove(TeamPlayer player) {
+    Node node = nodes.remove(player);
+    if (node == null) {
+      return false;
+    }
+    int index = node.index;
+    Node moved = heap[--size];
+    heap[size] = null;
+    if (index != size) {
+      heap[index] = moved;
+      moved.index = index;
+      siftDown(index);
+      siftUp(moved.index);
+    }
+    if (node.previous == null) {
+      first = node.next;
+    } else {
+      node.previous.next = node.next;
+    }
+    if (node.next == null) {
+      last = node.previous;
+    } else {
+      node.next.previous = node.previous;
+    }
+    return true;
+  }
+
+  /**
+   * Checks whether a player is on the roster.
+   *
+   * @param player the player to look for
+   * @return true if this exact player is on the roster, false otherwise
+   */
+  boolean contains(TeamPlayer player) {
+    return nodes.containsKey(player);
+  }
+
+  /**
+   * Gets the player who would be replaced first, without removing them.
+   *
+   * @return the lowest ranked player, or null if the roster is empty
+   */
+  TeamPlayer peekLowest() {
+    return size == 0 ? null : heap[0].player;
+  }
+
+  /**
+   * Gets the number of players on the roster.
+   *
+   * @return the number of players
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Gets all players on the roster in the order in which they joined.
+   *
+   * @return a new list of the players
+   */
+  List<TeamPlayer> inJoinOrder() {
+    List<TeamPlayer> players = new ArrayList<>(size);
+    for (Node node = first; node != null; node = node.next) {
+      players.add(node.player);
+    }
+    return players;
+  }
+
+  /**
+   * Finds the roster player wearing a jersey number.
+   *
+   * @param jerseyNumber the jersey number to look for
+   * @return the player wearing the number, or null if no player on the roster wears it
+   */
+  TeamPlayer findByJerseyNumber(int jerseyNumber) {
+    for (int i = 0; i < size; i++) {
+      if (heap[i].player.getJerseyNumber() == jerseyNumber) {
+        return heap[i].player;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Moves the node at the given slot up until its parent ranks lower.
+   *
+   * @param index the slot of the node
+   */
+  private void siftUp(int index) {
+    Node node = heap[index];
+    while (index > 0) {
+      int parent = (index - 1) >>> 1;
+      if (compare(heap[parent], node) <= 0) {
+        break;
+      }
+      place(heap[parent], index);
+      index = parent;
+    }
+    place(node, index);
+  }
+
+  /**
+   * Moves the node at the given slot down until both children rank higher.
+   *
+   * @param index the slot of the node
+   */
+  private void siftDown(int index) {
+    Node node = heap[index];
+    int half = size >>> 1;
+    while (index < half) {
+      int child = 2 * index + 1;
+      int right = child + 1;
+      if (right < size && compare(heap[right], heap[child]) < 0) {
+        child = right;
+      }
+      if (compare(node, heap[child]) <= 0) {
+        break;
+      }
+      place(heap[child], index);
+      index = child;
+    }
+    place(node, index);
+  }
+
+  /**
+   * Puts a node into a heap slot and records the slot on the node.
+   *
+   * @param node  the node to place
+   * @param index the slot to place it in
+   */
+  private void place(Node node, int index) {
+    heap[index] = node;
+    node.index = index;
+  }
+
+  /**
+   * Compares two nodes in eviction order.
+   *
+   * @param a the first node
+   * @param b the second node
+   * @return a negative number, zero, or a positive number as a ranks lower than, equal to, or
+   *         higher than b
+   */
+  private static int compare(Node a, Node b) {
+    int result = PlayerOrder.EVICTION.compare(a.player, b.player);
+    return result != 0 ? result : Long.compare(a.sequence, b.sequence);
+  }
+
+  /**
+   * A roster player with the order in which they joined, their current heap slot, and their
+   * neighbours in join order.
+   */
+  private static final class Node {
+    private final TeamPlayer player;
+    private final long sequence;
+    private int index;
+    private Node previous;
+    private Node next;
+
+    /**
+     * Constructs a new Node.
+     *
+     * @param player   the roster player
+     * @param sequence the order in which the player joined the roster
+     */
+    private Node(TeamPlayer player, long sequence) {
+      this.player = player;
+      this.sequence = sequence;
+    }
+  }
+}
@@ -0,0 +1,17 @@
+package soccerteam;
+
+import java.util.List;
+
+/**
+ * The RosterListener interface is notified of the changes made to a team, so views and caches
+ * can update only what changed instead of reading the whole roster again.
+ */
+public interface RosterListener {
+
+  /**
+   * Called once after every change to the team, on the thread that made the change.
+   *
+   * @param events the events of the change, in the order they happened
+   */
+  void rosterChanged(List<RosterEvent> events);
+}
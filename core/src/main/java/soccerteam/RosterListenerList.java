@@ -0,0 +1,59 @@
+package soccerteam;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The RosterListenerList class holds the listeners of a team and delivers events to them.
+ * Listeners can be added and removed from any thread, including from inside a listener.
+ */
+final class RosterListenerList {
+  private final List<RosterListener> listeners = new CopyOnWriteArrayList<>();
+
+  /**
+   * Adds a listener.
+   *
+   * @param listener the listener to add
+   * @throws IllegalArgumentException if the listener is null
+   */
+  void add(RosterListener listener) throws IllegalArgumentException {
+    if (listener == null) {
+      throw new IllegalArgumentException("Roster listener can't be null");
+    }
+    listeners.add(listener);
+  }
+
+  /**
+   * Removes a listener, if it was added.
+   *
+   * @param listener the listener to remove
+   */
+  void remove(RosterListener listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * Checks whether there are no listeners, in which case no events need to be recorded.
+   *
+   * @return true if there are no listeners, false otherwise
+   */
+  boolean isEmpty() {
+    return listeners.isEmpty();
+  }
+
+  /**
+   * Delivers the events of one change to every listener.
+   *
+   * @param events the events, which are not delivered if empty
+   */
+  void fire(List<RosterEvent> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+    List<RosterEvent> delivered = Collections.unmodifiableList(events);
+    for (RosterListener listener : listeners) {
+      listener.rosterChanged(delivered);
+    }
+  }
+}
@@ -0,0 +1,152 @@
+package soccerteam;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * The RosterPlayer class is a read-only view of one player record in a memory-mapped
+ * {@link LeagueRosterFile}. It holds only the position of the record, and reads each field from
+ * the file when it is asked for, so opening a league does not create or parse any players.
+ * Use {@link #toTeamPlayer} to get an independent TeamPlayer that can join a team.
+ */
+public final class RosterPlayer implements Player {
+  private static final int NO_POSITION = -1;
+  private static final Position[] POSITIONS = Position.values();
+  private static final SkillLevel[] SKILL_LEVELS = SkillLevel.values();
+
+  private final LeagueRosterFile file;
+  private final int record;
+
+  /**
+   * Constructs a RosterPlayer view.
+   *
+   * @param file   the roster file the record is in
+   * @param record the position of the record in the file
+   */
+  RosterPlayer(LeagueRosterFile file, int record) {
+    this.file = file;
+    this.record = record;
+  }
+
+  @Override
+  public String getFirstName() {
+    return file.string(buffer().getInt(record));
+  }
+
+  @Override
+  public String getLastName() {
+    return file.string(buffer().getInt(record + 4));
+  }
+
+  @Override
+  public String getFullName() {
+    return getFirstName() + " " + getLastName();
+  }
+
+  @Override
+  public String getDateOfBirth() {
+    return getBirthDate().toString();
+  }
+
+  @Override
+  public LocalDate getBirthDate() {
+    return LocalDate.ofEpochDay(getBirthEpochDay());
+  }
+
+  /**
+   * Gets the birth date of the player as a count of days since 1970-01-01, without creating a
+   * date object.
+   *
+   * @return the birth date as an epoch day
+   */
+  public int getBirthEpochDay() {
+    return buffer().getInt(record + 8);
+  }
+
+  @Override
+  public int getAge() {
+    return getAge(SeasonClock.getAsOfDate());
+  }
+
+  @Override
+  public int getAge(LocalDate asOfDate) {
+    return (int) ChronoUnit.YEARS.between(getBirthDate(), asOfDate);
+  }
+
+  @Override
+  public Position getPreferredPosition() throws IllegalStateException {
+    return decode(POSITIONS, 12);
+  }
+
+  @Override
+  public SkillLevel getSkillLevel() throws IllegalStateException {
+    return decode(SKILL_LEVELS, 13);
+  }
+
+  /**
+   * Gets the position the player was assigned in the starting lineup.
+   *
+   * @return the team position, or null if the player never had one
+   * @throws IllegalStateException if the record holds a position that does not exist
+   */
+  public Position getTeamPosition() throws IllegalStateException {
+    return buffer().get(record + 14) == NO_POSITION ? null : decode(POSITIONS, 14);
+  }
+
+  /**
+   * Gets the jersey number of the player.
+   *
+   * @return the jersey number, or 0 if the player had none
+   */
+  public int getJerseyNumber() {
+    return Byte.toUnsignedInt(buffer().get(record + 15));
+  }
+
+  /**
+   * Copies the player out of the file into a new TeamPlayer with the same jersey number and
+   * team position.
+   *
+   * @return a new TeamPlayer
+   */
+  public TeamPlayer toTeamPlayer() {
+    TeamPlayer player = new TeamPlayer(getFirstName(), getLastName(), getBirthDate(),
+        getPreferredPosition(), getSkillLevel());
+    player.setJerseyNumber(getJerseyNumber());
+    player.setTeamPosition(getTeamPosition());
+    return player;
+  }
+
+  @Override
+  public String toString() {
+    return getFullName() + " (Jersey #" + getJerseyNumber() + ")";
+  }
+
+  /**
+   * Gets the mapped contents of the file.
+   *
+   * @return the mapped buffer
+   */
+  private ByteBuffer buffer() {
+    return file.buffer();
+  }
+
+  /**
+   * Decodes an enum constant stored as its ordinal in one byte of the record.
+   *
+   * @param <E>    the enum type
+   * @param values the constants of the enum, in ordinal order
+   * @param field  the offset of the byte within the record
+   * @return the constant with the stored ordinal
+   * @throws IllegalStateException if the stored ordinal is not a constant of the enum, which
+   *                               means the file is corrupt
+   */
+  private <E extends Enum<E>> E decode(E[] values, int field) throws IllegalStateException {
+    int ordinal = buffer().get(record + field);
+    if (ordinal < 0 || ordinal >= values.length) {
+      throw new IllegalStateException("Corrupt league roster file: player record at " + record
+          + " holds " + values[0].getDeclaringClass().getSimpleName() + " " + ordinal);
+    }
+    return values[ordinal];
+  }
+}
@@ -0,0 +1,70 @@
+package soccerteam;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The RosterSnapshot class is an immutable view of a team at one version of its roster.
+ * A team publishes a new snapshot only after it changes, so every read in between shares the
+ * same already-sorted, unmodifiable lists instead of copying and sorting them again.
+ */
+public final class RosterSnapshot {
+  private final long version;
+  private final List<TeamPlayer> candidates;
+  private final List<TeamPlayer> players;
+  private final List<TeamPlayer> startingLineup;
+
+  /**
+   * Constructs a RosterSnapshot from lists that will never be changed afterwards.
+   *
+   * @param version        the version of the roster this snapshot was taken at
+   * @param candidates     the candidates in the order they were added
+   * @param players        the players on the team sorted by last name
+   * @param startingLineup the starting lineup sorted by team position and last name
+   */
+  RosterSnapshot(long version, List<TeamPlayer> candidates, List<TeamPlayer> players,
+                 List<TeamPlayer> startingLineup) {
+    this.version = version;
+    this.candidates = Collections.unmodifiableList(candidates);
+    this.players = Collections.unmodifiableList(players);
+    this.startingLineup = Collections.unmodifiableList(startingLineup);
+  }
+
+  /**
+   * Gets the version of the roster this snapshot was taken at. The version goes up by one every
+   * time the team changes.
+   *
+   * @return the version of the roster
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Gets the candidates for the team in the order they were added.
+   *
+   * @return an unmodifiable list of the candidates
+   */
+  public List<TeamPlayer> getCandidates() {
+    return candidates;
+  }
+
+  /**
+   * Gets the players on the team sorted by last name, whether or not the team is valid yet.
+   *
+   * @return an unmodifiable list of the players
+   */
+  public List<TeamPlayer> getAllPlayers() {
+    return players;
+  }
+
+  /**
+   * Gets the starting lineup sorted by team position and then by last name. The lineup is empty
+   * until the team has enough players.
+   *
+   * @return an unmodifiable list of the players in the starting lineup
+   */
+  public List<TeamPlayer> getStartingLineup() {
+    return startingLineup;
+  }
+}
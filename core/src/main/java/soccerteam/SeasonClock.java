@@ -0,0 +1,64 @@
+package soccerteam;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * The SeasonClock class is the shared source of the "as-of" date used to compute player ages.
+ * By default it follows the system clock, but it can be fixed to a single date, such as the
+ * season cutoff date, so that every age computed during a batch or a season is consistent and
+ * eligibility does not change while the batch is running.
+ */
+public final class SeasonClock {
+  private static volatile Clock clock = Clock.systemDefaultZone();
+
+  /**
+   * Prevents instantiation of this utility class.
+   */
+  private SeasonClock() {
+  }
+
+  /**
+   * Gets the date that player ages are currently computed at.
+   *
+   * @return the current as-of date
+   */
+  public static LocalDate getAsOfDate() {
+    return LocalDate.now(clock);
+  }
+
+  /**
+   * Fixes the as-of date, so that every age is computed at the given date until the clock is
+   * changed again.
+   *
+   * @param asOfDate the date to compute ages at
+   * @throws IllegalArgumentException if the date is null
+   */
+  public static void fixAsOfDate(LocalDate asOfDate) throws IllegalArgumentException {
+    if (asOfDate == null) {
+      throw new IllegalArgumentException("As-of date can't be null");
+    }
+    clock = Clock.fixed(asOfDate.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+  }
+
+  /**
+   * Uses the given clock to determine the as-of date.
+   *
+   * @param newClock the clock to use
+   * @throws IllegalArgumentException if the clock is null
+   */
+  public static void useClock(Clock newClock) throws IllegalArgumentException {
+    if (newClock == null) {
+      throw new IllegalArgumentException("Clock can't be null");
+    }
+    clock = newClock;
+  }
+
+  /**
+   * Goes back to computing ages at today's date according to the system clock.
+   */
+  public static void useSystemClock() {
+    clock = Clock.systemDefaultZone();
+  }
+}
@@ -0,0 +1,230 @@
+package soccerteam;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The StartingLineupEngine class keeps the starting lineup of a team up to date as players join
+ * and leave the roster. Players are kept in one ordered set per preferred position, and the
+ * {@link LineupStrategy} is given live views of those sets through
+ * {@link LineupStrategy#selectLineupByPosition}. The default {@link GreedyLineupStrategy} reads
+ * only the heads of the sets, so a change costs a few set operations instead of re-sorting or
+ * re-scanning the roster; other strategies merge the sets and see the whole roster. Only the
+ * players whose lineup slot actually changed are updated. Players with the same skill,
+ * position and last name keep the order in which they joined the roster.
+ */
+final class StartingLineupEngine {
+  private static final Position[] POSITIONS = Position.values();
+
+  private final int lineupSize;
+  private final LineupStrategy strategy;
+  private final List<NavigableSet<Entry>> byPosition = new ArrayList<>(POSITIONS.length);
+  private final List<Collection<TeamPlayer>> playersByPosition =
+      new ArrayList<>(POSITIONS.length);
+  private final Map<TeamPlayer, Entry> entries = new IdentityHashMap<>();
+  private final List<TeamPlayer> lineup = new ArrayList<>();
+  private Set<TeamPlayer> inLineup = Collections.newSetFromMap(new IdentityHashMap<>());
+  private Set<TeamPlayer> wasInLineup = Collections.newSetFromMap(new IdentityHashMap<>());
+  private long nextSequence;
+
+  /**
+   * Constructs a new StartingLineupEngine for lineups of the given size.
+   *
+   * @param lineupSize the number of players in the starting lineup
+   * @param strategy   the strategy that chooses the lineup
+   */
+  StartingLineupEngine(int lineupSize, LineupStrategy strategy) {
+    this.lineupSize = lineupSize;
+    this.strategy = strategy;
+    for (int p = 0; p < POSITIONS.length; p++) {
+      NavigableSet<Entry> entriesOfPosition = new TreeSet<>(Entry.OVERALL);
+      byPosition.add(entriesOfPosition);
+      playersByPosition.add(new PlayerView(entriesOfPosition));
+    }
+  }
+
+  /**
+   * Adds a player who joined the roster.
+   *
+   * @param player the player who joined
+   */
+  void add(TeamPlayer player) {
+    Entry entry = new Entry(player, nextSequence++);
+    entries.put(player, entry);
+    byPosition.get(player.getPreferredPosition().ordinal()).add(entry);
+  }
+
+  /**
+   * Removes a player who left the roster.
+   *
+   * @param player the player who left
+   */
+  void remove(TeamPlayer player) {
+    Entry entry = entries.remove(player);
+    if (entry != null) {
+      byPosition.get(player.getPreferredPosition().ordinal()).remove(entry);
+    }
+  }
+
+  /**
+   * Brings the starting lineup up to date with the current roster, assigning a team position to
+   * every player whose slot changed. Players who drop out of the lineup keep their last team
+   * position.
+   *
+   * @param listener told about every player who entered or left the lineup or moved to another
+   *                 position in it, or null if nobody needs to know
+   * @throws IllegalStateException if the strategy chose a lineup that breaks the position limits
+   *                               or the lineup size, or chose a player who is not on the roster
+   */
+  void refresh(SlotChangeListener listener) throws IllegalStateException {
+    Map<TeamPlayer, Position> chosen =
+        strategy.selectLineupByPosition(Collections.unmodifiableList(playersByPosition),
+            lineupSize);
+    if (chosen == null || chosen.size() > lineupSize) {
+      throw new IllegalStateException("Lineup strategy chose too many players.");
+    }
+    int[] counts = new int[POSITIONS.length];
+    for (Map.Entry<TeamPlayer, Position> choice : chosen.entrySet()) {
+      Position slot = choice.getValue();
+      if (slot == null || ++counts[slot.ordinal()] > slot.getMaxPlayers()) {
+        throw new IllegalStateException("Lineup strategy chose too many players: " + slot);
+      }
+      if (!entries.containsKey(choice.getKey())) {
+        throw new IllegalStateException("Lineup strategy chose a player not on the roster.");
+      }
+    }
+    apply(chosen, listener);
+  }
+
+  /**
+   * Makes the chosen players the starting lineup, updating the team position of every player
+   * whose slot changed.
+   *
+   * @param chosen   the chosen players with their slots, in lineup order
+   * @param listener told about every slot change, or null
+   */
+  private void apply(Map<TeamPlayer, Position> chosen, SlotChangeListener listener) {
+    Set<TeamPlayer> previous = inLineup;
+    inLineup = wasInLineup;
+    wasInLineup = previous;
+    inLineup.clear();
+    inLineup.addAll(chosen.keySet());
+    // Players leaving are reported first, since a newcomer may wear a leaving player's number
+    if (listener != null) {
+      for (TeamPlayer player : lineup) {
+        if (!inLineup.contains(player)) {
+          listener.slotChanged(player, player.getTeamPosition(), null);
+        }
+      }
+    }
+    lineup.clear();
+    for (Map.Entry<TeamPlayer, Position> choice : chosen.entrySet()) {
+      TeamPlayer player = choice.getKey();
+      Position slot = choice.getValue();
+      lineup.add(player);
+      // A lineup player's team position is their slot; anyone else had no slot
+      Position oldSlot = wasInLineup.contains(player) ? player.getTeamPosition() : null;
+      if (player.getTeamPosition() != slot) {
+        player.setTeamPosition(slot);
+      }
+      if (listener != null && oldSlot != slot) {
+        listener.slotChanged(player, oldSlot, slot);
+      }
+    }
+  }
+
+  /**
+   * Gets the players of the current starting lineup, those in their preferred position first.
+   *
+   * @return an unmodifiable view of the starting lineup
+   */
+  List<TeamPlayer> getLineup() {
+    return Collections.unmodifiableList(lineup);
+  }
+
+  /**
+   * The SlotChangeListener interface is told when a player's starting lineup slot changes.
+   */
+  interface SlotChangeListener {
+
+    /**
+     * Called after a player's slot changed.
+     *
+     * @param player  the player, who may have left the roster
+     * @param oldSlot the slot before the change, or null if the player was not in the lineup
+     * @param newSlot the slot after the change, or null if the player left the lineup
+     */
+    void slotChanged(TeamPlayer player, Position oldSlot, Position newSlot);
+  }
+
+  /**
+   * A roster player together with the order in which they joined the roster.
+   */
+  private static final class Entry {
+    private static final Comparator<Entry> OVERALL = (a, b) -> {
+      int result = PlayerOrder.SELECTION.compare(a.player, b.player);
+      return result != 0 ? result : Long.compare(a.sequence, b.sequence);
+    };
+
+    private final TeamPlayer player;
+    private final long sequence;
+
+    /**
+     * Constructs a new Entry.
+     *
+     * @param player   the roster player
+     * @param sequence the order in which the player joined the roster
+     */
+    private Entry(TeamPlayer player, long sequence) {
+      this.player = player;
+      this.sequence = sequence;
+    }
+  }
+
+  /**
+   * A live view of the players in one position set, in selection order. It can't be changed.
+   */
+  private static final class PlayerView extends AbstractCollection<TeamPlayer> {
+    private final NavigableSet<Entry> entries;
+
+    /**
+     * Constructs a new PlayerView.
+     *
+     * @param entries the position set to view
+     */
+    private PlayerView(NavigableSet<Entry> entries) {
+      this.entries = entries;
+    }
+
+    @Override
+    public Iterator<TeamPlayer> iterator() {
+      Iterator<Entry> iterator = entries.iterator();
+      return new Iterator<TeamPlayer>() {
+        @Override
+        public boolean hasNext() {
+          return iterator.hasNext();
+        }
+
+        @Override
+        public TeamPlayer next() {
+          return iterator.next().player;
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return entries.size();
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package soccerteam;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * The StoredPlayer class is a lightweight view of one player in a {@link PlayerStore}. It holds
+ * only the store and the player's index, and reads every attribute from the store's columns, so
+ * changes made through the store are visible through the view.
+ */
+public final class StoredPlayer implements Player {
+  private final PlayerStore store;
+  private final int index;
+
+  /**
+   * Constructs a StoredPlayer view.
+   *
+   * @param store the store the player is in
+   * @param index the index of the player in the store
+   */
+  StoredPlayer(PlayerStore store, int index) {
+    this.store = store;
+    this.index = index;
+  }
+
+  /**
+   * Gets the index of the player in the store.
+   *
+   * @return the index of the player
+   */
+  public int getIndex() {
+    return index;
+  }
+
+  @Override
+  public String getFirstName() {
+    return store.getFirstName(index);
+  }
+
+  @Override
+  public String getLastName() {
+    return store.getLastName(index);
+  }
+
+  @Override
+  public String getFullName() {
+    return getFirstName() + " " + getLastName();
+  }
+
+  @Override
+  public String getDateOfBirth() {
+    return getBirthDate().toString();
+  }
+
+  @Override
+  public LocalDate getBirthDate() {
+    return store.getBirthDate(index);
+  }
+
+  @Override
+  public int getAge() {
+    return getAge(SeasonClock.getAsOfDate());
+  }
+
+  @Override
+  public int getAge(LocalDate asOfDate) {
+    return (int) ChronoUnit.YEARS.between(getBirthDate(), asOfDate);
+  }
+
+  @Override
+  public Position getPreferredPosition() {
+    return store.getPreferredPosition(index);
+  }
+
+  @Override
+  public SkillLevel getSkillLevel() {
+    return store.getSkillLevel(index);
+  }
+
+  /**
+   * Gets the position the player was assigned in the starting lineup.
+   *
+   * @return the team position, or null if the player has none
+   */
+  public Position getTeamPosition() {
+    return store.getTeamPosition(index);
+  }
+
+  /**
+   * Gets the jersey number of the player.
+   *
+   * @return the jersey number, or 0 if the player has none
+   */
+  public int getJerseyNumber() {
+    return store.getJerseyNumber(index);
+  }
+
+  /**
+   * Copies the player out of the store into a new TeamPlayer.
+   *
+   * @return a new TeamPlayer
+   */
+  public TeamPlayer toTeamPlayer() {
+    return store.toTeamPlayer(index);
+  }
+
+  @Override
+  public String toString() {
+    return getFullName() + " (Jersey #" + getJerseyNumber() + ")";
+  }
+}
@@ -0,0 +1,39 @@
+package soccerteam;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The TaskExecutors class creates the executors the user interfaces run model calls on.
+ * The project is built for Java 17, so virtual threads are looked up at run time and used only
+ * when the running JDK has them.
+ */
+public final class TaskExecutors {
+
+  /**
+   * Prevents instantiation.
+   */
+  private TaskExecutors() {
+  }
+
+  /**
+   * Creates an executor that runs every task on a new virtual thread when the running JDK has
+   * them, and otherwise on a cached pool of daemon platform threads.
+   *
+   * @param threadName the name of the platform threads, if they are used
+   * @return a new executor
+   */
+  public static ExecutorService newThreadPerTaskExecutor(String threadName) {
+    try {
+      return (ExecutorService) Executors.class
+          .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      // Older JDK, or a security manager or module setup that refuses the lookup
+      return Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, threadName);
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+  }
+}
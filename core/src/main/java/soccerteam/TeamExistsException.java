@@ -0,0 +1,31 @@
+package soccerteam;
+
+/**
+ * The TeamExistsException class is thrown when a team is registered under a name the league
+ * already has. It is an {@link IllegalArgumentException}, so callers that only know the
+ * {@link LeagueModel} contract can keep treating it as an invalid argument.
+ */
+public class TeamExistsException extends IllegalArgumentException {
+  private static final long serialVersionUID = 1L;
+
+  private final String teamName;
+
+  /**
+   * Constructs a TeamExistsException.
+   *
+   * @param teamName the name of the team that is already registered
+   */
+  public TeamExistsException(String teamName) {
+    super("Team already exists: " + teamName);
+    this.teamName = teamName;
+  }
+
+  /**
+   * Gets the name of the team that is already registered.
+   *
+   * @return the team name
+   */
+  public String getTeamName() {
+    return teamName;
+  }
+}
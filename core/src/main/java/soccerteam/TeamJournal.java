@@ -0,0 +1,307 @@
+package soccerteam;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * The TeamJournal class is an append-only binary log of the changes made to one team. Each
+ * record holds the players who joined in one change, the jersey numbers they were given, and
+ * the players they replaced, guarded by a length and a CRC32 checksum. When the journal is
+ * opened, the records are read back and a record left half-written by a crash is cut off.
+ *
+ * <p>Records are forced to disk in groups: with a group size of n, the journal calls
+ * {@link FileChannel#force} once for every n records, so several changes share the cost of one
+ * sync. A group size of 1 syncs every change, and 0 leaves syncing to {@link #sync} and
+ * {@link #close}.
+ */
+final class TeamJournal implements Closeable {
+  private static final int MAGIC = 0x55313041;
+  private static final int FORMAT_VERSION = 1;
+  private static final int HEADER_SIZE = 8;
+  private static final int RECORD_HEADER_SIZE = 8;
+
+  private final FileChannel channel;
+  private final int syncEvery;
+  private final List<Record> recovered;
+  private int recordCount;
+  private int unsynced;
+
+  /**
+   * Opens the journal in the given file, creating it if needed, and reads back its records.
+   *
+   * @param file      the journal file
+   * @param syncEvery the number of records to write between syncs, or 0 to sync only on request
+   * @throws IOException if the file can't be opened or is not a team journal
+   */
+  TeamJournal(Path file, int syncEvery) throws IOException {
+    this.syncEvery = syncEvery;
+    channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE);
+    try {
+      if (channel.size() == 0) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(FORMAT_VERSION).flip();
+        writeFully(header, 0);
+        channel.force(true);
+      } else {
+        readHeader(file);
+      }
+      recovered = Collections.unmodifiableList(readRecords());
+      recordCount = recovered.size();
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Gets the records that were in the journal when it was opened, oldest first.
+   *
+   * @return the recovered records
+   */
+  List<Record> getRecovered() {
+    return recovered;
+  }
+
+  /**
+   * Gets the number of records in the journal.
+   *
+   * @return the number of records
+   */
+  int getRecordCount() {
+    return recordCount;
+  }
+
+  /**
+   * Appends a record to the end of the journal, syncing it if its group is complete.
+   *
+   * @param record the record to append
+   * @throws IOException if the record can't be written
+   */
+  void append(Record record) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    out.writeLong(record.sequence);
+    out.writeShort(record.players.size());
+    for (int i = 0; i < record.players.size(); i++) {
+      PlayerCodec.write(out, record.players.get(i));
+      out.writeShort(record.evictedJerseys[i]);
+    }
+    byte[] payload = bytes.toByteArray();
+    CRC32 crc = new CRC32();
+    crc.update(payload);
+
+    ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_SIZE + payload.length);
+    buffer.putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+    writeFully(buffer, channel.size());
+    recordCount++;
+    unsynced++;
+    if (syncEvery > 0 && unsynced >= syncEvery) {
+      sync();
+    }
+  }
+
+  /**
+   * Forces every record written so far to disk.
+   *
+   * @throws IOException if the records can't be synced
+   */
+  void sync() throws IOException {
+    if (unsynced > 0) {
+      channel.force(false);
+      unsynced = 0;
+    }
+  }
+
+  /**
+   * Removes every record, once they are all covered by a snapshot.
+   *
+   * @throws IOException if the journal can't be truncated
+   */
+  void clear() throws IOException {
+    channel.truncate(HEADER_SIZE);
+    channel.force(true);
+    recordCount = 0;
+    unsynced = 0;
+  }
+
+  /**
+   * Syncs and closes the journal.
+   *
+   * @throws IOException if the journal can't be synced or closed
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      sync();
+    } finally {
+      channel.close();
+    }
+  }
+
+  /**
+   * Checks the header of an existing journal.
+   *
+   * @param file the journal file, for error messages
+   * @throws IOException if the file is not a journal in this format
+   */
+  private void readHeader(Path file) throws IOException {
+    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    if (channel.read(header, 0) < HEADER_SIZE) {
+      throw new IOException("Not a team journal: " + file);
+    }
+    header.flip();
+    if (header.getInt() != MAGIC || header.getInt() != FORMAT_VERSION) {
+      throw new IOException("Not a team journal: " + file);
+    }
+  }
+
+  /**
+   * Reads every complete record, and cuts off anything after the last one.
+   *
+   * @return the complete records in the journal
+   * @throws IOException if the journal can't be read
+   */
+  private List<Record> readRecords() throws IOException {
+    List<Record> records = new ArrayList<>();
+    long size = channel.size();
+    long position = HEADER_SIZE;
+    ByteBuffer recordHeader = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+    while (position + RECORD_HEADER_SIZE <= size) {
+      recordHeader.clear();
+      readFully(recordHeader, position);
+      int length = recordHeader.getInt(0);
+      int checksum = recordHeader.getInt(4);
+      if (length < 0 || position + RECORD_HEADER_SIZE + length > size) {
+        break;
+      }
+      ByteBuffer payload = ByteBuffer.allocate(length);
+      readFully(payload, position + RECORD_HEADER_SIZE);
+      CRC32 crc = new CRC32();
+      crc.update(payload.array());
+      if ((int) crc.getValue() != checksum) {
+        break;
+      }
+      records.add(decode(payload.array()));
+      position += RECORD_HEADER_SIZE + length;
+    }
+    if (position < size) {
+      channel.truncate(position);
+      channel.force(true);
+    }
+    return records;
+  }
+
+  /**
+   * Decodes the payload of a record.
+   *
+   * @param payload the payload bytes
+   * @return the record
+   * @throws IOException if the payload is corrupt
+   */
+  private static Record decode(byte[] payload) throws IOException {
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+    long sequence = in.readLong();
+    int count = in.readUnsignedShort();
+    List<TeamPlayer> players = new ArrayList<>(count);
+    int[] evictedJerseys = new int[count];
+    for (int i = 0; i < count; i++) {
+      players.add(PlayerCodec.read(in));
+      evictedJerseys[i] = in.readUnsignedShort();
+    }
+    return new Record(sequence, players, evictedJerseys);
+  }
+
+  /**
+   * Writes all of a buffer at a position in the file.
+   *
+   * @param buffer   the bytes to write
+   * @param position the file position to write at
+   * @throws IOException if the bytes can't be written
+   */
+  private void writeFully(ByteBuffer buffer, long position) throws IOException {
+    while (buffer.hasRemaining()) {
+      position += channel.write(buffer, position);
+    }
+  }
+
+  /**
+   * Fills a buffer from a position in the file.
+   *
+   * @param buffer   the buffer to fill
+   * @param position the file position to read from
+   * @throws IOException if the file ends first or can't be read
+   */
+  private void readFully(ByteBuffer buffer, long position) throws IOException {
+    while (buffer.hasRemaining()) {
+      int read = channel.read(buffer, position);
+      if (read < 0) {
+        throw new IOException("Unexpected end of journal");
+      }
+      position += read;
+    }
+  }
+
+  /**
+   * One change to a team: the players who joined, in order, with the jersey numbers of the
+   * players they replaced.
+   */
+  static final class Record {
+    private final long sequence;
+    private final List<TeamPlayer> players;
+    private final int[] evictedJerseys;
+
+    /**
+     * Constructs a new Record.
+     *
+     * @param sequence       the number of the change, counting from 1 for the team
+     * @param players        the players who joined, with their jersey numbers and the team
+     *                       positions they had before joining
+     * @param evictedJerseys for each player, the jersey number of the player they replaced, or 0
+     */
+    Record(long sequence, List<TeamPlayer> players, int[] evictedJerseys) {
+      this.sequence = sequence;
+      this.players = players;
+      this.evictedJerseys = evictedJerseys;
+    }
+
+    /**
+     * Gets the number of the change.
+     *
+     * @return the sequence number
+     */
+    long getSequence() {
+      return sequence;
+    }
+
+    /**
+     * Gets the players who joined.
+     *
+     * @return the joining players
+     */
+    List<TeamPlayer> getPlayers() {
+      return players;
+    }
+
+    /**
+     * Gets the jersey numbers of the players who were replaced.
+     *
+     * @return for each joining player, the replaced jersey number, or 0
+     */
+    int[] getEvictedJerseys() {
+      return evictedJerseys;
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package soccerteam;
+
+/**
+ * The TeamMetrics class times team operations and reports them to the installed
+ * {@link MetricsSink}. No sink is installed by default. Without one, timing an operation costs a
+ * single read of a volatile field: the clock is not read and nothing is recorded.
+ *
+ * <p>An operation is timed by calling {@link #start} before it and {@link #stop} with the
+ * returned timer after it. Operations that end with an exception are not recorded.
+ */
+public final class TeamMetrics {
+  private static volatile MetricsSink sink;
+
+  /**
+   * Prevents instantiation of this utility class.
+   */
+  private TeamMetrics() {
+  }
+
+  /**
+   * Installs the sink that receives every measured operation, replacing the current one.
+   *
+   * @param newSink the sink to install, or null to stop measuring
+   */
+  public static void setSink(MetricsSink newSink) {
+    sink = newSink;
+  }
+
+  /**
+   * Gets the installed sink.
+   *
+   * @return the installed sink, or null if operations are not measured
+   */
+  public static MetricsSink getSink() {
+    return sink;
+  }
+
+  /**
+   * Starts timing an operation.
+   *
+   * @return the timer to pass to {@link #stop}, or null if the operation is not measured
+   */
+  public static OperationTimer start() {
+    MetricsSink current = sink;
+    return current == null ? null : current.startTimer();
+  }
+
+  /**
+   * Finishes timing an operation and reports it to the sink that started the timer. Nothing is
+   * reported if the operation was not measured.
+   *
+   * @param operation the operation
+   * @param timer     the value returned by {@link #start}
+   */
+  public static void stop(TeamOperation operation, OperationTimer timer) {
+    if (timer != null) {
+      timer.stop(operation);
+    }
+  }
+
+  /**
+   * The default timer of a sink, which reads the clock when it starts and when it stops.
+   */
+  static final class ClockTimer implements OperationTimer {
+    private final MetricsSink sink;
+    private final long start;
+
+    /**
+     * Starts a new ClockTimer.
+     *
+     * @param sink the sink to report the operation to
+     */
+    ClockTimer(MetricsSink sink) {
+      this.sink = sink;
+      this.start = System.nanoTime();
+    }
+
+    @Override
+    public void stop(TeamOperation operation) {
+      sink.record(operation, System.nanoTime() - start);
+    }
+  }
+}
@@ -0,0 +1,131 @@
+package soccerteam;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The TeamModel interface represents the model of a soccer team.
+ * It provides methods to add a player to the team, retrieve all players,
+ * and get the starting lineup.
+ */
+public interface TeamModel {
+
+  /**
+   * Adds a player to the team. The method may also update the starting lineup if necessary.
+   *
+   * @param player the player to be added to the team
+   * @return true if the player was successfully added, false otherwise
+   * @throws IllegalArgumentException if the player is not eligible to join the team
+   * @throws IllegalStateException    if the team is invalid to select Starting Lineup
+   *                             or if all positions are full when assigning a player to a position
+   */
+  boolean addPlayer(TeamPlayer player) throws IllegalArgumentException, IllegalStateException;
+
+  /**
+   * Gets the number of players currently on the team, whether or not the team is valid yet.
+   *
+   * @return the number of players on the team
+   */
+  int getPlayerCount();
+
+  /**
+   * Checks whether the team has enough players to be valid, so that its starting lineup can be
+   * read.
+   *
+   * @return true if the team has at least the minimum number of players, false otherwise
+   */
+  boolean isValid();
+
+  /**
+   * Adds several players to the team in the given order and selects the starting lineup once at
+   * the end. Every player is checked before any of them is added, so if one player is not
+   * eligible, none are added. The roster, jersey numbers, candidates and starting lineup end up
+   * the same as after calling addPlayer for each player in turn, except that candidates who
+   * replaced another player are recorded with their team position in the final lineup.
+   *
+   * @param players the players to be added to the team, in order
+   * @return what happened to each player, in the same order
+   * @throws IllegalArgumentException if any player is not eligible to join the team or appears
+   *                                  more than once, or if two players register the same child
+   *                                  and duplicates are refused
+   * @throws IllegalStateException    if the team is invalid to select Starting Lineup
+   */
+  List<AddPlayerResult> addPlayers(Collection<TeamPlayer> players)
+      throws IllegalArgumentException, IllegalStateException;
+
+  /**
+   * Retrieves the candidates for the team.
+   *
+   * @return a list of players who are candidates for the team
+   */
+  List<TeamPlayer> getCandidates();
+
+  /**
+   * Retrieves one page of the candidates for the team, oldest first.
+   *
+   * @param offset the offset of the first candidate to return
+   * @param limit  the maximum number of candidates to return
+   * @return a list of at most limit candidates starting at offset
+   * @throws IllegalArgumentException if the offset or limit is negative
+   */
+  List<TeamPlayer> getCandidates(int offset, int limit) throws IllegalArgumentException;
+
+  /**
+   * Gets the number of candidates that can currently be retrieved.
+   *
+   * @return the number of candidates
+   */
+  int getCandidateCount();
+
+  /**
+   * Returns an iterator over the candidates for the team, oldest first, that does not copy the
+   * whole history into a list.
+   *
+   * @return an iterator over the candidates
+   */
+  Iterator<TeamPlayer> candidateIterator();
+
+  /**
+   * Retrieves all players on the team.
+   *
+   * @return a list of all players on the team
+   * @throws IllegalStateException if the team is invalid
+   */
+  List<TeamPlayer> getAllPlayers() throws IllegalStateException;
+
+  /**
+   * Retrieves the starting lineup for the team.
+   *
+   * @return a list of players in the starting lineup
+   * @throws IllegalStateException if the team is invalid
+   */
+  List<TeamPlayer> getStartingLineup() throws IllegalStateException;
+
+  /**
+   * Finds the players on the team that match a query, using indexes kept up to date as players
+   * join and leave instead of looking at every player. The team does not need to be valid yet.
+   *
+   * @param query the conditions the players must meet
+   * @return copies of the matching players sorted by last name
+   * @throws IllegalArgumentException if the query is null
+   */
+  List<TeamPlayer> findPlayers(PlayerQuery query) throws IllegalArgumentException;
+
+  /**
+   * Registers a listener that is told about every change to the team: players added and
+   * replaced, jersey numbers given out, and starting lineup slots changed. The listener is called
+   * after the change is complete, on the thread that made it.
+   *
+   * @param listener the listener to add
+   * @throws IllegalArgumentException if the listener is null
+   */
+  void addRosterListener(RosterListener listener) throws IllegalArgumentException;
+
+  /**
+   * Unregisters a listener. Nothing happens if the listener was not registered.
+   *
+   * @param listener the listener to remove
+   */
+  void removeRosterListener(RosterListener listener);
+}
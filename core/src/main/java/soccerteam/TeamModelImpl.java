@@ -0,0 +1,676 @@
+package soccerteam;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * The TeamModelImpl class implements the TeamModel interface and represents a soccer team.
+ * It manages the players in the team, handles the starting lineup, and provides team information.
+ */
+public class TeamModelImpl implements TeamModel {
+  private static final int MINIMUM_AGE = 0;
+  static final int MAXIMUM_AGE = 10;
+  static final int MINIMUM_PLAYERS = 10;
+  static final int MAXIMUM_PLAYERS = 20;
+  private static final int STARTING_LINEUP_SIZE = 7;
+  private final CandidateLog candidates;
+  private final RosterIndex players;
+  private final PlayerQueryIndex queryIndex = new PlayerQueryIndex();
+  private final RegistrationIndex registrations = new RegistrationIndex();
+  private final DuplicatePolicy duplicatePolicy;
+  private final StartingLineupEngine lineupEngine;
+  private final JerseyNumberAllocator jerseyNumbers;
+  private final RosterListenerList listeners = new RosterListenerList();
+  private final StartingLineupEngine.SlotChangeListener slotChanges = (player, oldSlot, newSlot)
+      -> record(RosterEvent.Type.LINEUP_SLOT_CHANGED, player, oldSlot, newSlot);
+  private List<RosterEvent> events = new ArrayList<>();
+  private long version;
+  private RosterSnapshot snapshot;
+
+  /**
+   * Constructs a new TeamModelImpl object that assigns random jersey numbers from 1 to 20.
+   */
+  public TeamModelImpl() {
+    this(new JerseyNumberAllocator(1, MAXIMUM_PLAYERS, new Random()));
+  }
+
+  /**
+   * Constructs a new TeamModelImpl object that assigns jersey numbers with the given allocator
+   * and keeps every candidate.
+   *
+   * @param jerseyNumbers the allocator of jersey numbers, with all of its numbers free
+   * @throws IllegalArgumentException if the allocator is null, has numbers in use, or has fewer
+   *                                  numbers than the maximum team size
+   */
+  public TeamModelImpl(JerseyNumberAllocator jerseyNumbers) throws IllegalArgumentException {
+    this(jerseyNumbers, new CandidateLog());
+  }
+
+  /**
+   * Constructs a new TeamModelImpl object that assigns jersey numbers with the given allocator
+   * and records candidates in the given log.
+   *
+   * @param jerseyNumbers the allocator of jersey numbers, with all of its numbers free
+   * @param candidates    the empty log to record candidates in, which decides how many are kept
+   * @throws IllegalArgumentException if the allocator is null, has numbers in use, or has fewer
+   *                                  numbers than the maximum team size, or if the log is null
+   *                                  or not empty
+   */
+  public TeamModelImpl(JerseyNumberAllocator jerseyNumbers, CandidateLog candidates)
+      throws IllegalArgumentException {
+    this(jerseyNumbers, candidates, new GreedyLineupStrategy());
+  }
+
+  /**
+   * Constructs a new TeamModelImpl object that assigns jersey numbers with the given allocator,
+   * records candidates in the given log, and chooses the starting lineup with the given
+   * strategy.
+   *
+   * @param jerseyNumbers the allocator of jersey numbers, with all of its numbers free
+   * @param candidates    the empty log to record candidates in, which decides how many are kept
+   * @param strategy      the strategy that chooses the starting lineup
+   * @throws IllegalArgumentException if the allocator is null, has numbers in use, or has fewer
+   *                                  numbers than the maximum team size, or if the log is null
+   *                                  or not empty, or if the strategy is null
+   */
+  public TeamModelImpl(JerseyNumberAllocator jerseyNumbers, CandidateLog candidates,
+                       LineupStrategy strategy) throws IllegalArgumentException {
+    this(jerseyNumbers, candidates, strategy, DuplicatePolicy.ALLOW);
+  }
+
+  /**
+   * Constructs a new TeamModelImpl object that assigns jersey numbers with the given allocator,
+   * records candidates in the given log, chooses the starting lineup with the given strategy,
+   * and handles a second registration of a child already on the roster with the given policy.
+   *
+   * @param jerseyNumbers   the allocator of jersey numbers, with all of its numbers free
+   * @param candidates      the empty log to record candidates in, which decides how many are kept
+   * @param strategy        the strategy that chooses the starting lineup
+   * @param duplicatePolicy what to do with a player who is already on the roster
+   * @throws IllegalArgumentException if the allocator is null, has numbers in use, or has fewer
+   *                                  numbers than the maximum team size, if the log is null or
+   *                                  not empty, or if the strategy or the policy is null
+   */
+  public TeamModelImpl(JerseyNumberAllocator jerseyNumbers, CandidateLog candidates,
+                       LineupStrategy strategy, DuplicatePolicy duplicatePolicy)
+      throws IllegalArgumentException {
+    if (duplicatePolicy == null) {
+      throw new IllegalArgumentException("Duplicate policy can't be null");
+    }
+    if (strategy == null) {
+      throw new IllegalArgumentException("Lineup strategy can't be null");
+    }
+    if (candidates == null || candidates.getTotalCount() != 0) {
+      throw new IllegalArgumentException("Candidate log must be empty.");
+    }
+    if (jerseyNumbers == null) {
+      throw new IllegalArgumentException("Jersey number allocator can't be null");
+    }
+    if (jerseyNumbers.getAvailableCount() < MAXIMUM_PLAYERS
+        || jerseyNumbers.getAvailableCount() != jerseyNumbers.getCapacity()) {
+      throw new IllegalArgumentException(
+          "Jersey number allocator must have at least 20 free numbers and none in use.");
+    }
+    this.jerseyNumbers = jerseyNumbers;
+    this.candidates = candidates;
+    this.duplicatePolicy = duplicatePolicy;
+    players = new RosterIndex();
+    lineupEngine = new StartingLineupEngine(STARTING_LINEUP_SIZE, strategy);
+  }
+
+  @Override
+  public boolean addPlayer(TeamPlayer player) throws IllegalArgumentException {
+    OperationTimer timer = TeamMetrics.start();
+    validateNewPlayer(player);
+    AddPlayerResult result = placePlayer(player);
+    if (result.isAdded()) {
+      if (players.size() >= MINIMUM_PLAYERS) {
+        selectStartingLineup();
+      }
+      if (result.getOutcome() == AddPlayerResult.Outcome.REPLACED) {
+        candidates.append(copyPlayer(player));
+      }
+      markChanged();
+    }
+    TeamMetrics.stop(operationOf(result), timer);
+    return result.isAdded();
+  }
+
+  @Override
+  public List<AddPlayerResult> addPlayers(Collection<TeamPlayer> newPlayers)
+      throws IllegalArgumentException, IllegalStateException {
+    OperationTimer timer = TeamMetrics.start();
+    if (newPlayers == null) {
+      throw new IllegalArgumentException("Players can't be null");
+    }
+    Set<TeamPlayer> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+    Set<PlayerIdentity> children = duplicatePolicy == DuplicatePolicy.REJECT
+        ? new HashSet<>() : null;
+    for (TeamPlayer player : newPlayers) {
+      validateNewPlayer(player);
+      if (!seen.add(player)) {
+        throw new IllegalArgumentException("Player appears more than once: "
+            + player.getFullName());
+      }
+      if (children != null && !children.add(PlayerIdentity.of(player))) {
+        throw new IllegalArgumentException("Player is registered more than once: "
+            + player.getFullName());
+      }
+    }
+
+    List<AddPlayerResult> results = new ArrayList<>(newPlayers.size());
+    List<TeamPlayer> replacements = new ArrayList<>();
+    boolean changed = false;
+    for (TeamPlayer player : newPlayers) {
+      AddPlayerResult result = placePlayer(player);
+      results.add(result);
+      changed |= result.isAdded();
+      if (result.getOutcome() == AddPlayerResult.Outcome.REPLACED) {
+        replacements.add(player);
+      }
+    }
+    if (changed) {
+      if (players.size() >= MINIMUM_PLAYERS) {
+        selectStartingLineup();
+      }
+      for (TeamPlayer player : replacements) {
+        candidates.append(copyPlayer(player));
+      }
+      markChanged();
+    }
+    for (int i = 0; i < results.size(); i++) {
+      results.set(i, copyDuplicate(results.get(i)));
+    }
+    TeamMetrics.stop(TeamOperation.ADD_PLAYERS, timer);
+    return results;
+  }
+
+  /**
+   * Checks whether a player of the given age may play on a team.
+   *
+   * @param age the age of the player
+   * @return true if the age is inside the allowed range
+   */
+  static boolean isEligibleAge(int age) {
+    return age >= MINIMUM_AGE && age < MAXIMUM_AGE;
+  }
+
+  /**
+   * Gets the policy for a second registration of a child already on the roster.
+   *
+   * @return the duplicate policy of the team
+   */
+  public DuplicatePolicy getDuplicatePolicy() {
+    return duplicatePolicy;
+  }
+
+  /**
+   * Checks that a player may try to join the team.
+   *
+   * @param player the player to check
+   * @throws IllegalArgumentException if the player is null, has an age outside the allowed range,
+   *                                  or is already on the team, or if the same child is on the
+   *                                  team and duplicates are refused
+   */
+  private void validateNewPlayer(TeamPlayer player) throws IllegalArgumentException {
+    if (player == null) {
+      throw new IllegalArgumentException("Player can't be null");
+    }
+    if (!isEligibleAge(player.getAge())) {
+      throw new IllegalArgumentException("Player age must be between 0 and 10.");
+    }
+    if (players.contains(player)) {
+      throw new IllegalArgumentException("Player is already on the team.");
+    }
+    if (duplicatePolicy == DuplicatePolicy.REJECT && registrations.find(player) != null) {
+      throw new IllegalArgumentException("Player is already registered: "
+          + player.getFullName());
+    }
+  }
+
+  /**
+   * Puts a player on the roster, either in an open spot or in place of the lowest skill player.
+   * A player who takes an open spot is recorded as a candidate right away. The caller updates
+   * the lineup, and records the candidate after a replacement, so that the recorded copy carries
+   * the player's new team position.
+   *
+   * <p>A player registering a child already on the roster is merged into them or flagged,
+   * depending on the duplicate policy. Refused duplicates never get here. A player who replaced
+   * the only other registration of their child is not a duplicate any more, and is not flagged.
+   * The merged player is left as it was passed in. The result holds the registered player itself,
+   * so the caller must copy it with {@link #copyDuplicate} once the lineup is up to date.
+   *
+   * @param player the player to place
+   * @return the outcome of placing the player
+   */
+  private AddPlayerResult placePlayer(TeamPlayer player) {
+    TeamPlayer registered = duplicatePolicy == DuplicatePolicy.MERGE
+        || duplicatePolicy == DuplicatePolicy.FLAG ? registrations.find(player) : null;
+    if (registered != null && duplicatePolicy == DuplicatePolicy.MERGE) {
+      return new AddPlayerResult(player, AddPlayerResult.Outcome.MERGED, null, registered);
+    }
+    AddPlayerResult.Outcome outcome;
+    TeamPlayer replaced = null;
+    if (players.size() < MAXIMUM_PLAYERS) {
+      players.add(player);
+      queryIndex.add(player);
+      registrations.add(player);
+      lineupEngine.add(player);
+      assignJerseyNumber(player);
+      recordJoin(player);
+      candidates.append(copyPlayer(player));
+      outcome = AddPlayerResult.Outcome.ADDED;
+    } else {
+      replaced = replaceLowestSkillPlayer(player);
+      outcome = replaced == null
+          ? AddPlayerResult.Outcome.REJECTED : AddPlayerResult.Outcome.REPLACED;
+    }
+    if (registered != null && outcome != AddPlayerResult.Outcome.REJECTED) {
+      registered = registrations.findOther(player);
+      if (registered != null) {
+        record(RosterEvent.Type.DUPLICATE_FLAGGED, player, null, null);
+        return new AddPlayerResult(player, outcome, replaced, registered);
+      }
+    }
+    return new AddPlayerResult(player, outcome, replaced);
+  }
+
+  /**
+   * Replaces the registered player in a result from {@link #placePlayer} with a copy, so the
+   * caller sees the jersey number and team position the player has after the lineup update and
+   * can't change the roster through the result.
+   *
+   * @param result the result of placing a player
+   * @return the result with a copy of the registered player, or the result itself if the player
+   *         is not a duplicate
+   */
+  private AddPlayerResult copyDuplicate(AddPlayerResult result) {
+    if (result.getDuplicateOf() == null) {
+      return result;
+    }
+    return new AddPlayerResult(result.getPlayer(), result.getOutcome(),
+        result.getReplacedPlayer(), copyPlayer(result.getDuplicateOf()));
+  }
+
+  /**
+   * Replaces the lowest skill level player in the team with a new player if the new player has a
+   * higher skill level.
+   *
+   * @param newPlayer the new player to add to the team
+   * @return the player who was replaced, or null if the new player was not added
+   */
+  private TeamPlayer replaceLowestSkillPlayer(TeamPlayer newPlayer) {
+    TeamPlayer lowestSkillPlayer = players.peekLowest();
+
+    if (lowestSkillPlayer != null
+        && newPlayer.getSkillLevel().compareTo(lowestSkillPlayer.getSkillLevel()) > 0) {
+      players.remove(lowestSkillPlayer);
+      queryIndex.remove(lowestSkillPlayer);
+      registrations.remove(lowestSkillPlayer);
+      jerseyNumbers.release(lowestSkillPlayer.getJerseyNumber());
+      lineupEngine.remove(lowestSkillPlayer);
+      record(RosterEvent.Type.PLAYER_EVICTED, lowestSkillPlayer, null, null);
+      players.add(newPlayer);
+      queryIndex.add(newPlayer);
+      registrations.add(newPlayer);
+      lineupEngine.add(newPlayer);
+      assignJerseyNumber(newPlayer);
+      recordJoin(newPlayer);
+      return lowestSkillPlayer;
+    }
+    return null;
+  }
+
+  /**
+   * Assigns a unique jersey number to the player.
+   *
+   * @param player the player to assign a jersey number to
+   * @throws IllegalStateException if no available jersey numbers are found
+   */
+  private void assignJerseyNumber(TeamPlayer player) {
+    OperationTimer timer = TeamMetrics.start();
+    player.setJerseyNumber(jerseyNumbers.allocate());
+    TeamMetrics.stop(TeamOperation.ASSIGN_JERSEY_NUMBER, timer);
+  }
+
+  /**
+   * Gets the operation to report for adding a player.
+   *
+   * @param result what happened to the player
+   * @return the measured operation matching the outcome
+   */
+  private static TeamOperation operationOf(AddPlayerResult result) {
+    switch (result.getOutcome()) {
+      case ADDED:
+        return TeamOperation.ADD_PLAYER_FILL;
+      case REPLACED:
+        return TeamOperation.ADD_PLAYER_REPLACE;
+      case MERGED:
+        return TeamOperation.ADD_PLAYER_MERGED;
+      default:
+        return TeamOperation.ADD_PLAYER_REJECTED;
+    }
+  }
+
+  /**
+   * Selects the starting lineup based on the players' skill levels and preferred positions.
+   * The starting lineup is limited to a predefined size.
+   * @throws IllegalStateException if the team is not valid
+   */
+  private void selectStartingLineup() throws IllegalStateException {
+    OperationTimer timer = TeamMetrics.start();
+    validateTeam();
+    lineupEngine.refresh(listeners.isEmpty() ? null : slotChanges);
+    TeamMetrics.stop(TeamOperation.SELECT_STARTING_LINEUP, timer);
+  }
+
+  /**
+   * Creates a deep copy of a player.
+   *
+   * @param player the player to copy
+   * @return a copy of the player
+   */
+  private TeamPlayer copyPlayer(TeamPlayer player) {
+    TeamPlayer copy = new TeamPlayer(player.getFirstName(), player.getLastName(),
+        player.getDateOfBirth(), player.getPreferredPosition(), player.getSkillLevel());
+    copy.setJerseyNumber(player.getJerseyNumber());
+    copy.setTeamPosition(player.getTeamPosition());
+    return copy;
+  }
+
+  @Override
+  public int getPlayerCount() {
+    return players.size();
+  }
+
+  @Override
+  public boolean isValid() {
+    return players.size() >= MINIMUM_PLAYERS;
+  }
+
+  @Override
+  public List<TeamPlayer> getCandidates() {
+    OperationTimer timer = TeamMetrics.start();
+    List<TeamPlayer> result = getSnapshot().getCandidates();
+    TeamMetrics.stop(TeamOperation.GET_CANDIDATES, timer);
+    return result;
+  }
+
+  @Override
+  public List<TeamPlayer> getCandidates(int offset, int limit) throws IllegalArgumentException {
+    return candidates.page(offset, limit);
+  }
+
+  @Override
+  public int getCandidateCount() {
+    return candidates.size();
+  }
+
+  @Override
+  public Iterator<TeamPlayer> candidateIterator() {
+    return candidates.iterator();
+  }
+
+  @Override
+  public List<TeamPlayer> getAllPlayers() throws IllegalStateException {
+    OperationTimer timer = TeamMetrics.start();
+    validateTeam();
+    List<TeamPlayer> result = getSnapshot().getAllPlayers();
+    TeamMetrics.stop(TeamOperation.GET_ALL_PLAYERS, timer);
+    return result;
+  }
+
+  @Override
+  public List<TeamPlayer> getStartingLineup() throws IllegalStateException {
+    OperationTimer timer = TeamMetrics.start();
+    validateTeam();
+    List<TeamPlayer> result = getSnapshot().getStartingLineup();
+    TeamMetrics.stop(TeamOperation.GET_STARTING_LINEUP, timer);
+    return result;
+  }
+
+  @Override
+  public List<TeamPlayer> findPlayers(PlayerQuery query) throws IllegalArgumentException {
+    if (query == null) {
+      throw new IllegalArgumentException("Query can't be null");
+    }
+    OperationTimer timer = TeamMetrics.start();
+    List<TeamPlayer> result = copyPlayers(PlayerOrder.LAST_NAME.sort(queryIndex.find(query)));
+    TeamMetrics.stop(TeamOperation.FIND_PLAYERS, timer);
+    return result;
+  }
+
+  @Override
+  public void addRosterListener(RosterListener listener) throws IllegalArgumentException {
+    listeners.add(listener);
+  }
+
+  @Override
+  public void removeRosterListener(RosterListener listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * Gets an immutable snapshot of the team at its current version. The same snapshot, and the
+   * same unmodifiable lists inside it, are returned until the team changes again.
+   *
+   * @return the snapshot of the current roster
+   */
+  public RosterSnapshot getSnapshot() {
+    RosterSnapshot current = snapshot;
+    if (current == null) {
+      OperationTimer timer = TeamMetrics.start();
+      List<TeamPlayer> lineup = new ArrayList<>(lineupEngine.getLineup());
+      lineup.sort(PlayerComparators.byTeamPosition()
+          .thenComparing(PlayerComparators.byLastName()));
+      current = new RosterSnapshot(version, candidates.view(),
+          copyPlayers(PlayerOrder.LAST_NAME.sort(players.inJoinOrder())), copyPlayers(lineup));
+      snapshot = current;
+      TeamMetrics.stop(TeamOperation.BUILD_SNAPSHOT, timer);
+    }
+    return current;
+  }
+
+  /**
+   * Gets copies of the players on the roster in the order in which they joined, which is the
+   * order that {@link #restore} needs to rebuild the same team.
+   *
+   * @return copies of the roster players in join order
+   */
+  List<TeamPlayer> getPlayersInJoinOrder() {
+    return copyPlayers(players.inJoinOrder());
+  }
+
+  /**
+   * Rebuilds a saved team on this new, empty team without re-running the selection rules.
+   * The roster players must already carry their jersey numbers and team positions.
+   *
+   * @param roster     the roster players in the order in which they joined
+   * @param candidates the saved candidates, oldest first
+   * @throws IllegalStateException if this team is not empty, the roster is too large, or two
+   *                               players share a jersey number
+   */
+  void restore(List<TeamPlayer> roster, List<TeamPlayer> candidates)
+      throws IllegalStateException {
+    if (players.size() != 0 || this.candidates.getTotalCount() != 0) {
+      throw new IllegalStateException("Only an empty team can be restored.");
+    }
+    if (roster.size() > MAXIMUM_PLAYERS) {
+      throw new IllegalStateException("Saved roster has more than 20 players.");
+    }
+    for (TeamPlayer player : roster) {
+      claimJerseyNumber(player);
+      players.add(player);
+      queryIndex.add(player);
+      registrations.add(player);
+      lineupEngine.add(player);
+      recordJoin(player);
+    }
+    for (TeamPlayer candidate : candidates) {
+      this.candidates.append(candidate);
+    }
+    if (players.size() >= MINIMUM_PLAYERS) {
+      selectStartingLineup();
+    }
+    markChanged();
+  }
+
+  /**
+   * Applies one saved change to the team, as recorded when it was first made. Every joining
+   * player already carries the jersey number they were given, and the player they replaced is
+   * identified by jersey number, so nothing is validated or decided again.
+   *
+   * @param joined         the players who joined, in the order they joined
+   * @param evictedJerseys for each joining player, the jersey number of the player they
+   *                       replaced, or 0 if they took an open spot
+   * @throws IllegalStateException if the change does not fit the current roster
+   */
+  void replay(List<TeamPlayer> joined, int[] evictedJerseys) throws IllegalStateException {
+    List<TeamPlayer> replacements = new ArrayList<>();
+    for (int i = 0; i < joined.size(); i++) {
+      TeamPlayer player = joined.get(i);
+      if (evictedJerseys[i] != 0) {
+        TeamPlayer evicted = findByJerseyNumber(evictedJerseys[i]);
+        players.remove(evicted);
+        queryIndex.remove(evicted);
+        registrations.remove(evicted);
+        jerseyNumbers.release(evicted.getJerseyNumber());
+        lineupEngine.remove(evicted);
+        record(RosterEvent.Type.PLAYER_EVICTED, evicted, null, null);
+        replacements.add(player);
+      } else if (players.size() >= MAXIMUM_PLAYERS) {
+        throw new IllegalStateException("Saved change adds a player to a full roster.");
+      }
+      claimJerseyNumber(player);
+      players.add(player);
+      queryIndex.add(player);
+      registrations.add(player);
+      lineupEngine.add(player);
+      recordJoin(player);
+      if (evictedJerseys[i] == 0) {
+        candidates.append(copyPlayer(player));
+      }
+    }
+    if (players.size() >= MINIMUM_PLAYERS) {
+      selectStartingLineup();
+    }
+    for (TeamPlayer player : replacements) {
+      candidates.append(copyPlayer(player));
+    }
+    markChanged();
+  }
+
+  /**
+   * Marks the jersey number a saved player already carries as used.
+   *
+   * @param player the saved player
+   * @throws IllegalStateException if the number is out of range or already in use
+   */
+  private void claimJerseyNumber(TeamPlayer player) throws IllegalStateException {
+    try {
+      jerseyNumbers.claim(player.getJerseyNumber());
+    } catch (IllegalArgumentException e) {
+      throw new IllegalStateException("Saved jersey number can't be used: "
+          + player.getJerseyNumber(), e);
+    }
+  }
+
+  /**
+   * Finds the roster player wearing a jersey number.
+   *
+   * @param jerseyNumber the jersey number to look for
+   * @return the player wearing the number
+   * @throws IllegalStateException if no player on the roster wears the number
+   */
+  private TeamPlayer findByJerseyNumber(int jerseyNumber) throws IllegalStateException {
+    TeamPlayer player = players.findByJerseyNumber(jerseyNumber);
+    if (player == null) {
+      throw new IllegalStateException("No player on the roster wears number " + jerseyNumber);
+    }
+    return player;
+  }
+
+  /**
+   * Records that the team changed, so the next read publishes a new snapshot, and tells the
+   * listeners what changed.
+   */
+  private void markChanged() {
+    version++;
+    snapshot = null;
+    if (!events.isEmpty()) {
+      List<RosterEvent> changed = events;
+      events = new ArrayList<>();
+      listeners.fire(changed);
+    }
+  }
+
+  /**
+   * Records the events of a player joining the roster with their jersey number.
+   *
+   * @param player the player who joined
+   */
+  private void recordJoin(TeamPlayer player) {
+    record(RosterEvent.Type.PLAYER_ADDED, player, null, null);
+    record(RosterEvent.Type.JERSEY_ASSIGNED, player, null, null);
+  }
+
+  /**
+   * Records an event of the change being made, to be delivered once the change is complete.
+   * Nothing is recorded while there are no listeners.
+   *
+   * @param type    the kind of event
+   * @param player  the player the event is about
+   * @param oldSlot the lineup slot before the change, or null
+   * @param newSlot the lineup slot after the change, or null
+   */
+  private void record(RosterEvent.Type type, TeamPlayer player, Position oldSlot,
+                      Position newSlot) {
+    if (!listeners.isEmpty()) {
+      events.add(new RosterEvent(type, copyPlayer(player), oldSlot, newSlot, version + 1));
+    }
+  }
+
+  /**
+   * Creates deep copies of a list of players.
+   *
+   * @param source the players to copy
+   * @return a new list with a copy of each player in the same order
+   */
+  private List<TeamPlayer> copyPlayers(List<TeamPlayer> source) {
+    List<TeamPlayer> copies = new ArrayList<>(source.size());
+    for (TeamPlayer player : source) {
+      copies.add(copyPlayer(player));
+    }
+    return copies;
+  }
+
+  /**
+   * Validates the team to ensure it has the correct number of players.
+   *
+   * @throws IllegalStateException if the team size is invalid
+   */
+  private void validateTeam() throws IllegalStateException {
+    validateTeamSize(players.size());
+  }
+
+  /**
+   * Validates that a team of the given size has the correct number of players.
+   *
+   * @param size the number of players on the team
+   * @throws IllegalStateException if the team size is invalid
+   */
+  static void validateTeamSize(int size) throws IllegalStateException {
+    if (size < MINIMUM_PLAYERS
+        || size > MAXIMUM_PLAYERS) {
+      throw new IllegalStateException(
+          "Team is not valid. Please ensure there are between 10 and 20 players.");
+    }
+  }
+}
\ No newline at end of file
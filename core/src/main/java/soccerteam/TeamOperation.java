@@ -0,0 +1,38 @@
+package soccerteam;
+
+/**
+ * The TeamOperation enum lists the operations whose latency is reported to a
+ * {@link MetricsSink}.
+ */
+public enum TeamOperation {
+  /** addPlayer that put the player in an open spot. */
+  ADD_PLAYER_FILL,
+  /** addPlayer that put the player in place of the lowest skill player. */
+  ADD_PLAYER_REPLACE,
+  /** addPlayer that turned the player away because the roster was full. */
+  ADD_PLAYER_REJECTED,
+  /** addPlayer that merged the player into the same child already on the roster. */
+  ADD_PLAYER_MERGED,
+  /** addPlayers, for the whole batch. */
+  ADD_PLAYERS,
+  /** Choosing the starting lineup after the roster changed. */
+  SELECT_STARTING_LINEUP,
+  /** Giving a joining player a jersey number. */
+  ASSIGN_JERSEY_NUMBER,
+  /** Copying and sorting the roster, lineup and candidates into a new snapshot. */
+  BUILD_SNAPSHOT,
+  /** getAllPlayers, including building a snapshot if the team changed. */
+  GET_ALL_PLAYERS,
+  /** getStartingLineup, including building a snapshot if the team changed. */
+  GET_STARTING_LINEUP,
+  /** getCandidates, including building a snapshot if the team changed. */
+  GET_CANDIDATES,
+  /** findPlayers, answered from the secondary indexes. */
+  FIND_PLAYERS,
+  /** A controller adding a player and formatting the new candidate rows. */
+  CONTROLLER_ADD_PLAYER,
+  /** A controller reading all players and working out the changed rows. */
+  CONTROLLER_SHOW_ALL_PLAYERS,
+  /** A controller reading the starting lineup and working out the changed rows. */
+  CONTROLLER_SHOW_STARTING_LINEUP
+}
@@ -0,0 +1,29 @@
+package soccerteam;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The TeamOperationEvent class is the JDK Flight Recorder event that {@link JfrMetricsSink}
+ * commits for every measured team operation. The event is the operation's timer: it is begun
+ * when the operation starts, and its duration is the latency of the operation.
+ */
+@Name("soccerteam.TeamOperation")
+@Label("Team Operation")
+@Category("Soccer Team")
+@Description("A measured operation of a team model or team controller")
+@StackTrace(false)
+final class TeamOperationEvent extends Event implements OperationTimer {
+  @Label("Operation")
+  String operation;
+
+  @Override
+  public void stop(TeamOperation operation) {
+    this.operation = operation.name();
+    commit();
+  }
+}
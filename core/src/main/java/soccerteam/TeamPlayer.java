@@ -1,5 +1,7 @@
 package soccerteam;
 
+import java.time.LocalDate;
+
 /**
  * The TeamPlayer class extends the BasePlayer class and represents a player in a soccer team.
  * It includes additional attributes such as the player's jersey number and the position they
@@ -25,6 +27,20 @@ public class TeamPlayer extends BasePlayer {
     this.teamPosition = null;
   }
 
+  /**
+   * Constructs a TeamPlayer object from a birth date that has already been parsed.
+   *
+   * @param firstName         the first name of the player
+   * @param lastName          the last name of the player
+   * @param birthDate         the birth date of the player
+   * @param preferredPosition the preferred position of the player
+   * @param skillLevel        the skill level of the player
+   */
+  TeamPlayer(String firstName, String lastName, LocalDate birthDate,
+             Position preferredPosition, SkillLevel skillLevel) {
+    super(firstName, lastName, birthDate, preferredPosition, skillLevel);
+  }
+
   /**
    * Gets the jersey number of the player.
    *
@@ -0,0 +1,188 @@
+package soccerteam;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * The TeamSnapshotFile class saves the roster and lineup state of one team in a single binary
+ * file: the roster in join order, the jersey numbers of the starting lineup, and the number of
+ * candidates saved in the team's {@link CandidateFile}. A new snapshot is written to a temporary
+ * file, synced, and then moved over the old one, so the file always holds either the old
+ * snapshot or the new one.
+ */
+final class TeamSnapshotFile {
+  private static final int MAGIC = 0x55313053;
+  private static final int FORMAT_VERSION = 2;
+
+  private final long sequence;
+  private final List<TeamPlayer> roster;
+  private final int[] lineupJerseys;
+  private final long candidateCount;
+
+  /**
+   * Constructs a new TeamSnapshotFile.
+   *
+   * @param sequence       the number of the last change included in the snapshot
+   * @param roster         the roster players in the order in which they joined
+   * @param lineupJerseys  the jersey numbers of the starting lineup
+   * @param candidateCount the number of candidates in the candidate file
+   */
+  TeamSnapshotFile(long sequence, List<TeamPlayer> roster, int[] lineupJerseys,
+                   long candidateCount) {
+    this.sequence = sequence;
+    this.roster = roster;
+    this.lineupJerseys = lineupJerseys;
+    this.candidateCount = candidateCount;
+  }
+
+  /**
+   * Gets the number of the last change included in the snapshot.
+   *
+   * @return the sequence number
+   */
+  long getSequence() {
+    return sequence;
+  }
+
+  /**
+   * Gets the roster players in the order in which they joined.
+   *
+   * @return the roster players
+   */
+  List<TeamPlayer> getRoster() {
+    return roster;
+  }
+
+  /**
+   * Gets the jersey numbers of the starting lineup.
+   *
+   * @return the lineup jersey numbers
+   */
+  int[] getLineupJerseys() {
+    return lineupJerseys;
+  }
+
+  /**
+   * Gets the number of candidates in the candidate file when the snapshot was written.
+   *
+   * @return the number of saved candidates
+   */
+  long getCandidateCount() {
+    return candidateCount;
+  }
+
+  /**
+   * Writes this snapshot over the given file.
+   *
+   * @param file the snapshot file
+   * @throws IOException if the snapshot can't be written
+   */
+  void write(Path file) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    out.writeInt(MAGIC);
+    out.writeInt(FORMAT_VERSION);
+    out.writeLong(sequence);
+    writePlayers(out, roster);
+    out.writeShort(lineupJerseys.length);
+    for (int jersey : lineupJerseys) {
+      out.writeShort(jersey);
+    }
+    out.writeLong(candidateCount);
+    CRC32 crc = new CRC32();
+    crc.update(bytes.toByteArray());
+    out.writeInt((int) crc.getValue());
+
+    Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+    try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(true);
+    }
+    Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * Reads a snapshot written by {@link #write}.
+   *
+   * @param file the snapshot file
+   * @return the snapshot
+   * @throws IOException if the file can't be read or is corrupt
+   */
+  static TeamSnapshotFile read(Path file) throws IOException {
+    byte[] bytes = Files.readAllBytes(file);
+    if (bytes.length < 4) {
+      throw new IOException("Corrupt team snapshot: " + file);
+    }
+    CRC32 crc = new CRC32();
+    crc.update(bytes, 0, bytes.length - 4);
+    if ((int) crc.getValue() != ByteBuffer.wrap(bytes, bytes.length - 4, 4).getInt()) {
+      throw new IOException("Corrupt team snapshot: " + file);
+    }
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+    if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+      throw new IOException("Not a team snapshot: " + file);
+    }
+    long sequence = in.readLong();
+    List<TeamPlayer> roster = readPlayers(in);
+    int[] lineupJerseys = new int[in.readUnsignedShort()];
+    for (int i = 0; i < lineupJerseys.length; i++) {
+      lineupJerseys[i] = in.readUnsignedShort();
+    }
+    long candidateCount = in.readLong();
+    if (candidateCount < 0) {
+      throw new IOException("Corrupt team snapshot: negative candidate count");
+    }
+    return new TeamSnapshotFile(sequence, roster, lineupJerseys, candidateCount);
+  }
+
+  /**
+   * Writes a counted list of players.
+   *
+   * @param out     the output to write to
+   * @param players the players to write
+   * @throws IOException if the players can't be written
+   */
+  private static void writePlayers(DataOutputStream out, List<TeamPlayer> players)
+      throws IOException {
+    out.writeInt(players.size());
+    for (TeamPlayer player : players) {
+      PlayerCodec.write(out, player);
+    }
+  }
+
+  /**
+   * Reads a counted list of players.
+   *
+   * @param in the input to read from
+   * @return the players
+   * @throws IOException if the players can't be read
+   */
+  private static List<TeamPlayer> readPlayers(DataInputStream in) throws IOException {
+    int count = in.readInt();
+    if (count < 0) {
+      throw new IOException("Corrupt team snapshot: negative player count");
+    }
+    List<TeamPlayer> players = new ArrayList<>(Math.min(count, 1024));
+    for (int i = 0; i < count; i++) {
+      players.add(PlayerCodec.read(in));
+    }
+    return players;
+  }
+}
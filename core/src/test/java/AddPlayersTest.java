@@ -0,0 +1,159 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import soccerteam.AddPlayerResult;
+import soccerteam.JerseyNumberAllocator;
+import soccerteam.Position;
+import soccerteam.SkillLevel;
+import soccerteam.TeamModelImpl;
+import soccerteam.TeamPlayer;
+
+/**
+ * Unit tests for {@link TeamModelImpl#addPlayers}.
+ */
+public class AddPlayersTest {
+  private static final String BIRTH_DATE = LocalDate.now().minusYears(7).toString();
+  private static final String[] LAST_NAMES = {"Adams", "Brown", "Clark", "Davis"};
+
+  /**
+   * Creates the same random players every time it is called with the same seed.
+   *
+   * @param seed  the seed of the random players
+   * @param count the number of players
+   * @return the new players
+   */
+  private static List<TeamPlayer> randomPlayers(long seed, int count) {
+    Random random = new Random(seed);
+    List<TeamPlayer> players = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      players.add(new TeamPlayer("P" + i, LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+          BIRTH_DATE, Position.values()[random.nextInt(Position.values().length)],
+          SkillLevel.values()[random.nextInt(SkillLevel.values().length)]));
+    }
+    return players;
+  }
+
+  /**
+   * Describes a list of players by name, jersey number and, optionally, team position.
+   *
+   * @param players       the players to describe
+   * @param withPositions whether to include team positions
+   * @return one description per player
+   */
+  private static List<String> describe(List<TeamPlayer> players, boolean withPositions) {
+    List<String> descriptions = new ArrayList<>();
+    for (TeamPlayer player : players) {
+      descriptions.add(player.getFirstName() + "#" + player.getJerseyNumber()
+          + (withPositions ? "@" + player.getTeamPosition() : ""));
+    }
+    return descriptions;
+  }
+
+  /**
+   * Tests random batches, split in chunks, against the same players added one at a time.
+   */
+  @Test
+  public void testBatchMatchesSequentialAdds() {
+    for (long seed = 1; seed <= 100; seed++) {
+      TeamModelImpl sequential = new TeamModelImpl(new JerseyNumberAllocator(1, 20, seed));
+      TeamModelImpl batched = new TeamModelImpl(new JerseyNumberAllocator(1, 20, seed));
+      List<TeamPlayer> first = randomPlayers(seed, 60);
+      List<TeamPlayer> second = randomPlayers(seed, 60);
+
+      List<Boolean> expected = new ArrayList<>();
+      for (TeamPlayer player : first) {
+        expected.add(sequential.addPlayer(player));
+      }
+      List<AddPlayerResult> results = new ArrayList<>();
+      results.addAll(batched.addPlayers(second.subList(0, 7)));
+      results.addAll(batched.addPlayers(second.subList(7, 60)));
+
+      for (int i = 0; i < expected.size(); i++) {
+        assertEquals(expected.get(i), results.get(i).isAdded());
+        assertSame(second.get(i), results.get(i).getPlayer());
+      }
+      assertEquals(describe(sequential.getAllPlayers(), false),
+          describe(batched.getAllPlayers(), false));
+      assertEquals(describe(sequential.getStartingLineup(), true),
+          describe(batched.getStartingLineup(), true));
+      assertEquals(describe(sequential.getCandidates(), false),
+          describe(batched.getCandidates(), false));
+    }
+  }
+
+  /**
+   * Tests that each result names the player who was replaced.
+   */
+  @Test
+  public void testResultsNameReplacedPlayers() {
+    TeamModelImpl team = new TeamModelImpl(new JerseyNumberAllocator(1, 20, 1L));
+    List<TeamPlayer> batch = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      batch.add(new TeamPlayer("P" + i, "L" + i, BIRTH_DATE, Position.DEFENDER,
+          i == 0 ? SkillLevel.ONE : SkillLevel.THREE));
+    }
+    TeamPlayer star = new TeamPlayer("Star", "S", BIRTH_DATE, Position.GOALIE, SkillLevel.FIVE);
+    TeamPlayer weak = new TeamPlayer("Weak", "W", BIRTH_DATE, Position.GOALIE, SkillLevel.TWO);
+    batch.add(star);
+    batch.add(weak);
+
+    List<AddPlayerResult> results = team.addPlayers(batch);
+    assertEquals(AddPlayerResult.Outcome.ADDED, results.get(0).getOutcome());
+    assertNull(results.get(0).getReplacedPlayer());
+    assertEquals(AddPlayerResult.Outcome.REPLACED, results.get(20).getOutcome());
+    assertSame(batch.get(0), results.get(20).getReplacedPlayer());
+    assertEquals(AddPlayerResult.Outcome.REJECTED, results.get(21).getOutcome());
+    assertFalse(results.get(21).isAdded());
+    assertEquals(21, team.getCandidateCount());
+    assertEquals(7, team.getStartingLineup().size());
+  }
+
+  /**
+   * Tests that an ineligible player anywhere in the batch stops the whole batch before any
+   * player is added.
+   */
+  @Test
+  public void testInvalidPlayerRejectsWholeBatch() {
+    TeamModelImpl team = new TeamModelImpl();
+    List<TeamPlayer> batch = randomPlayers(3L, 12);
+    batch.add(new TeamPlayer("Old", "Player", LocalDate.now().minusYears(12).toString(),
+        Position.FORWARD, SkillLevel.TWO));
+    try {
+      team.addPlayers(batch);
+      fail("Expected an IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      assertEquals(0, team.getPlayerCount());
+      assertEquals(0, team.getCandidateCount());
+    }
+  }
+
+  /**
+   * Tests that the same player twice in one batch throws an {@link IllegalArgumentException}.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testDuplicatePlayerInBatch() {
+    TeamPlayer player = new TeamPlayer("A", "B", BIRTH_DATE, Position.GOALIE, SkillLevel.ONE);
+    new TeamModelImpl().addPlayers(List.of(player, player));
+  }
+
+  /**
+   * Tests that a batch that leaves the team below the minimum does not select a lineup.
+   */
+  @Test
+  public void testSmallBatch() {
+    TeamModelImpl team = new TeamModelImpl();
+    List<AddPlayerResult> results = team.addPlayers(randomPlayers(5L, 5));
+    assertEquals(5, results.size());
+    assertTrue(results.stream().allMatch(AddPlayerResult::isAdded));
+    assertEquals(5, team.getPlayerCount());
+  }
+}
@@ -2,10 +2,12 @@ import static org.junit.Assert.assertEquals;
 
 import java.time.LocalDate;
 import java.time.Period;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import soccerteam.BasePlayer;
 import soccerteam.Position;
+import soccerteam.SeasonClock;
 import soccerteam.SkillLevel;
 
 /**
@@ -23,6 +25,14 @@ public class BasePlayerTest {
         Position.MIDFIELDER, SkillLevel.FIVE);
   }
 
+  /**
+   * Restores the system clock as the source of the as-of date.
+   */
+  @After
+  public void tearDown() {
+    SeasonClock.useSystemClock();
+  }
+
   /**
    * Tests the getFirstName() method to ensure it returns the correct first name.
    */
@@ -49,6 +59,43 @@ public class BasePlayerTest {
     assertEquals(expectedAge, player.getAge());
   }
 
+  /**
+   * Tests the getAge(LocalDate) method around the player's birthday.
+   */
+  @Test
+  public void testGetAgeAsOfDate() {
+    assertEquals(8, player.getAge(LocalDate.of(2019, 5, 14)));
+    assertEquals(9, player.getAge(LocalDate.of(2019, 5, 15)));
+    assertEquals(0, player.getAge(LocalDate.of(2010, 5, 15)));
+  }
+
+  /**
+   * Tests that getAge() uses the fixed as-of date of the {@link SeasonClock}.
+   */
+  @Test
+  public void testGetAgeWithFixedSeasonClock() {
+    SeasonClock.fixAsOfDate(LocalDate.of(2020, 5, 14));
+    assertEquals(9, player.getAge());
+    SeasonClock.fixAsOfDate(LocalDate.of(2020, 5, 15));
+    assertEquals(10, player.getAge());
+  }
+
+  /**
+   * Tests the getBirthDate() method to ensure it returns the parsed date of birth.
+   */
+  @Test
+  public void testGetBirthDate() {
+    assertEquals(LocalDate.of(2010, 5, 15), player.getBirthDate());
+  }
+
+  /**
+   * Tests that an invalid date of birth is rejected when the player is created.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructorWithInvalidDate() {
+    new BasePlayer("Jane", "Doe", "2015/09/08", Position.DEFENDER, SkillLevel.FIVE);
+  }
+
   /**
    * Tests the getPreferredPosition() method to ensure it returns the correct preferred position.
    */
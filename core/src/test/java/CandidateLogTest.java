@@ -0,0 +1,154 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import soccerteam.CandidateLog;
+import soccerteam.JerseyNumberAllocator;
+import soccerteam.Position;
+import soccerteam.SkillLevel;
+import soccerteam.TeamModelImpl;
+import soccerteam.TeamPlayer;
+
+/**
+ * Unit tests for the {@link CandidateLog} class, exercised through {@link TeamModelImpl}.
+ */
+public class CandidateLogTest {
+  private static final String BIRTH_DATE = LocalDate.now().minusYears(8).toString();
+  private TeamModelImpl team;
+
+  /**
+   * Sets up the test environment by creating a team that keeps every candidate.
+   */
+  @Before
+  public void setUp() {
+    team = new TeamModelImpl();
+  }
+
+  /**
+   * Adds players with increasing skill so that every add is accepted, even on a full team.
+   *
+   * @param model the team to add to
+   * @param count the number of players to add
+   */
+  private static void addPlayers(TeamModelImpl model, int count) {
+    for (int i = 0; i < count; i++) {
+      SkillLevel skill = i < 20 ? SkillLevel.ONE : SkillLevel.values()[1 + (i - 20) / 20 % 4];
+      model.addPlayer(new TeamPlayer("P" + i, "L" + i, BIRTH_DATE, Position.DEFENDER, skill));
+    }
+  }
+
+  /**
+   * Tests that pages return the right candidates across page boundaries of the log.
+   */
+  @Test
+  public void testPagedAccess() {
+    addPlayers(team, 100);
+    assertEquals(100, team.getCandidateCount());
+    List<TeamPlayer> page = team.getCandidates(15, 10);
+    assertEquals(10, page.size());
+    for (int i = 0; i < page.size(); i++) {
+      assertEquals("P" + (15 + i), page.get(i).getFirstName());
+    }
+    assertEquals(5, team.getCandidates(95, 10).size());
+    assertTrue(team.getCandidates(200, 10).isEmpty());
+  }
+
+  /**
+   * Tests that a page with a negative offset throws an {@link IllegalArgumentException}.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeOffset() {
+    team.getCandidates(-1, 10);
+  }
+
+  /**
+   * Tests that the log keeps working across its internal page size, and that a view taken
+   * earlier does not change when more candidates are appended.
+   */
+  @Test
+  public void testViewIsStableAcrossAppends() {
+    CandidateLog log = new CandidateLog();
+    for (int i = 0; i < 250; i++) {
+      log.append(new TeamPlayer("P" + i, "L", BIRTH_DATE, Position.GOALIE, SkillLevel.ONE));
+    }
+    List<TeamPlayer> before = log.view();
+    for (int i = 250; i < 600; i++) {
+      log.append(new TeamPlayer("P" + i, "L", BIRTH_DATE, Position.GOALIE, SkillLevel.ONE));
+    }
+    assertEquals(250, before.size());
+    assertEquals(600, log.size());
+    assertEquals("P249", before.get(249).getFirstName());
+    List<TeamPlayer> page = log.page(250, 20);
+    for (int i = 0; i < page.size(); i++) {
+      assertEquals("P" + (250 + i), page.get(i).getFirstName());
+    }
+  }
+
+  /**
+   * Tests that a bounded log only keeps the most recent candidates across many pages, and that an
+   * older view still sees the candidates it was created with.
+   */
+  @Test
+  public void testRetentionEvictsOldest() {
+    CandidateLog log = new CandidateLog(300);
+    for (int i = 0; i < 20; i++) {
+      log.append(new TeamPlayer("P" + i, "L", BIRTH_DATE, Position.GOALIE, SkillLevel.ONE));
+    }
+    List<TeamPlayer> early = log.view();
+    for (int i = 20; i < 2000; i++) {
+      log.append(new TeamPlayer("P" + i, "L", BIRTH_DATE, Position.GOALIE, SkillLevel.ONE));
+    }
+    assertEquals(300, log.size());
+    assertEquals(2000, log.getTotalCount());
+    assertEquals(20, early.size());
+    assertEquals("P0", early.get(0).getFirstName());
+    List<TeamPlayer> retained = log.view();
+    for (int i = 0; i < retained.size(); i++) {
+      assertEquals("P" + (1700 + i), retained.get(i).getFirstName());
+    }
+    assertEquals("P1750", log.page(50, 1).get(0).getFirstName());
+  }
+
+  /**
+   * Tests that a team with a bounded log only returns the most recent candidates.
+   */
+  @Test
+  public void testTeamWithBoundedLog() {
+    TeamModelImpl bounded = new TeamModelImpl(new JerseyNumberAllocator(1, 20, 1L),
+        new CandidateLog(25));
+    addPlayers(bounded, 60);
+    assertEquals(25, bounded.getCandidateCount());
+    assertEquals("P35", bounded.getCandidates().get(0).getFirstName());
+    assertEquals("P59", bounded.getCandidates(24, 5).get(0).getFirstName());
+  }
+
+  /**
+   * Tests that the candidate iterator streams the candidates in order.
+   */
+  @Test
+  public void testCandidateIterator() {
+    addPlayers(team, 30);
+    Iterator<TeamPlayer> iterator = team.candidateIterator();
+    for (int i = 0; i < 30; i++) {
+      assertTrue(iterator.hasNext());
+      assertEquals("P" + i, iterator.next().getFirstName());
+    }
+    assertFalse(iterator.hasNext());
+  }
+
+  /**
+   * Tests that a team can't be built around a log that already has candidates.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testTeamRejectsUsedLog() {
+    CandidateLog log = new CandidateLog();
+    TeamModelImpl first = new TeamModelImpl(new JerseyNumberAllocator(1, 20, 1L), log);
+    addPlayers(first, 1);
+    new TeamModelImpl(new JerseyNumberAllocator(1, 20, 1L), log);
+  }
+}
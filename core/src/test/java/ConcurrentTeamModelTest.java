@@ -0,0 +1,186 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.Test;
+import soccerteam.ConcurrentTeamModel;
+import soccerteam.Position;
+import soccerteam.RosterSnapshot;
+import soccerteam.SkillLevel;
+import soccerteam.TeamPlayer;
+
+/**
+ * Multi-threaded tests for the {@link ConcurrentTeamModel} class.
+ */
+public class ConcurrentTeamModelTest {
+  private static final String BIRTH_DATE = LocalDate.now().minusYears(7).toString();
+  private static final int WRITERS = 4;
+  private static final int READERS = 4;
+  private static final int PLAYERS_PER_WRITER = 200;
+
+  /**
+   * Creates a random player with a valid age.
+   *
+   * @param random the source of positions and skill levels
+   * @param name   the suffix used for the player's name
+   * @return a new player
+   */
+  private static TeamPlayer randomPlayer(Random random, String name) {
+    Position[] positions = Position.values();
+    SkillLevel[] skills = SkillLevel.values();
+    return new TeamPlayer("First" + name, "Last" + name, BIRTH_DATE,
+        positions[random.nextInt(positions.length)], skills[random.nextInt(skills.length)]);
+  }
+
+  /**
+   * Checks that a snapshot describes a consistent team.
+   *
+   * @param snapshot the snapshot to check
+   */
+  private static void assertConsistent(RosterSnapshot snapshot) {
+    List<TeamPlayer> roster = snapshot.getAllPlayers();
+    List<TeamPlayer> lineup = snapshot.getStartingLineup();
+    assertTrue(roster.size() <= 20);
+    assertTrue(snapshot.getCandidates().size() >= roster.size());
+
+    Set<Integer> jerseys = new HashSet<>();
+    for (TeamPlayer player : roster) {
+      assertTrue("Duplicate jersey " + player.getJerseyNumber(),
+          jerseys.add(player.getJerseyNumber()));
+    }
+    if (roster.size() < 10) {
+      assertTrue(lineup.isEmpty());
+      return;
+    }
+
+    assertEquals(7, lineup.size());
+    Map<Position, Integer> counts = new EnumMap<>(Position.class);
+    for (TeamPlayer player : lineup) {
+      assertTrue(jerseys.contains(player.getJerseyNumber()));
+      counts.merge(player.getTeamPosition(), 1, Integer::sum);
+    }
+    for (Map.Entry<Position, Integer> entry : counts.entrySet()) {
+      assertTrue(entry.getValue() <= entry.getKey().getMaxPlayers());
+    }
+  }
+
+  /**
+   * Tests that readers running alongside several writers only ever see consistent snapshots, and
+   * that versions and candidate counts never go backwards.
+   *
+   * @throws Exception if a worker fails
+   */
+  @Test
+  public void testConcurrentReadersSeeConsistentSnapshots() throws Exception {
+    ConcurrentTeamModel team = new ConcurrentTeamModel();
+    ExecutorService pool = Executors.newFixedThreadPool(WRITERS + READERS);
+    CountDownLatch start = new CountDownLatch(1);
+    AtomicBoolean writing = new AtomicBoolean(true);
+    List<Future<?>> writers = new ArrayList<>();
+    List<Future<?>> readers = new ArrayList<>();
+
+    try {
+      for (int w = 0; w < WRITERS; w++) {
+        final int writer = w;
+        writers.add(pool.submit(() -> {
+          Random random = new Random(writer);
+          start.await();
+          for (int i = 0; i < PLAYERS_PER_WRITER; i++) {
+            team.addPlayer(randomPlayer(random, writer + "_" + i));
+          }
+          return null;
+        }));
+      }
+      for (int r = 0; r < READERS; r++) {
+        readers.add(pool.submit(() -> {
+          long lastVersion = -1;
+          int lastCandidates = 0;
+          start.await();
+          do {
+            RosterSnapshot snapshot = team.getSnapshot();
+            assertTrue(snapshot.getVersion() >= lastVersion);
+            assertTrue(snapshot.getCandidates().size() >= lastCandidates);
+            assertConsistent(snapshot);
+            lastVersion = snapshot.getVersion();
+            lastCandidates = snapshot.getCandidates().size();
+
+            int count = team.getPlayerCount();
+            if (count >= 10) {
+              assertEquals(7, team.getStartingLineup().size());
+              assertTrue(team.getAllPlayers().size() >= 10);
+            }
+            int seen = 0;
+            for (TeamPlayer ignored : team.getCandidates()) {
+              seen++;
+            }
+            assertTrue(seen >= lastCandidates);
+          } while (writing.get());
+          return null;
+        }));
+      }
+
+      start.countDown();
+      for (Future<?> writer : writers) {
+        writer.get(30, TimeUnit.SECONDS);
+      }
+      writing.set(false);
+      for (Future<?> reader : readers) {
+        reader.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+
+    RosterSnapshot last = team.getSnapshot();
+    assertConsistent(last);
+    assertEquals(20, last.getAllPlayers().size());
+    assertEquals(last.getCandidates().size(), team.getCandidateCount());
+  }
+
+  /**
+   * Tests that a team below the minimum size still refuses to return its players.
+   */
+  @Test
+  public void testInvalidTeamStillRejectsReads() {
+    ConcurrentTeamModel team = new ConcurrentTeamModel();
+    team.addPlayer(randomPlayer(new Random(1), "Solo"));
+    assertEquals(1, team.getPlayerCount());
+    try {
+      team.getStartingLineup();
+      fail("Expected an IllegalStateException");
+    } catch (IllegalStateException e) {
+      assertFalse(e.getMessage().isEmpty());
+    }
+  }
+
+  /**
+   * Tests that candidate pages read from the published snapshot.
+   */
+  @Test
+  public void testCandidatePages() {
+    ConcurrentTeamModel team = new ConcurrentTeamModel();
+    Random random = new Random(7);
+    for (int i = 0; i < 12; i++) {
+      team.addPlayer(randomPlayer(random, String.valueOf(i)));
+    }
+    assertEquals(12, team.getCandidateCount());
+    assertEquals(2, team.getCandidates(10, 5).size());
+    assertEquals(team.getCandidates().subList(2, 6), team.getCandidates(2, 4));
+    assertTrue(team.getCandidates(50, 5).isEmpty());
+  }
+}
@@ -0,0 +1,357 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.Test;
+import soccerteam.AddPlayerResult;
+import soccerteam.CandidateLog;
+import soccerteam.DuplicatePolicy;
+import soccerteam.GreedyLineupStrategy;
+import soccerteam.JerseyNumberAllocator;
+import soccerteam.LeagueModelImpl;
+import soccerteam.Position;
+import soccerteam.RosterEvent;
+import soccerteam.SkillLevel;
+import soccerteam.TeamModel;
+import soccerteam.TeamModelImpl;
+import soccerteam.TeamPlayer;
+
+/**
+ * Unit tests for finding a second registration of the same child on a team and in a league.
+ */
+public class DuplicateRegistrationTest {
+  private static final String BIRTH_DATE = LocalDate.now().minusYears(7).toString();
+  private static final String OTHER_BIRTH_DATE = LocalDate.now().minusYears(8).toString();
+
+  /**
+   * Creates a team with the given duplicate policy.
+   *
+   * @param policy the duplicate policy
+   * @return the new team
+   */
+  private static TeamModelImpl team(DuplicatePolicy policy) {
+    return new TeamModelImpl(new JerseyNumberAllocator(1, 20, 7L), new CandidateLog(),
+        new GreedyLineupStrategy(), policy);
+  }
+
+  /**
+   * Creates a player born on the shared birth date.
+   *
+   * @param firstName  the first name
+   * @param lastName   the last name
+   * @param skillLevel the skill level
+   * @return the new player
+   */
+  private static TeamPlayer player(String firstName, String lastName, SkillLevel skillLevel) {
+    return new TeamPlayer(firstName, lastName, BIRTH_DATE, Position.MIDFIELDER, skillLevel);
+  }
+
+  /**
+   * Fills a team with players of skill level three.
+   *
+   * @param team  the team to fill
+   * @param count the number of players to add
+   */
+  private static void fill(TeamModel team, int count) {
+    for (int i = 0; i < count; i++) {
+      assertTrue(team.addPlayer(player("Filler", "Number" + i, SkillLevel.THREE)));
+    }
+  }
+
+  /**
+   * Tests that a team and a league built without a policy accept the same child twice, as they
+   * did before duplicates were detected, and report nothing.
+   */
+  @Test
+  public void testDefaultAllowsDuplicates() {
+    TeamModelImpl team = new TeamModelImpl();
+    assertEquals(DuplicatePolicy.ALLOW, team.getDuplicatePolicy());
+    List<RosterEvent> flagged = new ArrayList<>();
+    team.addRosterListener(events -> {
+      for (RosterEvent event : events) {
+        if (event.getType() == RosterEvent.Type.DUPLICATE_FLAGGED) {
+          flagged.add(event);
+        }
+      }
+    });
+    assertTrue(team.addPlayer(player("Ada", "Wong", SkillLevel.TWO)));
+    assertTrue(team.addPlayer(player("Ada", "Wong", SkillLevel.TWO)));
+    List<AddPlayerResult> results = team.addPlayers(List.of(player("ada", "wong",
+        SkillLevel.THREE)));
+    assertEquals(AddPlayerResult.Outcome.ADDED, results.get(0).getOutcome());
+    assertNull(results.get(0).getDuplicateOf());
+    assertEquals(3, team.getPlayerCount());
+    assertTrue(flagged.isEmpty());
+
+    try (LeagueModelImpl league = new LeagueModelImpl(2, TeamModelImpl::new)) {
+      league.registerTeam("Lions");
+      league.registerTeam("Tigers");
+      assertTrue(league.addPlayer("Lions", player("Ada", "Wong", SkillLevel.TWO)));
+      assertTrue(league.addPlayer("Tigers", player("Ada", "Wong", SkillLevel.TWO)));
+      assertEquals(List.of("Lions", "Tigers"),
+          league.getTeamsOf(player("Ada", "Wong", SkillLevel.TWO)));
+    }
+  }
+
+  /**
+   * Tests that a second registration is refused under REJECT, even when the names differ in case,
+   * accents, spaces and punctuation, and that a different date of birth is a different child.
+   */
+  @Test
+  public void testRejectIgnoresNameFormatting() {
+    TeamModelImpl team = team(DuplicatePolicy.REJECT);
+    assertTrue(team.addPlayer(player("Anne-Marie", "O'Neil", SkillLevel.THREE)));
+    for (String[] names : new String[][] {{"anne marie", "ONEIL"}, {"Anne Marie", "O Neil"},
+        {"Ánne-Marie", "O'Néil"}}) {
+      try {
+        team.addPlayer(player(names[0], names[1], SkillLevel.FIVE));
+        fail("Duplicate was accepted: " + names[0] + " " + names[1]);
+      } catch (IllegalArgumentException e) {
+        assertTrue(e.getMessage().startsWith("Player is already registered"));
+      }
+    }
+    assertTrue(team.addPlayer(new TeamPlayer("Anne-Marie", "O'Neil", OTHER_BIRTH_DATE,
+        Position.GOALIE, SkillLevel.THREE)));
+    assertEquals(2, team.getPlayerCount());
+    assertEquals(2, team.getCandidateCount());
+  }
+
+  /**
+   * Tests that a child who was replaced on a full roster is no longer registered, so they can be
+   * added again.
+   */
+  @Test
+  public void testReplacedChildCanRegisterAgain() {
+    TeamModelImpl team = team(DuplicatePolicy.REJECT);
+    assertTrue(team.addPlayer(player("Sam", "Low", SkillLevel.ONE)));
+    fill(team, 19);
+    assertTrue(team.addPlayer(player("Pat", "High", SkillLevel.FIVE)));
+
+    assertFalse(team.addPlayer(player("Sam", "Low", SkillLevel.ONE)));
+    assertTrue(team.addPlayer(player("sam", "low", SkillLevel.FOUR)));
+    try {
+      team.addPlayer(player("Sam", "Low", SkillLevel.FIVE));
+      fail("Duplicate was accepted");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  /**
+   * Tests that addPlayers refuses a batch that registers the same child twice, or a child on the
+   * roster, without adding anyone.
+   */
+  @Test
+  public void testRejectBatch() {
+    TeamModelImpl team = team(DuplicatePolicy.REJECT);
+    team.addPlayer(player("Lee", "Park", SkillLevel.TWO));
+    for (List<TeamPlayer> batch : List.of(
+        List.of(player("Ada", "Wong", SkillLevel.ONE), player("ADA", "wong", SkillLevel.TWO)),
+        List.of(player("Ada", "Wong", SkillLevel.ONE), player("Lee", "Park", SkillLevel.TWO)))) {
+      try {
+        team.addPlayers(batch);
+        fail("Batch with a duplicate was accepted");
+      } catch (IllegalArgumentException e) {
+        assertEquals(1, team.getPlayerCount());
+      }
+    }
+  }
+
+  /**
+   * Tests that under MERGE a second registration changes nothing, neither the roster nor the
+   * player passed in, and reports the registered child with their current jersey number and team
+   * position, both alone and inside a batch.
+   */
+  @Test
+  public void testMerge() {
+    TeamModelImpl team = team(DuplicatePolicy.MERGE);
+    TeamPlayer first = player("Ada", "Wong", SkillLevel.TWO);
+    assertTrue(team.addPlayer(first));
+
+    TeamPlayer again = player("ada", "wong", SkillLevel.FIVE);
+    assertFalse(team.addPlayer(again));
+    assertEquals(0, again.getJerseyNumber());
+    assertNull(again.getTeamPosition());
+    assertEquals(1, team.getPlayerCount());
+    assertEquals(1, team.getCandidateCount());
+
+    TeamPlayer newcomer = player("Lee", "Park", SkillLevel.THREE);
+    List<AddPlayerResult> results = team.addPlayers(List.of(newcomer,
+        player("Lee", "Park", SkillLevel.ONE), player("Ada", "Wong", SkillLevel.ONE)));
+    assertEquals(AddPlayerResult.Outcome.ADDED, results.get(0).getOutcome());
+    assertNull(results.get(0).getDuplicateOf());
+    assertEquals(AddPlayerResult.Outcome.MERGED, results.get(1).getOutcome());
+    assertFalse(results.get(1).isAdded());
+    assertEquals(newcomer.getJerseyNumber(), results.get(1).getDuplicateOf().getJerseyNumber());
+    assertEquals(AddPlayerResult.Outcome.MERGED, results.get(2).getOutcome());
+    assertEquals(0, results.get(2).getPlayer().getJerseyNumber());
+    assertEquals(first.getJerseyNumber(), results.get(2).getDuplicateOf().getJerseyNumber());
+    assertNotSame(first, results.get(2).getDuplicateOf());
+    assertEquals(2, team.getPlayerCount());
+    assertEquals(2, team.getCandidateCount());
+  }
+
+  /**
+   * Tests that a player merged in the same batch that completes the lineup is reported with the
+   * team position the registered child was given by that lineup.
+   */
+  @Test
+  public void testMergeReportsPositionAfterLineup() {
+    TeamModelImpl team = team(DuplicatePolicy.MERGE);
+    fill(team, 9);
+    TeamPlayer newcomer = player("Lee", "Park", SkillLevel.FIVE);
+    TeamPlayer again = player("Lee", "Park", SkillLevel.ONE);
+    List<AddPlayerResult> results = team.addPlayers(List.of(newcomer, again));
+
+    assertEquals(AddPlayerResult.Outcome.MERGED, results.get(1).getOutcome());
+    assertEquals(Position.MIDFIELDER, newcomer.getTeamPosition());
+    assertEquals(newcomer.getTeamPosition(), results.get(1).getDuplicateOf().getTeamPosition());
+    assertNull(again.getTeamPosition());
+    assertEquals(0, again.getJerseyNumber());
+  }
+
+  /**
+   * Tests that under FLAG a second registration joins the team and is reported, unless it
+   * replaced the registration it duplicates.
+   */
+  @Test
+  public void testFlag() {
+    TeamModelImpl team = team(DuplicatePolicy.FLAG);
+    List<RosterEvent> flagged = new ArrayList<>();
+    team.addRosterListener(events -> {
+      for (RosterEvent event : events) {
+        if (event.getType() == RosterEvent.Type.DUPLICATE_FLAGGED) {
+          flagged.add(event);
+        }
+      }
+    });
+    TeamPlayer first = player("Ada", "Wong", SkillLevel.ONE);
+    team.addPlayer(first);
+    fill(team, 18);
+
+    List<AddPlayerResult> results = team.addPlayers(List.of(player("Ada", "Wong",
+        SkillLevel.THREE)));
+    assertEquals(AddPlayerResult.Outcome.ADDED, results.get(0).getOutcome());
+    assertEquals(first.getJerseyNumber(), results.get(0).getDuplicateOf().getJerseyNumber());
+    assertEquals(20, team.getPlayerCount());
+    assertEquals(1, flagged.size());
+    assertEquals(results.get(0).getPlayer().getJerseyNumber(),
+        flagged.get(0).getPlayer().getJerseyNumber());
+
+    // Replacing the first registration still leaves the second one on the roster
+    TeamPlayer third = player("ADA", "WONG", SkillLevel.FIVE);
+    results = team.addPlayers(List.of(third));
+    assertEquals(AddPlayerResult.Outcome.REPLACED, results.get(0).getOutcome());
+    assertEquals(first.getJerseyNumber(), results.get(0).getReplacedPlayer().getJerseyNumber());
+    assertEquals("Ada", results.get(0).getDuplicateOf().getFirstName());
+    assertEquals(SkillLevel.THREE, results.get(0).getDuplicateOf().getSkillLevel());
+    assertEquals(2, flagged.size());
+
+    // A player who replaces the only other registration of their child is not flagged
+    TeamModelImpl other = team(DuplicatePolicy.FLAG);
+    other.addPlayer(player("Bo", "Kim", SkillLevel.ONE));
+    fill(other, 19);
+    results = other.addPlayers(List.of(player("Bo", "Kim", SkillLevel.FIVE)));
+    assertEquals(AddPlayerResult.Outcome.REPLACED, results.get(0).getOutcome());
+    assertNull(results.get(0).getDuplicateOf());
+  }
+
+  /**
+   * Tests that a league refuses a child who is on another team, and accepts them once they have
+   * been replaced there.
+   */
+  @Test
+  public void testLeagueRejectsChildOnAnotherTeam() {
+    try (LeagueModelImpl league = new LeagueModelImpl(3, TeamModelImpl::new,
+        DuplicatePolicy.REJECT)) {
+      league.registerTeam("Lions");
+      league.registerTeam("Tigers");
+      TeamPlayer child = player("Sam", "Low", SkillLevel.ONE);
+      assertTrue(league.addPlayer("Lions", child));
+      assertEquals(List.of("Lions"), league.getTeamsOf(player("sam", "low", SkillLevel.TWO)));
+      try {
+        league.addPlayer("Tigers", player("Sam", "Low", SkillLevel.FIVE));
+        fail("Child was added to a second team");
+      } catch (IllegalArgumentException e) {
+        assertTrue(e.getMessage().contains("Lions"));
+      }
+
+      for (int i = 0; i < 19; i++) {
+        league.addPlayer("Lions", player("Filler", "Number" + i, SkillLevel.THREE));
+      }
+      assertTrue(league.addPlayer("Lions", player("Pat", "High", SkillLevel.FIVE)));
+      assertEquals(List.of(), league.getTeamsOf(child));
+      assertTrue(league.addPlayer("Tigers", player("Sam", "Low", SkillLevel.FIVE)));
+      assertEquals(List.of("Tigers"), league.getTeamsOf(child));
+      assertTrue(league.getDuplicateRegistrations().isEmpty());
+    }
+  }
+
+  /**
+   * Tests that a league that merges duplicates keeps the child on their first team, and one that
+   * flags them reports the child on both teams.
+   */
+  @Test
+  public void testLeagueMergeAndFlag() {
+    try (LeagueModelImpl league = new LeagueModelImpl(2, TeamModelImpl::new,
+        DuplicatePolicy.MERGE)) {
+      league.registerTeam("Lions");
+      league.registerTeam("Tigers");
+      assertTrue(league.addPlayer("Lions", player("Ada", "Wong", SkillLevel.TWO)));
+      assertFalse(league.addPlayer("Tigers", player("Ada", "Wong", SkillLevel.TWO)));
+      assertEquals(List.of("Lions"), league.getTeamsOf(player("Ada", "Wong", SkillLevel.TWO)));
+    }
+    try (LeagueModelImpl league = new LeagueModelImpl(2, TeamModelImpl::new,
+        DuplicatePolicy.FLAG)) {
+      league.registerTeam("Lions");
+      league.registerTeam("Tigers");
+      league.addPlayer("Lions", player("Lee", "Park", SkillLevel.TWO));
+      assertTrue(league.addPlayer("Lions", player("Ada", "Wong", SkillLevel.TWO)));
+      assertTrue(league.addPlayer("Tigers", player("Ada", "Wong", SkillLevel.TWO)));
+      assertEquals(List.of("Lions", "Tigers"),
+          league.getTeamsOf(player("Ada", "Wong", SkillLevel.TWO)));
+      Map<String, List<TeamPlayer>> duplicates = league.getDuplicateRegistrations();
+      assertEquals(List.of("Lions", "Tigers"), new ArrayList<>(duplicates.keySet()));
+      assertEquals(1, duplicates.get("Lions").size());
+      assertEquals("Ada Wong", duplicates.get("Tigers").get(0).getFullName());
+    }
+  }
+
+  /**
+   * Tests that when the same child is sent to many teams at once, exactly one team gets them.
+   */
+  @Test
+  public void testLeagueConcurrentDuplicates() {
+    try (LeagueModelImpl league = new LeagueModelImpl(4, TeamModelImpl::new,
+        DuplicatePolicy.REJECT)) {
+      List<CompletableFuture<Boolean>> results = new ArrayList<>();
+      for (int t = 0; t < 16; t++) {
+        league.registerTeam("Team" + t);
+      }
+      for (int t = 0; t < 16; t++) {
+        results.add(league.addPlayerAsync("Team" + t, player("Ada", "Wong", SkillLevel.TWO)));
+      }
+      int joined = 0;
+      for (CompletableFuture<Boolean> result : results) {
+        try {
+          if (result.join()) {
+            joined++;
+          }
+        } catch (CompletionException e) {
+          assertTrue(e.getCause() instanceof IllegalArgumentException);
+        }
+      }
+      assertEquals(1, joined);
+      assertEquals(1, league.getTeamsOf(player("Ada", "Wong", SkillLevel.TWO)).size());
+    }
+  }
+}
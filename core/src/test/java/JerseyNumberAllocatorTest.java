@@ -0,0 +1,163 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+import soccerteam.JerseyNumberAllocator;
+import soccerteam.Position;
+import soccerteam.SkillLevel;
+import soccerteam.TeamModelImpl;
+import soccerteam.TeamPlayer;
+
+/**
+ * Unit tests for the {@link JerseyNumberAllocator} class.
+ */
+public class JerseyNumberAllocatorTest {
+  private JerseyNumberAllocator allocator;
+
+  /**
+   * Sets up the test environment by creating a seeded allocator for the numbers 1 to 20.
+   */
+  @Before
+  public void setUp() {
+    allocator = new JerseyNumberAllocator(1, 20, 42L);
+  }
+
+  /**
+   * Tests that every number in the range is handed out exactly once.
+   */
+  @Test
+  public void testAllocateUniqueNumbers() {
+    Set<Integer> numbers = new HashSet<>();
+    for (int i = 0; i < 20; i++) {
+      int number = allocator.allocate();
+      assertTrue(number >= 1 && number <= 20);
+      assertTrue(numbers.add(number));
+      assertFalse(allocator.isAvailable(number));
+    }
+    assertEquals(0, allocator.getAvailableCount());
+  }
+
+  /**
+   * Tests that allocating from an exhausted range throws an {@link IllegalStateException}.
+   */
+  @Test(expected = IllegalStateException.class)
+  public void testAllocateWhenExhausted() {
+    for (int i = 0; i < 21; i++) {
+      allocator.allocate();
+    }
+  }
+
+  /**
+   * Tests that a released number becomes available and is the only one handed out next.
+   */
+  @Test
+  public void testReleaseAndReuse() {
+    for (int i = 0; i < 20; i++) {
+      allocator.allocate();
+    }
+    allocator.release(7);
+    assertTrue(allocator.isAvailable(7));
+    assertEquals(1, allocator.getAvailableCount());
+    assertEquals(7, allocator.allocate());
+  }
+
+  /**
+   * Tests that releasing a number that is not in use throws an {@link IllegalArgumentException}.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testReleaseFreeNumber() {
+    allocator.release(3);
+  }
+
+  /**
+   * Tests that releasing a number outside the range throws an {@link IllegalArgumentException}.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testReleaseOutOfRange() {
+    allocator.release(21);
+  }
+
+  /**
+   * Tests that a custom range only hands out numbers from that range.
+   */
+  @Test
+  public void testCustomRange() {
+    JerseyNumberAllocator custom = new JerseyNumberAllocator(50, 99, 1L);
+    assertEquals(50, custom.getCapacity());
+    for (int i = 0; i < 50; i++) {
+      int number = custom.allocate();
+      assertTrue(number >= 50 && number <= 99);
+    }
+  }
+
+  /**
+   * Tests that two allocators with the same seed make the same picks.
+   */
+  @Test
+  public void testSeededAllocationIsReproducible() {
+    JerseyNumberAllocator other = new JerseyNumberAllocator(1, 20, 42L);
+    for (int i = 0; i < 20; i++) {
+      assertEquals(other.allocate(), allocator.allocate());
+    }
+  }
+
+  /**
+   * Tests that teams built with seeded allocators assign the same jersey numbers, and that an
+   * evicted player's number can be reused by the team.
+   */
+  @Test
+  public void testSeededTeamsAssignSameNumbers() {
+    TeamModelImpl first = new TeamModelImpl(new JerseyNumberAllocator(1, 20, 7L));
+    TeamModelImpl second = new TeamModelImpl(new JerseyNumberAllocator(1, 20, 7L));
+    String birthDate = LocalDate.now().minusYears(8).toString();
+    for (int i = 0; i < 30; i++) {
+      SkillLevel skill = i < 20 ? SkillLevel.ONE : SkillLevel.FIVE;
+      first.addPlayer(new TeamPlayer("P" + i, "L" + i, birthDate, Position.DEFENDER, skill));
+      second.addPlayer(new TeamPlayer("P" + i, "L" + i, birthDate, Position.DEFENDER, skill));
+    }
+    List<TeamPlayer> firstPlayers = first.getAllPlayers();
+    List<TeamPlayer> secondPlayers = second.getAllPlayers();
+    Set<Integer> numbers = new HashSet<>();
+    for (int i = 0; i < firstPlayers.size(); i++) {
+      assertEquals(firstPlayers.get(i).getJerseyNumber(), secondPlayers.get(i).getJerseyNumber());
+      numbers.add(firstPlayers.get(i).getJerseyNumber());
+    }
+    assertEquals(20, numbers.size());
+  }
+
+  /**
+   * Tests that a specific number can be claimed once and is then no longer handed out.
+   */
+  @Test
+  public void testClaim() {
+    JerseyNumberAllocator allocator = new JerseyNumberAllocator(1, 3, 5L);
+    allocator.claim(2);
+    assertFalse(allocator.isAvailable(2));
+    assertEquals(2, allocator.getAvailableCount());
+    Set<Integer> rest = new HashSet<>();
+    rest.add(allocator.allocate());
+    rest.add(allocator.allocate());
+    assertFalse(rest.contains(2));
+    try {
+      allocator.claim(2);
+      fail("Expected an IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      assertEquals("Jersey number is already in use: 2", e.getMessage());
+    }
+  }
+
+  /**
+   * Tests that a team can't be built with a range smaller than the maximum team size.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testTeamRejectsSmallRange() {
+    new TeamModelImpl(new JerseyNumberAllocator(1, 19, 1L));
+  }
+}
@@ -0,0 +1,156 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import soccerteam.LeagueModelImpl;
+import soccerteam.NoSuchTeamException;
+import soccerteam.Position;
+import soccerteam.SkillLevel;
+import soccerteam.TeamExistsException;
+import soccerteam.TeamModelImpl;
+import soccerteam.TeamPlayer;
+
+/**
+ * Unit tests for the {@link LeagueModelImpl} class.
+ */
+public class LeagueModelImplTest {
+  private static final String BIRTH_DATE = LocalDate.now().minusYears(7).toString();
+  private LeagueModelImpl league;
+
+  /**
+   * Sets up the test environment by creating a league with four shards.
+   */
+  @Before
+  public void setUp() {
+    league = new LeagueModelImpl(4, TeamModelImpl::new);
+  }
+
+  /**
+   * Shuts down the league workers after each test.
+   */
+  @After
+  public void tearDown() {
+    league.close();
+  }
+
+  /**
+   * Creates a player with a valid age for the given index.
+   *
+   * @param index the index used to make the player's name and attributes
+   * @return a new player
+   */
+  private static TeamPlayer player(int index) {
+    Position[] positions = Position.values();
+    SkillLevel[] skills = SkillLevel.values();
+    return new TeamPlayer("First" + index, "Last" + index, BIRTH_DATE,
+        positions[index % positions.length], skills[index % skills.length]);
+  }
+
+  /**
+   * Tests that registered teams are listed alphabetically and duplicates are rejected.
+   */
+  @Test
+  public void testRegisterTeam() {
+    league.registerTeam("Tigers");
+    league.registerTeam("Eagles");
+    assertEquals(List.of("Eagles", "Tigers"), league.getTeamNames());
+  }
+
+  /**
+   * Tests that registering the same team twice throws a {@link TeamExistsException}.
+   */
+  @Test(expected = TeamExistsException.class)
+  public void testRegisterDuplicateTeam() {
+    league.registerTeam("Tigers");
+    league.registerTeam("Tigers");
+  }
+
+  /**
+   * Tests that adding a player to an unknown team throws a {@link NoSuchTeamException}.
+   */
+  @Test(expected = NoSuchTeamException.class)
+  public void testAddPlayerToUnknownTeam() {
+    league.addPlayer("Nobody", player(1));
+  }
+
+  /**
+   * Tests that an ineligible player is rejected with the team model's exception.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testAddPlayerWithExceedingAge() {
+    league.registerTeam("Tigers");
+    league.addPlayer("Tigers", new TeamPlayer("Old", "Player",
+        LocalDate.now().minusYears(12).toString(), Position.FORWARD, SkillLevel.TWO));
+  }
+
+  /**
+   * Tests that players submitted for many teams at once all reach the right team, and that the
+   * league-wide queries merge the results of every shard.
+   */
+  @Test
+  public void testParallelAddAndLeagueQueries() {
+    int teamCount = 40;
+    List<CompletableFuture<Boolean>> results = new ArrayList<>();
+    for (int t = 0; t < teamCount; t++) {
+      league.registerTeam("Team" + t);
+    }
+    for (int t = 0; t < teamCount; t++) {
+      int size = t % 2 == 0 ? 12 : 5;
+      for (int i = 0; i < size; i++) {
+        results.add(league.addPlayerAsync("Team" + t, player(i)));
+      }
+    }
+    for (CompletableFuture<Boolean> result : results) {
+      assertTrue(result.join());
+    }
+
+    List<String> belowMinimum = league.getTeamsBelowMinimum();
+    assertEquals(teamCount / 2, belowMinimum.size());
+    for (String name : belowMinimum) {
+      assertTrue(Integer.parseInt(name.substring(4)) % 2 == 1);
+    }
+
+    Map<String, List<TeamPlayer>> lineups = league.getAllStartingLineups();
+    assertEquals(teamCount / 2, lineups.size());
+    for (Map.Entry<String, List<TeamPlayer>> entry : lineups.entrySet()) {
+      assertFalse(belowMinimum.contains(entry.getKey()));
+      assertEquals(7, entry.getValue().size());
+    }
+    assertEquals(12, league.getAllPlayers("Team0").size());
+    assertEquals(5, league.getCandidates("Team1").size());
+  }
+
+  /**
+   * Tests that the league-wide queries ask each team whether it is valid rather than counting
+   * its players against a fixed minimum.
+   */
+  @Test
+  public void testLeagueQueriesAskTeamsWhetherTheyAreValid() {
+    try (LeagueModelImpl strict = new LeagueModelImpl(2, () -> new TeamModelImpl() {
+      @Override
+      public boolean isValid() {
+        return getPlayerCount() >= 12;
+      }
+    })) {
+      strict.registerTeam("Ready");
+      strict.registerTeam("Short");
+      for (int i = 0; i < 12; i++) {
+        strict.addPlayer("Ready", player(i));
+      }
+      for (int i = 0; i < 11; i++) {
+        strict.addPlayer("Short", player(i));
+      }
+
+      assertEquals(List.of("Short"), strict.getTeamsBelowMinimum());
+      assertEquals(List.of("Ready"), new ArrayList<>(strict.getAllStartingLineups().keySet()));
+    }
+  }
+}
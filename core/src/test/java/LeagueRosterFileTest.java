@@ -0,0 +1,162 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import soccerteam.LeagueRosterFile;
+import soccerteam.Position;
+import soccerteam.RosterPlayer;
+import soccerteam.SkillLevel;
+import soccerteam.TeamModelImpl;
+import soccerteam.TeamPlayer;
+
+/**
+ * Unit tests for the {@link LeagueRosterFile} and {@link RosterPlayer} classes.
+ */
+public class LeagueRosterFileTest {
+  private static final LocalDate BIRTH_DATE = LocalDate.now().minusYears(8);
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  /**
+   * Creates a full team with jersey numbers and a starting lineup.
+   *
+   * @param prefix the prefix of the players' first names
+   * @return the players on the team
+   */
+  private static List<TeamPlayer> team(String prefix) {
+    TeamModelImpl team = new TeamModelImpl();
+    Position[] positions = Position.values();
+    SkillLevel[] skills = SkillLevel.values();
+    for (int i = 0; i < 20; i++) {
+      team.addPlayer(new TeamPlayer(prefix + i, "Ñúñez" + (i % 3),
+          BIRTH_DATE.minusDays(i).toString(), positions[i % positions.length],
+          skills[i % skills.length]));
+    }
+    return team.getAllPlayers();
+  }
+
+  /**
+   * Tests that every field written for every team is read back through the views.
+   *
+   * @throws IOException if the file can't be written or read
+   */
+  @Test
+  public void testRoundTrip() throws IOException {
+    Map<String, List<TeamPlayer>> teams = new HashMap<>();
+    teams.put("Tigers", team("T"));
+    teams.put("Bears", team("B"));
+    teams.put("Empty", new ArrayList<>());
+    Path file = folder.getRoot().toPath().resolve("league.roster");
+    LeagueRosterFile.write(file, teams);
+
+    try (LeagueRosterFile roster = LeagueRosterFile.open(file)) {
+      assertEquals(3, roster.getTeamCount());
+      assertEquals(40, roster.getPlayerCount());
+      assertEquals("Bears", roster.getTeamName(0));
+      assertEquals("Empty", roster.getTeamName(1));
+      assertEquals(2, roster.indexOfTeam("Tigers"));
+      assertEquals(-1, roster.indexOfTeam("Lions"));
+      assertEquals(0, roster.getPlayers(1).size());
+
+      for (String name : teams.keySet()) {
+        List<TeamPlayer> expected = teams.get(name);
+        List<RosterPlayer> actual = roster.getPlayers(roster.indexOfTeam(name));
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+          TeamPlayer want = expected.get(i);
+          RosterPlayer view = actual.get(i);
+          assertEquals(want.getFullName(), view.getFullName());
+          assertEquals(want.getDateOfBirth(), view.getDateOfBirth());
+          assertEquals(want.getAge(), view.getAge());
+          assertEquals(want.getPreferredPosition(), view.getPreferredPosition());
+          assertEquals(want.getSkillLevel(), view.getSkillLevel());
+          assertEquals(want.getJerseyNumber(), view.getJerseyNumber());
+          assertEquals(want.getTeamPosition(), view.getTeamPosition());
+          assertEquals(want.toString(true), view.toTeamPlayer().toString(true));
+        }
+      }
+    }
+  }
+
+  /**
+   * Tests that a player who never had a team position reads back without one.
+   *
+   * @throws IOException if the file can't be written or read
+   */
+  @Test
+  public void testPlayerWithoutTeamPosition() throws IOException {
+    Map<String, List<TeamPlayer>> teams = new HashMap<>();
+    List<TeamPlayer> players = new ArrayList<>();
+    players.add(new TeamPlayer("Solo", "Player", BIRTH_DATE.toString(), Position.GOALIE,
+        SkillLevel.THREE));
+    teams.put("Solo", players);
+    Path file = folder.getRoot().toPath().resolve("solo.roster");
+    LeagueRosterFile.write(file, teams);
+
+    try (LeagueRosterFile roster = LeagueRosterFile.open(file)) {
+      RosterPlayer view = roster.getPlayer(0);
+      assertNull(view.getTeamPosition());
+      assertEquals(0, view.getJerseyNumber());
+      assertEquals(BIRTH_DATE.toEpochDay(), view.getBirthEpochDay());
+    }
+  }
+
+  /**
+   * Tests that a file that is not a roster file is rejected.
+   *
+   * @throws IOException if the file can't be written
+   */
+  @Test
+  public void testRejectsOtherFiles() throws IOException {
+    Path file = folder.getRoot().toPath().resolve("other.roster");
+    Files.write(file, new byte[64]);
+    try {
+      LeagueRosterFile.open(file).close();
+      fail("Expected an IOException");
+    } catch (IOException e) {
+      assertEquals("Not a league roster file", e.getMessage());
+    }
+  }
+
+  /**
+   * Tests that a player record holding an ordinal that is not a position is reported as a
+   * corrupt file instead of an array index error.
+   *
+   * @throws IOException if the file can't be written or read
+   */
+  @Test
+  public void testCorruptPositionIsReported() throws IOException {
+    Map<String, List<TeamPlayer>> teams = new HashMap<>();
+    teams.put("Solo", team("S"));
+    Path file = folder.getRoot().toPath().resolve("corrupt.roster");
+    LeagueRosterFile.write(file, teams);
+    byte[] bytes = Files.readAllBytes(file);
+    // Header, one team record, then the preferred position byte of the first player
+    bytes[32 + 12 + 12] = 100;
+    Files.write(file, bytes);
+
+    try (LeagueRosterFile roster = LeagueRosterFile.open(file)) {
+      RosterPlayer view = roster.getPlayer(0);
+      assertEquals("S", view.getFirstName().substring(0, 1));
+      try {
+        view.getPreferredPosition();
+        fail("Expected an IllegalStateException");
+      } catch (IllegalStateException e) {
+        assertEquals("Corrupt league roster file: player record at 44 holds Position 100",
+            e.getMessage());
+      }
+    }
+  }
+}
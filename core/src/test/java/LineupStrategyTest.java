@@ -0,0 +1,425 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+import soccerteam.CandidateLog;
+import soccerteam.GreedyLineupStrategy;
+import soccerteam.JerseyNumberAllocator;
+import soccerteam.LineupStrategy;
+import soccerteam.OptimalLineupStrategy;
+import soccerteam.PlayerOrder;
+import soccerteam.Position;
+import soccerteam.SkillLevel;
+import soccerteam.TeamModelImpl;
+import soccerteam.TeamPlayer;
+
+/**
+ * Tests for the lineup strategies, and for choosing the starting lineup of a team with them.
+ */
+public class LineupStrategyTest {
+  private static final String[] LAST_NAMES = {"Adams", "Brown", "Clark", "Davis", "Evans"};
+  private static final int LINEUP_SIZE = 7;
+
+  /**
+   * Tests that a team given the greedy strategy through another class, which sees the whole
+   * roster, gets the same lineup as the greedy strategy reading only the heads of the position
+   * groups.
+   */
+  @Test
+  public void testGreedyStrategyMatchesBuiltInSelection() {
+    LineupStrategy greedy = new GreedyLineupStrategy();
+    for (long seed = 1; seed <= 100; seed++) {
+      TeamModelImpl builtIn = newTeam(new GreedyLineupStrategy());
+      TeamModelImpl delegated = newTeam(greedy::selectLineup);
+      Random random = new Random(seed);
+      for (int i = 0; i < 40; i++) {
+        TeamPlayer player = randomPlayer(random, i);
+        assertEquals(builtIn.addPlayer(player), delegated.addPlayer(copy(player)));
+        if (builtIn.getPlayerCount() >= 10) {
+          assertSameLineup(builtIn.getStartingLineup(), delegated.getStartingLineup());
+        }
+      }
+    }
+  }
+
+  /**
+   * Tests that with a lineup smaller than the position maximums add up to, the first pass still
+   * takes players in selection order rather than position by position.
+   */
+  @Test
+  public void testGreedyFirstPassFollowsSelectionOrder() {
+    List<TeamPlayer> players = new ArrayList<>();
+    players.add(player("Def1", Position.DEFENDER, SkillLevel.FIVE));
+    players.add(player("Def2", Position.DEFENDER, SkillLevel.FIVE));
+    players.add(player("Mid1", Position.MIDFIELDER, SkillLevel.FOUR));
+    players.add(player("Mid2", Position.MIDFIELDER, SkillLevel.FOUR));
+    players.add(player("Mid3", Position.MIDFIELDER, SkillLevel.FOUR));
+    players.add(player("Goal", Position.GOALIE, SkillLevel.THREE));
+    players.add(player("Fwd", Position.FORWARD, SkillLevel.THREE));
+    players = PlayerOrder.SELECTION.sort(players);
+
+    Position[] slots = new GreedyLineupStrategy().selectLineup(players, 5);
+    for (int i = 0; i < players.size(); i++) {
+      assertSame(i < 5 ? players.get(i).getPreferredPosition() : null, slots[i]);
+    }
+  }
+
+  /**
+   * Tests that the greedy strategy matches the original single ordered pass followed by the
+   * filling pass for every lineup size up to the position maximums, both when given the whole
+   * roster and when given the roster grouped by position.
+   */
+  @Test
+  public void testGreedyMatchesOrderedPassesForEveryLineupSize() {
+    LineupStrategy greedy = new GreedyLineupStrategy();
+    for (long seed = 1; seed <= 200; seed++) {
+      Random random = new Random(seed);
+      List<TeamPlayer> players = new ArrayList<>();
+      int size = 1 + random.nextInt(20);
+      for (int i = 0; i < size; i++) {
+        players.add(randomPlayer(random, i));
+      }
+      players = PlayerOrder.SELECTION.sort(players);
+      List<List<TeamPlayer>> byPosition = new ArrayList<>();
+      for (Position position : Position.values()) {
+        byPosition.add(new ArrayList<>());
+      }
+      for (TeamPlayer player : players) {
+        byPosition.get(player.getPreferredPosition().ordinal()).add(player);
+      }
+
+      for (int lineupSize = 0; lineupSize <= LINEUP_SIZE; lineupSize++) {
+        Position[] expected = referenceGreedy(players, lineupSize);
+        Position[] slots = greedy.selectLineup(players, lineupSize);
+        Map<TeamPlayer, Position> grouped = greedy.selectLineupByPosition(byPosition, lineupSize);
+        int chosen = 0;
+        for (int i = 0; i < players.size(); i++) {
+          assertSame(expected[i], slots[i]);
+          assertSame(expected[i], grouped.get(players.get(i)));
+          chosen += expected[i] == null ? 0 : 1;
+        }
+        assertEquals(chosen, grouped.size());
+      }
+    }
+  }
+
+  /**
+   * Tests that the optimal strategy finds the best value an exhaustive search can find.
+   */
+  @Test
+  public void testOptimalMatchesExhaustiveSearch() {
+    LineupStrategy optimal = new OptimalLineupStrategy();
+    for (long seed = 1; seed <= 200; seed++) {
+      Random random = new Random(seed);
+      List<TeamPlayer> players = new ArrayList<>();
+      int size = 1 + random.nextInt(11);
+      for (int i = 0; i < size; i++) {
+        players.add(randomPlayer(random, i));
+      }
+      players = PlayerOrder.SELECTION.sort(players);
+      Position[] slots = optimal.selectLineup(players, LINEUP_SIZE);
+      assertValidLineup(players, slots);
+      assertEquals(bestValue(players, 0, new int[Position.values().length], 0),
+          value(players, slots));
+    }
+  }
+
+  /**
+   * Tests that the optimal strategy is never worse than the greedy strategy.
+   */
+  @Test
+  public void testOptimalIsNeverWorseThanGreedy() {
+    LineupStrategy greedy = new GreedyLineupStrategy();
+    LineupStrategy optimal = new OptimalLineupStrategy();
+    for (long seed = 1; seed <= 500; seed++) {
+      Random random = new Random(seed);
+      List<TeamPlayer> players = new ArrayList<>();
+      for (int i = 0; i < 20; i++) {
+        players.add(randomPlayer(random, i));
+      }
+      players = PlayerOrder.SELECTION.sort(players);
+      Position[] slots = optimal.selectLineup(players, LINEUP_SIZE);
+      assertValidLineup(players, slots);
+      assertTrue(value(players, slots) >= value(players, greedy.selectLineup(players,
+          LINEUP_SIZE)));
+    }
+  }
+
+  /**
+   * Tests that a team using the optimal strategy starts a strong forward in goal rather than a
+   * weak goalie, which the greedy selection would start.
+   */
+  @Test
+  public void testOptimalTeamStartsStrongestPlayers() {
+    TeamModelImpl greedyTeam = newTeam(new GreedyLineupStrategy());
+    TeamModelImpl optimalTeam = newTeam(new OptimalLineupStrategy());
+    List<TeamPlayer> players = new ArrayList<>();
+    players.add(player("Goal", Position.GOALIE, SkillLevel.ONE));
+    players.add(player("Fast", Position.FORWARD, SkillLevel.FIVE));
+    players.add(player("Quick", Position.FORWARD, SkillLevel.FIVE));
+    for (int i = 0; i < 4; i++) {
+      players.add(player("Def" + i, Position.DEFENDER, SkillLevel.TWO));
+    }
+    for (int i = 0; i < 3; i++) {
+      players.add(player("Mid" + i, Position.MIDFIELDER, SkillLevel.TWO));
+    }
+    for (TeamPlayer player : players) {
+      greedyTeam.addPlayer(player);
+      optimalTeam.addPlayer(copy(player));
+    }
+
+    assertEquals(16, totalSkill(greedyTeam.getStartingLineup()));
+    assertEquals(20, totalSkill(optimalTeam.getStartingLineup()));
+    TeamPlayer goalie = optimalTeam.getStartingLineup().get(0);
+    assertEquals("Quick", goalie.getLastName());
+    assertSame(Position.GOALIE, goalie.getTeamPosition());
+  }
+
+  /**
+   * Tests that a strategy breaking the position limits is rejected.
+   */
+  @Test(expected = IllegalStateException.class)
+  public void testStrategyBreakingLimitsIsRejected() {
+    TeamModelImpl team = newTeam((players, lineupSize) -> {
+      Position[] slots = new Position[players.size()];
+      slots[0] = Position.GOALIE;
+      slots[1] = Position.GOALIE;
+      return slots;
+    });
+    for (int i = 0; i < 10; i++) {
+      team.addPlayer(player("Player" + i, Position.DEFENDER, SkillLevel.THREE));
+    }
+  }
+
+  /**
+   * Tests that a null strategy is rejected.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullStrategy() {
+    newTeam(null);
+  }
+
+  /**
+   * Tests that nobody starts from an empty roster.
+   */
+  @Test
+  public void testEmptyRoster() {
+    assertEquals(0, new OptimalLineupStrategy().selectLineup(new ArrayList<>(), LINEUP_SIZE)
+        .length);
+    Position[] slots = new OptimalLineupStrategy().selectLineup(
+        List.of(player("Solo", Position.FORWARD, SkillLevel.ONE)), 0);
+    assertNull(slots[0]);
+  }
+
+  /**
+   * Chooses a lineup the way the original selection did: one pass over the players in selection
+   * order placing each in their preferred position while it has room, then one pass placing the
+   * rest in their preferred position or the first position with room.
+   *
+   * @param players    the players in selection order
+   * @param lineupSize the number of players in the starting lineup
+   * @return the position of each starting player, or null
+   */
+  private static Position[] referenceGreedy(List<TeamPlayer> players, int lineupSize) {
+    Position[] slots = new Position[players.size()];
+    int[] counts = new int[Position.values().length];
+    int placed = 0;
+    for (int i = 0; i < slots.length; i++) {
+      Position preferred = players.get(i).getPreferredPosition();
+      if (placed < lineupSize && counts[preferred.ordinal()] < preferred.getMaxPlayers()) {
+        slots[i] = preferred;
+        counts[preferred.ordinal()]++;
+        placed++;
+      }
+    }
+    for (int i = 0; i < slots.length && placed < lineupSize; i++) {
+      if (slots[i] == null) {
+        for (Position position : Position.values()) {
+          if (counts[position.ordinal()] < position.getMaxPlayers()) {
+            slots[i] = position;
+            counts[position.ordinal()]++;
+            placed++;
+            break;
+          }
+        }
+      }
+    }
+    return slots;
+  }
+
+  /**
+   * Finds the best lineup value by trying every choice for every player.
+   *
+   * @param players the players in selection order
+   * @param index   the next player to decide on
+   * @param counts  the number of players placed in each position so far
+   * @param placed  the number of players placed so far
+   * @return the best value of the players from index on
+   */
+  private static int bestValue(List<TeamPlayer> players, int index, int[] counts, int placed) {
+    if (index == players.size()) {
+      return 0;
+    }
+    int best = bestValue(players, index + 1, counts, placed);
+    if (placed == LINEUP_SIZE) {
+      return best;
+    }
+    TeamPlayer player = players.get(index);
+    for (Position position : Position.values()) {
+      if (counts[position.ordinal()] < position.getMaxPlayers()) {
+        counts[position.ordinal()]++;
+        best = Math.max(best, slotValue(player, position)
+            + bestValue(players, index + 1, counts, placed + 1));
+        counts[position.ordinal()]--;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Computes the value of a lineup, in which one level of skill outweighs every possible
+   * preferred position match.
+   *
+   * @param players the players
+   * @param slots   the position of each starting player, or null
+   * @return the value of the lineup
+   */
+  private static int value(List<TeamPlayer> players, Position[] slots) {
+    int value = 0;
+    for (int i = 0; i < slots.length; i++) {
+      if (slots[i] != null) {
+        value += slotValue(players.get(i), slots[i]);
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Computes the value of one player starting in one position.
+   *
+   * @param player   the player
+   * @param position the position
+   * @return the value
+   */
+  private static int slotValue(TeamPlayer player, Position position) {
+    return player.getSkillLevel().getLevel() * (LINEUP_SIZE + 1)
+        + (player.getPreferredPosition() == position ? 1 : 0);
+  }
+
+  /**
+   * Checks that a lineup respects the position limits and the lineup size, and starts as many
+   * players as it can.
+   *
+   * @param players the players
+   * @param slots   the position of each starting player, or null
+   */
+  private static void assertValidLineup(List<TeamPlayer> players, Position[] slots) {
+    assertEquals(players.size(), slots.length);
+    int[] counts = new int[Position.values().length];
+    int placed = 0;
+    for (Position slot : slots) {
+      if (slot != null) {
+        counts[slot.ordinal()]++;
+        placed++;
+      }
+    }
+    for (Position position : Position.values()) {
+      assertTrue(counts[position.ordinal()] <= position.getMaxPlayers());
+    }
+    assertEquals(Math.min(players.size(), LINEUP_SIZE), placed);
+  }
+
+  /**
+   * Checks that two lineups have the same players in the same positions. Players with the same
+   * position and last name may be listed in either order, so both lineups are sorted by the
+   * unique first names first.
+   *
+   * @param expectedLineup the expected lineup
+   * @param actualLineup   the actual lineup
+   */
+  private static void assertSameLineup(List<TeamPlayer> expectedLineup,
+                                       List<TeamPlayer> actualLineup) {
+    Comparator<TeamPlayer> order = Comparator.comparing(TeamPlayer::getTeamPosition)
+        .thenComparing(TeamPlayer::getFirstName);
+    List<TeamPlayer> expected = new ArrayList<>(expectedLineup);
+    List<TeamPlayer> actual = new ArrayList<>(actualLineup);
+    expected.sort(order);
+    actual.sort(order);
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i).getFirstName(), actual.get(i).getFirstName());
+      assertSame(expected.get(i).getTeamPosition(), actual.get(i).getTeamPosition());
+    }
+  }
+
+  /**
+   * Adds up the skill levels of a lineup.
+   *
+   * @param lineup the lineup
+   * @return the total skill level
+   */
+  private static int totalSkill(List<TeamPlayer> lineup) {
+    int total = 0;
+    for (TeamPlayer player : lineup) {
+      total += player.getSkillLevel().getLevel();
+    }
+    return total;
+  }
+
+  /**
+   * Creates a team with the given lineup strategy.
+   *
+   * @param strategy the lineup strategy
+   * @return the new team
+   */
+  private static TeamModelImpl newTeam(LineupStrategy strategy) {
+    return new TeamModelImpl(new JerseyNumberAllocator(1, 20, 3L), new CandidateLog(), strategy);
+  }
+
+  /**
+   * Creates a random player with a few possible last names, so that many players tie.
+   *
+   * @param random the source of randomness
+   * @param index  the number of the player, used as the first name
+   * @return the new player
+   */
+  private static TeamPlayer randomPlayer(Random random, int index) {
+    TeamPlayer player = player(LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+        Position.values()[random.nextInt(Position.values().length)],
+        SkillLevel.values()[random.nextInt(SkillLevel.values().length)]);
+    return new TeamPlayer("P" + index, player.getLastName(), player.getDateOfBirth(),
+        player.getPreferredPosition(), player.getSkillLevel());
+  }
+
+  /**
+   * Creates a seven year old player.
+   *
+   * @param lastName the last name
+   * @param position the preferred position
+   * @param skill    the skill level
+   * @return the new player
+   */
+  private static TeamPlayer player(String lastName, Position position, SkillLevel skill) {
+    return new TeamPlayer("First", lastName, LocalDate.now().minusYears(7).toString(), position,
+        skill);
+  }
+
+  /**
+   * Copies a player, so the same player can try out for two teams.
+   *
+   * @param player the player
+   * @return the copy
+   */
+  private static TeamPlayer copy(TeamPlayer player) {
+    return new TeamPlayer(player.getFirstName(), player.getLastName(), player.getDateOfBirth(),
+        player.getPreferredPosition(), player.getSkillLevel());
+  }
+}
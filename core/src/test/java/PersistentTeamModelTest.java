@@ -0,0 +1,244 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import soccerteam.PersistentTeamModel;
+import soccerteam.Position;
+import soccerteam.SkillLevel;
+import soccerteam.TeamModel;
+import soccerteam.TeamPlayer;
+
+/**
+ * Unit tests for the {@link PersistentTeamModel} class.
+ */
+public class PersistentTeamModelTest {
+  private static final String BIRTH_DATE = LocalDate.now().minusYears(7).toString();
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  /**
+   * Creates the players of a full team history: twenty players of skill one, then twenty of each
+   * higher skill level, each of whom replaces one of the current players.
+   *
+   * @return the players in the order they try out
+   */
+  private static List<TeamPlayer> history() {
+    Random random = new Random(42);
+    Position[] positions = Position.values();
+    List<TeamPlayer> players = new ArrayList<>();
+    for (SkillLevel skill : SkillLevel.values()) {
+      for (int i = 0; i < 20; i++) {
+        players.add(new TeamPlayer("First" + players.size(), "Last" + random.nextInt(30),
+            BIRTH_DATE, positions[random.nextInt(positions.length)], skill));
+      }
+    }
+    return players;
+  }
+
+  /**
+   * Describes everything a reader can see of a team.
+   *
+   * @param team the team to describe
+   * @return the roster, starting lineup and candidates with their jerseys and positions
+   */
+  private static String describe(TeamModel team) {
+    StringBuilder sb = new StringBuilder();
+    for (TeamPlayer player : team.getAllPlayers()) {
+      sb.append(player.toString(true)).append('\n');
+    }
+    sb.append("--\n");
+    for (TeamPlayer player : team.getStartingLineup()) {
+      sb.append(player.toString(true)).append('\n');
+    }
+    sb.append("--\n");
+    for (TeamPlayer player : team.getCandidates()) {
+      sb.append(player.toString(true)).append('\n');
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Tests that a reopened team matches the team that was saved, across snapshots and the
+   * journal tail.
+   *
+   * @throws IOException if the team can't be saved or loaded
+   */
+  @Test
+  public void testReopenRestoresTeam() throws IOException {
+    Path directory = folder.getRoot().toPath();
+    String expected;
+    try (PersistentTeamModel team = new PersistentTeamModel(directory, 4, 7)) {
+      for (TeamPlayer player : history()) {
+        team.addPlayer(player);
+      }
+      expected = describe(team);
+      assertEquals(100, team.getCandidateCount());
+    }
+
+    try (PersistentTeamModel team = new PersistentTeamModel(directory, 4, 7)) {
+      assertEquals(expected, describe(team));
+    }
+  }
+
+  /**
+   * Tests that the journal is compacted into snapshots, so the number of changes replayed on
+   * open stays below the snapshot interval however many changes were made.
+   *
+   * @throws IOException if the team can't be saved
+   */
+  @Test
+  public void testJournalStaysShort() throws IOException {
+    try (PersistentTeamModel team =
+             new PersistentTeamModel(folder.getRoot().toPath(), 0, 10)) {
+      for (TeamPlayer player : history()) {
+        team.addPlayer(player);
+        assertTrue(team.getJournalRecordCount() < 10);
+      }
+    }
+  }
+
+  /**
+   * Tests that a snapshot holds only the roster and lineup, so it does not grow with the
+   * candidate history, while the candidates are still restored from the candidate file.
+   *
+   * @throws IOException if the team can't be saved or loaded
+   */
+  @Test
+  public void testSnapshotDoesNotGrowWithCandidates() throws IOException {
+    Path directory = folder.getRoot().toPath();
+    Path snapshot = directory.resolve("team.snapshot");
+    List<TeamPlayer> players = history();
+    String expected;
+    long fullTeamSize;
+    try (PersistentTeamModel team = new PersistentTeamModel(directory, 0, 1)) {
+      team.addPlayers(players.subList(0, 20));
+      fullTeamSize = Files.size(snapshot);
+      for (TeamPlayer player : players.subList(20, players.size())) {
+        team.addPlayer(player);
+      }
+      assertTrue(Files.size(snapshot) < fullTeamSize + fullTeamSize / 4);
+      expected = describe(team);
+    }
+    try (PersistentTeamModel team = new PersistentTeamModel(directory, 0, 1)) {
+      assertEquals(expected, describe(team));
+    }
+  }
+
+  /**
+   * Tests that candidates appended for a snapshot that was never written are cut off, and
+   * recorded again from the journal.
+   *
+   * @throws IOException if the team can't be saved or loaded
+   */
+  @Test
+  public void testUnsnapshottedCandidatesAreCutOff() throws IOException {
+    Path directory = folder.getRoot().toPath();
+    List<TeamPlayer> players = history();
+    String expected;
+    try (PersistentTeamModel team = new PersistentTeamModel(directory, 1, 3)) {
+      for (int i = 0; i < 14; i++) {
+        team.addPlayer(players.get(i));
+      }
+      expected = describe(team);
+    }
+    try (FileChannel channel = FileChannel.open(directory.resolve("team.candidates"),
+        StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+      channel.write(ByteBuffer.wrap(new byte[] {0, 0, 0, 40, 1, 2, 3}));
+    }
+
+    try (PersistentTeamModel team = new PersistentTeamModel(directory, 1, 3)) {
+      assertEquals(expected, describe(team));
+      team.addPlayer(players.get(14));
+      team.snapshot();
+      expected = describe(team);
+    }
+    try (PersistentTeamModel team = new PersistentTeamModel(directory, 1, 3)) {
+      assertEquals(expected, describe(team));
+      assertEquals(15, team.getCandidateCount());
+    }
+  }
+
+  /**
+   * Tests that batch additions are journaled and restored as one change.
+   *
+   * @throws IOException if the team can't be saved or loaded
+   */
+  @Test
+  public void testBatchAdditionsRestored() throws IOException {
+    Path directory = folder.getRoot().toPath();
+    List<TeamPlayer> players = history();
+    String expected;
+    try (PersistentTeamModel team = new PersistentTeamModel(directory)) {
+      team.addPlayers(players.subList(0, 12));
+      team.addPlayers(players.subList(12, 50));
+      assertEquals(2, team.getJournalRecordCount());
+      expected = describe(team);
+    }
+    try (PersistentTeamModel team = new PersistentTeamModel(directory)) {
+      assertEquals(expected, describe(team));
+      team.addPlayer(players.get(60));
+    }
+  }
+
+  /**
+   * Tests that a record cut off by a crash is dropped and the earlier changes are kept.
+   *
+   * @throws IOException if the team can't be saved or loaded
+   */
+  @Test
+  public void testTornRecordIsDropped() throws IOException {
+    Path directory = folder.getRoot().toPath();
+    List<TeamPlayer> players = history();
+    String expected;
+    try (PersistentTeamModel team = new PersistentTeamModel(directory)) {
+      for (int i = 0; i < 11; i++) {
+        team.addPlayer(players.get(i));
+      }
+      expected = describe(team);
+      team.addPlayer(players.get(11));
+    }
+    try (FileChannel channel = FileChannel.open(directory.resolve("team.journal"),
+        StandardOpenOption.WRITE)) {
+      channel.truncate(channel.size() - 3);
+    }
+
+    try (PersistentTeamModel team = new PersistentTeamModel(directory)) {
+      assertEquals(11, team.getPlayerCount());
+      assertEquals(expected, describe(team));
+      team.addPlayer(players.get(11));
+      assertEquals(12, team.getPlayerCount());
+    }
+    try (PersistentTeamModel team = new PersistentTeamModel(directory)) {
+      assertEquals(12, team.getPlayerCount());
+    }
+  }
+
+  /**
+   * Tests that invalid settings are rejected.
+   *
+   * @throws IOException if the directory can't be used
+   */
+  @Test
+  public void testInvalidSettings() throws IOException {
+    try {
+      new PersistentTeamModel(folder.getRoot().toPath(), -1, 10).close();
+      fail("Expected an IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      assertTrue(e.getMessage().contains("interval"));
+    }
+  }
+}
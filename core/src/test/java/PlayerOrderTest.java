@@ -0,0 +1,153 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import soccerteam.PlayerComparators;
+import soccerteam.PlayerOrder;
+import soccerteam.Position;
+import soccerteam.SkillLevel;
+import soccerteam.TeamPlayer;
+
+/**
+ * Randomized tests checking that {@link PlayerOrder} sorts and selects players exactly like the
+ * comparator chains it replaces.
+ */
+public class PlayerOrderTest {
+  private static final String[] NAME_PARTS = {"", "A", "Ab", "Abb", "Abc", "a", "Ma", "Mc",
+      "Mac", "É", "é", "中", "￿", "😀"};
+  private static final Comparator<TeamPlayer> SELECTION_ORDER =
+      Comparator.comparing((TeamPlayer p) -> p.getSkillLevel().getLevel()).reversed()
+          .thenComparing(p -> p.getPreferredPosition().getOrder())
+          .thenComparing(TeamPlayer::getLastName);
+  private static final Comparator<TeamPlayer> EVICTION_ORDER =
+      Comparator.comparing((TeamPlayer p) -> p.getSkillLevel().getLevel())
+          .thenComparing(p -> p.getPreferredPosition().getOrder())
+          .thenComparing(TeamPlayer::getLastName);
+  private static final Comparator<TeamPlayer> LAST_NAME_ORDER =
+      Comparator.comparing(TeamPlayer::getLastName);
+
+  /**
+   * Tests that sorting gives the same list as a stable sort with the reference comparators.
+   */
+  @Test
+  public void testSortMatchesComparatorChains() {
+    for (long seed = 1; seed <= 200; seed++) {
+      List<TeamPlayer> players = randomPlayers(new Random(seed), 60);
+      assertSameOrder(sorted(players, SELECTION_ORDER), PlayerOrder.SELECTION.sort(players));
+      assertSameOrder(sorted(players, EVICTION_ORDER), PlayerOrder.EVICTION.sort(players));
+      assertSameOrder(sorted(players, LAST_NAME_ORDER), PlayerOrder.LAST_NAME.sort(players));
+    }
+  }
+
+  /**
+   * Tests that comparing two players agrees in sign with the reference comparators.
+   */
+  @Test
+  public void testCompareMatchesComparatorChains() {
+    Random random = new Random(7);
+    List<TeamPlayer> players = randomPlayers(random, 200);
+    for (TeamPlayer a : players) {
+      for (TeamPlayer b : players) {
+        assertEquals(Integer.signum(SELECTION_ORDER.compare(a, b)),
+            Integer.signum(PlayerOrder.SELECTION.compare(a, b)));
+        assertEquals(Integer.signum(EVICTION_ORDER.compare(a, b)),
+            Integer.signum(PlayerComparators.inEvictionOrder().compare(a, b)));
+        assertEquals(Integer.signum(LAST_NAME_ORDER.compare(a, b)),
+            Integer.signum(PlayerComparators.byLastName().compare(a, b)));
+      }
+    }
+  }
+
+  /**
+   * Tests that the minimum is the first of the players the reference comparator ranks lowest.
+   */
+  @Test
+  public void testMinReturnsFirstOfEqualPlayers() {
+    for (long seed = 1; seed <= 200; seed++) {
+      List<TeamPlayer> players = randomPlayers(new Random(seed), 25);
+      assertSame(sorted(players, EVICTION_ORDER).get(0), PlayerOrder.EVICTION.min(players));
+      assertSame(sorted(players, SELECTION_ORDER).get(0), PlayerOrder.SELECTION.min(players));
+    }
+    assertNull(PlayerOrder.EVICTION.min(new ArrayList<TeamPlayer>()));
+  }
+
+  /**
+   * Tests that the skill comparators order by skill level only and are shared.
+   */
+  @Test
+  public void testSkillComparators() {
+    TeamPlayer low = player("Low", SkillLevel.TWO, Position.FORWARD);
+    TeamPlayer high = player("High", SkillLevel.FIVE, Position.GOALIE);
+    assertEquals(-1, Integer.signum(PlayerComparators.bySkillInAscending().compare(low, high)));
+    assertEquals(1, Integer.signum(PlayerComparators.bySkillInDescending().compare(low, high)));
+    assertSame(PlayerComparators.bySkillInAscending(), PlayerComparators.bySkillInAscending());
+  }
+
+  /**
+   * Sorts a copy of the players with a stable sort.
+   *
+   * @param players    the players
+   * @param comparator the order
+   * @return the sorted copy
+   */
+  private static List<TeamPlayer> sorted(List<TeamPlayer> players,
+                                         Comparator<TeamPlayer> comparator) {
+    List<TeamPlayer> copy = new ArrayList<>(players);
+    Collections.sort(copy, comparator);
+    return copy;
+  }
+
+  /**
+   * Checks that two lists hold the same player objects in the same order.
+   *
+   * @param expected the expected players
+   * @param actual   the actual players
+   */
+  private static void assertSameOrder(List<TeamPlayer> expected, List<TeamPlayer> actual) {
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertSame(expected.get(i), actual.get(i));
+    }
+  }
+
+  /**
+   * Creates players with few distinct skills, positions and last names, so that many of them
+   * tie on their packed keys or on every field.
+   *
+   * @param random the source of randomness
+   * @param count  the number of players
+   * @return the players
+   */
+  private static List<TeamPlayer> randomPlayers(Random random, int count) {
+    SkillLevel[] skills = SkillLevel.values();
+    Position[] positions = Position.values();
+    List<TeamPlayer> players = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      String lastName = NAME_PARTS[random.nextInt(NAME_PARTS.length)]
+          + NAME_PARTS[random.nextInt(NAME_PARTS.length)];
+      players.add(player(lastName, skills[random.nextInt(skills.length)],
+          positions[random.nextInt(positions.length)]));
+    }
+    return players;
+  }
+
+  /**
+   * Creates a seven year old player.
+   *
+   * @param lastName the last name
+   * @param skill    the skill level
+   * @param position the preferred position
+   * @return the player
+   */
+  private static TeamPlayer player(String lastName, SkillLevel skill, Position position) {
+    return new TeamPlayer("First", lastName, LocalDate.now().minusYears(7).toString(), position,
+        skill);
+  }
+}
@@ -0,0 +1,232 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import soccerteam.ConcurrentTeamModel;
+import soccerteam.LeagueModelImpl;
+import soccerteam.PlayerQuery;
+import soccerteam.Position;
+import soccerteam.SeasonClock;
+import soccerteam.SkillLevel;
+import soccerteam.TeamModel;
+import soccerteam.TeamModelImpl;
+import soccerteam.TeamPlayer;
+
+/**
+ * Unit tests for {@link PlayerQuery} and the findPlayers methods of teams and leagues.
+ */
+public class PlayerQueryTest {
+  private static final LocalDate AS_OF_DATE = LocalDate.of(2024, 9, 15);
+  private static final String[] LAST_NAMES = {"Martin", "Marsh", "mart", "Amar", "Ma", "Moore",
+      "Taylor", "Tate", "Évans", "Evans"};
+
+  /**
+   * Fixes the season date so that ages do not depend on the day the tests run.
+   */
+  @Before
+  public void setUp() {
+    SeasonClock.fixAsOfDate(AS_OF_DATE);
+  }
+
+  /**
+   * Restores the system clock after each test.
+   */
+  @After
+  public void tearDown() {
+    SeasonClock.useSystemClock();
+  }
+
+  /**
+   * Creates a player.
+   *
+   * @param lastName    the last name
+   * @param birthDate   the birth date
+   * @param position    the preferred position
+   * @param skillLevel  the skill level
+   * @return the new player
+   */
+  private static TeamPlayer player(String lastName, LocalDate birthDate, Position position,
+                                   SkillLevel skillLevel) {
+    return new TeamPlayer("Kid", lastName, birthDate.toString(), position, skillLevel);
+  }
+
+  /**
+   * Gets the last names of players in order.
+   *
+   * @param players the players
+   * @return their last names
+   */
+  private static List<String> lastNames(List<TeamPlayer> players) {
+    List<String> names = new ArrayList<>();
+    for (TeamPlayer player : players) {
+      names.add(player.getLastName());
+    }
+    return names;
+  }
+
+  /**
+   * Tests the examples the query API was made for: the best defenders, the players aging out
+   * this month and last names starting with some letters.
+   */
+  @Test
+  public void testExampleQueries() {
+    TeamModel team = new TeamModelImpl();
+    LocalDate young = AS_OF_DATE.minusYears(7);
+    team.addPlayer(player("Martin", young, Position.DEFENDER, SkillLevel.FIVE));
+    team.addPlayer(player("Marsh", young, Position.DEFENDER, SkillLevel.FOUR));
+    team.addPlayer(player("Amar", AS_OF_DATE.minusYears(10).plusDays(5), Position.DEFENDER,
+        SkillLevel.FIVE));
+    team.addPlayer(player("Moore", AS_OF_DATE.minusYears(10).plusDays(20), Position.GOALIE,
+        SkillLevel.FIVE));
+
+    assertEquals(List.of("Amar", "Martin"), lastNames(team.findPlayers(PlayerQuery.all()
+        .withSkillLevels(SkillLevel.FIVE).withPositions(Position.DEFENDER))));
+    assertEquals(List.of("Amar"), lastNames(team.findPlayers(PlayerQuery.all()
+        .agingOutBy(LocalDate.of(2024, 9, 30)))));
+    assertEquals(List.of("Marsh", "Martin"), lastNames(team.findPlayers(PlayerQuery.all()
+        .withLastNamePrefix("mAr"))));
+    assertEquals(List.of("Amar", "Marsh", "Martin", "Moore"),
+        lastNames(team.findPlayers(PlayerQuery.all())));
+    assertEquals(List.of(), team.findPlayers(PlayerQuery.all().withLastNamePrefix("Mart")
+        .withSkillLevels(SkillLevel.ONE)));
+    assertEquals(List.of("Moore"), lastNames(team.findPlayers(PlayerQuery.all()
+        .bornBetween(AS_OF_DATE.minusYears(10).plusDays(6),
+            AS_OF_DATE.minusYears(10).plusDays(30)))));
+  }
+
+  /**
+   * Tests that the indexes give the same answers as checking every player on the roster,
+   * through many random additions and replacements.
+   */
+  @Test
+  public void testIndexesMatchFullScan() {
+    Position[] positions = Position.values();
+    SkillLevel[] skills = SkillLevel.values();
+    for (long seed = 1; seed <= 20; seed++) {
+      Random random = new Random(seed);
+      TeamModel team = seed % 2 == 0 ? new TeamModelImpl() : new ConcurrentTeamModel();
+      for (int i = 0; i < 120; i++) {
+        TeamPlayer player = player(LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+            AS_OF_DATE.minusDays(365 * 4 + random.nextInt(365 * 6 - 1)),
+            positions[random.nextInt(positions.length)], skills[random.nextInt(skills.length)]);
+        team.addPlayer(player);
+
+        List<TeamPlayer> roster = team.findPlayers(PlayerQuery.all());
+        assertEquals(team.getPlayerCount(), roster.size());
+        if (roster.size() >= 10) {
+          assertEquals(lastNames(team.getAllPlayers()), lastNames(roster));
+        }
+        PlayerQuery query = randomQuery(random);
+        List<String> expected = new ArrayList<>();
+        for (TeamPlayer candidate : roster) {
+          if (query.matches(candidate)) {
+            expected.add(candidate.getLastName() + candidate.getBirthDate());
+          }
+        }
+        List<String> actual = new ArrayList<>();
+        for (TeamPlayer match : team.findPlayers(query)) {
+          assertTrue(query.matches(match));
+          actual.add(match.getLastName() + match.getBirthDate());
+        }
+        expected.sort(null);
+        actual.sort(null);
+        assertEquals(expected, actual);
+      }
+    }
+  }
+
+  /**
+   * Makes a query with a random mix of conditions.
+   *
+   * @param random the random number generator
+   * @return the query
+   */
+  private static PlayerQuery randomQuery(Random random) {
+    PlayerQuery query = PlayerQuery.all();
+    if (random.nextBoolean()) {
+      query = query.withPositions(Position.values()[random.nextInt(4)],
+          Position.values()[random.nextInt(4)]);
+    }
+    if (random.nextBoolean()) {
+      query = query.withSkillLevels(SkillLevel.values()[random.nextInt(5)]);
+    }
+    if (random.nextBoolean()) {
+      LocalDate from = AS_OF_DATE.minusDays(365 * 4 + random.nextInt(365 * 6));
+      query = query.bornBetween(from, from.plusDays(random.nextInt(800)));
+    }
+    if (random.nextInt(3) == 0) {
+      query = query.agingOutBy(AS_OF_DATE.plusDays(random.nextInt(900)));
+    }
+    if (random.nextBoolean()) {
+      String name = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+      query = query.withLastNamePrefix(name.substring(0, 1 + random.nextInt(name.length())));
+    }
+    return query;
+  }
+
+  /**
+   * Tests searching one team and every team of a league.
+   */
+  @Test
+  public void testLeagueQueries() {
+    LeagueModelImpl league = new LeagueModelImpl(3, TeamModelImpl::new);
+    try {
+      for (String name : List.of("Lions", "Tigers", "Bears")) {
+        league.registerTeam(name);
+        league.addPlayer(name, player("Martin" + name, AS_OF_DATE.minusYears(8),
+            Position.GOALIE, SkillLevel.TWO));
+      }
+      league.addPlayer("Tigers", player("Moore", AS_OF_DATE.minusYears(8), Position.FORWARD,
+          SkillLevel.FIVE));
+
+      Map<String, List<TeamPlayer>> found = league.findPlayers(PlayerQuery.all()
+          .withPositions(Position.GOALIE));
+      assertEquals(List.of("Bears", "Lions", "Tigers"), new ArrayList<>(found.keySet()));
+      assertEquals(List.of("MartinTigers"), lastNames(found.get("Tigers")));
+      assertEquals(List.of("Tigers"), new ArrayList<>(league.findPlayers(PlayerQuery.all()
+          .withSkillLevels(SkillLevel.FIVE)).keySet()));
+      assertEquals(List.of("Moore"), lastNames(league.findPlayers("Tigers",
+          PlayerQuery.all().withLastNamePrefix("mo"))));
+      try {
+        league.findPlayers("Pumas", PlayerQuery.all());
+        fail("Expected an unknown team to be refused");
+      } catch (IllegalArgumentException expected) {
+        // Expected
+      }
+    } finally {
+      league.close();
+    }
+  }
+
+  /**
+   * Tests that invalid conditions are refused.
+   */
+  @Test
+  public void testInvalidQueries() {
+    PlayerQuery all = PlayerQuery.all();
+    List<Runnable> invalid = List.of(
+        () -> all.withPositions(),
+        () -> all.withSkillLevels((SkillLevel) null),
+        () -> all.bornBetween(AS_OF_DATE, AS_OF_DATE.minusDays(1)),
+        () -> all.bornBetween(null, AS_OF_DATE),
+        () -> all.agingOutBy(null),
+        () -> all.withLastNamePrefix(""),
+        () -> new TeamModelImpl().findPlayers(null));
+    for (Runnable call : invalid) {
+      try {
+        call.run();
+        fail("Expected an IllegalArgumentException");
+      } catch (IllegalArgumentException expected) {
+        // Expected
+      }
+    }
+  }
+}
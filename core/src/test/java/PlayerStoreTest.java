@@ -0,0 +1,124 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.Test;
+import soccerteam.CandidateLog;
+import soccerteam.JerseyNumberAllocator;
+import soccerteam.PlayerStore;
+import soccerteam.Position;
+import soccerteam.SkillLevel;
+import soccerteam.StoredPlayer;
+import soccerteam.TeamModelImpl;
+import soccerteam.TeamPlayer;
+
+/**
+ * Unit tests for the {@link PlayerStore} class and the columnar {@link CandidateLog}.
+ */
+public class PlayerStoreTest {
+  private static final LocalDate BIRTH_DATE = LocalDate.now().minusYears(8);
+  private static final int FOOTPRINT_PLAYERS = 200_000;
+
+  /**
+   * Creates a player whose names come from small pools but are new String objects, the way
+   * names typed into a form or read from a file would be.
+   *
+   * @param index the index used to pick the player's attributes
+   * @return a new player
+   */
+  private static TeamPlayer player(int index) {
+    return new TeamPlayer("First" + (index % 300), "Last" + (index % 700),
+        BIRTH_DATE.minusDays(index % 1000).toString(),
+        Position.values()[index % Position.values().length],
+        SkillLevel.values()[index % SkillLevel.values().length]);
+  }
+
+  /**
+   * Tests that every attribute is stored and read back, and that names are interned.
+   */
+  @Test
+  public void testRoundTrip() {
+    PlayerStore store = new PlayerStore();
+    for (int i = 0; i < 1000; i++) {
+      TeamPlayer player = player(i);
+      assertEquals(i, store.add(player));
+    }
+    assertEquals(1000, store.size());
+    assertEquals(1000, store.getDistinctNameCount());
+
+    for (int i = 0; i < 1000; i++) {
+      TeamPlayer expected = player(i);
+      StoredPlayer view = store.get(i);
+      assertEquals(i, view.getIndex());
+      assertEquals(expected.getFullName(), view.getFullName());
+      assertEquals(expected.getDateOfBirth(), view.getDateOfBirth());
+      assertEquals(expected.getAge(), view.getAge());
+      assertEquals(expected.getPreferredPosition(), view.getPreferredPosition());
+      assertEquals(expected.getSkillLevel(), view.getSkillLevel());
+      assertNull(view.getTeamPosition());
+      assertEquals(0, view.getJerseyNumber());
+      assertEquals(expected.getDateOfBirth(), view.toTeamPlayer().getDateOfBirth());
+    }
+  }
+
+  /**
+   * Tests that changes made through the store are seen through existing views.
+   */
+  @Test
+  public void testViewsSeeUpdates() {
+    PlayerStore store = new PlayerStore();
+    StoredPlayer view = store.get(store.add(player(3)));
+    store.setJerseyNumber(0, 12);
+    store.setTeamPosition(0, Position.GOALIE);
+    assertEquals(12, view.getJerseyNumber());
+    assertEquals(Position.GOALIE, view.getTeamPosition());
+    assertEquals(view.toString(), store.toTeamPlayer(0).toString());
+  }
+
+  /**
+   * Tests that a team recording candidates in a columnar log reports the same candidates as a
+   * team with the default log.
+   */
+  @Test
+  public void testTeamRunsOnColumnarLog() {
+    TeamModelImpl objects = new TeamModelImpl(new JerseyNumberAllocator(1, 20, 9L));
+    TeamModelImpl columnar = new TeamModelImpl(new JerseyNumberAllocator(1, 20, 9L),
+        CandidateLog.columnar());
+    for (int i = 0; i < 100; i++) {
+      SkillLevel skill = i < 20 ? SkillLevel.ONE : SkillLevel.values()[1 + (i - 20) / 20];
+      TeamPlayer player = new TeamPlayer("P" + i, "L" + i % 7, BIRTH_DATE.toString(),
+          Position.values()[i % 4], skill);
+      TeamPlayer copy = new TeamPlayer("P" + i, "L" + i % 7, BIRTH_DATE.toString(),
+          Position.values()[i % 4], skill);
+      assertEquals(objects.addPlayer(player), columnar.addPlayer(copy));
+    }
+    List<TeamPlayer> expected = objects.getCandidates();
+    List<TeamPlayer> actual = columnar.getCandidates();
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i).toString(true), actual.get(i).toString(true));
+      assertEquals(expected.get(i).getDateOfBirth(), actual.get(i).getDateOfBirth());
+      assertEquals(expected.get(i).getSkillLevel(), actual.get(i).getSkillLevel());
+    }
+  }
+
+  /**
+   * Tests that the columns grow by doubling, so their capacity stays within twice the number of
+   * players, and that they hold 19 bytes per player: four int columns and three byte columns.
+   */
+  @Test
+  public void testFootprint() {
+    PlayerStore store = new PlayerStore();
+    assertEquals(16, store.getCapacity());
+    for (int i = 0; i < FOOTPRINT_PLAYERS; i++) {
+      store.add(player(i));
+      assertTrue(store.getCapacity() >= store.size());
+    }
+    assertEquals(FOOTPRINT_PLAYERS, store.size());
+    assertTrue(store.getCapacity() < 2 * FOOTPRINT_PLAYERS);
+    assertEquals(19L * store.getCapacity(), store.getColumnBytes());
+    assertEquals(1000, store.getDistinctNameCount());
+  }
+}
@@ -0,0 +1,328 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import soccerteam.ImportResult;
+import soccerteam.LeagueModelImpl;
+import soccerteam.RegistrationImporter;
+import soccerteam.TeamModelImpl;
+import soccerteam.TeamPlayer;
+
+/**
+ * Unit tests for the {@link RegistrationImporter} class.
+ */
+public class RegistrationImporterTest {
+  private static final String BIRTH_DATE = LocalDate.now().minusYears(7).toString();
+  private static final String TOO_OLD = LocalDate.now().minusYears(12).toString();
+  private static final String HEADER = "team,firstName,lastName,dateOfBirth,position,skillLevel\n";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private LeagueModelImpl league;
+  private ExecutorService checkers;
+
+  /**
+   * Sets up a league with four shards and a pool of checker threads.
+   */
+  @Before
+  public void setUp() {
+    league = new LeagueModelImpl(4, TeamModelImpl::new);
+    checkers = Executors.newFixedThreadPool(4);
+  }
+
+  /**
+   * Shuts down the league and the checker threads after each test.
+   */
+  @After
+  public void tearDown() {
+    league.close();
+    checkers.shutdownNow();
+  }
+
+  /**
+   * Tests that valid CSV records are added and invalid ones are written to the rejects with
+   * their record number and reason, including quoted fields.
+   */
+  @Test
+  public void testCsvImportWithRejects() throws IOException {
+    String csv = HEADER
+        + "Tigers,Ann,Lee," + BIRTH_DATE + ",goalie,5\n"
+        + "Tigers,\"Bo, Jr.\",\"O\"\"Neil\"," + BIRTH_DATE + ",FORWARD,THREE\n"
+        + "\n"
+        + "Tigers,Cy,Ray,07/01/2018,DEFENDER,2\n"
+        + "Lions,Di,Fox," + TOO_OLD + ",DEFENDER,2\n"
+        + "Lions,Ed,Gray," + BIRTH_DATE + ",STRIKER,2\n"
+        + "Lions,Flo,Hu," + BIRTH_DATE + ",MIDFIELDER,6\n"
+        + ",Gus,Ives," + BIRTH_DATE + ",MIDFIELDER,1\r\n"
+        + "Lions,Hal,Jo," + BIRTH_DATE + ",midfielder,one\r\n";
+    StringWriter rejects = new StringWriter();
+
+    ImportResult result = new RegistrationImporter(league, checkers, 2, true)
+        .importRecords(new StringReader(csv), RegistrationImporter.Format.CSV, rejects);
+
+    assertEquals(8, result.getRecordCount());
+    assertEquals(3, result.getAddedCount());
+    assertEquals(0, result.getNotSelectedCount());
+    assertEquals(5, result.getRejectedCount());
+    assertEquals(List.of("Lions", "Tigers"), league.getTeamNames());
+    assertEquals(List.of("Lee", "O\"Neil"), lastNames(league.getCandidates("Tigers")));
+    assertEquals("Bo, Jr.", league.getCandidates("Tigers").get(1).getFirstName());
+
+    String[] lines = rejects.toString().split("\n");
+    assertEquals(6, lines.length);
+    assertEquals("record,reason,team,firstName,lastName,dateOfBirth,position,skillLevel",
+        lines[0]);
+    assertTrue(lines[1].startsWith("3,Invalid date of birth format"));
+    assertEquals("4,Player age must be between 0 and 10.,Lions,Di,Fox," + TOO_OLD
+        + ",DEFENDER,2", lines[2]);
+    assertTrue(lines[3].startsWith("5,Invalid position: STRIKER,"));
+    assertTrue(lines[4].startsWith("6,Invalid skill level: 6,"));
+    assertTrue(lines[5].startsWith("7,Missing team,"));
+  }
+
+  /**
+   * Tests that a record with a blank team and an invalid player is rejected for its team.
+   */
+  @Test
+  public void testMissingTeamIsReportedFirst() throws IOException {
+    String csv = HEADER + "  ,Ivy,Kay," + TOO_OLD + ",STRIKER,9\n";
+    StringWriter rejects = new StringWriter();
+
+    ImportResult result = new RegistrationImporter(league, checkers, 2, true)
+        .importRecords(new StringReader(csv), RegistrationImporter.Format.CSV, rejects);
+
+    assertEquals(1, result.getRejectedCount());
+    assertTrue(rejects.toString().split("\n")[1].startsWith("1,Missing team,"));
+  }
+
+  /**
+   * Tests that a JSON array and one object per line are both read.
+   */
+  @Test
+  public void testJsonImport() throws IOException {
+    String array = "[{\"team\": \"Tigers\", \"firstName\": \"Ann\", \"lastName\": \"L\\u00e9e\","
+        + " \"dateOfBirth\": \"" + BIRTH_DATE + "\", \"position\": \"GOALIE\", \"skillLevel\": 4},"
+        + " {\"team\": \"Tigers\", \"firstName\": \"Bo\", \"lastName\": null,"
+        + " \"dateOfBirth\": \"" + BIRTH_DATE + "\", \"position\": \"GOALIE\", \"skillLevel\": 4}]";
+    String lines = "{\"team\":\"Lions\",\"first_name\":\"Cy\",\"last_name\":\"Ray\","
+        + "\"date_of_birth\":\"" + BIRTH_DATE + "\",\"position\":\"forward\","
+        + "\"skill_level\":\"2\"}\n"
+        + "{\"team\":\"Lions\",\"first_name\":\"Di\",\"last_name\":\"Fox\","
+        + "\"date_of_birth\":\"" + BIRTH_DATE + "\",\"position\":\"forward\","
+        + "\"skill_level\":\"2\"}\n";
+    RegistrationImporter importer = new RegistrationImporter(league, checkers, 8, true);
+    StringWriter rejects = new StringWriter();
+
+    ImportResult first = importer.importRecords(new StringReader(array),
+        RegistrationImporter.Format.JSON, rejects);
+    ImportResult second = importer.importRecords(new StringReader(lines),
+        RegistrationImporter.Format.JSON, null);
+
+    assertEquals(2, first.getRecordCount());
+    assertEquals(1, first.getAddedCount());
+    assertEquals(1, first.getRejectedCount());
+    assertTrue(rejects.toString().contains("\n2,Missing lastname,Tigers,Bo,,"));
+    assertEquals("Lée", league.getCandidates("Tigers").get(0).getLastName());
+    assertEquals(2, second.getAddedCount());
+    assertEquals(List.of("Ray", "Fox"), lastNames(league.getCandidates("Lions")));
+  }
+
+  /**
+   * Tests that every team receives its players in file order, even with a small window and
+   * records spread over many shards.
+   */
+  @Test
+  public void testTeamsSeePlayersInFileOrder() throws IOException {
+    StringBuilder csv = new StringBuilder(HEADER);
+    List<List<String>> expected = new ArrayList<>();
+    for (int team = 0; team < 6; team++) {
+      expected.add(new ArrayList<>());
+    }
+    for (int i = 0; i < 6 * 18; i++) {
+      int team = (i * 7) % 6;
+      csv.append("Team").append(team).append(",P,Last").append(i).append(',')
+          .append(BIRTH_DATE).append(",MIDFIELDER,").append(1 + i % 5).append('\n');
+      expected.get(team).add("Last" + i);
+    }
+
+    ImportResult result = new RegistrationImporter(league, checkers, 3, true)
+        .importRecords(new StringReader(csv.toString()), RegistrationImporter.Format.CSV, null);
+
+    assertEquals(6 * 18, result.getAddedCount());
+    for (int team = 0; team < 6; team++) {
+      assertEquals(expected.get(team), lastNames(league.getCandidates("Team" + team)));
+    }
+  }
+
+  /**
+   * Tests that records for unknown teams are rejected when teams are not registered on demand,
+   * and that players the team turns away are counted as not selected.
+   */
+  @Test
+  public void testUnknownTeamsAndFullRosters() throws IOException {
+    league.registerTeam("Tigers");
+    StringBuilder csv = new StringBuilder(HEADER);
+    for (int i = 0; i < 25; i++) {
+      csv.append("Tigers,P,Last").append(i).append(',').append(BIRTH_DATE)
+          .append(",DEFENDER,3\n");
+    }
+    csv.append("Lions,P,Other,").append(BIRTH_DATE).append(",DEFENDER,3\n");
+    StringWriter rejects = new StringWriter();
+
+    ImportResult result = new RegistrationImporter(league, checkers, 16, false)
+        .importRecords(new StringReader(csv.toString()), RegistrationImporter.Format.CSV, rejects);
+
+    assertEquals(20, result.getAddedCount());
+    assertEquals(5, result.getNotSelectedCount());
+    assertEquals(1, result.getRejectedCount());
+    assertEquals(List.of("Tigers"), league.getTeamNames());
+    assertTrue(rejects.toString().contains("\n26,No such team: Lions,Lions,"));
+  }
+
+  /**
+   * Tests importing a file whose records are generated as they are read, so the whole input
+   * never exists at once.
+   */
+  @Test
+  public void testLargeStreamedInput() throws IOException {
+    int records = 50_000;
+    Reader input = new GeneratedCsv(records, 40);
+
+    ImportResult result = new RegistrationImporter(league, checkers, 64, true)
+        .importRecords(input, RegistrationImporter.Format.CSV, null);
+
+    assertEquals(records, result.getRecordCount());
+    assertEquals(records, result.getAddedCount() + result.getNotSelectedCount());
+    assertEquals(40, league.getTeamNames().size());
+    for (String team : league.getTeamNames()) {
+      assertEquals(20, league.getAllPlayers(team).size());
+    }
+  }
+
+  /**
+   * Tests importing from files, with the format taken from the extension.
+   */
+  @Test
+  public void testImportFile() throws IOException {
+    Path input = folder.getRoot().toPath().resolve("players.ndjson");
+    Path rejects = folder.getRoot().toPath().resolve("rejects.csv");
+    Files.writeString(input, "{\"team\":\"Tigers\",\"firstName\":\"Ann\",\"lastName\":\"Lee\","
+        + "\"dateOfBirth\":\"" + BIRTH_DATE + "\",\"position\":\"GOALIE\",\"skillLevel\":5}\n"
+        + "{\"team\":\"Tigers\"}\n", StandardCharsets.UTF_8);
+
+    ImportResult result = new RegistrationImporter(league).importFile(input, rejects);
+
+    assertEquals(1, result.getAddedCount());
+    assertEquals(1, result.getRejectedCount());
+    assertEquals(2, Files.readAllLines(rejects).size());
+    try {
+      RegistrationImporter.Format.of(folder.getRoot().toPath().resolve("players.txt"));
+      fail("Expected an unknown extension to be refused");
+    } catch (IllegalArgumentException expected) {
+      // Expected
+    }
+  }
+
+  /**
+   * Tests that malformed input stops the import with an IOException after the records before
+   * it have been applied.
+   */
+  @Test
+  public void testMalformedInput() {
+    String json = "{\"team\":\"Tigers\",\"firstName\":\"Ann\",\"lastName\":\"Lee\","
+        + "\"dateOfBirth\":\"" + BIRTH_DATE + "\",\"position\":\"GOALIE\",\"skillLevel\":5}\n"
+        + "{\"team\":{\"name\":\"Tigers\"}}";
+    try {
+      new RegistrationImporter(league, checkers, 4, true).importRecords(new StringReader(json),
+          RegistrationImporter.Format.JSON, null);
+      fail("Expected malformed input to be refused");
+    } catch (IOException expected) {
+      assertEquals("Nested values are not supported in record 2", expected.getMessage());
+    }
+    assertEquals(1, league.getCandidates("Tigers").size());
+
+    try {
+      new RegistrationImporter(league).importRecords(new StringReader(HEADER + "Tigers,\"Bo"),
+          RegistrationImporter.Format.CSV, null);
+      fail("Expected an unclosed quote to be refused");
+    } catch (IOException expected) {
+      assertEquals("Quoted field is not closed in record 1", expected.getMessage());
+    }
+  }
+
+  /**
+   * Gets the last names of players in order.
+   *
+   * @param players the players
+   * @return their last names
+   */
+  private static List<String> lastNames(List<TeamPlayer> players) {
+    List<String> names = new ArrayList<>();
+    for (TeamPlayer player : players) {
+      names.add(player.getLastName());
+    }
+    return names;
+  }
+
+  /**
+   * A CSV reader whose rows are made up as they are read.
+   */
+  private static final class GeneratedCsv extends Reader {
+    private final int records;
+    private final int teams;
+    private String row = HEADER;
+    private int offset;
+    private int index;
+
+    /**
+     * Constructs a GeneratedCsv.
+     *
+     * @param records the number of rows after the header
+     * @param teams   the number of teams the rows are spread over
+     */
+    GeneratedCsv(int records, int teams) {
+      this.records = records;
+      this.teams = teams;
+    }
+
+    @Override
+    public int read(char[] buffer, int start, int length) {
+      if (offset == row.length()) {
+        if (index == records) {
+          return -1;
+        }
+        row = "Team" + (index % teams) + ",First" + index + ",Last" + index + ","
+            + BIRTH_DATE + ",DEFENDER," + (1 + index % 5) + "\n";
+        offset = 0;
+        index++;
+      }
+      int count = Math.min(length, row.length() - offset);
+      row.getChars(offset, offset + count, buffer, start);
+      offset += count;
+      return count;
+    }
+
+    @Override
+    public void close() {
+      // Nothing to release
+    }
+  }
+}
@@ -0,0 +1,221 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import soccerteam.ConcurrentTeamModel;
+import soccerteam.PersistentTeamModel;
+import soccerteam.Position;
+import soccerteam.RosterEvent;
+import soccerteam.RosterListener;
+import soccerteam.SkillLevel;
+import soccerteam.TeamModelImpl;
+import soccerteam.TeamPlayer;
+
+/**
+ * Unit tests for the roster events delivered to {@link RosterListener}s.
+ */
+public class RosterEventTest {
+  private static final String BIRTH_DATE = LocalDate.now().minusYears(7).toString();
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  /**
+   * Tests the events of filling a team up to the size where it gets a starting lineup.
+   */
+  @Test
+  public void testEventsWhileFillingTeam() {
+    TeamModelImpl team = new TeamModelImpl();
+    List<List<RosterEvent>> batches = new ArrayList<>();
+    team.addRosterListener(batches::add);
+    for (int i = 0; i < 10; i++) {
+      team.addPlayer(player("P" + i, Position.values()[i % 4], SkillLevel.THREE));
+    }
+
+    assertEquals(10, batches.size());
+    List<RosterEvent> first = batches.get(0);
+    assertEquals(2, first.size());
+    assertSame(RosterEvent.Type.PLAYER_ADDED, first.get(0).getType());
+    assertSame(RosterEvent.Type.JERSEY_ASSIGNED, first.get(1).getType());
+    assertEquals("P0", first.get(1).getPlayer().getLastName());
+    assertTrue(first.get(1).getJerseyNumber() >= 1);
+
+    List<RosterEvent> last = batches.get(9);
+    assertEquals(2 + 7, last.size());
+    for (RosterEvent event : last.subList(2, 9)) {
+      assertSame(RosterEvent.Type.LINEUP_SLOT_CHANGED, event.getType());
+      assertNull(event.getOldSlot());
+      assertSame(event.getNewSlot(), event.getPlayer().getTeamPosition());
+      assertEquals(team.getSnapshot().getVersion(), event.getVersion());
+    }
+  }
+
+  /**
+   * Tests that replacing a starting player reports the eviction and the player leaving the
+   * lineup, and that a rejected player produces no events.
+   */
+  @Test
+  public void testReplacementEvents() {
+    TeamModelImpl team = new TeamModelImpl();
+    for (int i = 0; i < 20; i++) {
+      team.addPlayer(player("P" + i, Position.DEFENDER, SkillLevel.ONE));
+    }
+    List<List<RosterEvent>> batches = new ArrayList<>();
+    team.addRosterListener(batches::add);
+    team.addPlayer(player("Rejected", Position.GOALIE, SkillLevel.ONE));
+    assertTrue(batches.isEmpty());
+
+    team.addPlayer(player("Star", Position.GOALIE, SkillLevel.FIVE));
+    List<RosterEvent> events = batches.get(0);
+    assertSame(RosterEvent.Type.PLAYER_EVICTED, events.get(0).getType());
+    assertSame(RosterEvent.Type.PLAYER_ADDED, events.get(1).getType());
+    assertEquals("Star", events.get(1).getPlayer().getLastName());
+    boolean starStarts = false;
+    for (RosterEvent event : events) {
+      if (event.getType() == RosterEvent.Type.LINEUP_SLOT_CHANGED
+          && event.getPlayer().getLastName().equals("Star")) {
+        starStarts = event.getNewSlot() == Position.GOALIE;
+      }
+    }
+    assertTrue(starStarts);
+  }
+
+  /**
+   * Tests that a roster and lineup kept up to date from events alone always match the team.
+   */
+  @Test
+  public void testDeltasRebuildRosterAndLineup() {
+    for (long seed = 1; seed <= 50; seed++) {
+      Random random = new Random(seed);
+      TeamModelImpl team = new TeamModelImpl();
+      Set<Integer> roster = new HashSet<>();
+      Map<Integer, Position> lineup = new HashMap<>();
+      team.addRosterListener(events -> apply(events, roster, lineup));
+      for (int i = 0; i < 60; i++) {
+        team.addPlayer(player("P" + i, Position.values()[random.nextInt(4)],
+            SkillLevel.values()[random.nextInt(5)]));
+        assertEquals(team.getPlayerCount(), roster.size());
+        if (team.getPlayerCount() >= 10) {
+          Set<Integer> expectedRoster = new HashSet<>();
+          for (TeamPlayer player : team.getAllPlayers()) {
+            expectedRoster.add(player.getJerseyNumber());
+          }
+          assertEquals(expectedRoster, roster);
+          Map<Integer, Position> expectedLineup = new HashMap<>();
+          for (TeamPlayer player : team.getStartingLineup()) {
+            expectedLineup.put(player.getJerseyNumber(), player.getTeamPosition());
+          }
+          assertEquals(expectedLineup, lineup);
+        }
+      }
+    }
+  }
+
+  /**
+   * Tests that a removed listener is not called and that a null listener is rejected.
+   */
+  @Test
+  public void testRemoveListener() {
+    TeamModelImpl team = new TeamModelImpl();
+    List<List<RosterEvent>> batches = new ArrayList<>();
+    RosterListener listener = batches::add;
+    team.addRosterListener(listener);
+    team.addPlayer(player("A", Position.GOALIE, SkillLevel.ONE));
+    team.removeRosterListener(listener);
+    team.addPlayer(player("B", Position.GOALIE, SkillLevel.ONE));
+    assertEquals(1, batches.size());
+    try {
+      team.addRosterListener(null);
+      throw new AssertionError("Expected IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  /**
+   * Tests that a concurrent team calls its listeners after publishing the new snapshot.
+   */
+  @Test
+  public void testConcurrentTeamPublishesBeforeNotifying() {
+    ConcurrentTeamModel team = new ConcurrentTeamModel();
+    List<Long> seenVersions = new ArrayList<>();
+    team.addRosterListener(events -> {
+      assertEquals(events.get(0).getVersion(), team.getSnapshot().getVersion());
+      seenVersions.add(events.get(0).getVersion());
+    });
+    team.addPlayer(player("A", Position.GOALIE, SkillLevel.ONE));
+    team.addPlayer(player("B", Position.GOALIE, SkillLevel.ONE));
+    assertEquals(2, seenVersions.size());
+  }
+
+  /**
+   * Tests that a persistent team calls its listeners after the change is journaled.
+   *
+   * @throws Exception if the team can't be saved
+   */
+  @Test
+  public void testPersistentTeamJournalsBeforeNotifying() throws Exception {
+    try (PersistentTeamModel team = new PersistentTeamModel(folder.getRoot().toPath())) {
+      List<Integer> journaled = new ArrayList<>();
+      team.addRosterListener(events -> journaled.add(team.getJournalRecordCount()));
+      team.addPlayer(player("A", Position.GOALIE, SkillLevel.ONE));
+      team.addPlayer(player("B", Position.GOALIE, SkillLevel.ONE));
+      assertEquals(List.of(1, 2), journaled);
+    }
+  }
+
+  /**
+   * Applies roster events to a roster and lineup kept by jersey number.
+   *
+   * @param events the events
+   * @param roster the jersey numbers on the roster
+   * @param lineup the lineup slot of each starting jersey number
+   */
+  private static void apply(List<RosterEvent> events, Set<Integer> roster,
+                            Map<Integer, Position> lineup) {
+    for (RosterEvent event : events) {
+      switch (event.getType()) {
+        case JERSEY_ASSIGNED:
+          roster.add(event.getJerseyNumber());
+          break;
+        case PLAYER_EVICTED:
+          roster.remove(event.getJerseyNumber());
+          break;
+        case LINEUP_SLOT_CHANGED:
+          assertSame(event.getOldSlot(), lineup.get(event.getJerseyNumber()));
+          if (event.getNewSlot() == null) {
+            lineup.remove(event.getJerseyNumber());
+          } else {
+            lineup.put(event.getJerseyNumber(), event.getNewSlot());
+          }
+          break;
+        default:
+          break;
+      }
+    }
+  }
+
+  /**
+   * Creates a seven year old player.
+   *
+   * @param lastName the last name
+   * @param position the preferred position
+   * @param skill    the skill level
+   * @return the new player
+   */
+  private static TeamPlayer player(String lastName, Position position, SkillLevel skill) {
+    return new TeamPlayer("First", lastName, BIRTH_DATE, position, skill);
+  }
+}
@@ -0,0 +1,109 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import soccerteam.Position;
+import soccerteam.RosterSnapshot;
+import soccerteam.SkillLevel;
+import soccerteam.TeamModelImpl;
+import soccerteam.TeamPlayer;
+
+/**
+ * Unit tests for the {@link RosterSnapshot} class and the snapshots published by
+ * {@link TeamModelImpl}.
+ */
+public class RosterSnapshotTest {
+  private static final String BIRTH_DATE = LocalDate.now().minusYears(8).toString();
+  private TeamModelImpl team;
+
+  /**
+   * Sets up the test environment by creating a team with twenty players.
+   */
+  @Before
+  public void setUp() {
+    team = new TeamModelImpl();
+    Position[] positions = Position.values();
+    for (int i = 0; i < 20; i++) {
+      team.addPlayer(new TeamPlayer("First" + i, "Last" + i, BIRTH_DATE,
+          positions[i % positions.length], SkillLevel.THREE));
+    }
+  }
+
+  /**
+   * Tests that reads without a change in between share the same lists.
+   */
+  @Test
+  public void testReadsShareSnapshot() {
+    RosterSnapshot snapshot = team.getSnapshot();
+    assertSame(snapshot, team.getSnapshot());
+    assertSame(team.getAllPlayers(), team.getAllPlayers());
+    assertSame(team.getStartingLineup(), team.getStartingLineup());
+    assertSame(team.getCandidates(), team.getCandidates());
+    assertSame(snapshot.getAllPlayers(), team.getAllPlayers());
+  }
+
+  /**
+   * Tests that a successful add publishes a new snapshot with a higher version.
+   */
+  @Test
+  public void testAddPublishesNewSnapshot() {
+    RosterSnapshot before = team.getSnapshot();
+    List<TeamPlayer> lineupBefore = team.getStartingLineup();
+    assertTrue(team.addPlayer(new TeamPlayer("New", "Star", BIRTH_DATE,
+        Position.GOALIE, SkillLevel.FIVE)));
+    RosterSnapshot after = team.getSnapshot();
+    assertNotSame(before, after);
+    assertEquals(before.getVersion() + 1, after.getVersion());
+    assertEquals(21, after.getCandidates().size());
+    assertEquals(20, before.getCandidates().size());
+    assertNotSame(lineupBefore, team.getStartingLineup());
+  }
+
+  /**
+   * Tests that a rejected add keeps the current snapshot.
+   */
+  @Test
+  public void testRejectedAddKeepsSnapshot() {
+    RosterSnapshot before = team.getSnapshot();
+    assertEquals(false, team.addPlayer(new TeamPlayer("Low", "Skill", BIRTH_DATE,
+        Position.FORWARD, SkillLevel.ONE)));
+    assertSame(before, team.getSnapshot());
+  }
+
+  /**
+   * Tests that the lists in a snapshot are sorted and that later changes to the team do not leak
+   * into an older snapshot.
+   */
+  @Test
+  public void testSnapshotIsSortedAndStable() {
+    RosterSnapshot before = team.getSnapshot();
+    List<TeamPlayer> players = before.getAllPlayers();
+    for (int i = 1; i < players.size(); i++) {
+      assertTrue(players.get(i - 1).getLastName().compareTo(players.get(i).getLastName()) <= 0);
+    }
+    List<TeamPlayer> lineup = before.getStartingLineup();
+    assertEquals(7, lineup.size());
+    for (int i = 1; i < lineup.size(); i++) {
+      assertTrue(lineup.get(i - 1).getTeamPosition().compareTo(lineup.get(i).getTeamPosition())
+          <= 0);
+    }
+    List<Position> positionsBefore = lineup.stream().map(TeamPlayer::getTeamPosition).toList();
+    team.addPlayer(new TeamPlayer("New", "Aaron", BIRTH_DATE, Position.MIDFIELDER,
+        SkillLevel.FIVE));
+    assertEquals(positionsBefore,
+        before.getStartingLineup().stream().map(TeamPlayer::getTeamPosition).toList());
+  }
+
+  /**
+   * Tests that the lists returned by the team can't be modified.
+   */
+  @Test(expected = UnsupportedOperationException.class)
+  public void testSnapshotIsUnmodifiable() {
+    team.getAllPlayers().clear();
+  }
+}
@@ -0,0 +1,189 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+import soccerteam.AddPlayerResult;
+import soccerteam.CandidateLog;
+import soccerteam.GreedyLineupStrategy;
+import soccerteam.JerseyNumberAllocator;
+import soccerteam.LineupStrategy;
+import soccerteam.Position;
+import soccerteam.SkillLevel;
+import soccerteam.TeamModelImpl;
+import soccerteam.TeamPlayer;
+
+/**
+ * Randomized tests checking that the roster and starting lineup kept by {@link TeamModelImpl} are
+ * identical to the ones produced by the original list scans and two-pass selection over a fully
+ * sorted roster. With the default strategy the team keeps its lineup up to date from the heads
+ * of its position sets as players join and are evicted, so these tests follow that incremental
+ * path through long sequences of adds and replacements, one player at a time and in batches.
+ */
+public class StartingLineupEquivalenceTest {
+  private static final String[] LAST_NAMES = {"Adams", "Brown", "Clark", "Davis", "Evans"};
+  private static final Comparator<TeamPlayer> SELECTION_ORDER =
+      Comparator.comparing((TeamPlayer p) -> p.getSkillLevel().getLevel()).reversed()
+          .thenComparing(p -> p.getPreferredPosition().getOrder())
+          .thenComparing(TeamPlayer::getLastName);
+  private static final Comparator<TeamPlayer> EVICTION_ORDER =
+      Comparator.comparing((TeamPlayer p) -> p.getSkillLevel().getLevel())
+          .thenComparing(p -> p.getPreferredPosition().getOrder())
+          .thenComparing(TeamPlayer::getLastName);
+
+  /**
+   * Tests many random tryout sequences, including full-roster replacements, against the
+   * reference selection after every single add.
+   */
+  @Test
+  public void testRandomTryoutsMatchTwoPassSelection() {
+    for (long seed = 1; seed <= 200; seed++) {
+      runTryouts(new TeamModelImpl(), new Random(seed), 45, 1);
+    }
+  }
+
+  /**
+   * Tests random tryouts added in batches, so that several players join and are evicted
+   * between two updates of the lineup, against the reference selection after every batch.
+   */
+  @Test
+  public void testRandomBatchesMatchTwoPassSelection() {
+    for (long seed = 1; seed <= 200; seed++) {
+      Random random = new Random(seed);
+      runTryouts(new TeamModelImpl(), random, 60, 1 + random.nextInt(6));
+    }
+  }
+
+  /**
+   * Tests that a team given the greedy strategy as a plain function, which is handed the whole
+   * roster on every change, keeps the same lineup as the incremental default.
+   */
+  @Test
+  public void testFullSelectionMatchesTwoPassSelection() {
+    LineupStrategy greedy = new GreedyLineupStrategy();
+    for (long seed = 1; seed <= 50; seed++) {
+      TeamModelImpl team = new TeamModelImpl(new JerseyNumberAllocator(1, 20, seed),
+          new CandidateLog(), greedy::selectLineup);
+      runTryouts(team, new Random(seed), 45, 1);
+    }
+  }
+
+  /**
+   * Adds random players to a team and checks the lineup after every batch.
+   *
+   * @param team      the new, empty team
+   * @param random    the source of the random players
+   * @param count     the number of players to add
+   * @param batchSize the number of players to add at once
+   */
+  private static void runTryouts(TeamModelImpl team, Random random, int count, int batchSize) {
+    List<TeamPlayer> roster = new ArrayList<>();
+    Map<TeamPlayer, Position> expectedPositions = new IdentityHashMap<>();
+    String birthDate = LocalDate.now().minusYears(7).toString();
+    Position[] positions = Position.values();
+    SkillLevel[] skills = SkillLevel.values();
+
+    for (int i = 0; i < count; i += batchSize) {
+      List<TeamPlayer> batch = new ArrayList<>();
+      List<Boolean> expectedAdded = new ArrayList<>();
+      for (int j = i; j < Math.min(count, i + batchSize); j++) {
+        TeamPlayer player = new TeamPlayer("P" + j,
+            LAST_NAMES[random.nextInt(LAST_NAMES.length)], birthDate,
+            positions[random.nextInt(positions.length)], skills[random.nextInt(skills.length)]);
+        boolean added = true;
+        if (roster.size() < 20) {
+          roster.add(player);
+        } else {
+          TeamPlayer lowest = roster.stream().min(EVICTION_ORDER).orElseThrow();
+          added = player.getSkillLevel().compareTo(lowest.getSkillLevel()) > 0;
+          if (added) {
+            roster.remove(lowest);
+            roster.add(player);
+          }
+        }
+        batch.add(player);
+        expectedAdded.add(added);
+      }
+      if (batch.size() == 1) {
+        assertEquals(expectedAdded.get(0), team.addPlayer(batch.get(0)));
+      } else {
+        List<AddPlayerResult> results = team.addPlayers(batch);
+        for (int j = 0; j < batch.size(); j++) {
+          assertEquals(expectedAdded.get(j), results.get(j).isAdded());
+        }
+      }
+
+      if (roster.size() >= 10) {
+        List<TeamPlayer> expectedLineup = selectReferenceLineup(roster, expectedPositions);
+        expectedLineup.sort(Comparator.comparing((TeamPlayer p) -> expectedPositions.get(p))
+            .thenComparing(TeamPlayer::getLastName));
+        List<TeamPlayer> actualLineup = team.getStartingLineup();
+        assertEquals(expectedLineup.size(), actualLineup.size());
+        for (int j = 0; j < expectedLineup.size(); j++) {
+          assertEquals(expectedLineup.get(j).getFirstName(), actualLineup.get(j).getFirstName());
+          assertSame(expectedPositions.get(expectedLineup.get(j)),
+              actualLineup.get(j).getTeamPosition());
+        }
+        List<TeamPlayer> expectedPlayers = roster.stream()
+            .sorted(Comparator.comparing(TeamPlayer::getLastName)).toList();
+        List<TeamPlayer> actualPlayers = team.getAllPlayers();
+        for (int j = 0; j < expectedPlayers.size(); j++) {
+          assertEquals(expectedPlayers.get(j).getFirstName(), actualPlayers.get(j).getFirstName());
+        }
+      }
+      for (TeamPlayer member : roster) {
+        assertSame(expectedPositions.get(member), member.getTeamPosition());
+      }
+    }
+  }
+
+  /**
+   * Selects the starting lineup with the original two-pass algorithm, recording the position of
+   * every selected player.
+   *
+   * @param roster    the roster in the order the players joined it
+   * @param positions the positions of the players, updated for the selected players
+   * @return the starting lineup in selection order
+   */
+  private static List<TeamPlayer> selectReferenceLineup(List<TeamPlayer> roster,
+                                                        Map<TeamPlayer, Position> positions) {
+    List<TeamPlayer> lineup = new ArrayList<>();
+    Map<Position, Integer> counts = new EnumMap<>(Position.class);
+    for (Position position : Position.values()) {
+      counts.put(position, 0);
+    }
+    List<TeamPlayer> sorted = roster.stream().sorted(SELECTION_ORDER).toList();
+    for (TeamPlayer player : sorted) {
+      Position preferred = player.getPreferredPosition();
+      if (lineup.size() < 7 && counts.get(preferred) < preferred.getMaxPlayers()) {
+        lineup.add(player);
+        counts.put(preferred, counts.get(preferred) + 1);
+        positions.put(player, preferred);
+      }
+    }
+    for (TeamPlayer player : sorted) {
+      if (lineup.size() < 7 && !lineup.contains(player)) {
+        Position position = player.getPreferredPosition();
+        if (counts.get(position) >= position.getMaxPlayers()) {
+          for (Position candidate : Position.values()) {
+            if (counts.get(candidate) < candidate.getMaxPlayers()) {
+              position = candidate;
+              break;
+            }
+          }
+        }
+        lineup.add(player);
+        counts.put(position, counts.get(position) + 1);
+        positions.put(player, position);
+      }
+    }
+    return lineup;
+  }
+}
@@ -0,0 +1,168 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import soccerteam.JfrMetricsSink;
+import soccerteam.MetricsRegistry;
+import soccerteam.Position;
+import soccerteam.SkillLevel;
+import soccerteam.TeamMetrics;
+import soccerteam.TeamModelImpl;
+import soccerteam.TeamOperation;
+import soccerteam.TeamPlayer;
+
+/**
+ * Unit tests for measuring team operations with {@link TeamMetrics}.
+ */
+public class TeamMetricsTest {
+  private static final String BIRTH_DATE = LocalDate.now().minusYears(7).toString();
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  /**
+   * Removes the sink installed by a test.
+   */
+  @After
+  public void tearDown() {
+    TeamMetrics.setSink(null);
+  }
+
+  /**
+   * Tests that every operation of a team is counted under the right name.
+   */
+  @Test
+  public void testOperationsAreCounted() {
+    MetricsRegistry registry = new MetricsRegistry();
+    TeamMetrics.setSink(registry);
+    TeamModelImpl team = fullTeam();
+    team.addPlayer(player("Rejected", SkillLevel.ONE));
+    team.addPlayer(player("Star", SkillLevel.FIVE));
+    team.getAllPlayers();
+    team.getAllPlayers();
+    team.getStartingLineup();
+
+    assertEquals(20, registry.getCount(TeamOperation.ADD_PLAYER_FILL));
+    assertEquals(1, registry.getCount(TeamOperation.ADD_PLAYER_REPLACE));
+    assertEquals(1, registry.getCount(TeamOperation.ADD_PLAYER_REJECTED));
+    assertEquals(21, registry.getCount(TeamOperation.ASSIGN_JERSEY_NUMBER));
+    assertEquals(12, registry.getCount(TeamOperation.SELECT_STARTING_LINEUP));
+    assertEquals(2, registry.getCount(TeamOperation.GET_ALL_PLAYERS));
+    assertEquals(1, registry.getCount(TeamOperation.GET_STARTING_LINEUP));
+    assertEquals(1, registry.getCount(TeamOperation.BUILD_SNAPSHOT));
+    assertTrue(registry.getTotalNanos(TeamOperation.ADD_PLAYER_FILL) > 0);
+    assertTrue(registry.toString().contains("ADD_PLAYER_REPLACE"));
+  }
+
+  /**
+   * Tests that nothing is measured without a sink, and that a failed operation is not recorded.
+   */
+  @Test
+  public void testNothingRecordedWithoutSink() {
+    assertNull(TeamMetrics.start());
+    TeamModelImpl team = fullTeam();
+    MetricsRegistry registry = new MetricsRegistry();
+    TeamMetrics.setSink(registry);
+    try {
+      new TeamModelImpl().getAllPlayers();
+    } catch (IllegalStateException e) {
+      // expected: the team is too small
+    }
+    assertEquals(0, registry.getCount(TeamOperation.GET_ALL_PLAYERS));
+    team.getAllPlayers();
+    assertEquals(1, registry.getCount(TeamOperation.GET_ALL_PLAYERS));
+  }
+
+  /**
+   * Tests the percentiles read from the histogram.
+   */
+  @Test
+  public void testPercentiles() {
+    MetricsRegistry registry = new MetricsRegistry();
+    for (int i = 0; i < 99; i++) {
+      registry.record(TeamOperation.GET_CANDIDATES, 100);
+    }
+    registry.record(TeamOperation.GET_CANDIDATES, 1_000_000);
+
+    assertEquals(127, registry.getPercentileNanos(TeamOperation.GET_CANDIDATES, 50));
+    assertEquals(127, registry.getPercentileNanos(TeamOperation.GET_CANDIDATES, 99));
+    assertEquals(1_000_000, registry.getPercentileNanos(TeamOperation.GET_CANDIDATES, 100));
+    assertEquals(1_000_000, registry.getMaxNanos(TeamOperation.GET_CANDIDATES));
+    assertEquals(0, registry.getPercentileNanos(TeamOperation.ADD_PLAYERS, 50));
+
+    registry.reset();
+    assertEquals(0, registry.getCount(TeamOperation.GET_CANDIDATES));
+    assertEquals(0, registry.getPercentileNanos(TeamOperation.GET_CANDIDATES, 50));
+  }
+
+  /**
+   * Tests that a percentile outside 0 to 100 is rejected.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidPercentile() {
+    new MetricsRegistry().getPercentileNanos(TeamOperation.GET_CANDIDATES, 101);
+  }
+
+  /**
+   * Tests that the flight recorder sink commits one event per operation while recording.
+   *
+   * @throws Exception if the recording can't be written or read
+   */
+  @Test
+  public void testFlightRecorderEvents() throws Exception {
+    TeamMetrics.setSink(new JfrMetricsSink());
+    Path file = folder.getRoot().toPath().resolve("team.jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable("soccerteam.TeamOperation").withoutThreshold();
+      recording.start();
+      fullTeam();
+      recording.stop();
+      recording.dump(file);
+    }
+
+    int fills = 0;
+    List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+    for (RecordedEvent event : events) {
+      if (event.getEventType().getName().equals("soccerteam.TeamOperation")
+          && event.getString("operation").equals("ADD_PLAYER_FILL")) {
+        fills++;
+        assertTrue(event.getDuration().toNanos() > 0);
+      }
+    }
+    assertEquals(20, fills);
+  }
+
+  /**
+   * Creates a team with twenty players of skill level one.
+   *
+   * @return the full team
+   */
+  private static TeamModelImpl fullTeam() {
+    TeamModelImpl team = new TeamModelImpl();
+    for (int i = 0; i < 20; i++) {
+      team.addPlayer(player("P" + i, SkillLevel.ONE));
+    }
+    return team;
+  }
+
+  /**
+   * Creates a seven year old midfielder.
+   *
+   * @param lastName the last name
+   * @param skill    the skill level
+   * @return the new player
+   */
+  private static TeamPlayer player(String lastName, SkillLevel skill) {
+    return new TeamPlayer("First", lastName, BIRTH_DATE, Position.MIDFIELDER, skill);
+  }
+}
@@ -3,10 +3,13 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.time.LocalDate;
 import java.util.List;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import soccerteam.Position;
+import soccerteam.SeasonClock;
 import soccerteam.SkillLevel;
 import soccerteam.TeamModelImpl;
 import soccerteam.TeamPlayer;
@@ -29,11 +32,12 @@ public class TeamModelImplTest {
   private TeamPlayer player11;
 
   /**
-   * Sets up the test environment by initializing a {@link TeamModelImpl} instance and creating
-   * sample {@link TeamPlayer} objects.
+   * Sets up the test environment by fixing the as-of date to the start of the 2024 season,
+   * initializing a {@link TeamModelImpl} instance and creating sample {@link TeamPlayer} objects.
    */
   @Before
   public void setUp() {
+    SeasonClock.fixAsOfDate(LocalDate.of(2024, 9, 1));
     team = new TeamModelImpl();
     player1 = new TeamPlayer("John", "Doe", "2015-01-01",
         Position.FORWARD, SkillLevel.THREE);
@@ -59,6 +63,14 @@ public class TeamModelImplTest {
         Position.DEFENDER, SkillLevel.ONE);
   }
 
+  /**
+   * Restores the system clock as the source of the as-of date.
+   */
+  @After
+  public void tearDown() {
+    SeasonClock.useSystemClock();
+  }
+
   /**
    * Tests the addPlayer(TeamPlayer) method for adding players to the team work as expected.
    */
@@ -0,0 +1,316 @@
+package soccerteam;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The LoadTestClient class sends a mix of requests to a TeamServer from many threads and reports
+ * the throughput and the 50th and 99th percentile latency. A quarter of the requests add a random
+ * player, and the rest read the roster, the lineup and the candidates in turn, spread evenly over
+ * a number of teams.
+ */
+public final class LoadTestClient {
+  private static final String BIRTH_DATE = LocalDate.now().minusYears(7).toString();
+
+  private final HttpClient client =
+      HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+  private final URI base;
+  private final int teamCount;
+
+  /**
+   * Constructs a LoadTestClient.
+   *
+   * @param base      the address of the server, such as http://localhost:8080/
+   * @param teamCount the number of teams to spread requests over
+   * @throws IllegalArgumentException if the address is null or the team count is not positive
+   */
+  public LoadTestClient(URI base, int teamCount) throws IllegalArgumentException {
+    if (base == null) {
+      throw new IllegalArgumentException("Server address can't be null");
+    }
+    if (teamCount <= 0) {
+      throw new IllegalArgumentException("Team count must be positive.");
+    }
+    this.base = base;
+    this.teamCount = teamCount;
+  }
+
+  /**
+   * Registers the teams the requests go to. Teams that already exist are kept.
+   *
+   * @throws IOException           if a request fails
+   * @throws InterruptedException  if interrupted while waiting for a response
+   * @throws IllegalStateException if the server refuses to register a team
+   */
+  public void registerTeams() throws IOException, InterruptedException, IllegalStateException {
+    for (int team = 0; team < teamCount; team++) {
+      HttpResponse<Void> response = client.send(HttpRequest.newBuilder(teamUri(team, ""))
+          .POST(HttpRequest.BodyPublishers.noBody()).build(),
+          HttpResponse.BodyHandlers.discarding());
+      if (response.statusCode() != 201 && response.statusCode() != 409) {
+        throw new IllegalStateException("Could not register team " + team + ": "
+            + response.statusCode());
+      }
+    }
+  }
+
+  /**
+   * Sends requests and measures them.
+   *
+   * @param requests    the number of requests to send
+   * @param concurrency the number of threads sending requests
+   * @return the measurements
+   * @throws InterruptedException     if interrupted while waiting for the requests
+   * @throws IllegalArgumentException if a count is not positive
+   */
+  public Report run(int requests, int concurrency)
+      throws InterruptedException, IllegalArgumentException {
+    if (requests <= 0 || concurrency <= 0) {
+      throw new IllegalArgumentException("Request count and concurrency must be positive.");
+    }
+    long[] latencies = new long[requests];
+    AtomicInteger next = new AtomicInteger();
+    AtomicLong failures = new AtomicLong();
+    AtomicLong refusals = new AtomicLong();
+    ExecutorService senders = Executors.newFixedThreadPool(concurrency);
+    long start = System.nanoTime();
+    for (int i = 0; i < concurrency; i++) {
+      senders.execute(() -> {
+        int request;
+        while ((request = next.getAndIncrement()) < requests) {
+          long sent = System.nanoTime();
+          int status;
+          try {
+            status = client.send(requestFor(request), HttpResponse.BodyHandlers.discarding())
+                .statusCode();
+          } catch (IOException e) {
+            status = 0;
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+          }
+          latencies[request] = System.nanoTime() - sent;
+          if (status == 0 || status >= 500) {
+            failures.incrementAndGet();
+          } else if (status >= 400) {
+            refusals.incrementAndGet();
+          }
+        }
+      });
+    }
+    senders.shutdown();
+    senders.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    long elapsed = System.nanoTime() - start;
+    Arrays.sort(latencies);
+    return new Report(requests, failures.get(), refusals.get(), elapsed,
+        percentile(latencies, 50), percentile(latencies, 99), latencies[requests - 1]);
+  }
+
+  /**
+   * Builds the request with the given number.
+   *
+   * @param request the number of the request
+   * @return the request
+   */
+  private HttpRequest requestFor(int request) {
+    int team = request % teamCount;
+    switch ((request / teamCount) % 4) {
+      case 0:
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Position[] positions = Position.values();
+        String body = "{\"firstName\":\"Load\",\"lastName\":\"Player" + request
+            + "\",\"dateOfBirth\":\"" + BIRTH_DATE + "\",\"position\":\""
+            + positions[random.nextInt(positions.length)] + "\",\"skillLevel\":"
+            + (1 + random.nextInt(5)) + "}";
+        return HttpRequest.newBuilder(teamUri(team, "players"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body)).build();
+      case 1:
+        return HttpRequest.newBuilder(teamUri(team, "players")).GET().build();
+      case 2:
+        return HttpRequest.newBuilder(teamUri(team, "lineup")).GET().build();
+      default:
+        return HttpRequest.newBuilder(teamUri(team, "candidates")).GET().build();
+    }
+  }
+
+  /**
+   * Gets the address of a team's resource.
+   *
+   * @param team     the number of the team
+   * @param resource the resource, or an empty string for the team itself
+   * @return the address
+   */
+  private URI teamUri(int team, String resource) {
+    return base.resolve("teams/LoadTeam" + team + (resource.isEmpty() ? "" : "/" + resource));
+  }
+
+  /**
+   * Gets a percentile of sorted values, using the nearest rank.
+   *
+   * @param sorted     the values in ascending order
+   * @param percentile the percentile, from 0 to 100
+   * @return the value at the percentile
+   */
+  static long percentile(long[] sorted, double percentile) {
+    int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+    return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+  }
+
+  /**
+   * The measurements of one run.
+   */
+  public static final class Report {
+    private final long requests;
+    private final long failures;
+    private final long refusals;
+    private final long elapsedNanos;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long maxNanos;
+
+    /**
+     * Constructs a Report.
+     *
+     * @param requests     the number of requests sent
+     * @param failures     the number of requests that failed or got a 5xx status
+     * @param refusals     the number of requests that got a 4xx status
+     * @param elapsedNanos the time the run took
+     * @param p50Nanos     the median latency
+     * @param p99Nanos     the 99th percentile latency
+     * @param maxNanos     the highest latency
+     */
+    Report(long requests, long failures, long refusals, long elapsedNanos, long p50Nanos,
+           long p99Nanos, long maxNanos) {
+      this.requests = requests;
+      this.failures = failures;
+      this.refusals = refusals;
+      this.elapsedNanos = elapsedNanos;
+      this.p50Nanos = p50Nanos;
+      this.p99Nanos = p99Nanos;
+      this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Gets the number of requests sent.
+     *
+     * @return the number of requests
+     */
+    public long getRequests() {
+      return requests;
+    }
+
+    /**
+     * Gets the number of requests that could not be sent or got a server error.
+     *
+     * @return the number of failed requests
+     */
+    public long getFailures() {
+      return failures;
+    }
+
+    /**
+     * Gets the number of requests the server refused with a 4xx status, such as a lineup asked
+     * for before the team has enough players.
+     *
+     * @return the number of refused requests
+     */
+    public long getRefusals() {
+      return refusals;
+    }
+
+    /**
+     * Gets the number of requests completed per second.
+     *
+     * @return the throughput
+     */
+    public double getThroughput() {
+      return requests * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Gets the median latency.
+     *
+     * @return the 50th percentile latency in nanoseconds
+     */
+    public long getP50Nanos() {
+      return p50Nanos;
+    }
+
+    /**
+     * Gets the 99th percentile latency.
+     *
+     * @return the 99th percentile latency in nanoseconds
+     */
+    public long getP99Nanos() {
+      return p99Nanos;
+    }
+
+    /**
+     * Gets the highest latency.
+     *
+     * @return the highest latency in nanoseconds
+     */
+    public long getMaxNanos() {
+      return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("Requests: %d, Failures: %d, Refusals: %d, Throughput: %.0f/s, "
+              + "p50: %.3f ms, p99: %.3f ms, Max: %.3f ms", requests, failures, refusals,
+          getThroughput(), p50Nanos / 1e6, p99Nanos / 1e6, maxNanos / 1e6);
+    }
+  }
+
+  /**
+   * Runs a load test. With no server address, a server over a new league is started in this
+   * process on a free port.
+   *
+   * @param args the number of requests (10000 by default), the number of threads (32 by
+   *             default), the number of teams (8 by default), and the server address
+   * @throws IOException          if the server can't be started or reached
+   * @throws InterruptedException if interrupted while waiting for the requests
+   */
+  public static void main(String[] args) throws IOException, InterruptedException {
+    int requests = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+    int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 32;
+    int teams = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+    LeagueModel league = null;
+    TeamServer server = null;
+    URI base;
+    if (args.length > 3) {
+      base = URI.create(args[3].endsWith("/") ? args[3] : args[3] + "/");
+    } else {
+      ServerMain.disableNagle();
+      league = new LeagueModelImpl();
+      server = new TeamServer(league, new InetSocketAddress("localhost", 0));
+      server.start();
+      base = URI.create("http://localhost:" + server.getPort() + "/");
+    }
+    try {
+      LoadTestClient client = new LoadTestClient(base, teams);
+      client.registerTeams();
+      // A short warm-up so the reported run measures compiled code
+      client.run(Math.max(1, requests / 10), concurrency);
+      System.out.println(client.run(requests, concurrency));
+    } finally {
+      if (server != null) {
+        server.close();
+        league.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package soccerteam;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+
+/**
+ * The ServerMain class runs the league as a headless HTTP service until the process is stopped.
+ */
+public class ServerMain {
+  private static final int DEFAULT_PORT = 8080;
+  private static final String NO_DELAY = "sun.net.httpserver.nodelay";
+
+  /**
+   * Starts a TeamServer over a new, empty league.
+   *
+   * @param args an optional port to listen on, 8080 by default
+   * @throws IOException if the port can't be bound
+   */
+  public static void main(String[] args) throws IOException {
+    int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+    disableNagle();
+    LeagueModel league = new LeagueModelImpl();
+    TeamServer server = new TeamServer(league, new InetSocketAddress(port));
+    Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+      server.close();
+      league.close();
+    }));
+    server.start();
+    System.out.println("Serving teams at http://localhost:" + server.getPort() + "/teams/");
+  }
+
+  /**
+   * Turns off Nagle's algorithm in the JDK's HTTP server, unless the property was set on the
+   * command line. Without this, the end of every small response waits for the client's delayed
+   * acknowledgement, about 40 ms later. The property is read once, when the server implementation
+   * is loaded, so this must run before the first TeamServer is created, and it applies to every
+   * HTTP server in the process.
+   */
+  static void disableNagle() {
+    if (System.getProperty(NO_DELAY) == null) {
+      System.setProperty(NO_DELAY, "true");
+    }
+  }
+}
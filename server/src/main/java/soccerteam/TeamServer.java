@@ -0,0 +1,355 @@
+package soccerteam;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * The TeamServer class serves the teams of a league over HTTP with the JDK's built-in server.
+ * Every request runs on its own thread: a virtual thread on Java 21 or later, otherwise a pooled
+ * platform thread. Player lists are written to the response one player at a time, so a long
+ * candidate history is never built up as one string.
+ *
+ * <p>The endpoints are:
+ * <ul>
+ *   <li>{@code POST /teams/{team}} registers a team.</li>
+ *   <li>{@code POST /teams/{team}/players} adds the player in the JSON body, with the fields
+ *       firstName, lastName, dateOfBirth, position and skillLevel.</li>
+ *   <li>{@code GET /teams/{team}/players} lists the roster.</li>
+ *   <li>{@code GET /teams/{team}/lineup} lists the starting lineup.</li>
+ *   <li>{@code GET /teams/{team}/candidates} lists the candidates, oldest first.</li>
+ * </ul>
+ * Errors are answered with a status code and a JSON object holding the message: 400 for an
+ * invalid player, 404 for an unknown team or path, 405 for a wrong method, 409 when the team
+ * already exists or has too few players for a roster or lineup, and 500 for anything else.
+ *
+ * <p>The JDK server leaves Nagle's algorithm on unless the process sets the system property
+ * {@code sun.net.httpserver.nodelay}, which adds about 40 ms to every small response. The server
+ * does not change system properties itself: {@link ServerMain#disableNagle} sets it for the
+ * programs in this module, and an application embedding the server should set it the same way.
+ */
+public final class TeamServer implements Closeable {
+  private static final String CONTEXT = "/teams/";
+
+  private final LeagueModel league;
+  private final HttpServer server;
+  private final ExecutorService executor;
+
+  /**
+   * Constructs a TeamServer bound to an address. The server does not accept requests until it
+   * is started.
+   *
+   * @param league  the league to serve
+   * @param address the address to listen on; port 0 picks a free port
+   * @throws IOException              if the address can't be bound
+   * @throws IllegalArgumentException if the league or address is null
+   */
+  public TeamServer(LeagueModel league, InetSocketAddress address)
+      throws IOException, IllegalArgumentException {
+    if (league == null || address == null) {
+      throw new IllegalArgumentException("League and address can't be null");
+    }
+    this.league = league;
+    server = HttpServer.create(address, 0);
+    executor = TaskExecutors.newThreadPerTaskExecutor("team-server");
+    server.setExecutor(executor);
+    server.createContext(CONTEXT, this::handle);
+  }
+
+  /**
+   * Starts accepting requests.
+   */
+  public void start() {
+    server.start();
+  }
+
+  /**
+   * Gets the port the server listens on.
+   *
+   * @return the port
+   */
+  public int getPort() {
+    return server.getAddress().getPort();
+  }
+
+  /**
+   * Stops accepting requests, waits briefly for requests in progress, and stops the request
+   * threads. The league is not closed.
+   */
+  @Override
+  public void close() {
+    server.stop(1);
+    executor.shutdown();
+  }
+
+  /**
+   * Handles one request. Any other failure is answered with 500, and a failure after the
+   * response has started cuts it short when the exchange is closed.
+   *
+   * @param exchange the request and its response
+   */
+  private void handle(HttpExchange exchange) {
+    try {
+      route(exchange);
+    } catch (NoSuchTeamException e) {
+      sendFailure(exchange, 404, e.getMessage());
+    } catch (TeamExistsException e) {
+      sendFailure(exchange, 409, e.getMessage());
+    } catch (IllegalArgumentException e) {
+      sendFailure(exchange, 400, e.getMessage() == null ? "Invalid request" : e.getMessage());
+    } catch (IllegalStateException e) {
+      sendFailure(exchange, 409, e.getMessage());
+    } catch (IOException | RuntimeException e) {
+      sendFailure(exchange, 500, "Internal server error");
+    } finally {
+      exchange.close();
+    }
+  }
+
+  /**
+   * Sends a request to the endpoint for its path and method.
+   *
+   * @param exchange the request and its response
+   * @throws IOException              if the response can't be written
+   * @throws NoSuchTeamException      if the team does not exist
+   * @throws TeamExistsException      if the team to register already exists
+   * @throws IllegalArgumentException if the request is invalid
+   * @throws IllegalStateException    if the team has too few players
+   */
+  private void route(HttpExchange exchange)
+      throws IOException, IllegalArgumentException, IllegalStateException {
+    String[] path = exchange.getRequestURI().getPath().substring(CONTEXT.length()).split("/");
+    String method = exchange.getRequestMethod();
+    String team = path[0];
+    if (team.isEmpty() || path.length > 2) {
+      sendError(exchange, 404, "Not found");
+      return;
+    }
+    String resource = path.length == 1 ? "" : path[1];
+    boolean post = method.equals("POST");
+    if (!post && !method.equals("GET")) {
+      sendError(exchange, 405, "Method not allowed");
+      return;
+    }
+    switch (resource) {
+      case "":
+        if (post) {
+          registerTeam(exchange, team);
+        } else {
+          sendError(exchange, 405, "Method not allowed");
+        }
+        break;
+      case "players":
+        if (post) {
+          addPlayer(exchange, team);
+        } else {
+          sendPlayers(exchange, league.getAllPlayers(team));
+        }
+        break;
+      case "lineup":
+        if (post) {
+          sendError(exchange, 405, "Method not allowed");
+        } else {
+          sendPlayers(exchange, league.getStartingLineup(team));
+        }
+        break;
+      case "candidates":
+        if (post) {
+          sendError(exchange, 405, "Method not allowed");
+        } else {
+          sendPlayers(exchange, league.getCandidates(team));
+        }
+        break;
+      default:
+        sendError(exchange, 404, "Not found");
+    }
+  }
+
+  /**
+   * Registers a team.
+   *
+   * @param exchange the request and its response
+   * @param team     the name of the team
+   * @throws IOException         if the response can't be written
+   * @throws TeamExistsException if the team already exists
+   */
+  private void registerTeam(HttpExchange exchange, String team)
+      throws IOException, TeamExistsException {
+    league.registerTeam(team);
+    sendObject(exchange, 201, "team", team);
+  }
+
+  /**
+   * Adds the player in the request body to a team.
+   *
+   * @param exchange the request and its response
+   * @param team     the name of the team
+   * @throws IOException              if the body can't be read or the response written
+   * @throws IllegalArgumentException if the body is not a valid player or the team refuses it
+   */
+  private void addPlayer(HttpExchange exchange, String team)
+      throws IOException, IllegalArgumentException {
+    RegistrationRecord record;
+    try (Reader body = new InputStreamReader(exchange.getRequestBody(),
+        StandardCharsets.UTF_8)) {
+      record = new JsonRegistrationReader(body).next();
+    } catch (IOException e) {
+      sendError(exchange, 400, e.getMessage());
+      return;
+    }
+    if (record == null) {
+      sendError(exchange, 400, "Request body must be a JSON object");
+      return;
+    }
+    TeamPlayer player = RegistrationImporter.parsePlayer(record);
+    boolean added = league.addPlayer(team, player);
+    sendObject(exchange, 200, "added", added);
+  }
+
+  /**
+   * Sends a JSON array of players, writing each player as it is reached.
+   *
+   * @param exchange the request and its response
+   * @param players  the players
+   * @throws IOException if the response can't be written
+   */
+  private static void sendPlayers(HttpExchange exchange, List<TeamPlayer> players)
+      throws IOException {
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, 0);
+    try (Writer out = new BufferedWriter(
+        new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8))) {
+      out.write('[');
+      for (int i = 0; i < players.size(); i++) {
+        if (i > 0) {
+          out.write(',');
+        }
+        writePlayer(out, players.get(i));
+      }
+      out.write(']');
+    }
+  }
+
+  /**
+   * Writes one player as a JSON object.
+   *
+   * @param out    the destination
+   * @param player the player
+   * @throws IOException if the player can't be written
+   */
+  static void writePlayer(Writer out, TeamPlayer player) throws IOException {
+    out.write("{\"firstName\":");
+    writeString(out, player.getFirstName());
+    out.write(",\"lastName\":");
+    writeString(out, player.getLastName());
+    out.write(",\"dateOfBirth\":");
+    writeString(out, player.getDateOfBirth());
+    out.write(",\"position\":");
+    writeString(out, player.getPreferredPosition().name());
+    out.write(",\"skillLevel\":");
+    out.write(Integer.toString(player.getSkillLevel().getLevel()));
+    out.write(",\"jerseyNumber\":");
+    out.write(Integer.toString(player.getJerseyNumber()));
+    out.write(",\"teamPosition\":");
+    if (player.getTeamPosition() == null) {
+      out.write("null");
+    } else {
+      writeString(out, player.getTeamPosition().name());
+    }
+    out.write('}');
+  }
+
+  /**
+   * Writes a JSON string, escaping quotes, backslashes and control characters.
+   *
+   * @param out   the destination
+   * @param value the string
+   * @throws IOException if the string can't be written
+   */
+  static void writeString(Writer out, String value) throws IOException {
+    out.write('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        out.write('\\');
+        out.write(c);
+      } else if (c < 0x20) {
+        out.write(String.format("\\u%04x", (int) c));
+      } else {
+        out.write(c);
+      }
+    }
+    out.write('"');
+  }
+
+  /**
+   * Sends a JSON object with one field.
+   *
+   * @param exchange the request and its response
+   * @param status   the status code
+   * @param name     the name of the field
+   * @param value    the value of the field: a string, or a boolean or number written as is
+   * @throws IOException if the response can't be written
+   */
+  private static void sendObject(HttpExchange exchange, int status, String name, Object value)
+      throws IOException {
+    Writer body = new StringWriter();
+    body.write("{\"");
+    body.write(name);
+    body.write("\":");
+    if (value instanceof String) {
+      writeString(body, (String) value);
+    } else {
+      body.write(String.valueOf(value));
+    }
+    body.write('}');
+    byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length);
+    exchange.getResponseBody().write(bytes);
+  }
+
+  /**
+   * Sends an error for a request that failed, unless the response has already started. A
+   * started response can only be cut short, and an error that can't be sent means the client is
+   * gone, so in both cases the exchange is left for the caller to close.
+   *
+   * @param exchange the request and its response
+   * @param status   the status code
+   * @param message  what went wrong
+   */
+  private static void sendFailure(HttpExchange exchange, int status, String message) {
+    if (exchange.getResponseCode() != -1) {
+      return;
+    }
+    try {
+      sendError(exchange, status, message);
+    } catch (IOException e) {
+      // Closing the exchange releases the connection
+    }
+  }
+
+  /**
+   * Sends an error as a JSON object holding the message.
+   *
+   * @param exchange the request and its response
+   * @param status   the status code
+   * @param message  what went wrong
+   * @throws IOException if the response can't be written
+   */
+  private static void sendError(HttpExchange exchange, int status, String message)
+      throws IOException {
+    sendObject(exchange, status, "error", message == null ? "" : message);
+  }
+}
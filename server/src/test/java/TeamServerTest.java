@@ -0,0 +1,187 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import soccerteam.LeagueModelImpl;
+import soccerteam.LoadTestClient;
+import soccerteam.TeamModelImpl;
+import soccerteam.TeamPlayer;
+import soccerteam.TeamServer;
+
+/**
+ * Unit tests for the {@link TeamServer} class.
+ */
+public class TeamServerTest {
+  private static final String BIRTH_DATE = LocalDate.now().minusYears(7).toString();
+  private final HttpClient client = HttpClient.newHttpClient();
+  private LeagueModelImpl league;
+  private TeamServer server;
+  private URI base;
+
+  /**
+   * Turns off Nagle's algorithm in the JDK's HTTP server before it is loaded, as an application
+   * embedding the server would.
+   */
+  @BeforeClass
+  public static void disableNagle() {
+    System.setProperty("sun.net.httpserver.nodelay", "true");
+  }
+
+  /**
+   * Starts a server over a new league on a free port.
+   */
+  @Before
+  public void setUp() throws IOException {
+    league = new LeagueModelImpl(2, TeamModelImpl::new);
+    server = new TeamServer(league, new InetSocketAddress("localhost", 0));
+    server.start();
+    base = URI.create("http://localhost:" + server.getPort() + "/teams/");
+  }
+
+  /**
+   * Stops the server and the league after each test.
+   */
+  @After
+  public void tearDown() {
+    server.close();
+    league.close();
+  }
+
+  /**
+   * Sends a request.
+   *
+   * @param method the request method
+   * @param path   the path below /teams/
+   * @param body   the request body, or null
+   * @return the response
+   */
+  private HttpResponse<String> send(String method, String path, String body)
+      throws IOException, InterruptedException {
+    HttpRequest.BodyPublisher publisher = body == null
+        ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body);
+    return client.send(HttpRequest.newBuilder(base.resolve(path)).method(method, publisher)
+        .build(), HttpResponse.BodyHandlers.ofString());
+  }
+
+  /**
+   * Builds the JSON body of a player.
+   *
+   * @param lastName   the last name of the player
+   * @param position   the preferred position
+   * @param skillLevel the skill level from 1 to 5
+   * @return the JSON object
+   */
+  private static String player(String lastName, String position, int skillLevel) {
+    return "{\"firstName\":\"Kid\",\"lastName\":\"" + lastName + "\",\"dateOfBirth\":\""
+        + BIRTH_DATE + "\",\"position\":\"" + position + "\",\"skillLevel\":" + skillLevel + "}";
+  }
+
+  /**
+   * Tests registering a team, adding players and reading the roster, lineup and candidates.
+   */
+  @Test
+  public void testTeamEndpoints() throws Exception {
+    assertEquals(201, send("POST", "Tigers", null).statusCode());
+    assertEquals(409, send("POST", "Tigers", null).statusCode());
+
+    HttpResponse<String> added = send("POST", "Tigers/players", player("Lee", "GOALIE", 5));
+    assertEquals(200, added.statusCode());
+    assertEquals("{\"added\":true}", added.body());
+
+    assertEquals(409, send("GET", "Tigers/players", null).statusCode());
+    assertEquals(409, send("GET", "Tigers/lineup", null).statusCode());
+
+    String[] positions = {"DEFENDER", "MIDFIELDER", "FORWARD"};
+    for (int i = 0; i < 9; i++) {
+      assertEquals(200, send("POST", "Tigers/players",
+          player("Q\\\"" + i, positions[i % 3], 1 + i % 5)).statusCode());
+    }
+    HttpResponse<String> roster = send("GET", "Tigers/players", null);
+    assertEquals(200, roster.statusCode());
+    assertTrue(roster.body().contains("{\"firstName\":\"Kid\",\"lastName\":\"Lee\","
+        + "\"dateOfBirth\":\"" + BIRTH_DATE + "\",\"position\":\"GOALIE\",\"skillLevel\":5,"
+        + "\"jerseyNumber\":"));
+    HttpResponse<String> lineup = send("GET", "Tigers/lineup", null);
+    assertEquals(200, lineup.statusCode());
+    assertEquals(7, lineup.body().split("\"teamPosition\":\"").length - 1);
+    assertTrue(send("GET", "Tigers/candidates", null).body().contains("\"lastName\":\"Q\\\"8\""));
+  }
+
+  /**
+   * Tests the status codes of invalid requests.
+   */
+  @Test
+  public void testErrors() throws Exception {
+    send("POST", "Tigers", null);
+    assertEquals(404, send("GET", "Lions/players", null).statusCode());
+    assertEquals(404, send("POST", "Lions/players", player("Lee", "GOALIE", 5)).statusCode());
+    assertEquals(404, send("GET", "Tigers/coaches", null).statusCode());
+    assertEquals(405, send("DELETE", "Tigers/players", null).statusCode());
+    assertEquals(405, send("POST", "Tigers/lineup", null).statusCode());
+
+    HttpResponse<String> invalid = send("POST", "Tigers/players", player("Lee", "STRIKER", 5));
+    assertEquals(400, invalid.statusCode());
+    assertEquals("{\"error\":\"Invalid position: STRIKER\"}", invalid.body());
+    assertEquals(400, send("POST", "Tigers/players", "{\"firstName\":").statusCode());
+    assertEquals(400, send("POST", "Tigers/players", "").statusCode());
+  }
+
+  /**
+   * Tests that an unexpected failure in the league is answered with 500 and does not stop the
+   * server from answering later requests.
+   */
+  @Test
+  public void testUnexpectedFailure() throws Exception {
+    try (LeagueModelImpl failing = new LeagueModelImpl(1, () -> new TeamModelImpl() {
+      @Override
+      public List<TeamPlayer> getCandidates() {
+        throw new UnsupportedOperationException("Candidates are not kept");
+      }
+    }); TeamServer failingServer = new TeamServer(failing,
+        new InetSocketAddress("localhost", 0))) {
+      failingServer.start();
+      failing.registerTeam("Tigers");
+      URI failingBase = URI.create("http://localhost:" + failingServer.getPort() + "/teams/");
+
+      HttpResponse<String> response = client.send(HttpRequest.newBuilder(
+          failingBase.resolve("Tigers/candidates")).GET().build(),
+          HttpResponse.BodyHandlers.ofString());
+      assertEquals(500, response.statusCode());
+      assertEquals("{\"error\":\"Internal server error\"}", response.body());
+      assertEquals(200, client.send(HttpRequest.newBuilder(
+          failingBase.resolve("Tigers/players")).POST(HttpRequest.BodyPublishers.ofString(
+          player("Lee", "GOALIE", 5))).build(), HttpResponse.BodyHandlers.ofString())
+          .statusCode());
+    }
+  }
+
+  /**
+   * Tests that the load-test client reports every request and no failures.
+   */
+  @Test
+  public void testLoadTestClient() throws Exception {
+    LoadTestClient load = new LoadTestClient(URI.create("http://localhost:" + server.getPort()
+        + "/"), 3);
+    load.registerTeams();
+
+    LoadTestClient.Report report = load.run(400, 8);
+
+    assertEquals(400, report.getRequests());
+    assertEquals(0, report.getFailures());
+    assertTrue(report.getP50Nanos() > 0);
+    assertTrue(report.getP50Nanos() <= report.getP99Nanos());
+    assertTrue(report.getP99Nanos() <= report.getMaxNanos());
+    assertEquals(3, league.getTeamNames().size());
+  }
+}
@@ -5,6 +5,7 @@ import javax.swing.SwingUtilities;
 /**
  * The Main class contains the main method to run the U10 Soccer Team Manager application.
  * It creates a new TeamModel, TeamView, and TeamController, and displays the view.
+ * The controller calls the model in the background so the window stays responsive.
  */
 public class Main {
   /**
@@ -16,7 +17,8 @@ public class Main {
     SwingUtilities.invokeLater(() -> {
       TeamModel model = new TeamModelImpl();
       TeamView view = new SwingTeamView();
-      TeamController controller = new SwingTeamController(model, view);
+      TeamController controller = new SwingTeamController(model, view,
+          SwingTeamController.newBackgroundExecutor());
 
       view.display();
     });
@@ -0,0 +1,76 @@
+package soccerteam;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The PlayerRow class is one formatted row of a player table in the view. It is built by the
+ * controller, away from the Event Dispatch Thread, and never changes afterwards. The key names
+ * the player the row is about, so that a table can be updated row by row when a list of players
+ * changes.
+ */
+public final class PlayerRow {
+  private final Object key;
+  private final Object[] values;
+
+  /**
+   * Constructs a PlayerRow.
+   *
+   * @param key    identifies the player within the table
+   * @param values the cell values, one per column
+   */
+  public PlayerRow(Object key, Object... values) {
+    this.key = key;
+    this.values = values.clone();
+  }
+
+  /**
+   * Gets the key of the row.
+   *
+   * @return the key identifying the player within the table
+   */
+  public Object getKey() {
+    return key;
+  }
+
+  /**
+   * Gets the value of one cell.
+   *
+   * @param column the column of the cell
+   * @return the value of the cell
+   */
+  public Object getValue(int column) {
+    return values[column];
+  }
+
+  /**
+   * Gets the number of cells in the row.
+   *
+   * @return the number of cells
+   */
+  public int size() {
+    return values.length;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof PlayerRow)) {
+      return false;
+    }
+    PlayerRow other = (PlayerRow) o;
+    return Objects.equals(key, other.key) && Arrays.equals(values, other.values);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Objects.hashCode(key) + Arrays.hashCode(values);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(values);
+  }
+}
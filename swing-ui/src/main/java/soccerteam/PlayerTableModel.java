@@ -0,0 +1,95 @@
+package soccerteam;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * The PlayerTableModel class holds the rows of one player table in the view. Rows are only ever
+ * added, replaced or removed one change at a time, and each change fires the matching row event,
+ * so the table repaints just the rows that changed rather than the whole list.
+ */
+final class PlayerTableModel extends AbstractTableModel {
+  private static final long serialVersionUID = 1L;
+
+  private final String[] columnNames;
+  private final Class<?>[] columnClasses;
+  private final List<PlayerRow> rows = new ArrayList<>();
+
+  /**
+   * Constructs an empty PlayerTableModel.
+   *
+   * @param columnNames   the column headings
+   * @param columnClasses the class of the values in each column
+   */
+  PlayerTableModel(String[] columnNames, Class<?>[] columnClasses) {
+    this.columnNames = columnNames.clone();
+    this.columnClasses = columnClasses.clone();
+  }
+
+  /**
+   * Adds rows to the end of the table.
+   *
+   * @param newRows the rows to add
+   */
+  void appendRows(List<PlayerRow> newRows) {
+    if (newRows.isEmpty()) {
+      return;
+    }
+    int first = rows.size();
+    rows.addAll(newRows);
+    fireTableRowsInserted(first, rows.size() - 1);
+  }
+
+  /**
+   * Applies changes to the rows in order.
+   *
+   * @param changes the changes to apply
+   */
+  void apply(List<RowChange> changes) {
+    for (RowChange change : changes) {
+      int index = change.getIndex();
+      switch (change.getType()) {
+        case INSERT:
+          rows.add(index, change.getRow());
+          fireTableRowsInserted(index, index);
+          break;
+        case UPDATE:
+          rows.set(index, change.getRow());
+          fireTableRowsUpdated(index, index);
+          break;
+        case DELETE:
+          rows.remove(index);
+          fireTableRowsDeleted(index, index);
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown change: " + change.getType());
+      }
+    }
+  }
+
+  @Override
+  public int getRowCount() {
+    return rows.size();
+  }
+
+  @Override
+  public int getColumnCount() {
+    return columnNames.length;
+  }
+
+  @Override
+  public String getColumnName(int column) {
+    return columnNames[column];
+  }
+
+  @Override
+  public Class<?> getColumnClass(int column) {
+    return columnClasses[column];
+  }
+
+  @Override
+  public Object getValueAt(int row, int column) {
+    return rows.get(row).getValue(column);
+  }
+}
@@ -0,0 +1,123 @@
+package soccerteam;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The RowChange class is one step in bringing a player table up to date: inserting a row,
+ * replacing the contents of a row, or deleting a row. Applying a list of changes in order turns
+ * the old rows into the new ones, so the table only repaints the rows that actually changed.
+ */
+public final class RowChange {
+
+  /**
+   * The kinds of change to a table.
+   */
+  public enum Type {
+    /** A row is inserted at the index, moving later rows down. */
+    INSERT,
+    /** The row at the index gets new contents. */
+    UPDATE,
+    /** The row at the index is removed, moving later rows up. */
+    DELETE
+  }
+
+  private final Type type;
+  private final int index;
+  private final PlayerRow row;
+
+  /**
+   * Constructs a RowChange.
+   *
+   * @param type  the kind of change
+   * @param index the index of the row, counted after all earlier changes are applied
+   * @param row   the new row, or null for a delete
+   */
+  public RowChange(Type type, int index, PlayerRow row) {
+    this.type = type;
+    this.index = index;
+    this.row = row;
+  }
+
+  /**
+   * Gets the kind of change.
+   *
+   * @return the type of the change
+   */
+  public Type getType() {
+    return type;
+  }
+
+  /**
+   * Gets the index of the row, counted after all earlier changes are applied.
+   *
+   * @return the row index
+   */
+  public int getIndex() {
+    return index;
+  }
+
+  /**
+   * Gets the new row.
+   *
+   * @return the inserted or updated row, or null for a delete
+   */
+  public PlayerRow getRow() {
+    return row;
+  }
+
+  /**
+   * Works out the changes that turn one list of rows into another. Rows are matched by key:
+   * rows whose key disappears are deleted, rows with a new key are inserted, and matched rows
+   * whose contents differ are updated.
+   *
+   * @param oldRows the rows shown now
+   * @param newRows the rows to show
+   * @return the changes to apply, in order
+   */
+  public static List<RowChange> diff(List<PlayerRow> oldRows, List<PlayerRow> newRows) {
+    List<RowChange> changes = new ArrayList<>();
+    List<Object> newKeys = new ArrayList<>(newRows.size());
+    for (PlayerRow row : newRows) {
+      newKeys.add(row.getKey());
+    }
+    List<PlayerRow> current = new ArrayList<>(oldRows);
+    for (int i = current.size() - 1; i >= 0; i--) {
+      if (!newKeys.contains(current.get(i).getKey())) {
+        current.remove(i);
+        changes.add(new RowChange(Type.DELETE, i, null));
+      }
+    }
+
+    for (int i = 0; i < newRows.size(); i++) {
+      PlayerRow row = newRows.get(i);
+      if (i < current.size() && Objects.equals(current.get(i).getKey(), row.getKey())) {
+        if (!current.get(i).equals(row)) {
+          current.set(i, row);
+          changes.add(new RowChange(Type.UPDATE, i, row));
+        }
+        continue;
+      }
+      for (int j = i + 1; j < current.size(); j++) {
+        if (Objects.equals(current.get(j).getKey(), row.getKey())) {
+          current.remove(j);
+          changes.add(new RowChange(Type.DELETE, j, null));
+          break;
+        }
+      }
+      current.add(i, row);
+      changes.add(new RowChange(Type.INSERT, i, row));
+    }
+    for (int i = current.size() - 1; i >= newRows.size(); i--) {
+      current.remove(i);
+      changes.add(new RowChange(Type.DELETE, i, null));
+    }
+    return changes;
+  }
+
+  @Override
+  public String toString() {
+    return type + " " + index + (row == null ? "" : " " + row);
+  }
+}
@@ -0,0 +1,50 @@
+package soccerteam;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+/**
+ * The SerialExecutor class runs tasks one at a time, in the order they were submitted, on
+ * threads borrowed from another executor. It lets the controller use a pool of background
+ * threads while every call into the model still happens on one logical thread, since the model
+ * is not thread-safe. Each task happens-before the next one.
+ */
+final class SerialExecutor implements Executor {
+  private final Queue<Runnable> tasks = new ArrayDeque<>();
+  private final Executor executor;
+  private Runnable active;
+
+  /**
+   * Constructs a SerialExecutor that runs its tasks on the given executor.
+   *
+   * @param executor the executor that provides the threads
+   */
+  SerialExecutor(Executor executor) {
+    this.executor = executor;
+  }
+
+  @Override
+  public synchronized void execute(Runnable task) {
+    tasks.add(() -> {
+      try {
+        task.run();
+      } finally {
+        scheduleNext();
+      }
+    });
+    if (active == null) {
+      scheduleNext();
+    }
+  }
+
+  /**
+   * Hands the next queued task, if any, to the underlying executor.
+   */
+  private synchronized void scheduleNext() {
+    active = tasks.poll();
+    if (active != null) {
+      executor.execute(active);
+    }
+  }
+}
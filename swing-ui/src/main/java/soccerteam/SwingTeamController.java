@@ -0,0 +1,327 @@
+package soccerteam;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.swing.SwingUtilities;
+
+/**
+ * The SwingTeamController class implements the TeamController interface for managing a U10 soccer
+ * team. It allows users to add players to the team, create the team, and display the list of all
+ * players and the starting lineup. It interacts with the TeamModel and TeamView to update the data
+ * and the user interface.
+ *
+ * <p>By default every model call runs on the calling thread. A controller created with an
+ * executor runs model calls, and the formatting of their results, in the background instead,
+ * one at a time and in the order they were requested, and hands the results back to the Event
+ * Dispatch Thread with {@link SwingUtilities#invokeLater}. The view shows a busy indicator while
+ * requests are outstanding. When the same display is requested again before an earlier request
+ * has started, the earlier request is dropped.
+ *
+ * <p>The controller remembers the rows each table shows, and sends the view only the rows that
+ * were added, changed or removed. It listens to the roster events of the model, so a table whose
+ * players have not changed since it was last shown is not read from the model again.
+ */
+public class SwingTeamController implements TeamController {
+  private final TeamModel model;
+  private final TeamView view;
+  private final Executor modelExecutor;
+  private final AtomicLong allPlayersRequest = new AtomicLong();
+  private final AtomicLong startingLineupRequest = new AtomicLong();
+  private final AtomicBoolean allPlayersChanged = new AtomicBoolean(true);
+  private final AtomicBoolean startingLineupChanged = new AtomicBoolean(true);
+  private int candidatesShown;
+  private List<PlayerRow> allPlayersShown = Collections.emptyList();
+  private List<PlayerRow> startingLineupShown = Collections.emptyList();
+  private int pendingRequests;
+
+  /**
+   * Constructs a new SwingTeamController with the specified model and view that calls the model
+   * on the calling thread.
+   *
+   * @param model the team model to be managed by this controller
+   * @param view the team view to be managed by this controller
+   * @throws IllegalArgumentException if the model or view is null
+   */
+  public SwingTeamController(TeamModel model, TeamView view) {
+    this(model, view, Runnable::run);
+  }
+
+  /**
+   * Constructs a new SwingTeamController with the specified model and view that calls the model
+   * on threads of the given executor, one call at a time.
+   *
+   * @param model    the team model to be managed by this controller
+   * @param view     the team view to be managed by this controller
+   * @param executor the executor that runs model calls
+   * @throws IllegalArgumentException if the model, view or executor is null
+   */
+  public SwingTeamController(TeamModel model, TeamView view, Executor executor) {
+    if (model == null || view == null) {
+      throw new IllegalArgumentException("Model and View can't be null");
+    }
+    if (executor == null) {
+      throw new IllegalArgumentException("Executor can't be null");
+    }
+    this.model = model;
+    this.view = view;
+    this.modelExecutor = new SerialExecutor(executor);
+    model.addRosterListener(this::rosterChanged);
+
+    view.setAddPlayerListener(e -> addPlayer());
+    view.setCreateTeamListener(e -> createTeam());
+    view.setShowAllPlayersListener(e -> showAllPlayers());
+    view.setShowStartingLineupListener(e -> showStartingLineup());
+  }
+
+  /**
+   * Creates an executor for background model calls. It uses a virtual thread per task when the
+   * running Java version has them, and otherwise a pool of daemon threads.
+   *
+   * @return a new executor for model calls
+   */
+  public static ExecutorService newBackgroundExecutor() {
+    return TaskExecutors.newThreadPerTaskExecutor("team-model");
+  }
+
+  /**
+   * Adds a player to the team. The method retrieves the player information from the view, validates
+   * the input, and updates the model accordingly. It also refreshes the view to display the updated
+   * list of candidates, or tells the user that the player was already registered and merged.
+   */
+  private void addPlayer() {
+    String firstName = view.getFirstName();
+    String lastName = view.getLastName();
+    String dateOfBirth = view.getDateOfBirth();
+    Position position = view.getSelectedPosition();
+    SkillLevel skillLevel = view.getSelectedSkillLevel();
+
+    submit(() -> {
+      OperationTimer timer = TeamMetrics.start();
+      TeamPlayer player = new TeamPlayer(firstName, lastName, dateOfBirth, position, skillLevel);
+      AddPlayerResult result = model.addPlayers(List.of(player)).get(0);
+      AddedPlayer added = new AddedPlayer(result.getOutcome(),
+          result.isAdded() ? newCandidateRows() : Collections.emptyList());
+      TeamMetrics.stop(TeamOperation.CONTROLLER_ADD_PLAYER, timer);
+      return added;
+    }, added -> {
+      switch (added.outcome) {
+        case ADDED:
+        case REPLACED:
+          view.displayMessage("Player added successfully.");
+          view.clearInputFields();
+          view.appendCandidates(added.candidates);
+          break;
+        case MERGED:
+          view.displayMessage("Player is already registered and was merged into the existing "
+              + "registration.");
+          view.clearInputFields();
+          break;
+        default:
+          view.showErrorDialog("Player could not be added. Team is full and new player's "
+              + "skill level is not higher than any existing player.");
+          break;
+      }
+    }, null);
+  }
+
+  @Override
+  public void createTeam() {
+    submit(model::getAllPlayers, allPlayers -> {
+      if (allPlayers.size() >= 10) {
+        view.displayMessage("Team created successfully.");
+      } else {
+        view.displayMessage("Error: Not enough players to create a team. Minimum 10 players "
+            + "required.");
+      }
+    }, null);
+  }
+
+  /**
+   * Shows all players in the team. The method retrieves the list of all players from the model and
+   * updates the view to display the list.
+   */
+  private void showAllPlayers() {
+    submit(() -> {
+      if (!allPlayersChanged.getAndSet(false)) {
+        return Collections.<RowChange>emptyList();
+      }
+      OperationTimer timer = TeamMetrics.start();
+      List<PlayerRow> rows = new ArrayList<>();
+      try {
+        for (TeamPlayer player : model.getAllPlayers()) {
+          rows.add(new PlayerRow(player.getJerseyNumber(), player.getFullName(),
+              player.getJerseyNumber()));
+        }
+      } catch (RuntimeException e) {
+        allPlayersChanged.set(true);
+        throw e;
+      }
+      List<RowChange> changes = RowChange.diff(allPlayersShown, rows);
+      allPlayersShown = rows;
+      TeamMetrics.stop(TeamOperation.CONTROLLER_SHOW_ALL_PLAYERS, timer);
+      return changes;
+    }, view::updateAllPlayers, allPlayersRequest);
+  }
+
+  /**
+   * Shows the starting lineup of the team. The method retrieves the starting lineup from the model
+   * and updates the view to display the lineup.
+   */
+  private void showStartingLineup() {
+    submit(() -> {
+      if (!startingLineupChanged.getAndSet(false)) {
+        return Collections.<RowChange>emptyList();
+      }
+      OperationTimer timer = TeamMetrics.start();
+      List<PlayerRow> rows = new ArrayList<>();
+      try {
+        for (TeamPlayer player : model.getStartingLineup()) {
+          rows.add(new PlayerRow(player.getJerseyNumber(), player.getFullName(),
+              player.getJerseyNumber(), player.getTeamPosition()));
+        }
+      } catch (RuntimeException e) {
+        startingLineupChanged.set(true);
+        throw e;
+      }
+      List<RowChange> changes = RowChange.diff(startingLineupShown, rows);
+      startingLineupShown = rows;
+      TeamMetrics.stop(TeamOperation.CONTROLLER_SHOW_STARTING_LINEUP, timer);
+      return changes;
+    }, view::updateStartingLineup, startingLineupRequest);
+  }
+
+  /**
+   * Notes which tables a change to the model affects, so that only those are read again when
+   * they are next shown. It runs on the thread that changed the model.
+   *
+   * @param events the events of the change
+   */
+  private void rosterChanged(List<RosterEvent> events) {
+    for (RosterEvent event : events) {
+      if (event.getType() == RosterEvent.Type.LINEUP_SLOT_CHANGED) {
+        startingLineupChanged.set(true);
+      } else {
+        allPlayersChanged.set(true);
+      }
+    }
+  }
+
+  /**
+   * Builds the rows of the candidates added since the last update. Only the new candidates are
+   * fetched, so the cost does not grow with the candidate history.
+   *
+   * @return the rows of the new candidates
+   */
+  private List<PlayerRow> newCandidateRows() {
+    int count = model.getCandidateCount();
+    List<PlayerRow> rows = new ArrayList<>();
+    for (TeamPlayer player : model.getCandidates(count - 1, 1)) {
+      candidatesShown++;
+      rows.add(new PlayerRow(candidatesShown, candidatesShown, player.getFirstName(),
+          player.getLastName(), player.getAge(), player.getSkillLevel().getLevel(),
+          player.getPreferredPosition()));
+    }
+    return rows;
+  }
+
+  /**
+   * Runs a model call on the model executor and shows its result, or the error it reported, on
+   * the Event Dispatch Thread.
+   *
+   * @param call     the model call, whose exceptions are reported to the user
+   * @param display  shows the result of the call in the view
+   * @param requests the counter of requests for the same display, so that a newer request made
+   *                 before this one starts makes it stale, or null if it must never be dropped
+   * @param <T>      the type of the result
+   */
+  private <T> void submit(Supplier<T> call, Consumer<T> display, AtomicLong requests) {
+    long request = requests == null ? 0 : requests.incrementAndGet();
+    onEventDispatchThread(this::startRequest);
+    modelExecutor.execute(() -> {
+      if (isStale(requests, request)) {
+        onEventDispatchThread(this::finishRequest);
+        return;
+      }
+      try {
+        T result = call.get();
+        onEventDispatchThread(() -> {
+          finishRequest();
+          display.accept(result);
+        });
+      } catch (RuntimeException e) {
+        onEventDispatchThread(() -> {
+          finishRequest();
+          view.showErrorDialog("Error: " + e.getMessage());
+        });
+      }
+    });
+  }
+
+  /**
+   * Checks whether a newer request for the same display has been made.
+   *
+   * @param requests the counter of requests for the display, or null
+   * @param request  the number of this request
+   * @return true if the request has been superseded, false otherwise
+   */
+  private static boolean isStale(AtomicLong requests, long request) {
+    return requests != null && requests.get() != request;
+  }
+
+  /**
+   * Counts a new outstanding request and shows the busy indicator.
+   */
+  private void startRequest() {
+    if (pendingRequests++ == 0) {
+      view.setBusy(true);
+    }
+  }
+
+  /**
+   * Counts a finished request and hides the busy indicator once none are left.
+   */
+  private void finishRequest() {
+    if (--pendingRequests == 0) {
+      view.setBusy(false);
+    }
+  }
+
+  /**
+   * Runs an update of the view on the Event Dispatch Thread, right away if this is that thread.
+   *
+   * @param update the update to run
+   */
+  private static void onEventDispatchThread(Runnable update) {
+    if (SwingUtilities.isEventDispatchThread()) {
+      update.run();
+    } else {
+      SwingUtilities.invokeLater(update);
+    }
+  }
+
+  /**
+   * What happened to a player added through the view, and the candidate rows to append.
+   */
+  private static final class AddedPlayer {
+    private final AddPlayerResult.Outcome outcome;
+    private final List<PlayerRow> candidates;
+
+    /**
+     * Constructs an AddedPlayer.
+     *
+     * @param outcome    what happened to the player
+     * @param candidates the new candidate rows, empty if the player did not join the team
+     */
+    AddedPlayer(AddPlayerResult.Outcome outcome, List<PlayerRow> candidates) {
+      this.outcome = outcome;
+      this.candidates = candidates;
+    }
+  }
+}
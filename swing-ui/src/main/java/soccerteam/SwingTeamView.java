@@ -1,6 +1,8 @@
 package soccerteam;
 
 import java.awt.BorderLayout;
+import java.awt.Cursor;
+import java.awt.Dimension;
 import java.awt.FlowLayout;
 import java.awt.GridLayout;
 import java.awt.event.ActionListener;
@@ -12,7 +14,9 @@ import javax.swing.JFrame;
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
+import javax.swing.JProgressBar;
 import javax.swing.JScrollPane;
+import javax.swing.JTable;
 import javax.swing.JTextArea;
 import javax.swing.JTextField;
 import javax.swing.SwingUtilities;
@@ -33,10 +37,18 @@ public class SwingTeamView extends JFrame implements TeamView {
   private final JButton createTeamButton;
   private final JButton showAllPlayersButton;
   private final JButton showStartingLineupButton;
-  private final JTextArea candidatesArea;
-  private final JTextArea startingLineupArea;
-  private final JTextArea allPlayersArea;
+  private final PlayerTableModel candidatesTable = new PlayerTableModel(
+      new String[] {"#", "First Name", "Last Name", "Age", "Skill", "Position"},
+      new Class<?>[] {Integer.class, String.class, String.class, Integer.class, Integer.class,
+          Position.class});
+  private final PlayerTableModel startingLineupTable = new PlayerTableModel(
+      new String[] {"Name", "Jersey", "Position"},
+      new Class<?>[] {String.class, Integer.class, Position.class});
+  private final PlayerTableModel allPlayersTable = new PlayerTableModel(
+      new String[] {"Name", "Jersey"},
+      new Class<?>[] {String.class, Integer.class});
   private final JTextArea messageArea;
+  private final JProgressBar busyIndicator;
 
   /**
    * Constructs a SwingTeamView instance, initializing the user interface components and setting up
@@ -79,22 +91,16 @@ public class SwingTeamView extends JFrame implements TeamView {
     buttonPanel.add(showAllPlayersButton);
     buttonPanel.add(showStartingLineupButton);
 
-    // Candidates Area
-    candidatesArea = new JTextArea(10, 30);
-    candidatesArea.setEditable(false);
-    JScrollPane candidatesScrollPane = new JScrollPane(candidatesArea);
+    // Candidates Table
+    JScrollPane candidatesScrollPane = createTableScrollPane(candidatesTable);
     candidatesScrollPane.setBorder(BorderFactory.createTitledBorder("Player Candidates"));
 
-    // Starting Lineup Area
-    startingLineupArea = new JTextArea(10, 30);
-    startingLineupArea.setEditable(false);
-    JScrollPane startingLineupScrollPane = new JScrollPane(startingLineupArea);
+    // Starting Lineup Table
+    JScrollPane startingLineupScrollPane = createTableScrollPane(startingLineupTable);
     startingLineupScrollPane.setBorder(BorderFactory.createTitledBorder("Starting Lineup"));
 
-    // All Players Area
-    allPlayersArea = new JTextArea(10, 30);
-    allPlayersArea.setEditable(false);
-    JScrollPane allPlayersScrollPane = new JScrollPane(allPlayersArea);
+    // All Players Table
+    JScrollPane allPlayersScrollPane = createTableScrollPane(allPlayersTable);
     allPlayersScrollPane.setBorder(BorderFactory.createTitledBorder("All Players"));
 
     // Message Area
@@ -103,6 +109,14 @@ public class SwingTeamView extends JFrame implements TeamView {
     JScrollPane messageScrollPane = new JScrollPane(messageArea);
     messageScrollPane.setBorder(BorderFactory.createTitledBorder("Messages"));
 
+    // Busy Indicator
+    busyIndicator = new JProgressBar();
+    busyIndicator.setIndeterminate(true);
+    busyIndicator.setVisible(false);
+    JPanel statusPanel = new JPanel(new BorderLayout(10, 10));
+    statusPanel.add(messageScrollPane, BorderLayout.CENTER);
+    statusPanel.add(busyIndicator, BorderLayout.EAST);
+
     // Layout
     JPanel topPanel = new JPanel(new BorderLayout(10, 10));
     topPanel.add(inputPanel, BorderLayout.WEST);
@@ -115,7 +129,7 @@ public class SwingTeamView extends JFrame implements TeamView {
 
     add(topPanel, BorderLayout.NORTH);
     add(centerPanel, BorderLayout.CENTER);
-    add(messageScrollPane, BorderLayout.SOUTH);
+    add(statusPanel, BorderLayout.SOUTH);
   }
 
   @Override
@@ -178,26 +192,24 @@ public class SwingTeamView extends JFrame implements TeamView {
   }
 
   @Override
-  public void displayCandidates(String candidatesInfo) {
-    candidatesArea.setText(candidatesInfo);
+  public void appendCandidates(List<PlayerRow> candidates) {
+    candidatesTable.appendRows(candidates);
+  }
+
+  @Override
+  public void updateStartingLineup(List<RowChange> changes) {
+    startingLineupTable.apply(changes);
   }
 
   @Override
-  public void displayStartingLineup(List<TeamPlayer> startingLineup) {
-    StringBuilder sb = new StringBuilder();
-    for (TeamPlayer player : startingLineup) {
-      sb.append(player.toString(true)).append("\n");
-    }
-    startingLineupArea.setText(sb.toString());
+  public void updateAllPlayers(List<RowChange> changes) {
+    allPlayersTable.apply(changes);
   }
 
   @Override
-  public void displayAllPlayers(List<TeamPlayer> players) {
-    StringBuilder sb = new StringBuilder();
-    for (TeamPlayer player : players) {
-      sb.append(player.toString(false)).append("\n");
-    }
-    allPlayersArea.setText(sb.toString());
+  public void setBusy(boolean busy) {
+    busyIndicator.setVisible(busy);
+    setCursor(busy ? Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR) : Cursor.getDefaultCursor());
   }
 
   @Override
@@ -214,4 +226,19 @@ public class SwingTeamView extends JFrame implements TeamView {
       setVisible(true);
     });
   }
-}
\ No newline at end of file
+
+  /**
+   * Creates a read-only table for a table model, inside a scroll pane of about ten rows. The
+   * table only renders the rows that are scrolled into view.
+   *
+   * @param model the model of the table
+   * @return the scroll pane holding the table
+   */
+  private static JScrollPane createTableScrollPane(PlayerTableModel model) {
+    JTable table = new JTable(model);
+    table.setFillsViewportHeight(true);
+    table.setPreferredScrollableViewportSize(
+        new Dimension(360, table.getRowHeight() * 10));
+    return new JScrollPane(table);
+  }
+}
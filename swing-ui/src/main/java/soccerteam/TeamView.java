@@ -84,25 +84,36 @@ public interface TeamView {
   void clearInputFields();
 
   /**
-   * Updates the display of the candidates in the user interface.
+   * Adds candidates to the end of the candidates table, leaving the rows already shown
+   * untouched. Each row holds the candidate number, first name, last name, age, skill level and
+   * preferred position.
    *
-   * @param candidatesInfo the information about the candidates to display
+   * @param candidates the rows of the new candidates
    */
-  void displayCandidates(String candidatesInfo);
+  void appendCandidates(List<PlayerRow> candidates);
 
   /**
-   * Updates the display of the starting lineup in the user interface.
+   * Applies changes to the starting lineup table. Each row holds the player's name, jersey
+   * number and team position.
    *
-   * @param startingLineup the list of players in the starting lineup
+   * @param changes the changes to the rows, in order
    */
-  void displayStartingLineup(List<TeamPlayer> startingLineup);
+  void updateStartingLineup(List<RowChange> changes);
 
   /**
-   * Updates the display of all players in the user interface.
+   * Applies changes to the table of all players. Each row holds the player's name and jersey
+   * number.
    *
-   * @param players the list of all players
+   * @param changes the changes to the rows, in order
    */
-  void displayAllPlayers(List<TeamPlayer> players);
+  void updateAllPlayers(List<RowChange> changes);
+
+  /**
+   * Shows or hides the indicator that the team is being updated or read in the background.
+   *
+   * @param busy true while background work is in progress, false once it is done
+   */
+  void setBusy(boolean busy);
 
   /**
    * Shows an error dialog with the specified message.
@@ -0,0 +1,87 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import soccerteam.PlayerRow;
+import soccerteam.RowChange;
+
+/**
+ * Unit tests for the {@link RowChange} class.
+ */
+public class RowChangeTest {
+
+  /**
+   * Applies changes to a copy of a list of rows, the way the view's table model does.
+   *
+   * @param rows    the rows to start from
+   * @param changes the changes to apply
+   * @return the resulting rows
+   */
+  private static List<PlayerRow> apply(List<PlayerRow> rows, List<RowChange> changes) {
+    List<PlayerRow> result = new ArrayList<>(rows);
+    for (RowChange change : changes) {
+      switch (change.getType()) {
+        case INSERT:
+          result.add(change.getIndex(), change.getRow());
+          break;
+        case UPDATE:
+          result.set(change.getIndex(), change.getRow());
+          break;
+        default:
+          result.remove(change.getIndex());
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Tests that only the changed row is sent when one player's details change.
+   */
+  @Test
+  public void testSingleUpdate() {
+    List<PlayerRow> before = List.of(new PlayerRow(1, "A", 1), new PlayerRow(2, "B", 2));
+    List<PlayerRow> after = List.of(new PlayerRow(1, "A", 1), new PlayerRow(2, "B", 9));
+    List<RowChange> changes = RowChange.diff(before, after);
+    assertEquals(1, changes.size());
+    assertEquals(RowChange.Type.UPDATE, changes.get(0).getType());
+    assertEquals(1, changes.get(0).getIndex());
+    assertTrue(RowChange.diff(after, after).isEmpty());
+  }
+
+  /**
+   * Tests that random inserts, deletes, updates and reorderings are reproduced exactly.
+   */
+  @Test
+  public void testRandomListsAreReproduced() {
+    Random random = new Random(3);
+    for (int round = 0; round < 2000; round++) {
+      List<PlayerRow> before = randomRows(random);
+      List<PlayerRow> after = randomRows(random);
+      assertEquals(after, apply(before, RowChange.diff(before, after)));
+    }
+  }
+
+  /**
+   * Creates up to twenty rows with distinct random keys in random order.
+   *
+   * @param random the source of randomness
+   * @return the rows
+   */
+  private static List<PlayerRow> randomRows(Random random) {
+    List<Integer> keys = new ArrayList<>();
+    for (int key = 1; key <= 30; key++) {
+      keys.add(key);
+    }
+    Collections.shuffle(keys, random);
+    List<PlayerRow> rows = new ArrayList<>();
+    int count = random.nextInt(21);
+    for (int i = 0; i < count; i++) {
+      rows.add(new PlayerRow(keys.get(i), "Player" + keys.get(i), random.nextInt(3)));
+    }
+    return rows;
+  }
+}
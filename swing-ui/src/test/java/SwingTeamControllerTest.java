@@ -0,0 +1,360 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.event.ActionListener;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.swing.SwingUtilities;
+import org.junit.Before;
+import org.junit.Test;
+import soccerteam.CandidateLog;
+import soccerteam.DuplicatePolicy;
+import soccerteam.GreedyLineupStrategy;
+import soccerteam.JerseyNumberAllocator;
+import soccerteam.PlayerRow;
+import soccerteam.Position;
+import soccerteam.RowChange;
+import soccerteam.SkillLevel;
+import soccerteam.SwingTeamController;
+import soccerteam.TeamModelImpl;
+import soccerteam.TeamPlayer;
+import soccerteam.TeamView;
+
+/**
+ * Unit tests for the background mode of the {@link SwingTeamController} class.
+ */
+public class SwingTeamControllerTest {
+  private static final String BIRTH_DATE = LocalDate.now().minusYears(8).toString();
+  private RecordingModel model;
+  private RecordingView view;
+
+  /**
+   * Sets up a valid team and a view that records what it is asked to show.
+   */
+  @Before
+  public void setUp() {
+    model = new RecordingModel();
+    for (int i = 0; i < 10; i++) {
+      model.addPlayer(new TeamPlayer("First" + i, "Last" + i, BIRTH_DATE,
+          Position.values()[i % Position.values().length], SkillLevel.THREE));
+    }
+    view = new RecordingView();
+  }
+
+  /**
+   * Tests that model calls run off the Event Dispatch Thread and results are shown on it, with
+   * the busy indicator on while the call is outstanding.
+   *
+   * @throws Exception if the Event Dispatch Thread is interrupted
+   */
+  @Test
+  public void testModelCallsRunInBackground() throws Exception {
+    ExecutorService executor = SwingTeamController.newBackgroundExecutor();
+    try {
+      new SwingTeamController(model, view, executor);
+      click(view.showAllPlayers);
+      waitForDisplays(1);
+
+      assertNotNull(model.readThread);
+      assertFalse(model.readThread.getName().contains("AWT-EventQueue"));
+      assertTrue(view.displayedOnEventDispatchThread);
+      assertEquals(10, view.allPlayers.get(0).size());
+      assertEquals(RowChange.Type.INSERT, view.allPlayers.get(0).get(0).getType());
+      assertEquals(List.of(true, false), view.busyChanges);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Tests that repeated requests for the same display only show the newest result.
+   *
+   * @throws Exception if the Event Dispatch Thread is interrupted
+   */
+  @Test
+  public void testStaleRequestsAreDropped() throws Exception {
+    ManualExecutor executor = new ManualExecutor();
+    new SwingTeamController(model, view, executor);
+    click(view.showAllPlayers);
+    click(view.showAllPlayers);
+    click(view.showAllPlayers);
+    executor.runAll();
+    SwingUtilities.invokeAndWait(() -> { });
+
+    assertEquals(1, model.reads);
+    assertEquals(1, view.allPlayers.size());
+    assertEquals(List.of(true, false), view.busyChanges);
+  }
+
+  /**
+   * Tests that adding a player is never dropped and its result reaches the view.
+   *
+   * @throws Exception if the Event Dispatch Thread is interrupted
+   */
+  @Test
+  public void testAddPlayerInBackground() throws Exception {
+    ManualExecutor executor = new ManualExecutor();
+    new SwingTeamController(model, view, executor);
+    click(view.addPlayer);
+    click(view.addPlayer);
+    executor.runAll();
+    SwingUtilities.invokeAndWait(() -> { });
+
+    assertEquals(12, model.getPlayerCount());
+    assertEquals(2, view.appendedCandidates.size());
+    PlayerRow row = view.appendedCandidates.get(1).get(0);
+    assertEquals(2, row.getValue(0));
+    assertEquals("New", row.getValue(1));
+    assertEquals(5, row.getValue(4));
+  }
+
+  /**
+   * Tests that adding a player who is already registered to a team that merges duplicates tells
+   * the user so, rather than reporting that the team is full.
+   *
+   * @throws Exception if the Event Dispatch Thread is interrupted
+   */
+  @Test
+  public void testAddPlayerAlreadyRegisteredIsMerged() throws Exception {
+    TeamModelImpl team = new TeamModelImpl(new JerseyNumberAllocator(1, 20, 7L),
+        new CandidateLog(), new GreedyLineupStrategy(), DuplicatePolicy.MERGE);
+    new SwingTeamController(team, view);
+    click(view.addPlayer);
+    click(view.addPlayer);
+
+    assertEquals(1, team.getPlayerCount());
+    assertEquals(1, view.appendedCandidates.size());
+    assertEquals(2, view.messages.size());
+    assertTrue(view.messages.get(1).contains("already registered"));
+  }
+
+  /**
+   * Tests that showing all players again only sends the rows that changed.
+   *
+   * @throws Exception if the Event Dispatch Thread is interrupted
+   */
+  @Test
+  public void testShowAllPlayersSendsDeltas() throws Exception {
+    ManualExecutor executor = new ManualExecutor();
+    new SwingTeamController(model, view, executor);
+    click(view.showAllPlayers);
+    executor.runAll();
+    click(view.showAllPlayers);
+    executor.runAll();
+    click(view.addPlayer);
+    click(view.showAllPlayers);
+    executor.runAll();
+    SwingUtilities.invokeAndWait(() -> { });
+
+    assertEquals(3, view.allPlayers.size());
+    assertEquals(10, view.allPlayers.get(0).size());
+    assertTrue(view.allPlayers.get(1).isEmpty());
+    assertEquals(1, view.allPlayers.get(2).size());
+    assertEquals(RowChange.Type.INSERT, view.allPlayers.get(2).get(0).getType());
+    assertEquals("New Player", view.allPlayers.get(2).get(0).getRow().getValue(0));
+  }
+
+  /**
+   * Tests that a table is not read from the model again until a roster event says it changed.
+   *
+   * @throws Exception if the Event Dispatch Thread is interrupted
+   */
+  @Test
+  public void testUnchangedTableIsNotReadAgain() throws Exception {
+    ManualExecutor executor = new ManualExecutor();
+    new SwingTeamController(model, view, executor);
+    click(view.showAllPlayers);
+    executor.runAll();
+    click(view.showAllPlayers);
+    executor.runAll();
+    assertEquals(1, model.reads);
+
+    click(view.addPlayer);
+    click(view.showAllPlayers);
+    executor.runAll();
+    SwingUtilities.invokeAndWait(() -> { });
+    assertEquals(2, model.reads);
+    assertEquals(3, view.allPlayers.size());
+  }
+
+  /**
+   * Clicks a button on the Event Dispatch Thread.
+   *
+   * @param listener the listener of the button
+   * @throws Exception if the Event Dispatch Thread is interrupted
+   */
+  private static void click(ActionListener listener) throws Exception {
+    SwingUtilities.invokeAndWait(() -> listener.actionPerformed(null));
+  }
+
+  /**
+   * Waits until the view has shown all players the given number of times.
+   *
+   * @param count the number of displays to wait for
+   * @throws Exception if the wait is interrupted or times out
+   */
+  private void waitForDisplays(int count) throws Exception {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (System.nanoTime() < deadline) {
+      SwingUtilities.invokeAndWait(() -> { });
+      if (view.allPlayers.size() >= count && !view.busy) {
+        return;
+      }
+      Thread.sleep(10);
+    }
+    throw new AssertionError("Timed out waiting for the view");
+  }
+
+  /**
+   * An executor that queues tasks until the test runs them.
+   */
+  private static final class ManualExecutor implements Executor {
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    @Override
+    public synchronized void execute(Runnable task) {
+      tasks.add(task);
+    }
+
+    /**
+     * Runs queued tasks, including any they queue, until none are left.
+     */
+    void runAll() {
+      Runnable task;
+      while ((task = poll()) != null) {
+        task.run();
+      }
+    }
+
+    /**
+     * Takes the next queued task.
+     *
+     * @return the next task, or null if none are queued
+     */
+    private synchronized Runnable poll() {
+      return tasks.poll();
+    }
+  }
+
+  /**
+   * A team that records the thread reading its players and how many reads there were.
+   */
+  private static final class RecordingModel extends TeamModelImpl {
+    private volatile Thread readThread;
+    private volatile int reads;
+
+    @Override
+    public List<TeamPlayer> getAllPlayers() {
+      readThread = Thread.currentThread();
+      reads++;
+      return super.getAllPlayers();
+    }
+  }
+
+  /**
+   * A view without a window that records what it is asked to show. It is only used on the Event
+   * Dispatch Thread, apart from the listeners that the test reads after they are set.
+   */
+  private static final class RecordingView implements TeamView {
+    private final List<List<RowChange>> allPlayers = Collections.synchronizedList(
+        new ArrayList<>());
+    private final List<List<PlayerRow>> appendedCandidates = new ArrayList<>();
+    private final List<Boolean> busyChanges = new ArrayList<>();
+    private final List<String> messages = new ArrayList<>();
+    private volatile boolean busy;
+    private volatile boolean displayedOnEventDispatchThread;
+    private ActionListener addPlayer;
+    private ActionListener showAllPlayers;
+
+    @Override
+    public void setAddPlayerListener(ActionListener listener) {
+      addPlayer = listener;
+    }
+
+    @Override
+    public void setCreateTeamListener(ActionListener listener) {
+    }
+
+    @Override
+    public void setShowAllPlayersListener(ActionListener listener) {
+      showAllPlayers = listener;
+    }
+
+    @Override
+    public void setShowStartingLineupListener(ActionListener listener) {
+    }
+
+    @Override
+    public String getFirstName() {
+      return "New";
+    }
+
+    @Override
+    public String getLastName() {
+      return "Player";
+    }
+
+    @Override
+    public String getDateOfBirth() {
+      return BIRTH_DATE;
+    }
+
+    @Override
+    public Position getSelectedPosition() {
+      return Position.GOALIE;
+    }
+
+    @Override
+    public SkillLevel getSelectedSkillLevel() {
+      return SkillLevel.FIVE;
+    }
+
+    @Override
+    public void displayMessage(String message) {
+      messages.add(message);
+    }
+
+    @Override
+    public void clearInputFields() {
+    }
+
+    @Override
+    public void appendCandidates(List<PlayerRow> candidates) {
+      appendedCandidates.add(candidates);
+    }
+
+    @Override
+    public void updateStartingLineup(List<RowChange> changes) {
+    }
+
+    @Override
+    public void updateAllPlayers(List<RowChange> changes) {
+      displayedOnEventDispatchThread = SwingUtilities.isEventDispatchThread();
+      allPlayers.add(changes);
+    }
+
+    @Override
+    public void setBusy(boolean busy) {
+      this.busy = busy;
+      busyChanges.add(busy);
+    }
+
+    @Override
+    public void showErrorDialog(String message) {
+      throw new AssertionError(message);
+    }
+
+    @Override
+    public void display() {
+    }
+  }
+}